@@ -0,0 +1,70 @@
+package software.amazon.servicecatalog.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * One cold-start measurement, printed by a probe JVM as a single line and parsed back by {@link ColdStartHarness}.
+ */
+@Getter
+@Builder
+public class ColdStartSample {
+    private static final String PREFIX = "COLD_START";
+
+    private final long jvmToFirstResponseMillis;
+    private final long wrapperInitMillis;
+    private final long firstRequestMillis;
+    private final long classesAfterInit;
+    private final long classesAtResponse;
+    private final long heapAfterInitBytes;
+
+    /**
+     * Milliseconds since this JVM started, as reported by the runtime.
+     */
+    public static long millisSinceJvmStart() {
+        return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+
+    public static long loadedClassCount() {
+        return ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount();
+    }
+
+    public static long heapUsedBytes() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    public static boolean isSample(final String line) {
+        return line.startsWith(PREFIX + " ");
+    }
+
+    public String toLine() {
+        return String.format("%s jvmToFirstResponseMillis=%d wrapperInitMillis=%d firstRequestMillis=%d "
+                        + "classesAfterInit=%d classesAtResponse=%d heapAfterInitBytes=%d",
+                PREFIX, jvmToFirstResponseMillis, wrapperInitMillis, firstRequestMillis,
+                classesAfterInit, classesAtResponse, heapAfterInitBytes);
+    }
+
+    public static ColdStartSample parse(final String line) {
+        final String[] tokens = line.trim().split(" ");
+        if (tokens.length == 0 || !PREFIX.equals(tokens[0])) {
+            throw new IllegalArgumentException("Not a cold start sample: " + line);
+        }
+        final Map<String, Long> values = new HashMap<>();
+        for (int i = 1; i < tokens.length; i++) {
+            final String[] pair = tokens[i].split("=", 2);
+            values.put(pair[0], Long.parseLong(pair[1]));
+        }
+        return ColdStartSample.builder()
+                .jvmToFirstResponseMillis(values.get("jvmToFirstResponseMillis"))
+                .wrapperInitMillis(values.get("wrapperInitMillis"))
+                .firstRequestMillis(values.get("firstRequestMillis"))
+                .classesAfterInit(values.get("classesAfterInit"))
+                .classesAtResponse(values.get("classesAtResponse"))
+                .heapAfterInitBytes(values.get("heapAfterInitBytes"))
+                .build();
+    }
+}
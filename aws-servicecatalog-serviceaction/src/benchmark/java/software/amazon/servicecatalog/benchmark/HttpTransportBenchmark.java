@@ -0,0 +1,186 @@
+package software.amazon.servicecatalog.benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogClient;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactResponse;
+import software.amazon.servicecatalog.HandlerSettings;
+import software.amazon.servicecatalog.HttpTransport;
+import software.amazon.servicecatalog.SCClientBuilder;
+
+/**
+ * Compares the {@link HttpTransport}s on a ListServiceActionsForProvisioningArtifact-shaped workload against a local
+ * HTTPS {@link StubServiceCatalogEndpoint}.
+ *
+ * Each transport runs in its own fresh JVM so that init cost is not hidden by classes another transport loaded. The
+ * child reports the time and classes needed to build the client and complete the first call, per-call latency over
+ * the following calls, and heap used afterwards.
+ *
+ * Usage: HttpTransportBenchmark [calls] [transports...]
+ */
+public class HttpTransportBenchmark {
+    private static final String CHILD = "--child";
+    private static final String RESULT_PREFIX = "TRANSPORT_RESULT";
+    private static final String KEYSTORE_PASSWORD = "benchmark";
+    private static final int DEFAULT_CALLS = 200;
+    private static final int SUMMARIES_PER_PAGE = 20;
+    private static final String DEFAULT_REGION = "us-east-1";
+
+    public static void main(final String[] args) throws Exception {
+        if (args.length > 0 && CHILD.equals(args[0])) {
+            runChild(Integer.parseInt(args[1]));
+            return;
+        }
+        final int calls = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CALLS;
+        final List<HttpTransport> transports = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            transports.add(HttpTransport.fromName(args[i]));
+        }
+        if (transports.isEmpty()) {
+            transports.addAll(Arrays.asList(HttpTransport.values()));
+        }
+
+        final Path keyStore = generateKeyStore();
+        try (StubServiceCatalogEndpoint endpoint = new StubServiceCatalogEndpoint(serverContext(keyStore))) {
+            endpoint.respond("ListServiceActionsForProvisioningArtifact", listResponse());
+            System.out.println(String.format("%-16s %12s %12s %12s %12s %12s",
+                    "transport", "init (ms)", "init classes", "p50 (us)", "p99 (us)", "heap (KB)"));
+            for (final HttpTransport transport : transports) {
+                System.out.println(fork(transport, endpoint.getEndpoint(), keyStore, calls));
+            }
+        } finally {
+            Files.deleteIfExists(keyStore);
+        }
+    }
+
+    private static void runChild(final int calls) {
+        final long classesBefore = ColdStartSample.loadedClassCount();
+        final long initStart = System.nanoTime();
+        final ServiceCatalogClient client = SCClientBuilder.buildClient(DEFAULT_REGION);
+        final ListServiceActionsForProvisioningArtifactRequest request = ListServiceActionsForProvisioningArtifactRequest
+                .builder()
+                .productId("prod-benchmark")
+                .provisioningArtifactId("pa-benchmark")
+                .build();
+        call(client, request);
+        final long initMicros = (System.nanoTime() - initStart) / 1000;
+        final long initClasses = ColdStartSample.loadedClassCount() - classesBefore;
+
+        final long[] latencies = new long[calls];
+        for (int i = 0; i < calls; i++) {
+            final long start = System.nanoTime();
+            call(client, request);
+            latencies[i] = (System.nanoTime() - start) / 1000;
+        }
+        Arrays.sort(latencies);
+        System.gc();
+        System.out.println(String.format("%s %d %d %d %d %d", RESULT_PREFIX, initMicros / 1000, initClasses,
+                latencies[calls / 2], latencies[Math.min(calls - 1, calls * 99 / 100)],
+                ColdStartSample.heapUsedBytes() / 1024));
+    }
+
+    private static void call(final ServiceCatalogClient client, final ListServiceActionsForProvisioningArtifactRequest request) {
+        final ListServiceActionsForProvisioningArtifactResponse response = client.listServiceActionsForProvisioningArtifact(request);
+        if (response.serviceActionSummaries().size() != SUMMARIES_PER_PAGE) {
+            throw new IllegalStateException("Unexpected response " + response);
+        }
+    }
+
+    private static String fork(final HttpTransport transport, final String endpoint, final Path keyStore, final int calls)
+            throws IOException, InterruptedException {
+        final List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add("-Djavax.net.ssl.trustStore=" + keyStore);
+        command.add("-Djavax.net.ssl.trustStorePassword=" + KEYSTORE_PASSWORD);
+        command.add("-D" + SCClientBuilder.ENDPOINT_OVERRIDE_PROPERTY + "=" + endpoint);
+        command.add("-D" + HandlerSettings.toPropertyName(HandlerSettings.HTTP_TRANSPORT) + "=" + transport.name());
+        command.add("-Daws.accessKeyId=benchmark");
+        command.add("-Daws.secretAccessKey=benchmark");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(HttpTransportBenchmark.class.getName());
+        command.add(CHILD);
+        command.add(Integer.toString(calls));
+
+        final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        final StringBuilder output = new StringBuilder();
+        String result = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX + " ")) {
+                    result = line;
+                } else {
+                    output.append(line).append(System.lineSeparator());
+                }
+            }
+        }
+        if (process.waitFor() != 0 || result == null) {
+            throw new IllegalStateException("Transport " + transport + " failed:" + System.lineSeparator() + output);
+        }
+        final String[] values = result.split(" ");
+        return String.format("%-16s %12s %12s %12s %12s %12s",
+                transport, values[1], values[2], values[3], values[4], values[5]);
+    }
+
+    /**
+     * Generates a self-signed certificate for localhost with the JDK's keytool, used both as the stub's key store and
+     * as the children's trust store.
+     */
+    private static Path generateKeyStore() throws IOException, InterruptedException {
+        final Path keyStore = Files.createTempFile("sc-benchmark", ".jks");
+        Files.delete(keyStore);
+        final Process keytool = new ProcessBuilder(
+                System.getProperty("java.home") + File.separator + "bin" + File.separator + "keytool",
+                "-genkeypair", "-alias", "localhost", "-keyalg", "RSA", "-keysize", "2048", "-validity", "1",
+                "-dname", "CN=localhost", "-ext", "SAN=dns:localhost,ip:127.0.0.1",
+                "-keystore", keyStore.toString(), "-storetype", "JKS",
+                "-storepass", KEYSTORE_PASSWORD, "-keypass", KEYSTORE_PASSWORD)
+                .redirectErrorStream(true)
+                .start();
+        if (keytool.waitFor() != 0) {
+            throw new IllegalStateException("keytool failed with exit code " + keytool.exitValue());
+        }
+        return keyStore;
+    }
+
+    private static SSLContext serverContext(final Path keyStorePath) throws Exception {
+        final KeyStore keyStore = KeyStore.getInstance("JKS");
+        try (InputStream in = new FileInputStream(keyStorePath.toFile())) {
+            keyStore.load(in, KEYSTORE_PASSWORD.toCharArray());
+        }
+        final KeyManagerFactory keyManagers = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagers.init(keyStore, KEYSTORE_PASSWORD.toCharArray());
+        final SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(keyManagers.getKeyManagers(), null, null);
+        return sslContext;
+    }
+
+    private static String listResponse() {
+        final StringBuilder body = new StringBuilder("{\"ServiceActionSummaries\":[");
+        for (int i = 0; i < SUMMARIES_PER_PAGE; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append(String.format("{\"Id\":\"act-benchmark%02d\",\"Name\":\"StartEC2Instance%02d\","
+                    + "\"Description\":\"Starts an EC2 instance\",\"DefinitionType\":\"SSM_AUTOMATION\"}", i, i));
+        }
+        return body.append("],\"NextPageToken\":\"page-2\"}").toString();
+    }
+}
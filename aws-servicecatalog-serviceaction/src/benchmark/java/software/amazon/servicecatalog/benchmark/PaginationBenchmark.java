@@ -0,0 +1,155 @@
+package software.amazon.servicecatalog.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import software.amazon.servicecatalog.PrefetchingPaginator;
+
+/**
+ * Compares sequential paging with {@link PrefetchingPaginator} on a stub listing that injects a fixed latency per call.
+ *
+ * The stub serves a listing of {@code items} ids, sleeping {@code latencyMillis} per page, and the caller spends
+ * {@code processingMillis} on each page it reads. Each mode scans the full listing, then runs a membership scan that
+ * stops at an id in the middle of the listing. The baseline pages on demand at the service's default page size,
+ * which is assumed to be 10 here. The other modes use {@link PrefetchingPaginator#MAX_PAGE_SIZE}. The median
+ * wall-clock time over the runs is reported, with the calls the membership scan sent to the stub, including a
+ * prefetch it did not read.
+ *
+ * Usage: PaginationBenchmark [items] [latencyMillis] [processingMillis] [runs]
+ */
+public class PaginationBenchmark {
+    private static final int DEFAULT_ITEMS = 200;
+    private static final int DEFAULT_LATENCY_MILLIS = 20;
+    private static final int DEFAULT_PROCESSING_MILLIS = 5;
+    private static final int DEFAULT_RUNS = 5;
+    private static final int ASSUMED_DEFAULT_PAGE_SIZE = 10;
+
+    public static void main(final String[] args) {
+        final int items = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ITEMS;
+        final int latencyMillis = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_LATENCY_MILLIS;
+        final int processingMillis = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_PROCESSING_MILLIS;
+        final int runs = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_RUNS;
+        final String target = "id-" + items / 2;
+
+        System.out.println(String.format("%d items, %d ms per call, %d ms per page, median of %d runs",
+                items, latencyMillis, processingMillis, runs));
+        System.out.println(String.format("%-34s %8s %12s %8s %8s %12s", "mode", "pages", "full (ms)", "pages", "calls", "match (ms)"));
+        for (final Mode mode : Mode.values()) {
+            final StubListing listing = new StubListing(items, mode.pageSize, latencyMillis);
+            final long[] full = new long[runs];
+            final long[] match = new long[runs];
+            int fullPages = 0;
+            int matchPages = 0;
+            int matchCalls = 0;
+            for (int run = 0; run < runs; run++) {
+                long start = System.nanoTime();
+                fullPages = mode.scan(listing, null, processingMillis);
+                full[run] = System.nanoTime() - start;
+                listing.calls.set(0);
+                start = System.nanoTime();
+                matchPages = mode.scan(listing, target, processingMillis);
+                match[run] = System.nanoTime() - start;
+                matchCalls = listing.calls.get();
+            }
+            System.out.println(String.format("%-34s %8d %12d %8d %8d %12d",
+                    mode.label, fullPages, median(full), matchPages, matchCalls, median(match)));
+        }
+    }
+
+    private enum Mode {
+        ON_DEMAND_DEFAULT_PAGE("on demand, default page size", ASSUMED_DEFAULT_PAGE_SIZE, false),
+        ON_DEMAND_MAX_PAGE("on demand, max page size", PrefetchingPaginator.MAX_PAGE_SIZE, false),
+        PREFETCHING_MAX_PAGE("prefetching, max page size", PrefetchingPaginator.MAX_PAGE_SIZE, true);
+
+        private final String label;
+        private final int pageSize;
+        private final boolean prefetching;
+
+        Mode(final String label, final int pageSize, final boolean prefetching) {
+            this.label = label;
+            this.pageSize = pageSize;
+            this.prefetching = prefetching;
+        }
+
+        /**
+         * Reads pages until the target is found, or all pages when the target is null, and returns the pages read.
+         */
+        int scan(final StubListing listing, final String target, final int processingMillis) {
+            int pages = 0;
+            try (PrefetchingPaginator<Page> paginator = prefetching
+                    ? new PrefetchingPaginator<>(listing, page -> page.nextToken)
+                    : PrefetchingPaginator.onDemand(listing, page -> page.nextToken)) {
+                while (paginator.hasNext()) {
+                    pages++;
+                    if (process(paginator.next(), target, processingMillis)) {
+                        return pages;
+                    }
+                }
+            }
+            return pages;
+        }
+
+        private static boolean process(final Page page, final String target, final int processingMillis) {
+            sleep(processingMillis);
+            return target != null && page.ids.contains(target);
+        }
+    }
+
+    private static class StubListing implements Function<String, Page> {
+        private final int items;
+        private final int pageSize;
+        private final int latencyMillis;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        StubListing(final int items, final int pageSize, final int latencyMillis) {
+            this.items = items;
+            this.pageSize = pageSize;
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        public Page apply(final String token) {
+            calls.incrementAndGet();
+            sleep(latencyMillis);
+            final int from = token == null ? 0 : Integer.parseInt(token);
+            final int to = Math.min(items, from + pageSize);
+            final List<String> ids = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                ids.add("id-" + i);
+            }
+            return new Page(ids, to < items ? Integer.toString(to) : null);
+        }
+    }
+
+    private static class Page {
+        private final List<String> ids;
+        private final String nextToken;
+
+        Page(final List<String> ids, final String nextToken) {
+            this.ids = ids;
+            this.nextToken = nextToken;
+        }
+    }
+
+    private static long median(final long[] nanos) {
+        final long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return TimeUnit.NANOSECONDS.toMillis(sorted[sorted.length / 2]);
+    }
+
+    private static void sleep(final int millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
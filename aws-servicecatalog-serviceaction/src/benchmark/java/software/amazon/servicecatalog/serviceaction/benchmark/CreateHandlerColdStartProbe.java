@@ -0,0 +1,58 @@
+package software.amazon.servicecatalog.serviceaction.benchmark;
+
+import java.util.Collections;
+
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.SCClientPrimer;
+import software.amazon.servicecatalog.benchmark.ColdStartSample;
+import software.amazon.servicecatalog.serviceaction.CallbackContext;
+import software.amazon.servicecatalog.serviceaction.CreateHandler;
+import software.amazon.servicecatalog.serviceaction.DefinitionParameter;
+import software.amazon.servicecatalog.serviceaction.ResourceModel;
+
+/**
+ * Runs in a fresh JVM forked by {@link software.amazon.servicecatalog.benchmark.ColdStartHarness}: loads and
+ * constructs the HandlerWrapper, then serves one CREATE request against the endpoint the harness points the client at.
+ */
+public class CreateHandlerColdStartProbe {
+    private static final String HANDLER_WRAPPER = "software.amazon.servicecatalog.serviceaction.HandlerWrapper";
+
+    public static void main(final String[] args) throws Exception {
+        final long wrapperStart = System.currentTimeMillis();
+        Class.forName(HANDLER_WRAPPER).getConstructor().newInstance();
+        final long wrapperInitMillis = System.currentTimeMillis() - wrapperStart;
+        final long classesAfterInit = ColdStartSample.loadedClassCount();
+        final long heapAfterInitBytes = ColdStartSample.heapUsedBytes();
+
+        final long requestStart = System.currentTimeMillis();
+        final ResourceModel model = ResourceModel.builder()
+                .name("StartEC2Instance")
+                .definitionType("SSM_AUTOMATION")
+                .definition(Collections.singletonList(DefinitionParameter.builder()
+                        .key("Name")
+                        .value("AWS-StartEC2Instances")
+                        .build()))
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .clientRequestToken("cold-start-probe")
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> event = new CreateHandler()
+                .handleRequest(SCClientPrimer.buildOfflineProxy(), request, null, new LoggerProxy());
+        if (!event.isSuccess()) {
+            throw new IllegalStateException("Probe request failed: " + event.getMessage());
+        }
+
+        System.out.println(ColdStartSample.builder()
+                .jvmToFirstResponseMillis(ColdStartSample.millisSinceJvmStart())
+                .wrapperInitMillis(wrapperInitMillis)
+                .firstRequestMillis(System.currentTimeMillis() - requestStart)
+                .classesAfterInit(classesAfterInit)
+                .classesAtResponse(ColdStartSample.loadedClassCount())
+                .heapAfterInitBytes(heapAfterInitBytes)
+                .build()
+                .toLine());
+    }
+}
@@ -0,0 +1,17 @@
+package software.amazon.servicecatalog;
+
+/**
+ * Scope of a handler request.
+ *
+ * Container-wide caches and shared calls key their entries on the scope, so results are never handed to a request for
+ * another account or region.
+ */
+public final class RequestScope {
+
+    private RequestScope() {
+    }
+
+    public static String of(final String awsAccountId, final String region) {
+        return awsAccountId + ":" + region;
+    }
+}
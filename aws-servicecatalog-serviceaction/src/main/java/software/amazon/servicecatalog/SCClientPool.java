@@ -0,0 +1,148 @@
+package software.amazon.servicecatalog;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Bounded pool of clients keyed by region.
+ *
+ * A client is built on first use for its region and reused by later requests for the same region. Callers do not hand
+ * clients back, so a client is taken to be in use until it has not been handed out for longer than the idle timeout,
+ * and only then closed. When the pool is full the least recently used client is dropped to make room; it is no longer
+ * handed out, but a request that got it earlier may still be using it, so it is closed once it is idle like any
+ * other. Clients are closed outside the pool's lock.
+ */
+public class SCClientPool<C extends SdkAutoCloseable> {
+    private final int maxSize;
+    private final long idleTimeoutMillis;
+    private final Function<String, C> factory;
+    private final LongSupplier clock;
+    private final LinkedHashMap<String, PooledClient<C>> clients = new LinkedHashMap<>(16, 0.75f, true);
+    private final List<PooledClient<C>> retired = new ArrayList<>();
+
+    public SCClientPool(final int maxSize, final long idleTimeoutMillis, final Function<String, C> factory) {
+        this(maxSize, idleTimeoutMillis, factory, System::currentTimeMillis);
+    }
+
+    SCClientPool(final int maxSize, final long idleTimeoutMillis, final Function<String, C> factory, final LongSupplier clock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be at least 1");
+        }
+        this.maxSize = maxSize;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.factory = factory;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the pooled client for the region, building it if there is none.
+     */
+    public C get(final String region) {
+        final List<C> evicted = new ArrayList<>();
+        final C client;
+        synchronized (clients) {
+            final long now = clock.getAsLong();
+            evictIdle(now, evicted);
+            PooledClient<C> pooled = clients.get(region);
+            if (pooled == null) {
+                pooled = new PooledClient<>(factory.apply(region));
+                clients.put(region, pooled);
+                evictOverflow();
+            }
+            pooled.lastAccessMillis = now;
+            client = pooled.client;
+        }
+        closeAll(evicted);
+        return client;
+    }
+
+    /**
+     * Number of clients handed out for their region.
+     */
+    public int size() {
+        synchronized (clients) {
+            return clients.size();
+        }
+    }
+
+    /**
+     * Number of clients dropped from a full pool that are not yet idle, and so not yet closed.
+     */
+    int retiredSize() {
+        synchronized (clients) {
+            return retired.size();
+        }
+    }
+
+    /**
+     * Closes and removes every pooled client, including dropped ones that are not yet idle. Meant for shutdown, when no
+     * request is using a client any more.
+     */
+    public void close() {
+        final List<C> evicted = new ArrayList<>();
+        synchronized (clients) {
+            for (final PooledClient<C> pooled : clients.values()) {
+                evicted.add(pooled.client);
+            }
+            for (final PooledClient<C> pooled : retired) {
+                evicted.add(pooled.client);
+            }
+            clients.clear();
+            retired.clear();
+        }
+        closeAll(evicted);
+    }
+
+    private void evictIdle(final long now, final List<C> evicted) {
+        final Iterator<PooledClient<C>> iterator = clients.values().iterator();
+        while (iterator.hasNext()) {
+            final PooledClient<C> pooled = iterator.next();
+            if (isIdle(pooled, now)) {
+                evicted.add(pooled.client);
+                iterator.remove();
+            }
+        }
+        final Iterator<PooledClient<C>> retiredIterator = retired.iterator();
+        while (retiredIterator.hasNext()) {
+            final PooledClient<C> pooled = retiredIterator.next();
+            if (isIdle(pooled, now)) {
+                evicted.add(pooled.client);
+                retiredIterator.remove();
+            }
+        }
+    }
+
+    private void evictOverflow() {
+        final Iterator<Map.Entry<String, PooledClient<C>>> iterator = clients.entrySet().iterator();
+        while (clients.size() > maxSize && iterator.hasNext()) {
+            retired.add(iterator.next().getValue());
+            iterator.remove();
+        }
+    }
+
+    private boolean isIdle(final PooledClient<C> pooled, final long now) {
+        return now - pooled.lastAccessMillis > idleTimeoutMillis;
+    }
+
+    private static <C extends SdkAutoCloseable> void closeAll(final List<C> evicted) {
+        for (final C client : evicted) {
+            client.close();
+        }
+    }
+
+    private static class PooledClient<C> {
+        private final C client;
+        private long lastAccessMillis;
+
+        PooledClient(final C client) {
+            this.client = client;
+        }
+    }
+}
@@ -1,26 +1,45 @@
 package software.amazon.servicecatalog.serviceaction;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogAsyncClient;
 import software.amazon.awssdk.services.servicecatalog.ServiceCatalogClient;
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactResponse;
 import software.amazon.awssdk.services.servicecatalog.model.CreateServiceActionRequest;
 import software.amazon.awssdk.services.servicecatalog.model.CreateServiceActionResponse;
 import software.amazon.awssdk.services.servicecatalog.model.DeleteServiceActionRequest;
 import software.amazon.awssdk.services.servicecatalog.model.DescribeServiceActionRequest;
 import software.amazon.awssdk.services.servicecatalog.model.DescribeServiceActionResponse;
+import software.amazon.awssdk.services.servicecatalog.model.FailedServiceActionAssociation;
+import software.amazon.awssdk.services.servicecatalog.model.ListProvisioningArtifactsForServiceActionRequest;
+import software.amazon.awssdk.services.servicecatalog.model.ListProvisioningArtifactsForServiceActionResponse;
 import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsRequest;
-import software.amazon.awssdk.services.servicecatalog.paginators.ListServiceActionsIterable;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociation;
 import software.amazon.awssdk.services.servicecatalog.model.ServiceActionDetail;
 import software.amazon.awssdk.services.servicecatalog.model.ServiceActionSummary;
 import software.amazon.awssdk.services.servicecatalog.model.UpdateServiceActionRequest;
 import software.amazon.awssdk.services.servicecatalog.model.UpdateServiceActionResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.servicecatalog.PrefetchingPaginator;
+import software.amazon.servicecatalog.RequestScope;
+import software.amazon.servicecatalog.SingleFlight;
 
 @Builder(toBuilder = true)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -29,12 +48,39 @@ public class ActionController {
     private static final String CREATE_SERVICE_ACTION_LOG = "Create serviceAction with Name: %s";
     private static final String DELETE_SERVICE_ACTION_LOG = "Delete serviceAction with Id: %s";
     private static final String UPDATE_SERVICE_ACTION_LOG = "Update serviceAction with Id: %s";
+    private static final String UNCHANGED_SERVICE_ACTION_LOG = "No changes to update for serviceAction with Id: %s";
     private static final String DESCRIBE_SERVICE_ACTION_LOG = "Describe serviceAcion with id: %s";
+    private static final String CACHED_SERVICE_ACTION_LOG = "Using serviceAction written by this container with id: %s";
     private static final String LIST_SERVICE_ACTIONS_LOG = "Listing all serviceAcions";
+    private static final String LIST_SERVICE_ACTIONS_PAGE_LOG = "Listing serviceActions page: %s";
+    private static final String DESCRIBE_SERVICE_ACTIONS_LOG = "Describe %d serviceActions, %d at a time";
+    private static final String INVALID_PARALLELISM = "Describe parallelism must be at least 1, got %d";
+    private static final String LIST_ASSOCIATIONS_PAGE_LOG = "Listing provisioningArtifacts of serviceAction: %s page: %s";
+    private static final String BATCH_DISASSOCIATE_LOG = "Disassociate %d associations of serviceAction: %s in %d batches, %d at a time";
+    private static final String INVALID_BATCH_PARALLELISM = "Disassociate parallelism must be at least 1, got %d";
+
+    /**
+     * Largest number of associations BatchDisassociateServiceActionFromProvisioningArtifact accepts per call.
+     */
+    public static final int MAX_BATCH_SIZE = 50;
+
+    /**
+     * Complete listings in flight in this container, keyed by request scope and shared by concurrent requests.
+     */
+    private static final SingleFlight<String, List<String>> LISTINGS = new SingleFlight<>();
 
     private final Logger logger;
     private final ServiceCatalogClient scClient;
+    private final ServiceCatalogAsyncClient scAsyncClient;
     private final AmazonWebServicesClientProxy proxy;
+    /**
+     * Optional scope of the request, see {@link RequestScope}. Only listings of requests with a scope are shared.
+     */
+    private final String requestScope;
+    /**
+     * Optional write-through cache of the details returned by create and update, used only with a request scope.
+     */
+    private final ServiceActionDetailCache detailCache;
 
     public void deleteServiceAction(final String id) {
         final DeleteServiceActionRequest request = DeleteServiceActionRequest
@@ -42,11 +88,14 @@ public class ActionController {
                 .id(id)
                 .build();
         logger.log(String.format(DELETE_SERVICE_ACTION_LOG, id));
+        if (isDetailCached()) {
+            detailCache.invalidate(requestScope, id);
+        }
         proxy.injectCredentialsAndInvokeV2(request, scClient::deleteServiceAction);
     }
 
     public CreateServiceActionResponse createServiceAction(final ResourceModel desiredModel, final String idempotencyToken) {
-        final Map<String, String> serviceActionDefinition = buildServiceActionDefinition(desiredModel.getDefinition());
+        final Map<String, String> serviceActionDefinition = ServiceActionDefinitionValidator.validateModel(desiredModel);
         final CreateServiceActionRequest request = CreateServiceActionRequest
                 .builder()
                 .definitionWithStrings(serviceActionDefinition)
@@ -56,23 +105,67 @@ public class ActionController {
                 .name(desiredModel.getName())
                 .build();
         logger.log(String.format(CREATE_SERVICE_ACTION_LOG, desiredModel.getName()));
-        return proxy.injectCredentialsAndInvokeV2(request, scClient::createServiceAction);
+        final CreateServiceActionResponse response = proxy.injectCredentialsAndInvokeV2(request, scClient::createServiceAction);
+        if (isDetailCached()) {
+            detailCache.put(requestScope, response.serviceActionDetail());
+        }
+        return response;
     }
 
     public UpdateServiceActionResponse updateServiceAction(final ResourceModel model) {
-        final Map<String, String> serviceActionDefinition = buildServiceActionDefinition(model.getDefinition());
-        final UpdateServiceActionRequest request = UpdateServiceActionRequest
+        return updateServiceAction(null, model);
+    }
+
+    /**
+     * Sends only the fields of the desired model that differ from the previous one, or every field when there is no
+     * previous model. Definitions are compared as key/value maps, so the order of the parameters does not matter.
+     */
+    public UpdateServiceActionResponse updateServiceAction(final ResourceModel previousModel, final ResourceModel model) {
+        final Map<String, String> serviceActionDefinition = ServiceActionDefinitionValidator.validateModel(model);
+        final UpdateServiceActionRequest.Builder builder = UpdateServiceActionRequest
                 .builder()
-                .id(model.getId())
-                .name(model.getName())
-                .definitionWithStrings(serviceActionDefinition)
-                .description(model.getDescription())
-                .build();
+                .id(model.getId());
+        if (previousModel == null || !Objects.equals(previousModel.getName(), model.getName())) {
+            builder.name(model.getName());
+        }
+        if (previousModel == null || !isSameDefinition(previousModel, model)) {
+            builder.definitionWithStrings(serviceActionDefinition);
+        }
+        if (previousModel == null || !Objects.equals(previousModel.getDescription(), model.getDescription())) {
+            builder.description(model.getDescription());
+        }
+        final UpdateServiceActionRequest request = builder.build();
         logger.log(String.format(UPDATE_SERVICE_ACTION_LOG, model.getId()));
-        return proxy.injectCredentialsAndInvokeV2(request, scClient::updateServiceAction);
+        final UpdateServiceActionResponse response = proxy.injectCredentialsAndInvokeV2(request, scClient::updateServiceAction);
+        if (isDetailCached()) {
+            detailCache.put(requestScope, response.serviceActionDetail());
+        }
+        return response;
+    }
+
+    /**
+     * Returns true when the desired model would not change anything UpdateServiceAction can update, so the call can be
+     * skipped.
+     */
+    public boolean isUnchanged(final ResourceModel previousModel, final ResourceModel model) {
+        final boolean unchanged = previousModel != null
+                && Objects.equals(previousModel.getName(), model.getName())
+                && Objects.equals(previousModel.getDescription(), model.getDescription())
+                && isSameDefinition(previousModel, model);
+        if (unchanged) {
+            logger.log(String.format(UNCHANGED_SERVICE_ACTION_LOG, model.getId()));
+        }
+        return unchanged;
     }
 
     public DescribeServiceActionResponse describeServiceAction(final String id) {
+        if (isDetailCached()) {
+            final ServiceActionDetail written = detailCache.get(requestScope, id);
+            if (written != null) {
+                logger.log(String.format(CACHED_SERVICE_ACTION_LOG, id));
+                return DescribeServiceActionResponse.builder().serviceActionDetail(written).build();
+            }
+        }
         final DescribeServiceActionRequest request = DescribeServiceActionRequest
                 .builder()
                 .id(id)
@@ -82,23 +175,229 @@ public class ActionController {
         return proxy.injectCredentialsAndInvokeV2(request, scClient::describeServiceAction);
     }
 
+    /**
+     * Lists a single page of service actions, starting with the first page when the token is null.
+     */
+    public ListServiceActionsResponse listServiceActionsPage(final String pageToken) {
+        final ListServiceActionsRequest request = ListServiceActionsRequest
+                .builder()
+                .pageToken(pageToken)
+                .pageSize(PrefetchingPaginator.MAX_PAGE_SIZE)
+                .build();
+        logger.log(String.format(LIST_SERVICE_ACTIONS_PAGE_LOG, pageToken));
+        return proxy.injectCredentialsAndInvokeV2(request, scClient::listServiceActions);
+    }
+
     public List<String> listAllServiceActionIds() {
+        if (requestScope == null) {
+            return listServiceActionIds();
+        }
+        return LISTINGS.execute(requestScope, this::listServiceActionIds);
+    }
+
+    private List<String> listServiceActionIds() {
+        logger.log(LIST_SERVICE_ACTIONS_LOG);
+        final List<String> serviceActionIds = new ArrayList<>();
+        try (PrefetchingPaginator<ListServiceActionsResponse> pages
+                     = new PrefetchingPaginator<>(this::listServiceActionsPage, ListServiceActionsResponse::nextPageToken)) {
+            while (pages.hasNext()) {
+                pages.next().serviceActionSummaries().forEach(summary -> serviceActionIds.add(summary.id()));
+            }
+        }
+        return Collections.unmodifiableList(serviceActionIds);
+    }
+
+    /**
+     * Lists every provisioning artifact the service action is associated with, across all products.
+     */
+    public List<ServiceActionAssociation> listServiceActionAssociations(final String serviceActionId) {
+        final List<ServiceActionAssociation> associations = new ArrayList<>();
+        try (PrefetchingPaginator<ListProvisioningArtifactsForServiceActionResponse> pages = new PrefetchingPaginator<>(
+                pageToken -> listProvisioningArtifactsForServiceActionPage(serviceActionId, pageToken),
+                ListProvisioningArtifactsForServiceActionResponse::nextPageToken)) {
+            while (pages.hasNext()) {
+                pages.next().provisioningArtifactViews().stream()
+                        .filter(view -> view.productViewSummary() != null && view.provisioningArtifact() != null)
+                        .forEach(view -> associations.add(ServiceActionAssociation.builder()
+                                .serviceActionId(serviceActionId)
+                                .productId(view.productViewSummary().productId())
+                                .provisioningArtifactId(view.provisioningArtifact().id())
+                                .build()));
+            }
+        }
+        return associations;
+    }
+
+    private ListProvisioningArtifactsForServiceActionResponse listProvisioningArtifactsForServiceActionPage(final String serviceActionId, final String pageToken) {
+        final ListProvisioningArtifactsForServiceActionRequest request = ListProvisioningArtifactsForServiceActionRequest
+                .builder()
+                .serviceActionId(serviceActionId)
+                .pageToken(pageToken)
+                .pageSize(PrefetchingPaginator.MAX_PAGE_SIZE)
+                .build();
+        logger.log(String.format(LIST_ASSOCIATIONS_PAGE_LOG, serviceActionId, pageToken));
+        return proxy.injectCredentialsAndInvokeV2(request, scClient::listProvisioningArtifactsForServiceAction);
+    }
+
+    /**
+     * Removes the associations in batches of {@link #MAX_BATCH_SIZE} on the async client, with at most
+     * {@code parallelism} batches in flight, and returns the associations the service could not remove. A batch that
+     * fails as a whole throws its SDK error once every batch has completed.
+     */
+    public List<FailedServiceActionAssociation> batchDisassociateServiceActions(final String serviceActionId,
+                                                                               final List<ServiceActionAssociation> associations,
+                                                                               final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(String.format(INVALID_BATCH_PARALLELISM, parallelism));
+        }
+        final int batchCount = (associations.size() + MAX_BATCH_SIZE - 1) / MAX_BATCH_SIZE;
+        logger.log(String.format(BATCH_DISASSOCIATE_LOG, associations.size(), serviceActionId, batchCount, parallelism));
+        final Semaphore inFlight = new Semaphore(parallelism);
+        final List<CompletableFuture<BatchDisassociateServiceActionFromProvisioningArtifactResponse>> batches = new ArrayList<>(batchCount);
+        for (int from = 0; from < associations.size(); from += MAX_BATCH_SIZE) {
+            final BatchDisassociateServiceActionFromProvisioningArtifactRequest request = BatchDisassociateServiceActionFromProvisioningArtifactRequest
+                    .builder()
+                    .serviceActionAssociations(associations.subList(from, Math.min(associations.size(), from + MAX_BATCH_SIZE)))
+                    .build();
+            inFlight.acquireUninterruptibly();
+            CompletableFuture<BatchDisassociateServiceActionFromProvisioningArtifactResponse> batch;
+            try {
+                batch = proxy.injectCredentialsAndInvokeV2Async(request, scAsyncClient::batchDisassociateServiceActionFromProvisioningArtifact);
+            } catch (SdkException e) {
+                batch = new CompletableFuture<>();
+                batch.completeExceptionally(e);
+            }
+            batches.add(batch.whenComplete((response, e) -> inFlight.release()));
+        }
+        final List<FailedServiceActionAssociation> failures = new ArrayList<>();
+        RuntimeException error = null;
+        for (final CompletableFuture<BatchDisassociateServiceActionFromProvisioningArtifactResponse> batch : batches) {
+            try {
+                failures.addAll(batch.join().failedServiceActionAssociations());
+            } catch (CompletionException e) {
+                if (error == null) {
+                    error = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        return failures;
+    }
+
+    /**
+     * Non-blocking variant of {@link #describeServiceAction(String)}, issued on the async client so several describes
+     * can be in flight at once. SDK errors complete the future exceptionally.
+     */
+    public CompletableFuture<DescribeServiceActionResponse> describeServiceActionAsync(final String id) {
+        final DescribeServiceActionRequest request = DescribeServiceActionRequest
+                .builder()
+                .id(id)
+                .build();
+
+        logger.log(String.format(DESCRIBE_SERVICE_ACTION_LOG, id));
+        return proxy.injectCredentialsAndInvokeV2Async(request, scAsyncClient::describeServiceAction);
+    }
+
+    /**
+     * Describes the service actions on the async client with at most {@code parallelism} describes in flight, and
+     * returns one result per id in input order. A failed describe is reported in its result and does not stop the
+     * batch. Details written by this container are served from the detail cache.
+     */
+    public List<ServiceActionDescription> describeServiceActions(final Collection<String> ids, final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(String.format(INVALID_PARALLELISM, parallelism));
+        }
+        logger.log(String.format(DESCRIBE_SERVICE_ACTIONS_LOG, ids.size(), parallelism));
+        final Semaphore inFlight = new Semaphore(parallelism);
+        final List<CompletableFuture<ServiceActionDescription>> descriptions = new ArrayList<>(ids.size());
+        for (final String id : ids) {
+            inFlight.acquireUninterruptibly();
+            descriptions.add(describeQuietly(id).whenComplete((description, e) -> inFlight.release()));
+        }
+        final List<ServiceActionDescription> results = new ArrayList<>(descriptions.size());
+        for (final CompletableFuture<ServiceActionDescription> description : descriptions) {
+            results.add(description.join());
+        }
+        return results;
+    }
+
+    private CompletableFuture<ServiceActionDescription> describeQuietly(final String id) {
+        if (isDetailCached()) {
+            final ServiceActionDetail written = detailCache.get(requestScope, id);
+            if (written != null) {
+                return CompletableFuture.completedFuture(new ServiceActionDescription(id, written, null));
+            }
+        }
+        CompletableFuture<DescribeServiceActionResponse> describe;
+        try {
+            describe = describeServiceActionAsync(id);
+        } catch (SdkException e) {
+            describe = new CompletableFuture<>();
+            describe.completeExceptionally(e);
+        }
+        return describe.handle((response, e) -> {
+            if (e == null) {
+                return new ServiceActionDescription(id, response.serviceActionDetail(), null);
+            }
+            final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof SdkException) {
+                return new ServiceActionDescription(id, null, (SdkException) cause);
+            }
+            throw new CompletionException(cause);
+        });
+    }
+
+    public CompletableFuture<ListServiceActionsResponse> listServiceActionsAsync(final String pageToken) {
         final ListServiceActionsRequest request = ListServiceActionsRequest
                 .builder()
-                .pageToken(null)
+                .pageToken(pageToken)
+                .pageSize(PrefetchingPaginator.MAX_PAGE_SIZE)
                 .build();
+        logger.log(String.format(LIST_SERVICE_ACTIONS_PAGE_LOG, pageToken));
+        return proxy.injectCredentialsAndInvokeV2Async(request, scAsyncClient::listServiceActions);
+    }
+
+    /**
+     * Non-blocking variant of {@link #listAllServiceActionIds()}. Pages are requested one after another as each
+     * response arrives, without holding a thread while waiting.
+     */
+    public CompletableFuture<List<String>> listAllServiceActionIdsAsync() {
         logger.log(LIST_SERVICE_ACTIONS_LOG);
-        final ListServiceActionsIterable responses = proxy.injectCredentialsAndInvokeIterableV2(request, scClient::listServiceActionsPaginator);
-        return responses.stream()
-                .flatMap(r -> r.serviceActionSummaries().stream())
-                .map(ServiceActionSummary::id)
-                .collect(Collectors.toList());
+        return collectServiceActionIdsAsync(null, new ArrayList<>());
     }
 
-    private Map<String, String> buildServiceActionDefinition(final List<DefinitionParameter> definitions) {
-        return definitions
-                .stream()
-                .collect(Collectors.toMap(x -> x.getKey(), x -> x.getValue()));
+    private CompletableFuture<List<String>> collectServiceActionIdsAsync(final String pageToken, final List<String> serviceActionIds) {
+        return listServiceActionsAsync(pageToken).thenCompose(response -> {
+            response.serviceActionSummaries().forEach(summary -> serviceActionIds.add(summary.id()));
+            final String nextPageToken = response.nextPageToken();
+            if (nextPageToken == null || nextPageToken.isEmpty()) {
+                return CompletableFuture.completedFuture(serviceActionIds);
+            }
+            return collectServiceActionIdsAsync(nextPageToken, serviceActionIds);
+        });
+    }
+
+    private boolean isDetailCached() {
+        return detailCache != null && requestScope != null;
+    }
+
+    private boolean isSameDefinition(final ResourceModel previousModel, final ResourceModel model) {
+        if (previousModel.getDefinition() == null || model.getDefinition() == null) {
+            return previousModel.getDefinition() == model.getDefinition();
+        }
+        return buildServiceActionDefinition(previousModel.getDefinition()).equals(buildServiceActionDefinition(model.getDefinition()));
+    }
+
+    /**
+     * Key/value view of a definition used only for comparison, a later duplicate key wins. Definitions sent to the
+     * service come from {@link ServiceActionDefinitionValidator}.
+     */
+    private static Map<String, String> buildServiceActionDefinition(final List<DefinitionParameter> definitions) {
+        final Map<String, String> serviceActionDefinition = new HashMap<>();
+        definitions.forEach(definition -> serviceActionDefinition.put(definition.getKey(), definition.getValue()));
+        return serviceActionDefinition;
     }
 
     private static List<DefinitionParameter> buildResourceModelDefinition(final Map<String, String> definitions) {
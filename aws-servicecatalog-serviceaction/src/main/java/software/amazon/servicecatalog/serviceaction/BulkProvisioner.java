@@ -0,0 +1,246 @@
+package software.amazon.servicecatalog.serviceaction;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import software.amazon.awssdk.services.servicecatalog.model.CreateServiceActionResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionSummary;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.servicecatalog.PrefetchingPaginator;
+import software.amazon.servicecatalog.RateLimiter;
+
+/**
+ * Creates, updates or skips the service actions of a manifest through {@link ActionController}.
+ *
+ * Existing service actions are matched to manifest items by name, from one listing taken up front. A missing service
+ * action is created with a token derived from the item's content, so a create that is repeated after an interruption
+ * returns the service action the first attempt made. An existing one is described and updated only when it differs from
+ * the item. Items run on {@code parallelism} workers, and every Service Catalog call first takes a permit from the
+ * shared {@link RateLimiter}. Items whose content matches a finished result of an earlier run are not sent again.
+ */
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BulkProvisioner {
+
+    /**
+     * Manifest items provisioned at once.
+     */
+    public static final String PARALLELISM_SETTING = "bulkParallelism";
+
+    /**
+     * Service Catalog calls per second across all workers, 0 disables the limit.
+     */
+    public static final String REQUESTS_PER_SECOND_SETTING = "bulkRequestsPerSecond";
+
+    static final int DEFAULT_PARALLELISM = 4;
+    static final int DEFAULT_REQUESTS_PER_SECOND = 5;
+
+    private static final String PROVISION_LOG = "Provisioning %d serviceActions, %d already done, %d at a time";
+    private static final String DUPLICATE_ITEM = "Name appears more than once in the manifest";
+    private static final String AMBIGUOUS_NAME = "%d existing service actions have this name";
+    private static final String INTERRUPTED = "Interrupted while provisioning service actions";
+
+    private final ActionController controller;
+    private final RateLimiter rateLimiter;
+    private final Logger logger;
+    private final int parallelism;
+
+    /**
+     * Provisions every item of the manifest and returns one result per item in manifest order. Results of items that
+     * are sent are passed to the listener as they finish, results carried over from {@code previous} are not.
+     */
+    public List<BulkProvisioningResult> provision(final List<ResourceModel> manifest, final Map<String, BulkProvisioningResult> previous,
+                                                  final Consumer<BulkProvisioningResult> listener) {
+        final Map<String, List<String>> existingIds = listExistingIds();
+        final List<BulkProvisioningResult> results = new ArrayList<>(Collections.nCopies(manifest.size(), (BulkProvisioningResult) null));
+        final Set<String> names = new HashSet<>();
+        final List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < manifest.size(); i++) {
+            final ResourceModel item = manifest.get(i);
+            final BulkProvisioningResult done = previous.get(item.getName());
+            if (!names.add(item.getName())) {
+                results.set(i, report(failed(item, DUPLICATE_ITEM), listener));
+            } else if (done != null && done.isCompletedFor(idempotencyToken(item))) {
+                results.set(i, done);
+            } else {
+                pending.add(i);
+            }
+        }
+        logger.log(String.format(PROVISION_LOG, manifest.size(), manifest.size() - pending.size(), parallelism));
+        if (pending.isEmpty()) {
+            return results;
+        }
+        final ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, pending.size())), new WorkerThreadFactory());
+        try {
+            final Map<Integer, Future<BulkProvisioningResult>> running = new HashMap<>();
+            for (final Integer index : pending) {
+                final ResourceModel item = manifest.get(index);
+                running.put(index, workers.submit(() -> report(provisionItem(item, existingIds.get(item.getName())), listener)));
+            }
+            for (final Integer index : pending) {
+                results.set(index, await(running.get(index)));
+            }
+            return results;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Hex SHA-256 of the item's name, type, description and definition, with definition keys sorted. Valid as a
+     * CreateServiceAction idempotency token.
+     */
+    public static String idempotencyToken(final ResourceModel item) {
+        final StringBuilder content = new StringBuilder();
+        append(content, item.getName());
+        append(content, item.getDefinitionType());
+        append(content, item.getDescription());
+        final Map<String, String> definition = new TreeMap<>();
+        if (item.getDefinition() != null) {
+            item.getDefinition().forEach(parameter -> definition.put(parameter.getKey(), parameter.getValue()));
+        }
+        definition.forEach((key, value) -> {
+            append(content, key);
+            append(content, value);
+        });
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            final StringBuilder token = new StringBuilder(digest.length * 2);
+            for (final byte b : digest) {
+                token.append(String.format("%02x", b));
+            }
+            return token.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private BulkProvisioningResult provisionItem(final ResourceModel item, final List<String> ids) {
+        final String token = idempotencyToken(item);
+        try {
+            if (ids == null) {
+                rateLimiter.acquire();
+                final CreateServiceActionResponse response = controller.createServiceAction(item, token);
+                return result(item, BulkProvisioningResult.Status.CREATED, response.serviceActionDetail().serviceActionSummary().id());
+            }
+            if (ids.size() > 1) {
+                return failed(item, String.format(AMBIGUOUS_NAME, ids.size()));
+            }
+            final String id = ids.get(0);
+            rateLimiter.acquire();
+            final ResourceModel current = ActionController.buildResourceModelFromServiceActionDetail(
+                    controller.describeServiceAction(id).serviceActionDetail());
+            final ResourceModel desired = ResourceModel.builder()
+                    .acceptLanguage(item.getAcceptLanguage())
+                    .name(item.getName())
+                    .definitionType(item.getDefinitionType())
+                    .definition(item.getDefinition())
+                    .description(item.getDescription())
+                    .id(id)
+                    .build();
+            if (controller.isUnchanged(current, desired)) {
+                return result(item, BulkProvisioningResult.Status.UNCHANGED, id);
+            }
+            rateLimiter.acquire();
+            controller.updateServiceAction(current, desired);
+            return result(item, BulkProvisioningResult.Status.UPDATED, id);
+        } catch (RuntimeException e) {
+            return failed(item, e.getMessage());
+        }
+    }
+
+    private Map<String, List<String>> listExistingIds() {
+        final Map<String, List<String>> ids = new HashMap<>();
+        try (PrefetchingPaginator<ListServiceActionsResponse> pages = new PrefetchingPaginator<>(pageToken -> {
+            rateLimiter.acquire();
+            return controller.listServiceActionsPage(pageToken);
+        }, ListServiceActionsResponse::nextPageToken)) {
+            while (pages.hasNext()) {
+                for (final ServiceActionSummary summary : pages.next().serviceActionSummaries()) {
+                    ids.computeIfAbsent(summary.name(), name -> new ArrayList<>()).add(summary.id());
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static BulkProvisioningResult report(final BulkProvisioningResult result, final Consumer<BulkProvisioningResult> listener) {
+        listener.accept(result);
+        return result;
+    }
+
+    private static BulkProvisioningResult result(final ResourceModel item, final BulkProvisioningResult.Status status, final String id) {
+        return BulkProvisioningResult.builder()
+                .name(item.getName())
+                .status(status)
+                .id(id)
+                .idempotencyToken(idempotencyToken(item))
+                .build();
+    }
+
+    private static BulkProvisioningResult failed(final ResourceModel item, final String message) {
+        return BulkProvisioningResult.builder()
+                .name(item.getName())
+                .status(BulkProvisioningResult.Status.FAILED)
+                .idempotencyToken(idempotencyToken(item))
+                .message(message)
+                .build();
+    }
+
+    private static void append(final StringBuilder content, final String value) {
+        // length prefix keeps "ab"+"c" and "a"+"bc" apart
+        if (value == null) {
+            content.append("-1:");
+        } else {
+            content.append(value.length()).append(':').append(value);
+        }
+    }
+
+    private static <T> T await(final Future<T> pending) {
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(INTERRUPTED, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "bulk-provisioner-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package software.amazon.servicecatalog.serviceaction;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.cloudformation.loggers.LogPublisher;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.servicecatalog.HandlerSettings;
+import software.amazon.servicecatalog.RateLimiter;
+import software.amazon.servicecatalog.SCClientBuilder;
+
+/**
+ * Provisions the service actions of a manifest outside CloudFormation, see {@link BulkProvisioner}.
+ *
+ * The manifest is a JSON array of ServiceAction resource properties. Results are appended to the report file, and
+ * running again with the same report resumes after the items that already finished. Credentials come from the default
+ * provider chain and are resolved once per run. Progress is logged to stderr. Exits with status 1 when any item failed.
+ *
+ * Usage: BulkProvisioningExecutable region manifest.json report.ndjson
+ */
+public class BulkProvisioningExecutable {
+    private static final String USAGE = "Usage: BulkProvisioningExecutable region manifest.json report.ndjson";
+    private static final String SUMMARY = "%d service actions: %d created, %d updated, %d unchanged, %d failed";
+
+    public static void main(final String[] args) throws Exception {
+        if (args.length != 3) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        final String region = args[0];
+        final Path reportPath = Paths.get(args[2]);
+        final List<ResourceModel> manifest = new Serializer().deserialize(
+                new String(Files.readAllBytes(Paths.get(args[1])), StandardCharsets.UTF_8),
+                new TypeReference<List<ResourceModel>>() {});
+        final Map<String, BulkProvisioningResult> previous = BulkProvisioningReport.read(reportPath);
+
+        final LoggerProxy logger = new LoggerProxy();
+        logger.addLogPublisher(new StandardErrorLogPublisher());
+        final BulkProvisioner provisioner = BulkProvisioner.builder()
+                .controller(ActionController.builder()
+                        .logger(logger)
+                        .proxy(new AmazonWebServicesClientProxy(logger, resolveCredentials(), () -> Long.MAX_VALUE))
+                        .scClient(SCClientBuilder.getClient(region))
+                        .build())
+                .rateLimiter(new RateLimiter(HandlerSettings.getInt(BulkProvisioner.REQUESTS_PER_SECOND_SETTING,
+                        BulkProvisioner.DEFAULT_REQUESTS_PER_SECOND)))
+                .logger(logger)
+                .parallelism(HandlerSettings.getInt(BulkProvisioner.PARALLELISM_SETTING, BulkProvisioner.DEFAULT_PARALLELISM))
+                .build();
+
+        final List<BulkProvisioningResult> results;
+        try (BulkProvisioningReport report = BulkProvisioningReport.append(reportPath)) {
+            results = provisioner.provision(manifest, previous, result -> {
+                try {
+                    report.write(result);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+
+        final long[] counts = new long[BulkProvisioningResult.Status.values().length];
+        results.forEach(result -> counts[result.getStatus().ordinal()]++);
+        System.err.println(String.format(SUMMARY, results.size(),
+                counts[BulkProvisioningResult.Status.CREATED.ordinal()],
+                counts[BulkProvisioningResult.Status.UPDATED.ordinal()],
+                counts[BulkProvisioningResult.Status.UNCHANGED.ordinal()],
+                counts[BulkProvisioningResult.Status.FAILED.ordinal()]));
+        System.exit(counts[BulkProvisioningResult.Status.FAILED.ordinal()] > 0 ? 1 : 0);
+    }
+
+    private static Credentials resolveCredentials() {
+        final AwsCredentials credentials = DefaultCredentialsProvider.create().resolveCredentials();
+        return new Credentials(credentials.accessKeyId(), credentials.secretAccessKey(),
+                credentials instanceof AwsSessionCredentials ? ((AwsSessionCredentials) credentials).sessionToken() : null);
+    }
+
+    /**
+     * Writes each log line to stderr, keeping stdout free for other tools.
+     */
+    private static class StandardErrorLogPublisher extends LogPublisher {
+        @Override
+        protected void publishMessage(final String message) {
+            System.err.println(message);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package software.amazon.servicecatalog.serviceaction;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Newline-delimited JSON report of a bulk provisioning run, one {@link BulkProvisioningResult} per line.
+ *
+ * Lines are appended and flushed as items finish, so a run that is interrupted leaves every finished item in the
+ * report. A later run over the same report reads it back, the last line of each name winning, and appends to it. A
+ * partly written last line is ignored.
+ */
+public class BulkProvisioningReport implements Closeable {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    private final BufferedWriter writer;
+
+    private BulkProvisioningReport(final BufferedWriter writer) {
+        this.writer = writer;
+    }
+
+    public static BulkProvisioningReport append(final Path path) throws IOException {
+        return new BulkProvisioningReport(Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+    }
+
+    /**
+     * Returns the latest result of each name in the report, or no results when there is no report yet.
+     */
+    public static Map<String, BulkProvisioningResult> read(final Path path) throws IOException {
+        final Map<String, BulkProvisioningResult> results = new HashMap<>();
+        if (!Files.exists(path)) {
+            return results;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    final BulkProvisioningResult result = MAPPER.readValue(line, BulkProvisioningResult.class);
+                    if (result.getName() != null) {
+                        results.put(result.getName(), result);
+                    }
+                } catch (JsonProcessingException e) {
+                    // line cut short by an interrupted run
+                }
+            }
+        }
+        return results;
+    }
+
+    public synchronized void write(final BulkProvisioningResult result) throws IOException {
+        writer.write(MAPPER.writeValueAsString(result));
+        writer.newLine();
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,40 @@
+package software.amazon.servicecatalog.serviceaction;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one manifest item, written as one line of the bulk provisioning report.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BulkProvisioningResult {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        UNCHANGED,
+        FAILED
+    }
+
+    private String name;
+    private Status status;
+    private String id;
+    /**
+     * Content-derived token of the item, see {@link BulkProvisioner#idempotencyToken(ResourceModel)}.
+     */
+    private String idempotencyToken;
+    private String message;
+
+    /**
+     * True when a resumed run can skip an item whose content still has this token.
+     */
+    public boolean isCompletedFor(final String token) {
+        return status != null && status != Status.FAILED && token.equals(idempotencyToken);
+    }
+}
@@ -1,5 +1,7 @@
 package software.amazon.servicecatalog.serviceaction;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,6 +10,19 @@ import lombok.Data;
 @Data
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder(toBuilder = true)
+@JsonDeserialize(builder = CallbackContext.CallbackContextBuilder.class)
 public class CallbackContext {
     private final String serviceActionId;
+    /**
+     * Cascade rounds left before a delete of a service action that is still in use gives up, null outside a cascade.
+     */
+    private final Integer cascadeRoundsRemaining;
+    /**
+     * Associations removed by the cascade so far.
+     */
+    private final Integer disassociatedCount;
+
+    @JsonPOJOBuilder(withPrefix = "")
+    public static class CallbackContextBuilder {
+    }
 }
@@ -0,0 +1,105 @@
+package software.amazon.servicecatalog.serviceaction;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerRequest;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.servicecatalog.SCClientPrimer;
+
+/**
+ * Cold-start priming for the ServiceAction handlers.
+ *
+ * Triggered from {@link Configuration}'s static initializer, which the generated HandlerWrapper loads while it is
+ * constructed during container init. Every Service Catalog operation used by {@link ActionController} is driven through
+ * the real proxy and SDK marshalling stack against an offline transport, and the wrapper's Jackson bindings for
+ * {@link ResourceModel} and {@link CallbackContext} are exercised, so the first real request finds those classes
+ * loaded.
+ */
+public class ColdStartPriming {
+    private static final String PRIMING_ID = "act-priming";
+    private static final String PRIMING_TOKEN = "priming";
+    private static final String HANDLER_REQUEST_JSON = "{\"action\":\"READ\",\"awsAccountId\":\"123456789012\","
+            + "\"region\":\"us-east-1\",\"requestData\":{\"resourceProperties\":{\"Id\":\"act-priming\",\"Name\":\"priming\","
+            + "\"DefinitionType\":\"SSM_AUTOMATION\",\"Definition\":[{\"Key\":\"Name\",\"Value\":\"priming\"}]}}}";
+
+    public static void prime() {
+        SCClientPrimer.primeOnce(ColdStartPriming::primeAll);
+    }
+
+    private static void primeAll() {
+        final AmazonWebServicesClientProxy proxy = SCClientPrimer.buildOfflineProxy();
+        final ServiceCatalogClient offlineClient = SCClientPrimer.buildOfflineClient();
+        final ServiceCatalogClient offlineErrorClient = SCClientPrimer.buildOfflineErrorClient();
+        try {
+            primeControllerCalls(buildController(proxy, offlineClient));
+            primeErrorPath(buildController(proxy, offlineErrorClient));
+            primeSerialization();
+        } finally {
+            offlineClient.close();
+            offlineErrorClient.close();
+        }
+    }
+
+    private static ActionController buildController(final AmazonWebServicesClientProxy proxy, final ServiceCatalogClient scClient) {
+        return ActionController
+                .builder()
+                .logger(new LoggerProxy())
+                .proxy(proxy)
+                .scClient(scClient)
+                .build();
+    }
+
+    private static void primeControllerCalls(final ActionController controller) {
+        final ResourceModel model = buildPrimingModel();
+        SCClientPrimer.runQuietly(() -> controller.createServiceAction(model, PRIMING_TOKEN));
+        SCClientPrimer.runQuietly(() -> controller.describeServiceAction(PRIMING_ID));
+        SCClientPrimer.runQuietly(() -> controller.updateServiceAction(model));
+        SCClientPrimer.runQuietly(() -> controller.deleteServiceAction(PRIMING_ID));
+        SCClientPrimer.runQuietly(controller::listAllServiceActionIds);
+    }
+
+    private static void primeErrorPath(final ActionController controller) {
+        SCClientPrimer.runQuietly(() -> {
+            try {
+                controller.describeServiceAction(PRIMING_ID);
+            } catch (SdkException e) {
+                ExceptionTranslator.translateToCfnException(e);
+            }
+        });
+    }
+
+    private static void primeSerialization() {
+        final Serializer serializer = new Serializer();
+        SCClientPrimer.runQuietly(() -> {
+            try {
+                final String model = serializer.serialize(buildPrimingModel());
+                serializer.deserialize(model, new TypeReference<ResourceModel>() {});
+                final String callbackContext = serializer.serialize(CallbackContext.builder().serviceActionId(PRIMING_ID).build());
+                serializer.deserialize(callbackContext, new TypeReference<CallbackContext>() {});
+                serializer.deserialize(HANDLER_REQUEST_JSON, new TypeReference<HandlerRequest<ResourceModel, CallbackContext>>() {});
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static ResourceModel buildPrimingModel() {
+        return ResourceModel
+                .builder()
+                .id(PRIMING_ID)
+                .name(PRIMING_TOKEN)
+                .definitionType("SSM_AUTOMATION")
+                .definition(Arrays.asList(
+                        DefinitionParameter.builder().key("Name").value(PRIMING_TOKEN).build(),
+                        DefinitionParameter.builder().key("Version").value("1").build()))
+                .description(PRIMING_TOKEN)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package software.amazon.servicecatalog.serviceaction;
+
+import java.io.PrintStream;
+
+import software.amazon.servicecatalog.HandlerRequestExecutor;
+
+/**
+ * Long-running alternative to HandlerWrapperExecutable that serves many handler requests from one warm process.
+ * Reads one request per line from stdin and writes one response envelope per line to stdout, see
+ * {@link HandlerRequestExecutor}.
+ */
+public class ConcurrentHandlerExecutable {
+
+    public static void main(final String[] args) throws Exception {
+        // Keep stray output from handlers and libraries out of the response stream.
+        final PrintStream responses = System.out;
+        System.setOut(System.err);
+
+        HandlerRequestExecutor
+                .fromSettings(() -> HandlerRequestExecutor.processorFor(new HandlerWrapperExecutable()), responses)
+                .run(System.in);
+    }
+}
@@ -6,6 +6,11 @@ import org.json.JSONTokener;
 
 class Configuration extends BaseConfiguration {
 
+    static {
+        // The generated HandlerWrapper constructs this class during container init, before the first request.
+        ColdStartPriming.prime();
+    }
+
     public Configuration() {
         super("aws-servicecatalog-serviceaction.json");
     }
@@ -6,6 +6,7 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.RequestScope;
 import software.amazon.servicecatalog.SCClientBuilder;
 
 public class CreateHandler extends BaseHandler<CallbackContext> {
@@ -21,7 +22,9 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
                 .builder()
                 .logger(logger)
                 .proxy(proxy)
-                .scClient(SCClientBuilder.getClient())
+                .scClient(SCClientBuilder.getClient(request.getRegion()))
+                .requestScope(RequestScope.of(request.getAwsAccountId(), request.getRegion()))
+                .detailCache(ServiceActionDetailCache.getInstance())
                 .build();
         final ResourceModel desiredModel = request.getDesiredResourceState();
         final String idempotencyToken = request.getClientRequestToken();
@@ -1,14 +1,44 @@
 package software.amazon.servicecatalog.serviceaction;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.servicecatalog.model.FailedServiceActionAssociation;
+import software.amazon.awssdk.services.servicecatalog.model.ResourceInUseException;
+import software.amazon.awssdk.services.servicecatalog.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociation;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociationErrorCode;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.HandlerSettings;
+import software.amazon.servicecatalog.RequestScope;
 import software.amazon.servicecatalog.SCClientBuilder;
 
 public class DeleteHandler extends BaseHandler<CallbackContext> {
 
+    /**
+     * Set to true to remove the associations of a service action that is still in use, and then delete it.
+     */
+    public static final String CASCADE_SETTING = "cascadeDelete";
+
+    /**
+     * Batch disassociations in flight at once during a cascade.
+     */
+    public static final String CASCADE_PARALLELISM_SETTING = "cascadeParallelism";
+
+    static final int DEFAULT_CASCADE_PARALLELISM = 4;
+    static final int MAX_CASCADE_ROUNDS = 10;
+    static final int CASCADE_DELAY_SECONDS = 5;
+
+    private static final String CASCADE_LOG = "ServiceAction %s is in use, disassociated %d of %d associations (%d so far), %d rounds remaining";
+    private static final String CASCADE_DONE = "Deleted serviceAction %s after disassociating %d associations";
+    private static final String CASCADE_FAILURE_LOG = "Failed to disassociate serviceAction %s from %s (%s: %s)";
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -16,20 +46,91 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
         final CallbackContext callbackContext,
         final Logger logger) {
 
+        final boolean cascade = Boolean.parseBoolean(HandlerSettings.get(CASCADE_SETTING, "false"));
         final ActionController actionController = ActionController
                 .builder()
                 .logger(logger)
                 .proxy(proxy)
-                .scClient(SCClientBuilder.getClient())
+                .scClient(SCClientBuilder.getClient(request.getRegion()))
+                .scAsyncClient(cascade ? SCClientBuilder.getAsyncClient(request.getRegion()) : null)
+                .requestScope(RequestScope.of(request.getAwsAccountId(), request.getRegion()))
+                .detailCache(ServiceActionDetailCache.getInstance())
                 .build();
 
         final ResourceModel desiredModel = request.getDesiredResourceState();
 
         try {
             actionController.deleteServiceAction(desiredModel.getId());
-            return ProgressEvent.defaultSuccessHandler(null);
+            return deleted(desiredModel, callbackContext, logger);
+        } catch (ResourceInUseException e) {
+            if (!cascade) {
+                throw ExceptionTranslator.translateToCfnException(e);
+            }
+            return cascade(actionController, desiredModel, callbackContext, logger);
+        } catch (ResourceNotFoundException e) {
+            if (callbackContext != null) {
+                // gone since an earlier cascade round, nothing left to delete
+                return deleted(desiredModel, callbackContext, logger);
+            }
+            throw ExceptionTranslator.translateToCfnException(e);
         } catch (SdkException e) {
             throw ExceptionTranslator.translateToCfnException(e);
         }
     }
+
+    /**
+     * Removes every association of the service action found in this round, and retries the delete on the next callback.
+     * Associations that fail to disassociate, or that show up late in the listing, are picked up by a later round.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> cascade(final ActionController actionController, final ResourceModel model,
+                                                                  final CallbackContext callbackContext, final Logger logger) {
+        final int roundsRemaining = callbackContext == null || callbackContext.getCascadeRoundsRemaining() == null
+                ? MAX_CASCADE_ROUNDS : callbackContext.getCascadeRoundsRemaining();
+        if (roundsRemaining == 0) {
+            throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getId());
+        }
+        final int previouslyDisassociated = callbackContext == null || callbackContext.getDisassociatedCount() == null
+                ? 0 : callbackContext.getDisassociatedCount();
+        final int parallelism = Math.max(1, HandlerSettings.getInt(CASCADE_PARALLELISM_SETTING, DEFAULT_CASCADE_PARALLELISM));
+        try {
+            final List<ServiceActionAssociation> associations = actionController.listServiceActionAssociations(model.getId());
+            final List<FailedServiceActionAssociation> failures = actionController
+                    .batchDisassociateServiceActions(model.getId(), associations, parallelism)
+                    .stream()
+                    .filter(failure -> failure.errorCode() != ServiceActionAssociationErrorCode.RESOURCE_NOT_FOUND)
+                    .collect(Collectors.toList());
+            failures.forEach(failure -> logger.log(String.format(CASCADE_FAILURE_LOG, model.getId(),
+                    failure.provisioningArtifactId(), failure.errorCodeAsString(), failure.errorMessage())));
+            final int disassociated = associations.size() - failures.size();
+            logger.log(String.format(CASCADE_LOG, model.getId(), disassociated, associations.size(),
+                    previouslyDisassociated + disassociated, roundsRemaining - 1));
+            return ProgressEvent.defaultInProgressHandler(CallbackContext.builder()
+                            .serviceActionId(model.getId())
+                            .cascadeRoundsRemaining(roundsRemaining - 1)
+                            .disassociatedCount(previouslyDisassociated + disassociated)
+                            .build(),
+                    CASCADE_DELAY_SECONDS,
+                    model);
+        } catch (ResourceNotFoundException e) {
+            return deleted(model, callbackContext, logger);
+        } catch (SdkException e) {
+            throw ExceptionTranslator.translateToCfnException(e);
+        }
+    }
+
+    /**
+     * Succeeds the delete, reporting how many associations a cascade removed on the way.
+     */
+    private static ProgressEvent<ResourceModel, CallbackContext> deleted(final ResourceModel model, final CallbackContext callbackContext,
+                                                                        final Logger logger) {
+        if (callbackContext == null || callbackContext.getDisassociatedCount() == null) {
+            return ProgressEvent.defaultSuccessHandler(null);
+        }
+        final String message = String.format(CASCADE_DONE, model.getId(), callbackContext.getDisassociatedCount());
+        logger.log(message);
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .status(OperationStatus.SUCCESS)
+                .message(message)
+                .build();
+    }
 }
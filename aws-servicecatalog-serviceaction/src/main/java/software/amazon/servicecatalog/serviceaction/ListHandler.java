@@ -1,18 +1,37 @@
 package software.amazon.servicecatalog.serviceaction;
 
 import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionSummary;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.HandlerSettings;
+import software.amazon.servicecatalog.RequestScope;
 import software.amazon.servicecatalog.SCClientBuilder;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 public class ListHandler extends BaseHandler<CallbackContext> {
 
+    /**
+     * Set to true to return fully described models instead of ids only.
+     */
+    public static final String HYDRATED_SETTING = "hydratedList";
+
+    /**
+     * Describes in flight at once in hydrated mode.
+     */
+    public static final String DESCRIBE_PARALLELISM_SETTING = "describeParallelism";
+
+    static final int DEFAULT_DESCRIBE_PARALLELISM = 8;
+
+    private static final String DESCRIBE_FAILED_LOG = "Describe of serviceAction %s failed, listing its id only: %s";
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -20,15 +39,24 @@ public class ListHandler extends BaseHandler<CallbackContext> {
         final CallbackContext callbackContext,
         final Logger logger){
 
+        final boolean hydrated = Boolean.parseBoolean(HandlerSettings.get(HYDRATED_SETTING, "false"));
         final ActionController actionController = ActionController
                 .builder()
                 .logger(logger)
                 .proxy(proxy)
-                .scClient(SCClientBuilder.getClient())
+                .scClient(SCClientBuilder.getClient(request.getRegion()))
+                .scAsyncClient(hydrated ? SCClientBuilder.getAsyncClient(request.getRegion()) : null)
+                .requestScope(RequestScope.of(request.getAwsAccountId(), request.getRegion()))
+                .detailCache(ServiceActionDetailCache.getInstance())
                 .build();
         try {
+            if (request.getNextToken() != null || Boolean.parseBoolean(HandlerSettings.get(HandlerSettings.PAGED_LIST, "false"))) {
+                return listPage(actionController, request.getNextToken(), hydrated, logger);
+            }
             final List<String> serviceActionIds = actionController.listAllServiceActionIds();
-            final List<ResourceModel> models = buildListResourceModel(serviceActionIds);
+            final List<ResourceModel> models = hydrated
+                    ? buildHydratedResourceModels(actionController, serviceActionIds, logger)
+                    : buildListResourceModel(serviceActionIds);
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
                     .resourceModels(models)
                     .status(OperationStatus.SUCCESS)
@@ -38,6 +66,53 @@ public class ListHandler extends BaseHandler<CallbackContext> {
         }
     }
 
+    /**
+     * Returns one page of models, passing the service page token through as the next token.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> listPage(final ActionController actionController, final String nextToken,
+                                                                   final boolean hydrated, final Logger logger) {
+        final ListServiceActionsResponse response = actionController.listServiceActionsPage(nextToken);
+        final List<ResourceModel> models;
+        if (hydrated) {
+            final List<String> serviceActionIds = new ArrayList<>(response.serviceActionSummaries().size());
+            for (final ServiceActionSummary summary : response.serviceActionSummaries()) {
+                serviceActionIds.add(summary.id());
+            }
+            models = buildHydratedResourceModels(actionController, serviceActionIds, logger);
+        } else {
+            models = new ArrayList<>(response.serviceActionSummaries().size());
+            for (final ServiceActionSummary summary : response.serviceActionSummaries()) {
+                models.add(ResourceModel.builder().id(summary.id()).build());
+            }
+        }
+        final String nextPageToken = response.nextPageToken();
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModels(models)
+                .nextToken(nextPageToken == null || nextPageToken.isEmpty() ? null : nextPageToken)
+                .status(OperationStatus.SUCCESS)
+                .build();
+    }
+
+    /**
+     * Describes the service actions in parallel. Service actions deleted since they were listed are left out, and
+     * those whose describe failed otherwise are listed by id only.
+     */
+    private List<ResourceModel> buildHydratedResourceModels(final ActionController actionController, final List<String> serviceActionIds,
+                                                            final Logger logger) {
+        final List<ServiceActionDescription> descriptions = actionController.describeServiceActions(serviceActionIds,
+                HandlerSettings.getInt(DESCRIBE_PARALLELISM_SETTING, DEFAULT_DESCRIBE_PARALLELISM));
+        final List<ResourceModel> models = new ArrayList<>(descriptions.size());
+        for (final ServiceActionDescription description : descriptions) {
+            if (description.getDetail() != null) {
+                models.add(ActionController.buildResourceModelFromServiceActionDetail(description.getDetail()));
+            } else if (!description.isNotFound()) {
+                logger.log(String.format(DESCRIBE_FAILED_LOG, description.getId(), description.getFailure().getMessage()));
+                models.add(ResourceModel.builder().id(description.getId()).build());
+            }
+        }
+        return models;
+    }
+
     private List<ResourceModel> buildListResourceModel(List<String> serviceActionIds) {
         return serviceActionIds.stream().map(actionId -> ResourceModel.builder()
                 .id(actionId)
@@ -6,6 +6,7 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.RequestScope;
 import software.amazon.servicecatalog.SCClientBuilder;
 
 public class ReadHandler extends BaseHandler<CallbackContext> {
@@ -21,7 +22,9 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
                 .builder()
                 .proxy(proxy)
                 .logger(logger)
-                .scClient(SCClientBuilder.getClient())
+                .scClient(SCClientBuilder.getClient(request.getRegion()))
+                .requestScope(RequestScope.of(request.getAwsAccountId(), request.getRegion()))
+                .detailCache(ServiceActionDetailCache.getInstance())
                 .build();
         final ResourceModel desiredModel = request.getDesiredResourceState();
         try {
@@ -0,0 +1,96 @@
+package software.amazon.servicecatalog.serviceaction;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import software.amazon.awssdk.services.servicecatalog.model.InvalidParametersException;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionDefinitionKey;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionDefinitionType;
+
+/**
+ * Local checks of a service action model against the resource schema and the definition keys Service Catalog accepts,
+ * run before any API call. Violations are reported as {@link InvalidParametersException}, the error the service would
+ * return, so handlers translate them like any other SDK error.
+ */
+public class ServiceActionDefinitionValidator {
+
+    static final int MAX_NAME_LENGTH = 256;
+    static final int MAX_DESCRIPTION_LENGTH = 1024;
+    static final int MAX_KEY_LENGTH = 1000;
+    static final int MAX_VALUE_LENGTH = 4096;
+
+    private static final String NAME_LENGTH_MESSAGE = "Name must be between 1 and %d characters";
+    private static final String DESCRIPTION_LENGTH_MESSAGE = "Description must be at most %d characters";
+    private static final String DEFINITION_TYPE_MESSAGE = "Unsupported DefinitionType: %s";
+    private static final String KEY_LENGTH_MESSAGE = "Definition key must be between 1 and %d characters";
+    private static final String VALUE_MESSAGE = "Definition value of %s must be set and at most %d characters";
+    private static final String DUPLICATE_KEY_MESSAGE = "Duplicate definition key: %s";
+    private static final String UNKNOWN_KEY_MESSAGE = "Unknown definition key %s for DefinitionType %s";
+    private static final String MISSING_KEY_MESSAGE = "Definition key %s is required for DefinitionType %s";
+
+    private static final ServiceActionDefinitionKey[] REQUIRED_SSM_AUTOMATION_KEYS = {
+            ServiceActionDefinitionKey.NAME, ServiceActionDefinitionKey.VERSION
+    };
+
+    private ServiceActionDefinitionValidator() {
+    }
+
+    /**
+     * Checks the name and description of the model and returns its validated definition, see
+     * {@link #validateDefinition(String, List)}.
+     */
+    public static Map<String, String> validateModel(final ResourceModel model) {
+        final String name = model.getName();
+        if (name == null || name.isEmpty() || name.length() > MAX_NAME_LENGTH) {
+            throw invalid(String.format(NAME_LENGTH_MESSAGE, MAX_NAME_LENGTH));
+        }
+        if (model.getDescription() != null && model.getDescription().length() > MAX_DESCRIPTION_LENGTH) {
+            throw invalid(String.format(DESCRIPTION_LENGTH_MESSAGE, MAX_DESCRIPTION_LENGTH));
+        }
+        return validateDefinition(model.getDefinitionType(), model.getDefinition());
+    }
+
+    /**
+     * Returns the definition as a key/value map after checking key and value lengths, duplicate keys, and, for
+     * SSM_AUTOMATION, that only known keys are used and Name and Version are present. A null definition type is not
+     * checked, as on update where the type cannot change.
+     */
+    public static Map<String, String> validateDefinition(final String definitionType, final List<DefinitionParameter> definition) {
+        final ServiceActionDefinitionType type = definitionType == null ? null : ServiceActionDefinitionType.fromValue(definitionType);
+        if (type == ServiceActionDefinitionType.UNKNOWN_TO_SDK_VERSION) {
+            throw invalid(String.format(DEFINITION_TYPE_MESSAGE, definitionType));
+        }
+        final List<DefinitionParameter> parameters = definition == null ? Collections.<DefinitionParameter>emptyList() : definition;
+        final Map<String, String> serviceActionDefinition = new HashMap<>((int) (parameters.size() / 0.75f) + 1);
+        for (final DefinitionParameter parameter : parameters) {
+            final String key = parameter.getKey();
+            if (key == null || key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+                throw invalid(String.format(KEY_LENGTH_MESSAGE, MAX_KEY_LENGTH));
+            }
+            if (parameter.getValue() == null || parameter.getValue().length() > MAX_VALUE_LENGTH) {
+                throw invalid(String.format(VALUE_MESSAGE, key, MAX_VALUE_LENGTH));
+            }
+            if (type == ServiceActionDefinitionType.SSM_AUTOMATION
+                    && ServiceActionDefinitionKey.fromValue(key) == ServiceActionDefinitionKey.UNKNOWN_TO_SDK_VERSION) {
+                throw invalid(String.format(UNKNOWN_KEY_MESSAGE, key, definitionType));
+            }
+            if (serviceActionDefinition.put(key, parameter.getValue()) != null) {
+                throw invalid(String.format(DUPLICATE_KEY_MESSAGE, key));
+            }
+        }
+        if (type == ServiceActionDefinitionType.SSM_AUTOMATION) {
+            for (final ServiceActionDefinitionKey required : REQUIRED_SSM_AUTOMATION_KEYS) {
+                if (!serviceActionDefinition.containsKey(required.toString())) {
+                    throw invalid(String.format(MISSING_KEY_MESSAGE, required, definitionType));
+                }
+            }
+        }
+        return serviceActionDefinition;
+    }
+
+    private static InvalidParametersException invalid(final String message) {
+        return InvalidParametersException.builder().message(message).build();
+    }
+}
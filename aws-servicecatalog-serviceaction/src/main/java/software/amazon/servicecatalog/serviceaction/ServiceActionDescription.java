@@ -0,0 +1,43 @@
+package software.amazon.servicecatalog.serviceaction;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.servicecatalog.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionDetail;
+
+/**
+ * Outcome of describing one service action of a batch, see
+ * {@link ActionController#describeServiceActions(java.util.Collection, int)}. Exactly one of detail and failure is set.
+ */
+public class ServiceActionDescription {
+    private final String id;
+    private final ServiceActionDetail detail;
+    private final SdkException failure;
+
+    ServiceActionDescription(final String id, final ServiceActionDetail detail, final SdkException failure) {
+        this.id = id;
+        this.detail = detail;
+        this.failure = failure;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * The described service action, or null when the describe failed.
+     */
+    public ServiceActionDetail getDetail() {
+        return detail;
+    }
+
+    /**
+     * The error of a failed describe, or null when it succeeded.
+     */
+    public SdkException getFailure() {
+        return failure;
+    }
+
+    public boolean isNotFound() {
+        return failure instanceof ResourceNotFoundException;
+    }
+}
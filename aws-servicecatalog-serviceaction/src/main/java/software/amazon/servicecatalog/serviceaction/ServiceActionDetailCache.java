@@ -0,0 +1,110 @@
+package software.amazon.servicecatalog.serviceaction;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.LongSupplier;
+
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionDetail;
+import software.amazon.servicecatalog.HandlerSettings;
+
+/**
+ * Container-scoped write-through cache of the service action details returned by create and update.
+ *
+ * CloudFormation reads a resource right after creating or updating it, so the detail the write call just returned is
+ * kept for a short TTL and handed to the following describe without calling the service. Only the handlers' own writes
+ * fill the cache, a delete drops the entry, and changes made out of band are seen once the entry expires. Entries are
+ * keyed by {@link software.amazon.servicecatalog.RequestScope}, and the least recently used entry is dropped when the
+ * cache is full.
+ */
+public class ServiceActionDetailCache {
+
+    /**
+     * Milliseconds a written detail is served to describes, 0 disables the cache.
+     */
+    public static final String TTL_SETTING = "serviceActionDetailTtlMillis";
+
+    static final long DEFAULT_TTL_MILLIS = 10_000L;
+    static final int MAX_ENTRIES = 256;
+
+    private static final ServiceActionDetailCache INSTANCE = new ServiceActionDetailCache(
+            HandlerSettings.getInt(TTL_SETTING, (int) DEFAULT_TTL_MILLIS), MAX_ENTRIES, System::currentTimeMillis);
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final LinkedHashMap<String, Written> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    ServiceActionDetailCache(final long ttlMillis, final int maxEntries, final LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    public static ServiceActionDetailCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the detail last written for the service action, or null when there is none younger than the TTL.
+     */
+    public ServiceActionDetail get(final String scope, final String id) {
+        final String key = key(scope, id);
+        synchronized (entries) {
+            final Written written = entries.get(key);
+            if (written == null) {
+                return null;
+            }
+            if (clock.getAsLong() - written.writtenMillis > ttlMillis) {
+                entries.remove(key);
+                return null;
+            }
+            return written.detail;
+        }
+    }
+
+    public void put(final String scope, final ServiceActionDetail detail) {
+        if (ttlMillis <= 0 || detail == null || detail.serviceActionSummary() == null || detail.serviceActionSummary().id() == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key(scope, detail.serviceActionSummary().id()), new Written(detail, clock.getAsLong()));
+            final Iterator<String> iterator = entries.keySet().iterator();
+            while (entries.size() > maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    public void invalidate(final String scope, final String id) {
+        synchronized (entries) {
+            entries.remove(key(scope, id));
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static String key(final String scope, final String id) {
+        return scope + "/" + id;
+    }
+
+    private static class Written {
+        private final ServiceActionDetail detail;
+        private final long writtenMillis;
+
+        Written(final ServiceActionDetail detail, final long writtenMillis) {
+            this.detail = detail;
+            this.writtenMillis = writtenMillis;
+        }
+    }
+}
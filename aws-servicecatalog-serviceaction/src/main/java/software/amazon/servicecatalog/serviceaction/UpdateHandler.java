@@ -6,6 +6,7 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.RequestScope;
 import software.amazon.servicecatalog.SCClientBuilder;
 
 public class UpdateHandler extends BaseHandler<CallbackContext> {
@@ -20,11 +21,17 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
                 .builder()
                 .logger(logger)
                 .proxy(proxy)
-                .scClient(SCClientBuilder.getClient())
+                .scClient(SCClientBuilder.getClient(request.getRegion()))
+                .requestScope(RequestScope.of(request.getAwsAccountId(), request.getRegion()))
+                .detailCache(ServiceActionDetailCache.getInstance())
                 .build();
+        final ResourceModel previousModel = request.getPreviousResourceState();
         final ResourceModel desiredModel = request.getDesiredResourceState();
+        if (actionController.isUnchanged(previousModel, desiredModel)) {
+            return ProgressEvent.defaultSuccessHandler(desiredModel);
+        }
         try {
-            final UpdateServiceActionResponse response = actionController.updateServiceAction(desiredModel);
+            final UpdateServiceActionResponse response = actionController.updateServiceAction(previousModel, desiredModel);
             final ResourceModel model = ActionController
                     .buildResourceModelFromServiceActionDetail(response.serviceActionDetail());
             return ProgressEvent.defaultSuccessHandler(model);
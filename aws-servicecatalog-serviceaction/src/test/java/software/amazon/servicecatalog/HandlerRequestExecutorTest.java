@@ -0,0 +1,158 @@
+package software.amazon.servicecatalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.ExecutableWrapper;
+
+public class HandlerRequestExecutorTest {
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty(HandlerSettings.toPropertyName(HandlerSettings.EXECUTOR_THREADS));
+    }
+
+    @Test
+    public void run_ServesEveryRequestLine() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final HandlerRequestExecutor executor = new HandlerRequestExecutor(4, 4, () -> HandlerRequestExecutorTest::echo, output);
+
+        executor.run(input("{\"id\":\"a\"}", "", "{\"id\":\"b\"}", "{\"id\":\"c\"}"));
+
+        final String[] lines = output.toString(StandardCharsets.UTF_8.name()).split("\n");
+        Arrays.sort(lines);
+        assertThat(lines).containsExactly(
+                "{\"requestNumber\":0,\"response\":{\"echo\":{\"id\":\"a\"}}}",
+                "{\"requestNumber\":2,\"response\":{\"echo\":{\"id\":\"b\"}}}",
+                "{\"requestNumber\":3,\"response\":{\"echo\":{\"id\":\"c\"}}}");
+    }
+
+    @Test
+    public void run_ProcessorFailure_WritesError() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final HandlerRequestExecutor executor = new HandlerRequestExecutor(1, 0, () -> (request, response) -> {
+            throw new IOException("stream \"closed\"");
+        }, output);
+
+        executor.run(input("{}"));
+
+        assertThat(output.toString(StandardCharsets.UTF_8.name()))
+                .isEqualTo("{\"requestNumber\":0,\"error\":\"stream \\\"closed\\\"\"}\n");
+    }
+
+    @Test
+    public void submit_BlocksWhileSaturated() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final HandlerRequestExecutor executor = new HandlerRequestExecutor(1, 1, () -> (request, response) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            response.write("{}".getBytes(StandardCharsets.UTF_8));
+        }, new ByteArrayOutputStream());
+        executor.submit(0, new byte[0]);
+        executor.submit(1, new byte[0]);
+
+        final ExecutorService submitter = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> third = submitter.submit(() -> {
+                executor.submit(2, new byte[0]);
+                return null;
+            });
+            assertThatThrownBy(() -> third.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+            release.countDown();
+            third.get(5, TimeUnit.SECONDS);
+        } finally {
+            submitter.shutdownNow();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void run_WorkerThreadsKeepTheirProcessor() throws Exception {
+        final AtomicInteger created = new AtomicInteger();
+        final HandlerRequestExecutor executor = new HandlerRequestExecutor(2, 8, () -> {
+            created.incrementAndGet();
+            return HandlerRequestExecutorTest::echo;
+        }, new ByteArrayOutputStream());
+
+        executor.run(input("{}", "{}", "{}", "{}", "{}", "{}"));
+
+        assertThat(created.get()).isBetween(1, 2);
+    }
+
+    @Test
+    public void processorFor_OnlyFirstRequestUsesHandleRequest() throws Exception {
+        final ExecutableWrapper<?, ?> wrapper = mock(ExecutableWrapper.class);
+        final HandlerRequestExecutor.RequestProcessor processor = HandlerRequestExecutor.processorFor(wrapper);
+
+        processor.process(new ByteArrayInputStream(new byte[0]), new ByteArrayOutputStream());
+        processor.process(new ByteArrayInputStream(new byte[0]), new ByteArrayOutputStream());
+        processor.process(new ByteArrayInputStream(new byte[0]), new ByteArrayOutputStream());
+
+        verify(wrapper).handleRequest(any(InputStream.class), any(OutputStream.class));
+        verify(wrapper, times(2)).processRequest(any(InputStream.class), any(OutputStream.class));
+    }
+
+    @Test
+    public void fromSettings_InvalidThreads() {
+        System.setProperty(HandlerSettings.toPropertyName(HandlerSettings.EXECUTOR_THREADS), "many");
+
+        assertThatThrownBy(() -> HandlerRequestExecutor.fromSettings(() -> HandlerRequestExecutorTest::echo, new ByteArrayOutputStream()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(HandlerSettings.EXECUTOR_THREADS);
+    }
+
+    @Test
+    public void fromSettings_ReadsThreads() throws Exception {
+        System.setProperty(HandlerSettings.toPropertyName(HandlerSettings.EXECUTOR_THREADS), "2");
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        HandlerRequestExecutor.fromSettings(() -> HandlerRequestExecutorTest::echo, output).run(input("{}"));
+
+        assertThat(output.toString(StandardCharsets.UTF_8.name())).isEqualTo("{\"requestNumber\":0,\"response\":{\"echo\":{}}}\n");
+    }
+
+    @Test
+    public void constructor_RejectsEmptyPool() {
+        assertThatThrownBy(() -> new HandlerRequestExecutor(0, 1, () -> HandlerRequestExecutorTest::echo, new ByteArrayOutputStream()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void echo(final InputStream request, final OutputStream response) throws IOException {
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[256];
+        int read;
+        while ((read = request.read(buffer)) != -1) {
+            body.write(buffer, 0, read);
+        }
+        response.write(("{\"echo\":" + body.toString(StandardCharsets.UTF_8.name()) + "}\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static InputStream input(final String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,147 @@
+package software.amazon.servicecatalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogClient;
+
+public class SCClientPoolTest {
+    private static final long IDLE_TIMEOUT_MILLIS = 1000L;
+
+    private AtomicLong clock;
+    private List<String> built;
+    private SCClientPool<ServiceCatalogClient> pool;
+
+    @BeforeEach
+    public void setup() {
+        clock = new AtomicLong();
+        built = new ArrayList<>();
+        pool = new SCClientPool<>(2, IDLE_TIMEOUT_MILLIS, region -> {
+            built.add(region);
+            return mock(ServiceCatalogClient.class);
+        }, clock::get);
+    }
+
+    @Test
+    public void get_ReusesClientPerRegion() {
+        final ServiceCatalogClient usWest2 = pool.get("us-west-2");
+        final ServiceCatalogClient euWest1 = pool.get("eu-west-1");
+
+        assertThat(pool.get("us-west-2")).isSameAs(usWest2);
+        assertThat(pool.get("eu-west-1")).isSameAs(euWest1);
+        assertThat(euWest1).isNotSameAs(usWest2);
+        assertThat(built).containsExactly("us-west-2", "eu-west-1");
+    }
+
+    @Test
+    public void get_FullPool_DropsLeastRecentlyUsedAndClosesItOnceIdle() {
+        final ServiceCatalogClient usWest2 = pool.get("us-west-2");
+        final ServiceCatalogClient euWest1 = pool.get("eu-west-1");
+        pool.get("us-west-2");
+
+        pool.get("ap-south-1");
+
+        assertThat(pool.size()).isEqualTo(2);
+        assertThat(pool.retiredSize()).isEqualTo(1);
+        verify(euWest1, never()).close();
+        assertThat(pool.get("us-west-2")).isSameAs(usWest2);
+
+        clock.addAndGet(IDLE_TIMEOUT_MILLIS + 1);
+        pool.get("us-west-2");
+
+        verify(euWest1).close();
+        assertThat(pool.retiredSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void get_ClientHeldByAnotherThread_IsNotClosedWhenEvicted() throws Exception {
+        final CountDownLatch held = new CountDownLatch(1);
+        final CountDownLatch evicted = new CountDownLatch(1);
+        final AtomicReference<ServiceCatalogClient> holding = new AtomicReference<>();
+        final AtomicReference<Throwable> holderFailure = new AtomicReference<>();
+        final Thread holder = new Thread(() -> {
+            try {
+                final ServiceCatalogClient client = pool.get("us-west-2");
+                holding.set(client);
+                held.countDown();
+                evicted.await();
+                // still in use after the eviction
+                verify(client, never()).close();
+            } catch (Throwable e) {
+                holderFailure.set(e);
+            }
+        });
+        holder.start();
+        held.await();
+
+        pool.get("eu-west-1");
+        pool.get("ap-south-1");
+        evicted.countDown();
+        holder.join();
+
+        assertThat(holderFailure.get()).isNull();
+        assertThat(pool.get("us-west-2")).isNotSameAs(holding.get());
+        verify(holding.get(), never()).close();
+
+        clock.addAndGet(IDLE_TIMEOUT_MILLIS + 1);
+        pool.get("eu-west-1");
+
+        verify(holding.get()).close();
+    }
+
+    @Test
+    public void close_ClosesRetiredClients() {
+        final ServiceCatalogClient usWest2 = pool.get("us-west-2");
+        pool.get("eu-west-1");
+        pool.get("ap-south-1");
+
+        pool.close();
+
+        verify(usWest2).close();
+        assertThat(pool.retiredSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void get_IdleClient_IsClosedAndRebuilt() {
+        final ServiceCatalogClient usWest2 = pool.get("us-west-2");
+        final ServiceCatalogClient euWest1 = pool.get("eu-west-1");
+
+        clock.addAndGet(IDLE_TIMEOUT_MILLIS / 2);
+        pool.get("eu-west-1");
+        clock.addAndGet(IDLE_TIMEOUT_MILLIS);
+
+        assertThat(pool.get("eu-west-1")).isSameAs(euWest1);
+        verify(usWest2).close();
+        assertThat(pool.size()).isEqualTo(1);
+        assertThat(pool.get("us-west-2")).isNotSameAs(usWest2);
+    }
+
+    @Test
+    public void close_ClosesAllClients() {
+        final ServiceCatalogClient usWest2 = pool.get("us-west-2");
+        final ServiceCatalogClient euWest1 = pool.get("eu-west-1");
+
+        pool.close();
+
+        verify(usWest2).close();
+        verify(euWest1).close();
+        assertThat(pool.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void constructor_RejectsEmptyPool() {
+        assertThatThrownBy(() -> new SCClientPool<>(0, IDLE_TIMEOUT_MILLIS, SCClientBuilder::buildClient))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
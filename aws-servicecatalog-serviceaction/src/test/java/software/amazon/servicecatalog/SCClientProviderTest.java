@@ -0,0 +1,111 @@
+package software.amazon.servicecatalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogAsyncClient;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogClient;
+
+public class SCClientProviderTest {
+
+    @AfterEach
+    public void tearDown() {
+        SCClientProvider.close();
+    }
+
+    @Test
+    public void getClient_ReusesInstanceAcrossInvocations() {
+        final ServiceCatalogClient first = SCClientBuilder.getClient();
+        final ServiceCatalogClient second = SCClientBuilder.getClient();
+
+        assertThat(first).isNotNull();
+        assertThat(second).isSameAs(first);
+        assertThat(SCClientProvider.getClient()).isSameAs(first);
+    }
+
+    @Test
+    public void getClient_ConcurrentCallersShareOneInstance() throws Exception {
+        SCClientProvider.close();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<ServiceCatalogClient>> callers = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                callers.add(SCClientProvider::getClient);
+            }
+            final List<Future<ServiceCatalogClient>> results = executor.invokeAll(callers);
+            final ServiceCatalogClient expected = results.get(0).get();
+            for (final Future<ServiceCatalogClient> result : results) {
+                assertThat(result.get()).isSameAs(expected);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void getAsyncClient_ReusesInstanceAcrossInvocations() {
+        final ServiceCatalogAsyncClient first = SCClientBuilder.getAsyncClient();
+
+        assertThat(first).isNotNull();
+        assertThat(SCClientBuilder.getAsyncClient()).isSameAs(first);
+        assertThat(SCClientProvider.getAsyncClient()).isSameAs(first);
+    }
+
+    @Test
+    public void getClient_ReusesInstancePerRegion() {
+        final ServiceCatalogClient usWest2 = SCClientBuilder.getClient("us-west-2");
+        final ServiceCatalogClient euWest1 = SCClientBuilder.getClient("eu-west-1");
+
+        assertThat(SCClientBuilder.getClient("us-west-2")).isSameAs(usWest2);
+        assertThat(SCClientProvider.getClient("eu-west-1")).isSameAs(euWest1);
+        assertThat(euWest1).isNotSameAs(usWest2);
+        assertThat(SCClientBuilder.getClient(null)).isSameAs(SCClientProvider.getClient());
+    }
+
+    @Test
+    public void getAsyncClient_ReusesInstancePerRegion() {
+        final ServiceCatalogAsyncClient usWest2 = SCClientBuilder.getAsyncClient("us-west-2");
+
+        assertThat(SCClientProvider.getAsyncClient("us-west-2")).isSameAs(usWest2);
+        assertThat(SCClientProvider.getAsyncClient("cn-north-1")).isNotSameAs(usWest2);
+        assertThat(SCClientBuilder.getAsyncClient(null)).isSameAs(SCClientProvider.getAsyncClient());
+    }
+
+    @Test
+    public void buildClient_WithEndpointOverride() {
+        System.setProperty(SCClientBuilder.ENDPOINT_OVERRIDE_PROPERTY, "http://localhost:8080");
+        try (ServiceCatalogClient client = SCClientBuilder.buildClient("us-west-2");
+             ServiceCatalogAsyncClient asyncClient = SCClientBuilder.buildAsyncClient("us-west-2")) {
+            assertThat(client).isNotNull();
+            assertThat(asyncClient).isNotNull();
+        } finally {
+            System.clearProperty(SCClientBuilder.ENDPOINT_OVERRIDE_PROPERTY);
+        }
+    }
+
+    @Test
+    public void close_NextCallBuildsNewInstance() {
+        final ServiceCatalogClient first = SCClientProvider.getClient();
+
+        SCClientProvider.close();
+
+        assertThat(SCClientProvider.getClient()).isNotSameAs(first);
+    }
+
+    @Test
+    public void close_NextRegionCallBuildsNewInstance() {
+        final ServiceCatalogClient first = SCClientProvider.getClient("us-west-2");
+
+        SCClientProvider.close();
+
+        assertThat(SCClientProvider.getClient("us-west-2")).isNotSameAs(first);
+    }
+}
@@ -0,0 +1,280 @@
+package software.amazon.servicecatalog.serviceaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogAsyncClient;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogClient;
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.DescribeServiceActionRequest;
+import software.amazon.awssdk.services.servicecatalog.model.DescribeServiceActionResponse;
+import software.amazon.awssdk.services.servicecatalog.model.FailedServiceActionAssociation;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsRequest;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociation;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociationErrorCode;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionDetail;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionSummary;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.servicecatalog.PrefetchingPaginator;
+import software.amazon.servicecatalog.RequestScope;
+
+@ExtendWith(MockitoExtension.class)
+public class ActionControllerTest {
+
+    private static final String SERVICE_ACTION_ID = "act-1993jive";
+    private static final int CONCURRENT_CALLERS = 8;
+
+    private ActionController controller;
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private Logger logger;
+
+    @Mock
+    private ServiceCatalogAsyncClient scAsyncClient;
+
+    @Mock
+    private ServiceCatalogClient scClient;
+
+    @BeforeEach
+    public void setup() {
+        controller = ActionController
+                .builder()
+                .logger(logger)
+                .proxy(proxy)
+                .scAsyncClient(scAsyncClient)
+                .build();
+    }
+
+    @Test
+    public void describeServiceActionAsync_SimpleSuccess() {
+        final DescribeServiceActionResponse response = DescribeServiceActionResponse
+                .builder()
+                .serviceActionDetail(ServiceActionDetail.builder()
+                        .serviceActionSummary(ServiceActionSummary.builder().id(SERVICE_ACTION_ID).build())
+                        .build())
+                .build();
+        doReturn(CompletableFuture.completedFuture(response)).when(proxy).injectCredentialsAndInvokeV2Async(
+                eq(DescribeServiceActionRequest.builder().id(SERVICE_ACTION_ID).build()),
+                any());
+
+        final DescribeServiceActionResponse result = controller.describeServiceActionAsync(SERVICE_ACTION_ID).join();
+
+        assertThat(result.serviceActionDetail().serviceActionSummary().id()).isEqualTo(SERVICE_ACTION_ID);
+    }
+
+    @Test
+    public void describeServiceActionAsync_CompletesExceptionally() {
+        final CompletableFuture<DescribeServiceActionResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(ResourceNotFoundException.builder().message("not found").build());
+        doReturn(failed).when(proxy).injectCredentialsAndInvokeV2Async(any(DescribeServiceActionRequest.class), any());
+
+        final CompletionException exception = assertThrows(CompletionException.class,
+                () -> controller.describeServiceActionAsync(SERVICE_ACTION_ID).join());
+
+        assertThat(exception.getCause()).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    public void listAllServiceActionIdsAsync_FollowsPageTokens() {
+        final ListServiceActionsResponse firstPage = ListServiceActionsResponse.builder()
+                .serviceActionSummaries(ImmutableList.of(
+                        ServiceActionSummary.builder().id("act-1").build(),
+                        ServiceActionSummary.builder().id("act-2").build()))
+                .nextPageToken("page-2")
+                .build();
+        final ListServiceActionsResponse secondPage = ListServiceActionsResponse.builder()
+                .serviceActionSummaries(ImmutableList.of(ServiceActionSummary.builder().id("act-3").build()))
+                .build();
+        doReturn(CompletableFuture.completedFuture(firstPage)).when(proxy).injectCredentialsAndInvokeV2Async(
+                eq(ListServiceActionsRequest.builder().pageToken(null).pageSize(PrefetchingPaginator.MAX_PAGE_SIZE).build()), any());
+        doReturn(CompletableFuture.completedFuture(secondPage)).when(proxy).injectCredentialsAndInvokeV2Async(
+                eq(ListServiceActionsRequest.builder().pageToken("page-2").pageSize(PrefetchingPaginator.MAX_PAGE_SIZE).build()), any());
+
+        final List<String> serviceActionIds = controller.listAllServiceActionIdsAsync().join();
+
+        assertThat(serviceActionIds).containsExactly("act-1", "act-2", "act-3");
+    }
+
+    @Test
+    public void listAllServiceActionIds_ConcurrentCallersShareOneListing() throws Exception {
+        final ListServiceActionsResponse page = ListServiceActionsResponse.builder()
+                .serviceActionSummaries(ImmutableList.of(ServiceActionSummary.builder().id(SERVICE_ACTION_ID).build()))
+                .build();
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return page;
+        }).when(proxy).injectCredentialsAndInvokeV2(any(ListServiceActionsRequest.class), any());
+        final ActionController scopedController = controller.toBuilder()
+                .scClient(scClient)
+                .requestScope(RequestScope.of("123456789012", "us-east-1"))
+                .build();
+
+        final List<List<String>> results = new CopyOnWriteArrayList<>();
+        final List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_CALLERS; i++) {
+            final Thread caller = new Thread(() -> results.add(scopedController.listAllServiceActionIds()));
+            caller.start();
+            callers.add(caller);
+        }
+        for (final Thread caller : callers) {
+            while (caller.getState() != Thread.State.WAITING) {
+                Thread.sleep(1L);
+            }
+        }
+        release.countDown();
+        for (final Thread caller : callers) {
+            caller.join();
+        }
+
+        assertThat(results).hasSize(CONCURRENT_CALLERS).allSatisfy(ids -> assertThat(ids).containsExactly(SERVICE_ACTION_ID));
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(ListServiceActionsRequest.class), any());
+    }
+
+    @Test
+    public void describeServiceActions_ReturnsResultsInInputOrderWithFailures() {
+        doAnswer(invocation -> {
+            final String id = invocation.<DescribeServiceActionRequest>getArgument(0).id();
+            if ("act-2".equals(id)) {
+                final CompletableFuture<DescribeServiceActionResponse> failed = new CompletableFuture<>();
+                failed.completeExceptionally(ResourceNotFoundException.builder().message("not found").build());
+                return failed;
+            }
+            return CompletableFuture.completedFuture(buildDescribeResponse(id));
+        }).when(proxy).injectCredentialsAndInvokeV2Async(any(DescribeServiceActionRequest.class), any());
+
+        final List<ServiceActionDescription> descriptions = controller.describeServiceActions(ImmutableList.of("act-1", "act-2", "act-3"), 2);
+
+        assertThat(descriptions).extracting(ServiceActionDescription::getId).containsExactly("act-1", "act-2", "act-3");
+        assertThat(descriptions.get(0).getDetail().serviceActionSummary().id()).isEqualTo("act-1");
+        assertThat(descriptions.get(1).getDetail()).isNull();
+        assertThat(descriptions.get(1).isNotFound()).isTrue();
+        assertThat(descriptions.get(2).getFailure()).isNull();
+    }
+
+    @Test
+    public void describeServiceActions_BoundsDescribesInFlight() {
+        final ScheduledExecutorService completer = Executors.newSingleThreadScheduledExecutor();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        try {
+            doAnswer(invocation -> {
+                final String id = invocation.<DescribeServiceActionRequest>getArgument(0).id();
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                final CompletableFuture<DescribeServiceActionResponse> pending = new CompletableFuture<>();
+                completer.schedule(() -> {
+                    inFlight.decrementAndGet();
+                    pending.complete(buildDescribeResponse(id));
+                }, 5L, TimeUnit.MILLISECONDS);
+                return pending;
+            }).when(proxy).injectCredentialsAndInvokeV2Async(any(DescribeServiceActionRequest.class), any());
+            final List<String> ids = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                ids.add("act-" + i);
+            }
+
+            final List<ServiceActionDescription> descriptions = controller.describeServiceActions(ids, 3);
+
+            assertThat(descriptions).extracting(description -> description.getDetail().serviceActionSummary().id()).containsExactlyElementsOf(ids);
+            assertThat(maxInFlight.get()).isBetween(1, 3);
+        } finally {
+            completer.shutdownNow();
+        }
+    }
+
+    @Test
+    public void describeServiceActions_InvalidParallelism_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> controller.describeServiceActions(ImmutableList.of("act-1"), 0));
+    }
+
+    @Test
+    public void batchDisassociateServiceActions_SplitsIntoBoundedBatches() {
+        final ScheduledExecutorService completer = Executors.newSingleThreadScheduledExecutor();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        try {
+            doAnswer(invocation -> {
+                final List<ServiceActionAssociation> batch = invocation
+                        .<BatchDisassociateServiceActionFromProvisioningArtifactRequest>getArgument(0).serviceActionAssociations();
+                batchSizes.add(batch.size());
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                final CompletableFuture<BatchDisassociateServiceActionFromProvisioningArtifactResponse> pending = new CompletableFuture<>();
+                completer.schedule(() -> {
+                    inFlight.decrementAndGet();
+                    pending.complete(BatchDisassociateServiceActionFromProvisioningArtifactResponse.builder()
+                            .failedServiceActionAssociations(FailedServiceActionAssociation.builder()
+                                    .provisioningArtifactId(batch.get(0).provisioningArtifactId())
+                                    .errorCode(ServiceActionAssociationErrorCode.THROTTLING)
+                                    .build())
+                            .build());
+                }, 5L, TimeUnit.MILLISECONDS);
+                return pending;
+            }).when(proxy).injectCredentialsAndInvokeV2Async(any(BatchDisassociateServiceActionFromProvisioningArtifactRequest.class), any());
+            final List<ServiceActionAssociation> associations = new ArrayList<>();
+            for (int i = 0; i < 120; i++) {
+                associations.add(ServiceActionAssociation.builder()
+                        .serviceActionId(SERVICE_ACTION_ID)
+                        .productId("prod-" + i % 3)
+                        .provisioningArtifactId("pa-" + i)
+                        .build());
+            }
+
+            final List<FailedServiceActionAssociation> failures = controller.batchDisassociateServiceActions(SERVICE_ACTION_ID, associations, 2);
+
+            assertThat(batchSizes).containsExactly(50, 50, 20);
+            assertThat(maxInFlight.get()).isBetween(1, 2);
+            assertThat(failures).extracting(FailedServiceActionAssociation::provisioningArtifactId).containsExactly("pa-0", "pa-50", "pa-100");
+        } finally {
+            completer.shutdownNow();
+        }
+    }
+
+    @Test
+    public void batchDisassociateServiceActions_BatchError_Throws() {
+        final CompletableFuture<BatchDisassociateServiceActionFromProvisioningArtifactResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(ResourceNotFoundException.builder().message("gone").build());
+        doReturn(failed).when(proxy).injectCredentialsAndInvokeV2Async(any(BatchDisassociateServiceActionFromProvisioningArtifactRequest.class), any());
+
+        assertThrows(ResourceNotFoundException.class, () -> controller.batchDisassociateServiceActions(SERVICE_ACTION_ID,
+                ImmutableList.of(ServiceActionAssociation.builder().serviceActionId(SERVICE_ACTION_ID).build()), 1));
+    }
+
+    private DescribeServiceActionResponse buildDescribeResponse(final String id) {
+        return DescribeServiceActionResponse.builder()
+                .serviceActionDetail(ServiceActionDetail.builder()
+                        .serviceActionSummary(ServiceActionSummary.builder().id(id).name(id).build())
+                        .build())
+                .build();
+    }
+}
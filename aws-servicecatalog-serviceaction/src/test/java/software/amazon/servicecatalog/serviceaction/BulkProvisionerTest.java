@@ -0,0 +1,198 @@
+package software.amazon.servicecatalog.serviceaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogClient;
+import software.amazon.awssdk.services.servicecatalog.model.CreateServiceActionRequest;
+import software.amazon.awssdk.services.servicecatalog.model.CreateServiceActionResponse;
+import software.amazon.awssdk.services.servicecatalog.model.DescribeServiceActionRequest;
+import software.amazon.awssdk.services.servicecatalog.model.DescribeServiceActionResponse;
+import software.amazon.awssdk.services.servicecatalog.model.LimitExceededException;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsRequest;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionDetail;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionSummary;
+import software.amazon.awssdk.services.servicecatalog.model.UpdateServiceActionRequest;
+import software.amazon.awssdk.services.servicecatalog.model.UpdateServiceActionResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.servicecatalog.RateLimiter;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkProvisionerTest {
+
+    private static final String DOCUMENT = "AWS-RestartEC2Instance";
+
+    private BulkProvisioner provisioner;
+    private List<BulkProvisioningResult> reported;
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private Logger logger;
+
+    @Mock
+    private ServiceCatalogClient scClient;
+
+    @BeforeEach
+    public void setup() {
+        reported = new CopyOnWriteArrayList<>();
+        provisioner = BulkProvisioner.builder()
+                .controller(ActionController.builder()
+                        .logger(logger)
+                        .proxy(proxy)
+                        .scClient(scClient)
+                        .build())
+                .rateLimiter(new RateLimiter(0))
+                .logger(logger)
+                .parallelism(3)
+                .build();
+    }
+
+    @Test
+    public void provision_CreatesUpdatesAndSkips() {
+        doReturn(ListServiceActionsResponse.builder()
+                .serviceActionSummaries(buildSummary("act-unchanged", "unchanged"), buildSummary("act-changed", "changed"))
+                .build()).when(proxy).injectCredentialsAndInvokeV2(any(ListServiceActionsRequest.class), any());
+        doAnswer(invocation -> {
+            final String id = invocation.<DescribeServiceActionRequest>getArgument(0).id();
+            return buildDescribeResponse(id, id.equals("act-unchanged") ? "unchanged" : "changed", "1");
+        }).when(proxy).injectCredentialsAndInvokeV2(any(DescribeServiceActionRequest.class), any());
+        final List<String> createTokens = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            createTokens.add(invocation.<CreateServiceActionRequest>getArgument(0).idempotencyToken());
+            return CreateServiceActionResponse.builder()
+                    .serviceActionDetail(buildDetail("act-new", "new", "1"))
+                    .build();
+        }).when(proxy).injectCredentialsAndInvokeV2(any(CreateServiceActionRequest.class), any());
+        doReturn(UpdateServiceActionResponse.builder()
+                .serviceActionDetail(buildDetail("act-changed", "changed", "2"))
+                .build()).when(proxy).injectCredentialsAndInvokeV2(any(UpdateServiceActionRequest.class), any());
+        final ResourceModel created = buildItem("new", "1");
+
+        final List<BulkProvisioningResult> results = provisioner.provision(
+                ImmutableList.of(created, buildItem("unchanged", "1"), buildItem("changed", "2")), Collections.emptyMap(), reported::add);
+
+        assertThat(results).extracting(BulkProvisioningResult::getStatus).containsExactly(
+                BulkProvisioningResult.Status.CREATED, BulkProvisioningResult.Status.UNCHANGED, BulkProvisioningResult.Status.UPDATED);
+        assertThat(results).extracting(BulkProvisioningResult::getId).containsExactly("act-new", "act-unchanged", "act-changed");
+        assertThat(reported).hasSize(3);
+        assertThat(createTokens).containsExactly(BulkProvisioner.idempotencyToken(created));
+    }
+
+    @Test
+    public void provision_ResumesAfterFinishedItemsAndReportsFailures() {
+        doReturn(ListServiceActionsResponse.builder().build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(ListServiceActionsRequest.class), any());
+        doAnswer(invocation -> {
+            throw LimitExceededException.builder().message("too many service actions").build();
+        }).when(proxy).injectCredentialsAndInvokeV2(any(CreateServiceActionRequest.class), any());
+        final ResourceModel finished = buildItem("finished", "1");
+        final ResourceModel edited = buildItem("edited", "2");
+        final Map<String, BulkProvisioningResult> previous = ImmutableMap.of(
+                "finished", buildPrevious(finished, BulkProvisioningResult.Status.CREATED),
+                "edited", buildPrevious(buildItem("edited", "1"), BulkProvisioningResult.Status.CREATED));
+
+        final List<BulkProvisioningResult> results = provisioner.provision(
+                ImmutableList.of(finished, edited, buildItem("edited", "3")), previous, reported::add);
+
+        assertThat(results).extracting(BulkProvisioningResult::getStatus).containsExactly(
+                BulkProvisioningResult.Status.CREATED, BulkProvisioningResult.Status.FAILED, BulkProvisioningResult.Status.FAILED);
+        assertThat(results.get(1).getMessage()).contains("too many service actions");
+        assertThat(reported).extracting(BulkProvisioningResult::getName).containsOnly("edited");
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(CreateServiceActionRequest.class), any());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(DescribeServiceActionRequest.class), any());
+    }
+
+    @Test
+    public void idempotencyToken_IgnoresDefinitionOrder() {
+        final ResourceModel item = buildItem("item", "1");
+        final ResourceModel reordered = ResourceModel.builder()
+                .name("item")
+                .definitionType("SSM_AUTOMATION")
+                .definition(ImmutableList.of(buildParameter("Version", "1"), buildParameter("Name", DOCUMENT)))
+                .build();
+
+        assertThat(BulkProvisioner.idempotencyToken(item))
+                .isEqualTo(BulkProvisioner.idempotencyToken(reordered))
+                .matches("[0-9a-f]{64}")
+                .isNotEqualTo(BulkProvisioner.idempotencyToken(buildItem("item", "2")));
+    }
+
+    @Test
+    public void report_ReadsLatestResultPerNameAndSkipsCutLine(@TempDir final Path directory) throws IOException {
+        final Path path = directory.resolve("report.ndjson");
+        try (BulkProvisioningReport report = BulkProvisioningReport.append(path)) {
+            report.write(buildPrevious(buildItem("a", "1"), BulkProvisioningResult.Status.FAILED));
+            report.write(buildPrevious(buildItem("a", "1"), BulkProvisioningResult.Status.CREATED));
+        }
+        Files.write(path, "{\"name\":\"b\",\"sta".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        final Map<String, BulkProvisioningResult> results = BulkProvisioningReport.read(path);
+
+        assertThat(results).containsOnlyKeys("a");
+        assertThat(results.get("a").isCompletedFor(BulkProvisioner.idempotencyToken(buildItem("a", "1")))).isTrue();
+        assertThat(BulkProvisioningReport.read(directory.resolve("missing.ndjson"))).isEmpty();
+    }
+
+    private static ResourceModel buildItem(final String name, final String version) {
+        return ResourceModel.builder()
+                .name(name)
+                .definitionType("SSM_AUTOMATION")
+                .definition(ImmutableList.of(buildParameter("Name", DOCUMENT), buildParameter("Version", version)))
+                .build();
+    }
+
+    private static DefinitionParameter buildParameter(final String key, final String value) {
+        return DefinitionParameter.builder().key(key).value(value).build();
+    }
+
+    private static BulkProvisioningResult buildPrevious(final ResourceModel item, final BulkProvisioningResult.Status status) {
+        return BulkProvisioningResult.builder()
+                .name(item.getName())
+                .status(status)
+                .id("act-" + item.getName())
+                .idempotencyToken(BulkProvisioner.idempotencyToken(item))
+                .build();
+    }
+
+    private static ServiceActionSummary buildSummary(final String id, final String name) {
+        return ServiceActionSummary.builder().id(id).name(name).definitionType("SSM_AUTOMATION").build();
+    }
+
+    private static ServiceActionDetail buildDetail(final String id, final String name, final String version) {
+        return ServiceActionDetail.builder()
+                .serviceActionSummary(buildSummary(id, name))
+                .definitionWithStrings(ImmutableMap.of("Name", DOCUMENT, "Version", version))
+                .build();
+    }
+
+    private static DescribeServiceActionResponse buildDescribeResponse(final String id, final String name, final String version) {
+        return DescribeServiceActionResponse.builder().serviceActionDetail(buildDetail(id, name, version)).build();
+    }
+}
@@ -0,0 +1,49 @@
+package software.amazon.servicecatalog.serviceaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.HandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+
+public class CallbackContextTest {
+
+    private static final String SERVICE_ACTION_ID = "act-1993jive";
+
+    private final Serializer serializer = new Serializer();
+
+    @Test
+    public void callbackContext_RoundTripsThroughWrapperSerializer() throws Exception {
+        final CallbackContext callbackContext = CallbackContext.builder().serviceActionId(SERVICE_ACTION_ID).build();
+
+        final String json = serializer.serialize(callbackContext);
+
+        assertThat(json).isEqualTo("{\"serviceActionId\":\"" + SERVICE_ACTION_ID + "\"}");
+        assertThat(serializer.deserialize(json, new TypeReference<CallbackContext>() {})).isEqualTo(callbackContext);
+        assertThat(serializer.deserialize("{\"other\":1}", new TypeReference<CallbackContext>() {}).getServiceActionId()).isNull();
+    }
+
+    @Test
+    public void callbackContext_RoundTripsCascadeProgress() throws Exception {
+        final CallbackContext callbackContext = CallbackContext.builder()
+                .serviceActionId(SERVICE_ACTION_ID)
+                .cascadeRoundsRemaining(9)
+                .disassociatedCount(120)
+                .build();
+
+        final String json = serializer.serialize(callbackContext);
+
+        assertThat(json).isEqualTo("{\"serviceActionId\":\"" + SERVICE_ACTION_ID + "\",\"cascadeRoundsRemaining\":9,\"disassociatedCount\":120}");
+        assertThat(serializer.deserialize(json, new TypeReference<CallbackContext>() {})).isEqualTo(callbackContext);
+    }
+
+    @Test
+    public void handlerRequest_ReadsCallbackContext() throws Exception {
+        final HandlerRequest<ResourceModel, CallbackContext> request = serializer.deserialize("{\"action\":\"UPDATE\","
+                + "\"callbackContext\":{\"serviceActionId\":\"" + SERVICE_ACTION_ID + "\"}}",
+                new TypeReference<HandlerRequest<ResourceModel, CallbackContext>>() {});
+
+        assertThat(request.getCallbackContext().getServiceActionId()).isEqualTo(SERVICE_ACTION_ID);
+    }
+}
@@ -0,0 +1,47 @@
+package software.amazon.servicecatalog.serviceaction;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogClient;
+import software.amazon.awssdk.services.servicecatalog.model.DescribeServiceActionResponse;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.servicecatalog.OfflineHttpClient;
+import software.amazon.servicecatalog.SCClientPrimer;
+
+/**
+ * Runs in a fresh JVM forked by {@link ColdStartPrimingTest}: optionally primes, then serves one Read-shaped request
+ * against an offline transport and prints how many classes that first request loaded.
+ */
+public class ColdStartPrimingProbe {
+    static final String PRIMED = "primed";
+
+    private static final String DESCRIBE_RESPONSE = "{\"ServiceActionDetail\":{\"ServiceActionSummary\":"
+            + "{\"Id\":\"act-1993jive\",\"Name\":\"StartEC2Instance\",\"DefinitionType\":\"SSM_AUTOMATION\"},"
+            + "\"Definition\":{\"Name\":\"AWS-StartEC2Instances\",\"Version\":\"1\"}}}";
+
+    public static void main(final String[] args) {
+        final ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        if (args.length > 0 && PRIMED.equals(args[0])) {
+            ColdStartPriming.prime();
+        }
+
+        final long loadedBefore = classLoading.getTotalLoadedClassCount();
+        final ServiceCatalogClient scClient = SCClientPrimer.buildOfflineClient(new OfflineHttpClient(200, DESCRIBE_RESPONSE));
+        final ActionController controller = ActionController
+                .builder()
+                .logger(new LoggerProxy())
+                .proxy(SCClientPrimer.buildOfflineProxy())
+                .scClient(scClient)
+                .build();
+        final DescribeServiceActionResponse response = controller.describeServiceAction("act-1993jive");
+        final ProgressEvent<ResourceModel, CallbackContext> event = ProgressEvent.defaultSuccessHandler(
+                ActionController.buildResourceModelFromServiceActionDetail(response.serviceActionDetail()));
+        if (!event.isSuccess()) {
+            throw new IllegalStateException("Probe request failed");
+        }
+
+        System.out.println(classLoading.getTotalLoadedClassCount() - loadedBefore);
+    }
+}
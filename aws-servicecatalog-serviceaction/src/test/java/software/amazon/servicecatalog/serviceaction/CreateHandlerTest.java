@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 import java.util.List;
 
@@ -46,6 +47,7 @@ public class CreateHandlerTest {
     @BeforeEach
     public void setup() {
         handler = new CreateHandler();
+        ServiceActionDetailCache.getInstance().clear();
         model = ResourceModel.builder()
                 .name("StartEC2Instance")
                 .definitionType("SSM_AUTOMATION")
@@ -137,4 +139,24 @@ public class CreateHandlerTest {
         // When
         assertThrows(CfnServiceLimitExceededException.class, () -> handler.handleRequest(proxy, request, null, logger));
     }
+
+    @Test
+    public void handleRequest_WhenDefinitionInvalid_FailsWithoutCall() {
+        final ResourceModel invalidModel = ResourceModel.builder()
+                .name("StartEC2Instance")
+                .definitionType("SSM_AUTOMATION")
+                .definition(ImmutableList.of(
+                        DefinitionParameter.builder().key("Name").value("AWS-StartEC2Instances").build(),
+                        DefinitionParameter.builder().key("Name").value("AWS-StopEC2Instances").build()))
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest
+                .<ResourceModel>builder()
+                .desiredResourceState(invalidModel)
+                .clientRequestToken("token")
+                .build();
+
+        // When
+        assertThrows(CfnInvalidRequestException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        verifyZeroInteractions(proxy);
+    }
 }
@@ -5,16 +5,31 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.DeleteServiceActionRequest;
 import software.amazon.awssdk.services.servicecatalog.model.DeleteServiceActionResponse;
+import software.amazon.awssdk.services.servicecatalog.model.InvalidParametersException;
+import software.amazon.awssdk.services.servicecatalog.model.ListProvisioningArtifactsForServiceActionRequest;
+import software.amazon.awssdk.services.servicecatalog.model.ListProvisioningArtifactsForServiceActionResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ProductViewSummary;
+import software.amazon.awssdk.services.servicecatalog.model.ProvisioningArtifact;
+import software.amazon.awssdk.services.servicecatalog.model.ProvisioningArtifactView;
 import software.amazon.awssdk.services.servicecatalog.model.ResourceInUseException;
 import software.amazon.awssdk.services.servicecatalog.model.ResourceNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.HandlerSettings;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,6 +54,7 @@ public class DeleteHandlerTest {
     @BeforeEach
     public void setup() {
         handler = new DeleteHandler();
+        ServiceActionDetailCache.getInstance().clear();
         model = ResourceModel.builder()
                 .id("act-1993jive")
                 .build();
@@ -95,4 +111,144 @@ public class DeleteHandlerTest {
         // When
         assertThrows(CfnNotFoundException.class, () -> handler.handleRequest(proxy, request, null, logger));
     }
+
+    @Test
+    public void handleRequest_Cascade_DisassociatesAndRetries() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        doThrow(ResourceInUseException.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(DeleteServiceActionRequest.class),
+                ArgumentMatchers.any());
+        doReturn(ListProvisioningArtifactsForServiceActionResponse.builder()
+                .provisioningArtifactViews(buildProvisioningArtifactView("prod-1", "pa-1"), buildProvisioningArtifactView("prod-2", "pa-2"))
+                .build()).when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(ListProvisioningArtifactsForServiceActionRequest.class),
+                ArgumentMatchers.any());
+        doReturn(CompletableFuture.completedFuture(BatchDisassociateServiceActionFromProvisioningArtifactResponse.builder().build()))
+                .when(proxy).injectCredentialsAndInvokeV2Async(
+                ArgumentMatchers.any(BatchDisassociateServiceActionFromProvisioningArtifactRequest.class),
+                ArgumentMatchers.any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = withCascade(() -> handler.handleRequest(proxy, request, null, logger));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(DeleteHandler.CASCADE_DELAY_SECONDS);
+        assertThat(response.getCallbackContext().getCascadeRoundsRemaining()).isEqualTo(DeleteHandler.MAX_CASCADE_ROUNDS - 1);
+        assertThat(response.getCallbackContext().getDisassociatedCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void handleRequest_Cascade_DeletesOnLaterRound() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        doReturn(DeleteServiceActionResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(DeleteServiceActionRequest.class),
+                ArgumentMatchers.any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = withCascade(() -> handler.handleRequest(proxy, request,
+                buildCascadeContext(3), logger));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isNull();
+        assertThat(response.getMessage()).isEqualTo("Deleted serviceAction " + model.getId() + " after disassociating 2 associations");
+    }
+
+    @Test
+    public void handleRequest_Cascade_ListingFails_TranslatesException() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        doThrow(ResourceInUseException.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(DeleteServiceActionRequest.class),
+                ArgumentMatchers.any());
+        doThrow(InvalidParametersException.builder().message("bad page token").build()).when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(ListProvisioningArtifactsForServiceActionRequest.class),
+                ArgumentMatchers.any());
+
+        assertThrows(CfnInvalidRequestException.class, () -> withCascade(() -> handler.handleRequest(proxy, request, null, logger)));
+    }
+
+    @Test
+    public void handleRequest_Cascade_ZeroParallelism_DisassociatesOneBatchAtATime() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        doThrow(ResourceInUseException.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(DeleteServiceActionRequest.class),
+                ArgumentMatchers.any());
+        doReturn(ListProvisioningArtifactsForServiceActionResponse.builder()
+                .provisioningArtifactViews(buildProvisioningArtifactView("prod-1", "pa-1"))
+                .build()).when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(ListProvisioningArtifactsForServiceActionRequest.class),
+                ArgumentMatchers.any());
+        doReturn(CompletableFuture.completedFuture(BatchDisassociateServiceActionFromProvisioningArtifactResponse.builder().build()))
+                .when(proxy).injectCredentialsAndInvokeV2Async(
+                ArgumentMatchers.any(BatchDisassociateServiceActionFromProvisioningArtifactRequest.class),
+                ArgumentMatchers.any());
+
+        System.setProperty(HandlerSettings.toPropertyName(DeleteHandler.CASCADE_PARALLELISM_SETTING), "0");
+        final ProgressEvent<ResourceModel, CallbackContext> response;
+        try {
+            response = withCascade(() -> handler.handleRequest(proxy, request, null, logger));
+        } finally {
+            System.clearProperty(HandlerSettings.toPropertyName(DeleteHandler.CASCADE_PARALLELISM_SETTING));
+        }
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().getDisassociatedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void handleRequest_Cascade_NoRoundsRemaining_Throws() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        doThrow(ResourceInUseException.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(DeleteServiceActionRequest.class),
+                ArgumentMatchers.any());
+
+        assertThrows(CfnNotStabilizedException.class, () -> withCascade(() -> handler.handleRequest(proxy, request,
+                buildCascadeContext(0), logger)));
+    }
+
+    @Test
+    public void handleRequest_Cascade_GoneSinceEarlierRound_Succeeds() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        doThrow(ResourceNotFoundException.builder().message(RESOURCE_NOT_FOUND_EXCEPTION).build()).when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(DeleteServiceActionRequest.class),
+                ArgumentMatchers.any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = withCascade(() -> handler.handleRequest(proxy, request,
+                buildCascadeContext(3), logger));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
+    private static <T> T withCascade(final Supplier<T> call) {
+        System.setProperty(HandlerSettings.toPropertyName(DeleteHandler.CASCADE_SETTING), "true");
+        try {
+            return call.get();
+        } finally {
+            System.clearProperty(HandlerSettings.toPropertyName(DeleteHandler.CASCADE_SETTING));
+        }
+    }
+
+    private CallbackContext buildCascadeContext(final int roundsRemaining) {
+        return CallbackContext.builder()
+                .serviceActionId(model.getId())
+                .cascadeRoundsRemaining(roundsRemaining)
+                .disassociatedCount(2)
+                .build();
+    }
+
+    private static ProvisioningArtifactView buildProvisioningArtifactView(final String productId, final String provisioningArtifactId) {
+        return ProvisioningArtifactView.builder()
+                .productViewSummary(ProductViewSummary.builder().productId(productId).build())
+                .provisioningArtifact(ProvisioningArtifact.builder().id(provisioningArtifactId).build())
+                .build();
+    }
 }
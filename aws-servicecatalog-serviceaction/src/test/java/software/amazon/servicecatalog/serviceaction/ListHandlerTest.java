@@ -4,27 +4,33 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.servicecatalog.model.DescribeServiceActionResponse;
 import software.amazon.awssdk.services.servicecatalog.model.InvalidParametersException;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsRequest;
 import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionDetail;
 import software.amazon.awssdk.services.servicecatalog.model.ServiceActionSummary;
-import software.amazon.awssdk.services.servicecatalog.paginators.ListServiceActionsIterable;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.HandlerSettings;
+import software.amazon.servicecatalog.PrefetchingPaginator;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class ListHandlerTest {
@@ -40,9 +46,6 @@ public class ListHandlerTest {
     @Mock
     private Logger logger;
 
-    @Mock
-    private ListServiceActionsIterable iterable;
-
     @BeforeEach
     public void setup() {
         handler = new ListHandler();
@@ -68,11 +71,9 @@ public class ListHandlerTest {
                 .serviceActionSummaries(buildServiceActionSummaries())
                 .build();
 
-        Stream<ListServiceActionsResponse> stream = Stream.<ListServiceActionsResponse>builder().add(result).build();
-        doReturn(iterable).when(proxy).injectCredentialsAndInvokeIterableV2(
+        doReturn(result).when(proxy).injectCredentialsAndInvokeV2(
                 ArgumentMatchers.any(),
                 ArgumentMatchers.any());
-        doReturn(stream).when(iterable).stream();
 
         final ResourceHandlerRequest<ResourceModel> resourceHandlerRequest = ResourceHandlerRequest
                 .<ResourceModel>builder()
@@ -101,11 +102,97 @@ public class ListHandlerTest {
                 .build();
 
         doThrow(InvalidParametersException.builder().message(INVALID_PARAMETERS_EXCEPTION).build())
-                .when(proxy).injectCredentialsAndInvokeIterableV2(
+                .when(proxy).injectCredentialsAndInvokeV2(
                 ArgumentMatchers.any(),
                 ArgumentMatchers.any());
 
         // When
         assertThrows(CfnInvalidRequestException.class, () -> handler.handleRequest(proxy, resourceHandlerRequest, null, logger));
     }
+
+    @Test
+    public void handleRequest_WithNextToken_ReturnsOnePage() {
+        doReturn(ListServiceActionsResponse.builder()
+                .serviceActionSummaries(buildServiceActionSummaries())
+                .nextPageToken("page-3")
+                .build()).when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .nextToken("page-2")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        final ArgumentCaptor<ListServiceActionsRequest> captor = ArgumentCaptor.forClass(ListServiceActionsRequest.class);
+        verify(proxy).injectCredentialsAndInvokeV2(captor.capture(), ArgumentMatchers.any());
+        assertThat(captor.getValue().pageToken()).isEqualTo("page-2");
+        assertThat(captor.getValue().pageSize()).isEqualTo(PrefetchingPaginator.MAX_PAGE_SIZE);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo("page-3");
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getId).containsExactly("act-1993jive");
+    }
+
+    @Test
+    public void handleRequest_PagedListSetting_ReturnsFirstPage() {
+        doReturn(ListServiceActionsResponse.builder()
+                .serviceActionSummaries(buildServiceActionSummaries())
+                .build()).when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response;
+        System.setProperty(HandlerSettings.toPropertyName(HandlerSettings.PAGED_LIST), "true");
+        try {
+            response = handler.handleRequest(proxy, request, null, logger);
+        } finally {
+            System.clearProperty(HandlerSettings.toPropertyName(HandlerSettings.PAGED_LIST));
+        }
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isNull();
+        assertThat(response.getResourceModels()).hasSize(1);
+    }
+
+    @Test
+    public void handleRequest_HydratedSetting_ReturnsDescribedModels() {
+        final ListServiceActionsResponse result = ListServiceActionsResponse.builder()
+                .serviceActionSummaries(buildServiceActionSummaries())
+                .build();
+        doReturn(result).when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(ListServiceActionsRequest.class),
+                ArgumentMatchers.any());
+        doReturn(CompletableFuture.completedFuture(DescribeServiceActionResponse.builder()
+                .serviceActionDetail(ServiceActionDetail.builder()
+                        .serviceActionSummary(buildServiceActionSummaries().get(0))
+                        .build())
+                .build())).when(proxy).injectCredentialsAndInvokeV2Async(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response;
+        System.setProperty(HandlerSettings.toPropertyName(ListHandler.HYDRATED_SETTING), "true");
+        try {
+            response = handler.handleRequest(proxy, request, null, logger);
+        } finally {
+            System.clearProperty(HandlerSettings.toPropertyName(ListHandler.HYDRATED_SETTING));
+        }
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getResourceModels().get(0).getId()).isEqualTo("act-1993jive");
+        assertThat(response.getResourceModels().get(0).getName()).isEqualTo("StartEC2Instance");
+        assertThat(response.getResourceModels().get(0).getDescription()).isEqualTo("Start EC2 Instances");
+    }
 }
@@ -4,10 +4,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.List;
 
 import com.google.common.collect.ImmutableList;
+import software.amazon.awssdk.services.servicecatalog.model.CreateServiceActionResponse;
 import software.amazon.awssdk.services.servicecatalog.model.DescribeServiceActionResponse;
 import software.amazon.awssdk.services.servicecatalog.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.servicecatalog.model.ServiceActionDetail;
@@ -18,6 +21,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.RequestScope;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,6 +33,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 public class ReadHandlerTest {
 
     final static private String INVALID_PARAMETERS_EXCEPTION = "invalid parameters exception";
+    final static private String ACCOUNT_ID = "123456789012";
+    final static private String REGION = "us-east-1";
 
     private ReadHandler handler;
     private ResourceModel model;
@@ -42,6 +48,7 @@ public class ReadHandlerTest {
     @BeforeEach
     public void setup() {
         handler = new ReadHandler();
+        ServiceActionDetailCache.getInstance().clear();
         model = ResourceModel.builder()
                 .name("StartEC2Instance")
                 .definitionType("SSM_AUTOMATION")
@@ -115,4 +122,57 @@ public class ReadHandlerTest {
         // When
         assertThrows(CfnNotFoundException.class, () -> handler.handleRequest(proxy, request, null, logger));
     }
+
+    @Test
+    public void handleRequest_AfterCreate_ServedFromWrittenDetail() {
+        final ServiceActionDetail serviceActionDetail = ServiceActionDetail
+                .builder()
+                .serviceActionSummary(buildServiceActionSummary())
+                .build();
+        doReturn(CreateServiceActionResponse.builder().serviceActionDetail(serviceActionDetail).build())
+                .when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any());
+        new CreateHandler().handleRequest(proxy, buildRequest(model), null, logger);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, buildRequest(buildModelWithId()), null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getId()).isEqualTo("act-1993jive");
+        assertThat(response.getResourceModel().getName()).isEqualTo("StartEC2Instance");
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void handleRequest_AfterDelete_DescribesServiceAction() {
+        ServiceActionDetailCache.getInstance().put(RequestScope.of(ACCOUNT_ID, REGION), ServiceActionDetail
+                .builder()
+                .serviceActionSummary(buildServiceActionSummary())
+                .build());
+        new DeleteHandler().handleRequest(proxy, buildRequest(buildModelWithId()), null, logger);
+        doThrow(ResourceNotFoundException.builder().message(INVALID_PARAMETERS_EXCEPTION).build())
+                .when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any());
+
+        assertThrows(CfnNotFoundException.class,
+                () -> handler.handleRequest(proxy, buildRequest(buildModelWithId()), null, logger));
+    }
+
+    private ResourceModel buildModelWithId() {
+        return ResourceModel.builder()
+                .id("act-1993jive")
+                .build();
+    }
+
+    private ResourceHandlerRequest<ResourceModel> buildRequest(final ResourceModel desiredModel) {
+        return ResourceHandlerRequest
+                .<ResourceModel>builder()
+                .desiredResourceState(desiredModel)
+                .clientRequestToken("token")
+                .awsAccountId(ACCOUNT_ID)
+                .region(REGION)
+                .build();
+    }
 }
@@ -0,0 +1,127 @@
+package software.amazon.servicecatalog.serviceaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.servicecatalog.model.InvalidParametersException;
+
+public class ServiceActionDefinitionValidatorTest {
+
+    private static final String SSM_AUTOMATION = "SSM_AUTOMATION";
+
+    @Test
+    public void validateModel_ValidModel_ReturnsDefinitionMap() {
+        final Map<String, String> definition = ServiceActionDefinitionValidator.validateModel(buildModel("StartEC2Instance", buildDefinition()));
+
+        assertThat(definition)
+                .containsEntry("Name", "AWS-StartEC2Instances")
+                .containsEntry("Version", "1")
+                .containsEntry("AssumeRole", "arn:aws:iam::123456789012:role/role")
+                .hasSize(3);
+    }
+
+    @Test
+    public void validateModel_InvalidName_Throws() {
+        assertInvalid(buildModel("", buildDefinition()), "Name must be between 1 and 256 characters");
+        assertInvalid(buildModel(repeat('n', 257), buildDefinition()), "Name must be between 1 and 256 characters");
+    }
+
+    @Test
+    public void validateModel_DescriptionTooLong_Throws() {
+        final ResourceModel model = ResourceModel.builder()
+                .name("StartEC2Instance")
+                .definitionType(SSM_AUTOMATION)
+                .definition(buildDefinition())
+                .description(repeat('d', 1025))
+                .build();
+
+        assertInvalid(model, "Description must be at most 1024 characters");
+    }
+
+    @Test
+    public void validateDefinition_DuplicateKey_Throws() {
+        final List<DefinitionParameter> definition = buildDefinition();
+        definition.add(parameter("Version", "2"));
+
+        assertInvalid(buildModel("StartEC2Instance", definition), "Duplicate definition key: Version");
+    }
+
+    @Test
+    public void validateDefinition_UnknownKey_Throws() {
+        final List<DefinitionParameter> definition = buildDefinition();
+        definition.add(parameter("DocumentName", "AWS-StartEC2Instances"));
+
+        assertInvalid(buildModel("StartEC2Instance", definition), "Unknown definition key DocumentName for DefinitionType SSM_AUTOMATION");
+    }
+
+    @Test
+    public void validateDefinition_MissingVersion_Throws() {
+        final List<DefinitionParameter> definition = Arrays.asList(parameter("Name", "AWS-StartEC2Instances"));
+
+        assertInvalid(buildModel("StartEC2Instance", definition), "Definition key Version is required for DefinitionType SSM_AUTOMATION");
+        assertInvalid(buildModel("StartEC2Instance", null), "Definition key Name is required for DefinitionType SSM_AUTOMATION");
+    }
+
+    @Test
+    public void validateDefinition_InvalidKeyOrValue_Throws() {
+        final List<DefinitionParameter> emptyKey = buildDefinition();
+        emptyKey.add(parameter("", "value"));
+        final List<DefinitionParameter> longValue = buildDefinition();
+        longValue.add(parameter("Parameters", repeat('p', 4097)));
+
+        assertInvalid(buildModel("StartEC2Instance", emptyKey), "Definition key must be between 1 and 1000 characters");
+        assertInvalid(buildModel("StartEC2Instance", longValue), "Definition value of Parameters must be set and at most 4096 characters");
+    }
+
+    @Test
+    public void validateDefinition_UnknownDefinitionType_Throws() {
+        final InvalidParametersException e = assertThrows(InvalidParametersException.class,
+                () -> ServiceActionDefinitionValidator.validateDefinition("LAMBDA", buildDefinition()));
+
+        assertThat(e.getMessage()).startsWith("Unsupported DefinitionType: LAMBDA");
+    }
+
+    @Test
+    public void validateDefinition_WithoutDefinitionType_ChecksOnlyParameters() {
+        final List<DefinitionParameter> definition = Arrays.asList(parameter("Custom", "value"));
+
+        assertThat(ServiceActionDefinitionValidator.validateDefinition(null, definition)).containsEntry("Custom", "value");
+    }
+
+    private void assertInvalid(final ResourceModel model, final String message) {
+        final InvalidParametersException e = assertThrows(InvalidParametersException.class,
+                () -> ServiceActionDefinitionValidator.validateModel(model));
+        assertThat(e.getMessage()).startsWith(message);
+    }
+
+    private ResourceModel buildModel(final String name, final List<DefinitionParameter> definition) {
+        return ResourceModel.builder()
+                .name(name)
+                .definitionType(SSM_AUTOMATION)
+                .definition(definition)
+                .build();
+    }
+
+    private List<DefinitionParameter> buildDefinition() {
+        return new ArrayList<>(Arrays.asList(
+                parameter("Name", "AWS-StartEC2Instances"),
+                parameter("Version", "1"),
+                parameter("AssumeRole", "arn:aws:iam::123456789012:role/role")));
+    }
+
+    private DefinitionParameter parameter(final String key, final String value) {
+        return DefinitionParameter.builder().key(key).value(value).build();
+    }
+
+    private String repeat(final char c, final int count) {
+        final char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+}
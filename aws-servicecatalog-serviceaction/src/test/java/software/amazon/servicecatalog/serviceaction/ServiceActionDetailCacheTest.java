@@ -0,0 +1,90 @@
+package software.amazon.servicecatalog.serviceaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionDetail;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionSummary;
+
+public class ServiceActionDetailCacheTest {
+
+    private static final String SCOPE = "123456789012:us-east-1";
+    private static final String OTHER_SCOPE = "210987654321:us-east-1";
+    private static final long TTL_MILLIS = 1_000L;
+
+    private AtomicLong now;
+    private ServiceActionDetailCache cache;
+
+    @BeforeEach
+    public void setup() {
+        now = new AtomicLong(0L);
+        cache = new ServiceActionDetailCache(TTL_MILLIS, 2, now::get);
+    }
+
+    @Test
+    public void get_WrittenDetail_ReturnedWithinTtlOnlyInItsScope() {
+        final ServiceActionDetail detail = buildDetail("act-1");
+        cache.put(SCOPE, detail);
+
+        now.set(TTL_MILLIS);
+        assertThat(cache.get(SCOPE, "act-1")).isSameAs(detail);
+        assertThat(cache.get(OTHER_SCOPE, "act-1")).isNull();
+        assertThat(cache.get(SCOPE, "act-2")).isNull();
+
+        now.set(TTL_MILLIS + 1);
+        assertThat(cache.get(SCOPE, "act-1")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void put_LaterWrite_ReplacesDetail() {
+        cache.put(SCOPE, buildDetail("act-1"));
+        final ServiceActionDetail updated = buildDetail("act-1");
+        cache.put(SCOPE, updated);
+
+        assertThat(cache.get(SCOPE, "act-1")).isSameAs(updated);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void invalidate_RemovesDetail() {
+        cache.put(SCOPE, buildDetail("act-1"));
+
+        cache.invalidate(SCOPE, "act-1");
+
+        assertThat(cache.get(SCOPE, "act-1")).isNull();
+    }
+
+    @Test
+    public void put_WhenFull_DropsLeastRecentlyUsed() {
+        cache.put(SCOPE, buildDetail("act-1"));
+        cache.put(SCOPE, buildDetail("act-2"));
+        cache.get(SCOPE, "act-1");
+
+        cache.put(SCOPE, buildDetail("act-3"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(SCOPE, "act-1")).isNotNull();
+        assertThat(cache.get(SCOPE, "act-2")).isNull();
+        assertThat(cache.get(SCOPE, "act-3")).isNotNull();
+    }
+
+    @Test
+    public void put_ZeroTtlOrMissingId_Ignored() {
+        final ServiceActionDetailCache disabled = new ServiceActionDetailCache(0L, 2, now::get);
+        disabled.put(SCOPE, buildDetail("act-1"));
+        cache.put(SCOPE, ServiceActionDetail.builder().build());
+
+        assertThat(disabled.size()).isZero();
+        assertThat(cache.size()).isZero();
+    }
+
+    private ServiceActionDetail buildDetail(final String id) {
+        return ServiceActionDetail.builder()
+                .serviceActionSummary(ServiceActionSummary.builder().id(id).name("StartEC2Instance").build())
+                .build();
+    }
+}
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import java.util.List;
 
@@ -12,6 +14,7 @@ import software.amazon.awssdk.services.servicecatalog.model.InvalidParametersExc
 import software.amazon.awssdk.services.servicecatalog.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.servicecatalog.model.ServiceActionDetail;
 import software.amazon.awssdk.services.servicecatalog.model.ServiceActionSummary;
+import software.amazon.awssdk.services.servicecatalog.model.UpdateServiceActionRequest;
 import software.amazon.awssdk.services.servicecatalog.model.UpdateServiceActionResponse;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -23,6 +26,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -48,6 +52,7 @@ public class UpdateHandlerTest {
     @BeforeEach
     public void setup() {
         handler = new UpdateHandler();
+        ServiceActionDetailCache.getInstance().clear();
         previousModel = buildResourceModel("StartEC2Instance", PREVIOUS_DOCUMENT);
         desiredModel = buildResourceModel("StopEC2Instance", DESIRED_DOCUMENT);
     }
@@ -147,4 +152,80 @@ public class UpdateHandlerTest {
         // When
         assertThrows(CfnNotFoundException.class, () -> handler.handleRequest(proxy, resourceHandlerRequest, null, logger));
     }
+
+    @Test
+    public void handleRequest_WhenUnchanged_SkipsUpdate() {
+        final ResourceModel reordered = ResourceModel.builder()
+                .id(previousModel.getId())
+                .name(previousModel.getName())
+                .definitionType(previousModel.getDefinitionType())
+                .definition(ImmutableList.copyOf(previousModel.getDefinition()).reverse())
+                .description(previousModel.getDescription())
+                .build();
+        final ResourceHandlerRequest<ResourceModel> resourceHandlerRequest = ResourceHandlerRequest
+                .<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(reordered)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, resourceHandlerRequest, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(reordered);
+        verify(proxy, never()).injectCredentialsAndInvokeV2(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void handleRequest_WhenOnlyDescriptionChanged_SendsOnlyDescription() {
+        final ResourceModel described = ResourceModel.builder()
+                .id(previousModel.getId())
+                .name(previousModel.getName())
+                .definitionType(previousModel.getDefinitionType())
+                .definition(previousModel.getDefinition())
+                .description("Starts EC2 instances")
+                .build();
+        doReturn(UpdateServiceActionResponse.builder()
+                .serviceActionDetail(ServiceActionDetail.builder().serviceActionSummary(buildServiceActionSummary()).build())
+                .build()).when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any());
+        final ResourceHandlerRequest<ResourceModel> resourceHandlerRequest = ResourceHandlerRequest
+                .<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(described)
+                .build();
+
+        handler.handleRequest(proxy, resourceHandlerRequest, null, logger);
+
+        final ArgumentCaptor<UpdateServiceActionRequest> captor = ArgumentCaptor.forClass(UpdateServiceActionRequest.class);
+        verify(proxy).injectCredentialsAndInvokeV2(captor.capture(), ArgumentMatchers.any());
+        assertThat(captor.getValue().id()).isEqualTo("act-1993jive");
+        assertThat(captor.getValue().description()).isEqualTo("Starts EC2 instances");
+        assertThat(captor.getValue().name()).isNull();
+        assertThat(captor.getValue().hasDefinition()).isFalse();
+    }
+
+    @Test
+    public void handleRequest_WhenDefinitionChanged_SendsDefinition() {
+        final ResourceModel redefined = buildResourceModel("StartEC2Instance", "AWS-StartEC2InstanceV2");
+        doReturn(UpdateServiceActionResponse.builder()
+                .serviceActionDetail(ServiceActionDetail.builder().serviceActionSummary(buildServiceActionSummary()).build())
+                .build()).when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any());
+        final ResourceHandlerRequest<ResourceModel> resourceHandlerRequest = ResourceHandlerRequest
+                .<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(redefined)
+                .build();
+
+        handler.handleRequest(proxy, resourceHandlerRequest, null, logger);
+
+        final ArgumentCaptor<UpdateServiceActionRequest> captor = ArgumentCaptor.forClass(UpdateServiceActionRequest.class);
+        verify(proxy).injectCredentialsAndInvokeV2(captor.capture(), ArgumentMatchers.any());
+        assertThat(captor.getValue().name()).isNull();
+        assertThat(captor.getValue().description()).isNull();
+        assertThat(captor.getValue().definitionAsStrings()).containsEntry("Name", "AWS-StartEC2InstanceV2").hasSize(4);
+    }
 }
@@ -0,0 +1,131 @@
+package software.amazon.servicecatalog.benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import software.amazon.servicecatalog.SCClientBuilder;
+
+/**
+ * Forks fresh JVMs that each load the module's HandlerWrapper and drive one CreateHandler request against a local
+ * {@link StubServiceCatalogEndpoint}, then reports the distribution of the probe measurements.
+ *
+ * Usage: ColdStartHarness &lt;probe class&gt; [runs] [extra JVM options...]
+ *
+ * The probe class must have a main method that prints one {@link ColdStartSample} line; other output is only shown
+ * when the probe fails.
+ */
+public class ColdStartHarness {
+    private static final int DEFAULT_RUNS = 10;
+    private static final String DEFAULT_REGION = "us-east-1";
+
+    public static void main(final String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: ColdStartHarness <probe class> [runs] [extra JVM options...]");
+            System.exit(1);
+        }
+        final String probeClass = args[0];
+        final int runs = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUNS;
+        final List<String> jvmOptions = new ArrayList<>();
+        for (int i = 2; i < args.length; i++) {
+            jvmOptions.add(args[i]);
+        }
+
+        final List<ColdStartSample> samples = new ArrayList<>();
+        try (StubServiceCatalogEndpoint endpoint = new StubServiceCatalogEndpoint().withDefaultResponses()) {
+            for (int run = 0; run < runs; run++) {
+                samples.add(fork(probeClass, endpoint.getEndpoint(), jvmOptions));
+            }
+        }
+        report(probeClass, samples);
+    }
+
+    private static ColdStartSample fork(final String probeClass, final String endpoint, final List<String> jvmOptions)
+            throws IOException, InterruptedException {
+        final List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(jvmOptions);
+        command.add("-D" + SCClientBuilder.ENDPOINT_OVERRIDE_PROPERTY + "=" + endpoint);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(probeClass);
+
+        final ProcessBuilder processBuilder = new ProcessBuilder(command).redirectErrorStream(true);
+        final Map<String, String> environment = processBuilder.environment();
+        environment.putIfAbsent("AWS_REGION", DEFAULT_REGION);
+        final Process process = processBuilder.start();
+        final StringBuilder output = new StringBuilder();
+        String sampleLine = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (ColdStartSample.isSample(line)) {
+                    sampleLine = line;
+                } else {
+                    output.append(line).append(System.lineSeparator());
+                }
+            }
+        }
+        if (process.waitFor() != 0 || sampleLine == null) {
+            throw new IllegalStateException("Probe " + probeClass + " failed:" + System.lineSeparator() + output);
+        }
+        return ColdStartSample.parse(sampleLine);
+    }
+
+    private static void report(final String probeClass, final List<ColdStartSample> samples) {
+        System.out.println("Cold start: " + probeClass + " (" + samples.size() + " fresh JVMs)");
+        System.out.println(String.format("%-36s %10s %10s %10s", "metric", "min", "median", "max"));
+        printRow("jvm start -> first response (ms)", samples, ColdStartMetric.JVM_TO_FIRST_RESPONSE_MILLIS);
+        printRow("wrapper load -> first response (ms)", samples, ColdStartMetric.WRAPPER_TO_FIRST_RESPONSE_MILLIS);
+        printRow("wrapper init (ms)", samples, ColdStartMetric.WRAPPER_INIT_MILLIS);
+        printRow("first request (ms)", samples, ColdStartMetric.FIRST_REQUEST_MILLIS);
+        printRow("classes loaded after init", samples, ColdStartMetric.CLASSES_AFTER_INIT);
+        printRow("classes loaded at response", samples, ColdStartMetric.CLASSES_AT_RESPONSE);
+        printRow("heap used after init (KB)", samples, ColdStartMetric.HEAP_AFTER_INIT_KB);
+    }
+
+    private static void printRow(final String name, final List<ColdStartSample> samples, final ColdStartMetric metric) {
+        final List<Long> values = new ArrayList<>();
+        for (final ColdStartSample sample : samples) {
+            values.add(metric.of(sample));
+        }
+        Collections.sort(values);
+        System.out.println(String.format("%-36s %10d %10d %10d",
+                name, values.get(0), values.get(values.size() / 2), values.get(values.size() - 1)));
+    }
+
+    private enum ColdStartMetric {
+        JVM_TO_FIRST_RESPONSE_MILLIS,
+        WRAPPER_TO_FIRST_RESPONSE_MILLIS,
+        WRAPPER_INIT_MILLIS,
+        FIRST_REQUEST_MILLIS,
+        CLASSES_AFTER_INIT,
+        CLASSES_AT_RESPONSE,
+        HEAP_AFTER_INIT_KB;
+
+        long of(final ColdStartSample sample) {
+            switch (this) {
+                case JVM_TO_FIRST_RESPONSE_MILLIS:
+                    return sample.getJvmToFirstResponseMillis();
+                case WRAPPER_TO_FIRST_RESPONSE_MILLIS:
+                    return sample.getWrapperInitMillis() + sample.getFirstRequestMillis();
+                case WRAPPER_INIT_MILLIS:
+                    return sample.getWrapperInitMillis();
+                case FIRST_REQUEST_MILLIS:
+                    return sample.getFirstRequestMillis();
+                case CLASSES_AFTER_INIT:
+                    return sample.getClassesAfterInit();
+                case CLASSES_AT_RESPONSE:
+                    return sample.getClassesAtResponse();
+                default:
+                    return sample.getHeapAfterInitBytes() / 1024;
+            }
+        }
+    }
+}
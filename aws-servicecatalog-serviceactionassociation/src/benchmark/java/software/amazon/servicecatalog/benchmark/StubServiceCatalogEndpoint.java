@@ -0,0 +1,121 @@
+package software.amazon.servicecatalog.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+import javax.net.ssl.SSLContext;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+
+/**
+ * Minimal local Service Catalog endpoint for benchmarks.
+ *
+ * Answers each JSON-protocol operation (selected by the X-Amz-Target header) with a canned response body, optionally
+ * after a fixed delay to simulate service latency. Requests are not authenticated. Serves plain HTTP unless it is given
+ * an SSLContext.
+ */
+public class StubServiceCatalogEndpoint implements AutoCloseable {
+    private static final String TARGET_HEADER = "X-Amz-Target";
+    private static final String CONTENT_TYPE = "application/x-amz-json-1.1";
+    private static final String EMPTY_BODY = "{}";
+    private static final String CREATE_SERVICE_ACTION_RESPONSE = "{\"ServiceActionDetail\":{\"ServiceActionSummary\":"
+            + "{\"Id\":\"act-benchmark\",\"Name\":\"StartEC2Instance\",\"DefinitionType\":\"SSM_AUTOMATION\"},"
+            + "\"Definition\":{\"Name\":\"AWS-StartEC2Instances\",\"Version\":\"1\"}}}";
+
+    private final HttpServer server;
+    private final String scheme;
+    private final Map<String, String> responses = new ConcurrentHashMap<>();
+    private volatile long latencyMillis;
+
+    public StubServiceCatalogEndpoint() throws IOException {
+        this(null);
+    }
+
+    public StubServiceCatalogEndpoint(final SSLContext sslContext) throws IOException {
+        // Without TCP_NODELAY the JDK server's separate header and body writes hit delayed ACKs, adding ~40ms per call.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        final InetSocketAddress address = new InetSocketAddress("localhost", 0);
+        if (sslContext == null) {
+            server = HttpServer.create(address, 0);
+            scheme = "http";
+        } else {
+            final HttpsServer httpsServer = HttpsServer.create(address, 0);
+            httpsServer.setHttpsConfigurator(new HttpsConfigurator(sslContext));
+            server = httpsServer;
+            scheme = "https";
+        }
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "stub-service-catalog");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+    }
+
+    /**
+     * Registers canned responses for the mutating operations the handlers call on their first request.
+     */
+    public StubServiceCatalogEndpoint withDefaultResponses() {
+        return respond("CreateServiceAction", CREATE_SERVICE_ACTION_RESPONSE)
+                .respond("DescribeServiceAction", CREATE_SERVICE_ACTION_RESPONSE)
+                .respond("AssociateServiceActionWithProvisioningArtifact", EMPTY_BODY)
+                .respond("DisassociateServiceActionFromProvisioningArtifact", EMPTY_BODY);
+    }
+
+    /**
+     * Sets the response body for an operation, e.g. "CreateServiceAction". Unknown operations get "{}".
+     */
+    public StubServiceCatalogEndpoint respond(final String operation, final String body) {
+        responses.put(operation, body);
+        return this;
+    }
+
+    public StubServiceCatalogEndpoint withLatencyMillis(final long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+        return this;
+    }
+
+    public String getEndpoint() {
+        return scheme + "://localhost:" + server.getAddress().getPort();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            final byte[] buffer = new byte[8192];
+            while (requestBody.read(buffer) != -1) {
+                // Drain the request so the connection can be reused.
+            }
+        }
+        final String target = exchange.getRequestHeaders().getFirst(TARGET_HEADER);
+        final String operation = target == null ? "" : target.substring(target.indexOf('.') + 1);
+        final byte[] body = responses.getOrDefault(operation, EMPTY_BODY).getBytes(StandardCharsets.UTF_8);
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        exchange.getResponseHeaders().add("Content-Type", CONTENT_TYPE);
+        exchange.getResponseHeaders().add("x-amzn-RequestId", "stub");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,139 @@
+package software.amazon.servicecatalog.serviceactionassociation.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import software.amazon.servicecatalog.serviceactionassociation.AssociationIndex;
+
+/**
+ * Compares the retained heap and membership check cost of {@link AssociationIndex} with a plain
+ * {@code HashMap<String, List<String>>} holding the same associations.
+ *
+ * Usage: AssociationIndexMemoryBenchmark [associations]
+ *
+ * The synthetic account has 10 service actions per provisioning artifact, 10 provisioning artifacts per product and a
+ * catalog of 500 service actions. Every id is a fresh String, as it would be after deserializing list responses, so
+ * the map keeps one copy per occurrence while the index deduplicates them.
+ */
+public class AssociationIndexMemoryBenchmark {
+    private static final int DEFAULT_ASSOCIATIONS = 100_000;
+    private static final int ACTIONS_PER_ARTIFACT = 10;
+    private static final int ARTIFACTS_PER_PRODUCT = 10;
+    private static final int SERVICE_ACTIONS = 500;
+    private static final int LOOKUPS = 1_000_000;
+    private static final long SEED = 42L;
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    public static void main(final String[] args) throws InterruptedException {
+        final int associations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ASSOCIATIONS;
+        final int artifacts = Math.max(1, associations / ACTIONS_PER_ARTIFACT);
+
+        long before = usedHeapAfterGc();
+        Map<String, List<String>> map = buildMap(artifacts);
+        final long mapBytes = usedHeapAfterGc() - before;
+        final long mapNanos = timeLookups(map, null, artifacts);
+        map = null;
+
+        before = usedHeapAfterGc();
+        final AssociationIndex index = buildIndex(artifacts);
+        final long indexBytes = usedHeapAfterGc() - before;
+        final long indexNanos = timeLookups(null, index, artifacts);
+
+        System.out.println(String.format("Associations: %d across %d provisioning artifacts (%d indexed)",
+                artifacts * ACTIONS_PER_ARTIFACT, artifacts, index.associationCount()));
+        System.out.println(String.format("%-32s %14s %14s %16s", "structure", "retained KiB", "bytes/assoc", "ns/contains"));
+        print("HashMap<String, List<String>>", mapBytes, mapNanos, artifacts);
+        print("AssociationIndex", indexBytes, indexNanos, artifacts);
+    }
+
+    private static Map<String, List<String>> buildMap(final int artifacts) {
+        final Random random = new Random(SEED);
+        final Map<String, List<String>> map = new HashMap<>();
+        for (int artifact = 0; artifact < artifacts; artifact++) {
+            final List<String> serviceActionIds = new ArrayList<>();
+            for (int i = 0; i < ACTIONS_PER_ARTIFACT; i++) {
+                serviceActionIds.add(serviceActionId(random));
+            }
+            map.put(productId(artifact) + "/" + provisioningArtifactId(artifact), serviceActionIds);
+        }
+        return map;
+    }
+
+    private static AssociationIndex buildIndex(final int artifacts) {
+        final Random random = new Random(SEED);
+        final AssociationIndex index = new AssociationIndex();
+        for (int artifact = 0; artifact < artifacts; artifact++) {
+            final List<String> serviceActionIds = new ArrayList<>();
+            for (int i = 0; i < ACTIONS_PER_ARTIFACT; i++) {
+                serviceActionIds.add(serviceActionId(random));
+            }
+            index.put(productId(artifact), provisioningArtifactId(artifact), serviceActionIds);
+        }
+        return index;
+    }
+
+    private static long timeLookups(final Map<String, List<String>> map, final AssociationIndex index, final int artifacts) {
+        final Random random = new Random(SEED + 1);
+        final String[] productIds = new String[LOOKUPS];
+        final String[] provisioningArtifactIds = new String[LOOKUPS];
+        final String[] serviceActionIds = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            final int artifact = random.nextInt(artifacts);
+            productIds[i] = productId(artifact);
+            provisioningArtifactIds[i] = provisioningArtifactId(artifact);
+            serviceActionIds[i] = serviceActionId(random);
+        }
+        int hits = 0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            final boolean found;
+            if (index != null) {
+                found = index.contains(productIds[i], provisioningArtifactIds[i], serviceActionIds[i]);
+            } else {
+                final List<String> associated = map.get(productIds[i] + "/" + provisioningArtifactIds[i]);
+                found = associated != null && associated.contains(serviceActionIds[i]);
+            }
+            if (found) {
+                hits++;
+            }
+        }
+        final long elapsed = System.nanoTime() - start;
+        if (hits < 0) {
+            throw new IllegalStateException();
+        }
+        return elapsed;
+    }
+
+    private static void print(final String structure, final long bytes, final long lookupNanos, final int artifacts) {
+        System.out.println(String.format("%-32s %14d %14.1f %16.1f", structure, bytes / 1024,
+                (double) bytes / (artifacts * ACTIONS_PER_ARTIFACT), (double) lookupNanos / LOOKUPS));
+    }
+
+    private static String productId(final int artifact) {
+        return new StringBuilder("prod-").append(String.format("%012d", artifact / ARTIFACTS_PER_PRODUCT)).toString();
+    }
+
+    private static String provisioningArtifactId(final int artifact) {
+        return new StringBuilder("pa-").append(String.format("%012d", artifact)).toString();
+    }
+
+    private static String serviceActionId(final Random random) {
+        return new StringBuilder("act-").append(String.format("%012d", random.nextInt(SERVICE_ACTIONS))).toString();
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(50L);
+            used = Math.min(used, MEMORY.getHeapMemoryUsage().getUsed());
+        }
+        return used;
+    }
+}
@@ -0,0 +1,54 @@
+package software.amazon.servicecatalog.serviceactionassociation.benchmark;
+
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.SCClientPrimer;
+import software.amazon.servicecatalog.benchmark.ColdStartSample;
+import software.amazon.servicecatalog.serviceactionassociation.CallbackContext;
+import software.amazon.servicecatalog.serviceactionassociation.CreateHandler;
+import software.amazon.servicecatalog.serviceactionassociation.ResourceModel;
+
+/**
+ * Runs in a fresh JVM forked by {@link software.amazon.servicecatalog.benchmark.ColdStartHarness}: loads and
+ * constructs the HandlerWrapper, then serves one CREATE request against the endpoint the harness points the client at.
+ * The first response of an association CREATE is the IN_PROGRESS event that starts stabilization.
+ */
+public class CreateHandlerColdStartProbe {
+    private static final String HANDLER_WRAPPER = "software.amazon.servicecatalog.serviceactionassociation.HandlerWrapper";
+
+    public static void main(final String[] args) throws Exception {
+        final long wrapperStart = System.currentTimeMillis();
+        Class.forName(HANDLER_WRAPPER).getConstructor().newInstance();
+        final long wrapperInitMillis = System.currentTimeMillis() - wrapperStart;
+        final long classesAfterInit = ColdStartSample.loadedClassCount();
+        final long heapAfterInitBytes = ColdStartSample.heapUsedBytes();
+
+        final long requestStart = System.currentTimeMillis();
+        final ResourceModel model = ResourceModel.builder()
+                .productId("prod-benchmark")
+                .provisioningArtifactId("pa-benchmark")
+                .serviceActionId("act-benchmark")
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .clientRequestToken("cold-start-probe")
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> event = new CreateHandler()
+                .handleRequest(SCClientPrimer.buildOfflineProxy(), request, null, new LoggerProxy());
+        if (event.getStatus() != OperationStatus.IN_PROGRESS) {
+            throw new IllegalStateException("Probe request failed: " + event.getMessage());
+        }
+
+        System.out.println(ColdStartSample.builder()
+                .jvmToFirstResponseMillis(ColdStartSample.millisSinceJvmStart())
+                .wrapperInitMillis(wrapperInitMillis)
+                .firstRequestMillis(System.currentTimeMillis() - requestStart)
+                .classesAfterInit(classesAfterInit)
+                .classesAtResponse(ColdStartSample.loadedClassCount())
+                .heapAfterInitBytes(heapAfterInitBytes)
+                .build()
+                .toLine());
+    }
+}
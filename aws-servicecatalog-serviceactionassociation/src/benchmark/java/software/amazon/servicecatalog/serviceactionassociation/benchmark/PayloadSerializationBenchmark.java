@@ -0,0 +1,133 @@
+package software.amazon.servicecatalog.serviceactionassociation.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.collect.ImmutableMap;
+import lombok.Data;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.cloudformation.Action;
+import software.amazon.cloudformation.proxy.HandlerRequest;
+import software.amazon.cloudformation.proxy.RequestData;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.servicecatalog.serviceactionassociation.CallbackContext;
+import software.amazon.servicecatalog.serviceactionassociation.ProductWideAssociation;
+import software.amazon.servicecatalog.serviceactionassociation.ResourceModel;
+
+/**
+ * Measures the wrapper's {@link Serializer} on a ServiceActionAssociation CREATE stabilization callback: a product-wide
+ * handler request whose callback context carries the provisioning artifacts still awaited.
+ *
+ * The baseline carries the same context fields in a plain bean, which Jackson binds reflectively, so the two variants
+ * differ only in how the callback context is bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadSerializationBenchmark {
+    private static final int PROVISIONING_ARTIFACTS = 10;
+    private static final TypeReference<HandlerRequest<ResourceModel, CallbackContext>> REQUEST_TYPE =
+            new TypeReference<HandlerRequest<ResourceModel, CallbackContext>>() {};
+    private static final TypeReference<HandlerRequest<ResourceModel, ReflectiveCallbackContext>> REFLECTIVE_REQUEST_TYPE =
+            new TypeReference<HandlerRequest<ResourceModel, ReflectiveCallbackContext>>() {};
+
+    private final Serializer serializer = new Serializer();
+
+    private HandlerRequest<ResourceModel, CallbackContext> request;
+    private HandlerRequest<ResourceModel, ReflectiveCallbackContext> reflectiveRequest;
+    private String requestJson;
+
+    @Setup
+    public void setup() throws IOException {
+        final List<String> provisioningArtifactIds = new ArrayList<>();
+        for (int i = 0; i < PROVISIONING_ARTIFACTS; i++) {
+            provisioningArtifactIds.add("pa-dfergbr1232r" + i);
+        }
+        final CallbackContext callbackContext = CallbackContext.builder()
+                .serviceActionId("act-12413asd")
+                .productId("prod-sdfg1234")
+                .provisioningArtifactId(ProductWideAssociation.ALL_PROVISIONING_ARTIFACTS)
+                .stabilizationRetriesRemaining(5)
+                .provisioningArtifactIds(provisioningArtifactIds)
+                .build();
+        final ReflectiveCallbackContext reflectiveCallbackContext = new ReflectiveCallbackContext();
+        reflectiveCallbackContext.setServiceActionId(callbackContext.getServiceActionId());
+        reflectiveCallbackContext.setProductId(callbackContext.getProductId());
+        reflectiveCallbackContext.setProvisioningArtifactId(callbackContext.getProvisioningArtifactId());
+        reflectiveCallbackContext.setStabilizationRetriesRemaining(callbackContext.getStabilizationRetriesRemaining());
+        reflectiveCallbackContext.setProvisioningArtifactIds(callbackContext.getProvisioningArtifactIds());
+
+        request = buildRequest(callbackContext);
+        reflectiveRequest = buildRequest(reflectiveCallbackContext);
+        requestJson = serializer.serialize(request);
+    }
+
+    @Benchmark
+    public String serializeRequestReflective() throws IOException {
+        return serializer.serialize(reflectiveRequest);
+    }
+
+    @Benchmark
+    public String serializeRequestHandWritten() throws IOException {
+        return serializer.serialize(request);
+    }
+
+    @Benchmark
+    public HandlerRequest<ResourceModel, ReflectiveCallbackContext> deserializeRequestReflective() throws IOException {
+        return serializer.deserialize(requestJson, REFLECTIVE_REQUEST_TYPE);
+    }
+
+    @Benchmark
+    public HandlerRequest<ResourceModel, CallbackContext> deserializeRequestHandWritten() throws IOException {
+        return serializer.deserialize(requestJson, REQUEST_TYPE);
+    }
+
+    private static <C> HandlerRequest<ResourceModel, C> buildRequest(final C callbackContext) {
+        final RequestData<ResourceModel> requestData = new RequestData<>();
+        requestData.setLogicalResourceId("RestartInstanceAssociation");
+        requestData.setResourceProperties(ResourceModel.builder()
+                .productId("prod-sdfg1234")
+                .provisioningArtifactId(ProductWideAssociation.ALL_PROVISIONING_ARTIFACTS)
+                .serviceActionId("act-12413asd")
+                .build());
+        requestData.setStackTags(ImmutableMap.of("team", "platform", "stage", "prod"));
+        final HandlerRequest<ResourceModel, C> request = new HandlerRequest<>();
+        request.setAction(Action.CREATE);
+        request.setAwsAccountId("123456789012");
+        request.setBearerToken("a8b9c2d1-5e4f-4a3b-9c8d-7e6f5a4b3c2d");
+        request.setRegion("us-east-1");
+        request.setResourceType("AWS::ServiceCatalog::ServiceActionAssociation");
+        request.setResourceTypeVersion("00000001");
+        request.setStackId("arn:aws:cloudformation:us-east-1:123456789012:stack/actions/1a2b3c4d-5e6f-7a8b-9c0d-1e2f3a4b5c6d");
+        request.setRequestData(requestData);
+        request.setCallbackContext(callbackContext);
+        return request;
+    }
+
+    /**
+     * The ServiceActionAssociation callback context fields without custom bindings.
+     */
+    @Data
+    public static class ReflectiveCallbackContext {
+        private String serviceActionId;
+        private String productId;
+        private String provisioningArtifactId;
+        private Integer stabilizationRetriesRemaining;
+        private List<String> provisioningArtifactIds;
+    }
+}
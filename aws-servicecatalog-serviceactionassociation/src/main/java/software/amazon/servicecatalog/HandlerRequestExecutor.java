@@ -0,0 +1,190 @@
+package software.amazon.servicecatalog;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.cloudformation.ExecutableWrapper;
+
+/**
+ * Long-running executor mode for the executable entrypoint.
+ *
+ * Reads one handler request JSON document per input line and serves the requests concurrently on a bounded worker
+ * pool. Each response is written as one output line, {"requestNumber":n,"response":{...}}, where n is the 0-based
+ * input line of the request; responses are written as they complete, not in input order. A request that fails outside
+ * the wrapper's own error handling is answered with {"requestNumber":n,"error":"..."}.
+ *
+ * Service Catalog clients and caches are static, so every request served by the process shares them. The wrapper
+ * keeps per-request state in instance fields, so each worker thread gets its own wrapper. When every worker is busy
+ * and the queue is full, the executor stops reading input until a request completes.
+ */
+public class HandlerRequestExecutor {
+    private static final int DEFAULT_THREADS = 16;
+    private static final int DEFAULT_QUEUE_CAPACITY = 64;
+    private static final long SHUTDOWN_TIMEOUT_MINUTES = 15;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Serves a single handler request, writing the response to the output stream.
+     */
+    @FunctionalInterface
+    public interface RequestProcessor {
+        void process(InputStream request, OutputStream response) throws IOException;
+    }
+
+    private final ThreadPoolExecutor executor;
+    private final Semaphore permits;
+    private final ThreadLocal<RequestProcessor> processors;
+    private final OutputStream output;
+
+    public HandlerRequestExecutor(final int threads, final int queueCapacity, final Supplier<RequestProcessor> processors,
+                                  final OutputStream output) {
+        if (threads < 1 || queueCapacity < 0) {
+            throw new IllegalArgumentException("threads must be at least 1 and queueCapacity must not be negative");
+        }
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new WorkerThreadFactory());
+        this.permits = new Semaphore(threads + queueCapacity);
+        this.processors = ThreadLocal.withInitial(processors);
+        this.output = output;
+    }
+
+    /**
+     * Builds an executor sized by the {@link HandlerSettings#EXECUTOR_THREADS} and
+     * {@link HandlerSettings#EXECUTOR_QUEUE_CAPACITY} settings.
+     */
+    public static HandlerRequestExecutor fromSettings(final Supplier<RequestProcessor> processors, final OutputStream output) {
+        return new HandlerRequestExecutor(
+                HandlerSettings.getInt(HandlerSettings.EXECUTOR_THREADS, DEFAULT_THREADS),
+                HandlerSettings.getInt(HandlerSettings.EXECUTOR_QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY),
+                processors,
+                output);
+    }
+
+    /**
+     * Adapts an executable wrapper to a {@link RequestProcessor}. The wrapper registers its platform log publisher on
+     * every handleRequest call, so only the first request goes through handleRequest and later requests are processed
+     * directly.
+     */
+    public static RequestProcessor processorFor(final ExecutableWrapper<?, ?> wrapper) {
+        final AtomicInteger served = new AtomicInteger();
+        return (request, response) -> {
+            if (served.getAndIncrement() == 0) {
+                wrapper.handleRequest(request, response);
+            } else {
+                wrapper.processRequest(request, response);
+                response.flush();
+            }
+        };
+    }
+
+    /**
+     * Serves every request line of the input, then waits for the outstanding requests to complete.
+     */
+    public void run(final InputStream input) throws IOException, InterruptedException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            long requestNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) {
+                    submit(requestNumber, line.getBytes(StandardCharsets.UTF_8));
+                }
+                requestNumber++;
+            }
+        } finally {
+            shutdown();
+        }
+    }
+
+    /**
+     * Queues a request, blocking while the executor is saturated.
+     */
+    public void submit(final long requestNumber, final byte[] request) throws InterruptedException {
+        permits.acquire();
+        try {
+            executor.execute(() -> {
+                try {
+                    serve(requestNumber, request);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void serve(final long requestNumber, final byte[] request) {
+        String line;
+        try {
+            final ByteArrayOutputStream response = new ByteArrayOutputStream();
+            processors.get().process(new ByteArrayInputStream(request), response);
+            line = "{\"requestNumber\":" + requestNumber + ",\"response\":"
+                    + new String(response.toByteArray(), StandardCharsets.UTF_8).trim() + "}";
+        } catch (Exception e) {
+            final Map<String, Object> error = new LinkedHashMap<>();
+            error.put("requestNumber", requestNumber);
+            error.put("error", String.valueOf(e.getMessage()));
+            line = toJson(error);
+        }
+        write(line);
+    }
+
+    private static String toJson(final Map<String, Object> error) {
+        try {
+            return MAPPER.writeValueAsString(error);
+        } catch (JsonProcessingException e) {
+            return "{\"requestNumber\":" + error.get("requestNumber") + ",\"error\":\"unserializable error\"}";
+        }
+    }
+
+    private void write(final String line) {
+        final byte[] bytes = (line + "\n").getBytes(StandardCharsets.UTF_8);
+        synchronized (output) {
+            try {
+                output.write(bytes);
+                output.flush();
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to write handler response", e);
+            }
+        }
+    }
+
+    /**
+     * Stops accepting requests and waits for the outstanding ones to complete.
+     */
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "handler-executor-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
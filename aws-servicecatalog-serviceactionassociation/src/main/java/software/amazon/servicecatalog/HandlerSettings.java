@@ -0,0 +1,69 @@
+package software.amazon.servicecatalog;
+
+/**
+ * Optional handler settings.
+ *
+ * A setting is read from the system property {@code software.amazon.servicecatalog.<name>} first, then from the
+ * environment variable {@code SERVICECATALOG_<NAME>} (camel case split on upper case letters, e.g. httpTransport is
+ * read from SERVICECATALOG_HTTP_TRANSPORT), and falls back to a default when neither is set.
+ */
+public class HandlerSettings {
+    private static final String PROPERTY_PREFIX = "software.amazon.servicecatalog.";
+    private static final String ENVIRONMENT_PREFIX = "SERVICECATALOG_";
+
+    /**
+     * HTTP transport used by the synchronous Service Catalog clients, see {@link HttpTransport}.
+     */
+    public static final String HTTP_TRANSPORT = "httpTransport";
+
+    /**
+     * Worker threads of the concurrent executor mode, see {@link HandlerRequestExecutor}.
+     */
+    public static final String EXECUTOR_THREADS = "executorThreads";
+
+    /**
+     * Requests the concurrent executor mode accepts beyond its busy workers before it stops reading input.
+     */
+    public static final String EXECUTOR_QUEUE_CAPACITY = "executorQueueCapacity";
+
+    /**
+     * Set to true to make List handlers return one service page per invocation with a next token.
+     */
+    public static final String PAGED_LIST = "pagedList";
+
+    public static String get(final String name, final String defaultValue) {
+        final String property = System.getProperty(toPropertyName(name));
+        if (property != null) {
+            return property;
+        }
+        final String environment = System.getenv(toEnvironmentVariable(name));
+        return environment != null ? environment : defaultValue;
+    }
+
+    public static int getInt(final String name, final int defaultValue) {
+        final String value = get(name, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Setting %s must be an integer, got '%s'", name, value), e);
+        }
+    }
+
+    public static String toPropertyName(final String name) {
+        return PROPERTY_PREFIX + name;
+    }
+
+    static String toEnvironmentVariable(final String name) {
+        final StringBuilder variable = new StringBuilder(ENVIRONMENT_PREFIX);
+        for (final char c : name.toCharArray()) {
+            if (Character.isUpperCase(c)) {
+                variable.append('_');
+            }
+            variable.append(Character.toUpperCase(c));
+        }
+        return variable.toString();
+    }
+}
@@ -0,0 +1,67 @@
+package software.amazon.servicecatalog;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+/**
+ * SdkHttpClient that never opens a connection and answers every request with the same canned JSON response.
+ *
+ * Used to drive the SDK request/response marshalling stack without any network access, e.g. for cold-start priming.
+ */
+public class OfflineHttpClient implements SdkHttpClient {
+    private static final String CLIENT_NAME = "Offline";
+    private static final String CONTENT_TYPE = "application/x-amz-json-1.1";
+    private static final String EMPTY_BODY = "{}";
+
+    private final int statusCode;
+    private final byte[] body;
+
+    public OfflineHttpClient() {
+        this(200, EMPTY_BODY);
+    }
+
+    public OfflineHttpClient(final int statusCode, final String body) {
+        this.statusCode = statusCode;
+        this.body = body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(final HttpExecuteRequest request) {
+        return new ExecutableHttpRequest() {
+            @Override
+            public HttpExecuteResponse call() {
+                return HttpExecuteResponse
+                        .builder()
+                        .response(SdkHttpResponse
+                                .builder()
+                                .statusCode(statusCode)
+                                .putHeader("Content-Type", CONTENT_TYPE)
+                                .putHeader("Content-Length", String.valueOf(body.length))
+                                .putHeader("x-amzn-RequestId", CLIENT_NAME)
+                                .build())
+                        .responseBody(AbortableInputStream.create(new ByteArrayInputStream(body)))
+                        .build();
+            }
+
+            @Override
+            public void abort() {
+            }
+        };
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+}
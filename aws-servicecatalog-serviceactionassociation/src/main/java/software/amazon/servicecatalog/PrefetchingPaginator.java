@@ -0,0 +1,136 @@
+package software.amazon.servicecatalog;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Iterates over the pages of a paginated listing, fetching the next page while the caller processes the current one.
+ *
+ * The first page is fetched on the calling thread. As each page is returned, the page after it is requested on a
+ * shared pool of daemon threads, so the caller only waits for the part of a round-trip its own processing did not
+ * cover. Closing the paginator before the last page cancels the outstanding prefetch. Errors of a prefetch are thrown
+ * from {@link #next()} on the calling thread.
+ *
+ * A scan that usually stops before the last page, such as a membership check, uses {@link #onDemand} instead: a
+ * prefetched page it never reads is still a billed and throttled API call.
+ *
+ * Not thread-safe, each listing uses its own paginator.
+ */
+public class PrefetchingPaginator<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * Largest page size Service Catalog accepts on its list operations.
+     */
+    public static final int MAX_PAGE_SIZE = 20;
+
+    private static final String INTERRUPTED = "Interrupted while waiting for a page";
+    private static final ExecutorService PREFETCHER = Executors.newCachedThreadPool(new PrefetchThreadFactory());
+
+    private final Function<String, T> fetch;
+    private final Function<T, String> nextToken;
+    private final ExecutorService executor;
+    private boolean started;
+    private Future<T> prefetched;
+    private String pendingToken;
+
+    /**
+     * @param fetch     fetches the page for a page token, null for the first page
+     * @param nextToken returns the token of the page after the given one, null or empty on the last page
+     */
+    public PrefetchingPaginator(final Function<String, T> fetch, final Function<T, String> nextToken) {
+        this(fetch, nextToken, PREFETCHER);
+    }
+
+    PrefetchingPaginator(final Function<String, T> fetch, final Function<T, String> nextToken, final ExecutorService executor) {
+        this.fetch = fetch;
+        this.nextToken = nextToken;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns a paginator that fetches each page on the calling thread when it is read, never ahead of the caller.
+     */
+    public static <T> PrefetchingPaginator<T> onDemand(final Function<String, T> fetch, final Function<T, String> nextToken) {
+        return new PrefetchingPaginator<>(fetch, nextToken, null);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !started || prefetched != null || pendingToken != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final T page;
+        if (prefetched != null) {
+            final Future<T> pending = prefetched;
+            prefetched = null;
+            page = await(pending);
+        } else {
+            final String pageToken = pendingToken;
+            started = true;
+            pendingToken = null;
+            page = fetch.apply(pageToken);
+        }
+        final String token = nextToken.apply(page);
+        if (token != null && !token.isEmpty()) {
+            if (executor == null) {
+                pendingToken = token;
+            } else {
+                prefetched = executor.submit(() -> fetch.apply(token));
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Cancels the prefetch of a page the caller will not read.
+     */
+    @Override
+    public void close() {
+        if (prefetched != null) {
+            prefetched.cancel(true);
+            prefetched = null;
+        }
+        pendingToken = null;
+    }
+
+    private static <T> T await(final Future<T> pending) {
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            pending.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(INTERRUPTED, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static class PrefetchThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "page-prefetch-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
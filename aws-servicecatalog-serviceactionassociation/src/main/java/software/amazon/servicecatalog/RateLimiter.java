@@ -0,0 +1,56 @@
+package software.amazon.servicecatalog;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Spaces calls evenly at a fixed rate across all threads sharing the limiter.
+ *
+ * Each {@link #acquire()} reserves the next free slot and sleeps until it, so bursts are smoothed out instead of being
+ * sent at once and throttled by the service. A rate of 0 or less disables the limit.
+ */
+public class RateLimiter {
+    private final long intervalNanos;
+    private final LongSupplier nanoClock;
+    private final LongConsumer sleeper;
+    private long nextFreeNanos;
+
+    public RateLimiter(final double permitsPerSecond) {
+        this(permitsPerSecond, System::nanoTime, RateLimiter::sleepNanos);
+    }
+
+    RateLimiter(final double permitsPerSecond, final LongSupplier nanoClock, final LongConsumer sleeper) {
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0L;
+        this.nanoClock = nanoClock;
+        this.sleeper = sleeper;
+        this.nextFreeNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Blocks until the caller may make its call. An interrupted caller returns early with its interrupt flag set.
+     */
+    public void acquire() {
+        if (intervalNanos == 0L) {
+            return;
+        }
+        final long waitNanos;
+        synchronized (this) {
+            final long now = nanoClock.getAsLong();
+            final long slot = Math.max(nextFreeNanos, now);
+            nextFreeNanos = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0L) {
+            sleeper.accept(waitNanos);
+        }
+    }
+
+    private static void sleepNanos(final long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
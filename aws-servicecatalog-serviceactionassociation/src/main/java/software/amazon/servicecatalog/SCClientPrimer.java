@@ -0,0 +1,88 @@
+package software.amazon.servicecatalog;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogClient;
+import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+
+/**
+ * Shared plumbing for the cold-start priming phase of a handler module.
+ *
+ * Priming runs once per container and must never fail the container: every step is executed quietly and any error
+ * only means that the corresponding classes are loaded by the first real request instead.
+ */
+public class SCClientPrimer {
+    private static final String PRIMING_CREDENTIAL = "priming";
+    private static final String RESOURCE_NOT_FOUND_BODY = "{\"__type\":\"ResourceNotFoundException\",\"Message\":\"priming\"}";
+    private static final long PRIMING_REMAINING_TIME_MILLIS = 60_000L;
+
+    private static final AtomicBoolean PRIMED = new AtomicBoolean(false);
+
+    /**
+     * Runs the module's priming steps the first time it is called in this container; later calls do nothing.
+     */
+    public static void primeOnce(final Runnable priming) {
+        if (!PRIMED.compareAndSet(false, true)) {
+            return;
+        }
+        runQuietly(() -> {
+            // Loads the wrapper's shared Apache client and the configured transport with their TLS socket factories.
+            LambdaWrapper.HTTP_CLIENT.clientName();
+            HttpTransport.configured().httpClient().clientName();
+        });
+        runQuietly(SCClientProvider::getClient);
+        runQuietly(priming);
+    }
+
+    public static boolean isPrimed() {
+        return PRIMED.get();
+    }
+
+    public static void runQuietly(final Runnable step) {
+        try {
+            step.run();
+        } catch (final RuntimeException | LinkageError e) {
+            // Priming is best effort.
+        }
+    }
+
+    /**
+     * Client whose every call succeeds with an empty JSON response, without any network access.
+     */
+    public static ServiceCatalogClient buildOfflineClient() {
+        return buildOfflineClient(new OfflineHttpClient());
+    }
+
+    /**
+     * Client whose every call fails with a modeled ResourceNotFoundException, to load the error unmarshalling path.
+     */
+    public static ServiceCatalogClient buildOfflineErrorClient() {
+        return buildOfflineClient(new OfflineHttpClient(400, RESOURCE_NOT_FOUND_BODY));
+    }
+
+    public static ServiceCatalogClient buildOfflineClient(final SdkHttpClient httpClient) {
+        return ServiceCatalogClient
+                .builder()
+                .httpClient(httpClient)
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(PRIMING_CREDENTIAL, PRIMING_CREDENTIAL)))
+                .build();
+    }
+
+    /**
+     * Proxy with placeholder credentials, so priming goes through the same credential injection as real requests.
+     */
+    public static AmazonWebServicesClientProxy buildOfflineProxy() {
+        return new AmazonWebServicesClientProxy(
+                new LoggerProxy(),
+                new Credentials(PRIMING_CREDENTIAL, PRIMING_CREDENTIAL, PRIMING_CREDENTIAL),
+                () -> PRIMING_REMAINING_TIME_MILLIS);
+    }
+}
@@ -0,0 +1,91 @@
+package software.amazon.servicecatalog;
+
+import java.util.concurrent.TimeUnit;
+
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogAsyncClient;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogClient;
+
+/**
+ * Container-scoped holder for the Service Catalog clients.
+ *
+ * Each client is built lazily on first use and then shared by every handler and controller served by this container,
+ * including stabilization callbacks. Credentials are injected per request by the proxy, so sharing the clients across
+ * invocations is safe.
+ *
+ * Requests that name a region, e.g. StackSets deployments fanning out to many regions from one warm container, get a
+ * client for that region from a bounded per-region pool instead. The region also selects the partition endpoint.
+ */
+public class SCClientProvider {
+    private static final Object LOCK = new Object();
+    private static final int MAX_POOLED_REGIONS = 8;
+    private static final long REGION_CLIENT_IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(15);
+
+    private static final SCClientPool<ServiceCatalogClient> REGION_CLIENTS = new SCClientPool<>(
+            MAX_POOLED_REGIONS, REGION_CLIENT_IDLE_TIMEOUT_MILLIS, SCClientBuilder::buildClient);
+    private static final SCClientPool<ServiceCatalogAsyncClient> REGION_ASYNC_CLIENTS = new SCClientPool<>(
+            MAX_POOLED_REGIONS, REGION_CLIENT_IDLE_TIMEOUT_MILLIS, SCClientBuilder::buildAsyncClient);
+
+    private static volatile ServiceCatalogClient client;
+    private static volatile ServiceCatalogAsyncClient asyncClient;
+
+    public static ServiceCatalogClient getClient() {
+        ServiceCatalogClient current = client;
+        if (current == null) {
+            synchronized (LOCK) {
+                current = client;
+                if (current == null) {
+                    current = SCClientBuilder.buildClient();
+                    client = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Returns the pooled client for the region, or the default client when no region is given.
+     */
+    public static ServiceCatalogClient getClient(final String region) {
+        return region == null ? getClient() : REGION_CLIENTS.get(region);
+    }
+
+    public static ServiceCatalogAsyncClient getAsyncClient() {
+        ServiceCatalogAsyncClient current = asyncClient;
+        if (current == null) {
+            synchronized (LOCK) {
+                current = asyncClient;
+                if (current == null) {
+                    current = SCClientBuilder.buildAsyncClient();
+                    asyncClient = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Returns the pooled async client for the region, or the default async client when no region is given.
+     */
+    public static ServiceCatalogAsyncClient getAsyncClient(final String region) {
+        return region == null ? getAsyncClient() : REGION_ASYNC_CLIENTS.get(region);
+    }
+
+    /**
+     * Closes the shared and pooled clients, if they were built. The next call to {@link #getClient()} or
+     * {@link #getAsyncClient()} builds a new one.
+     */
+    public static void close() {
+        REGION_CLIENTS.close();
+        REGION_ASYNC_CLIENTS.close();
+        synchronized (LOCK) {
+            if (client != null) {
+                client.close();
+                client = null;
+            }
+            if (asyncClient != null) {
+                asyncClient.close();
+                asyncClient = null;
+            }
+        }
+    }
+}
@@ -5,23 +5,45 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogAsyncClient;
 import software.amazon.awssdk.services.servicecatalog.ServiceCatalogClient;
 import software.amazon.awssdk.services.servicecatalog.model.AssociateServiceActionWithProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.AssociateServiceActionWithProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.BatchAssociateServiceActionWithProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactRequest;
 import software.amazon.awssdk.services.servicecatalog.model.DisassociateServiceActionFromProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.DisassociateServiceActionFromProvisioningArtifactResponse;
 import software.amazon.awssdk.services.servicecatalog.model.DuplicateResourceException;
+import software.amazon.awssdk.services.servicecatalog.model.FailedServiceActionAssociation;
 import software.amazon.awssdk.services.servicecatalog.model.LimitExceededException;
+import software.amazon.awssdk.services.servicecatalog.model.ListProvisioningArtifactsForServiceActionRequest;
+import software.amazon.awssdk.services.servicecatalog.model.ListProvisioningArtifactsForServiceActionResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ListProvisioningArtifactsRequest;
 import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactRequest;
 import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ProvisioningArtifactDetail;
+import software.amazon.awssdk.services.servicecatalog.model.ProvisioningArtifactView;
 import software.amazon.awssdk.services.servicecatalog.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.servicecatalog.model.SearchProductsAsAdminRequest;
+import software.amazon.awssdk.services.servicecatalog.model.SearchProductsAsAdminResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociation;
 import software.amazon.awssdk.services.servicecatalog.model.ServiceActionSummary;
-import software.amazon.awssdk.services.servicecatalog.paginators.ListServiceActionsForProvisioningArtifactIterable;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.servicecatalog.PrefetchingPaginator;
+import software.amazon.servicecatalog.RequestScope;
+import software.amazon.servicecatalog.SingleFlight;
 import software.amazon.servicecatalog.serviceactionassociation.model.UpdateAssociationStatus;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Builder(toBuilder = true)
@@ -37,16 +59,54 @@ public class ActionAssociationController {
     private static final String SERVICE_ACTION_ASSOCIATED_TO_PA = "Service action: %s associated to provisioningArtifact: %s of product: %s";
     private static final String SERVICE_ACTION_NOT_ASSOCIATED_TO_PA = "Service action: %s not associated to provisioningArtifact: %s of product: %s";
     private static final String LIST_ALL_SERVICE_ACTION_LOG = "List all service actions associated to provisioningArtifact: %s of product: %s";
+    private static final String SNAPSHOT_HIT_LOG = "Using association snapshot of provisioningArtifact: %s of product: %s";
+    private static final String MISSING_PROVISIONING_ARTIFACT_LOG = "ProvisioningArtifact: %s of product: %s was recently not found";
+    private static final String PERSISTED_SNAPSHOT_HIT_LOG = "Using persisted association snapshot of provisioningArtifact: %s of product: %s";
+    private static final String PERSISTED_SNAPSHOT_NOT_REMOVED_LOG = "Could not drop persisted association snapshot of provisioningArtifact: %s of product: %s, it may be read until it expires";
+    private static final String SEARCH_PRODUCTS_LOG = "Search products as admin, page: %s";
+    private static final String LIST_PROVISIONING_ARTIFACTS_LOG = "List provisioningArtifacts of product: %s";
+    private static final String LIST_PROVISIONING_ARTIFACTS_FOR_SERVICE_ACTION_LOG = "List provisioningArtifacts associated to serviceAction: %s";
+    private static final String SERVICE_ACTION_NOT_FOUND_LOG = "Service action: %s not found";
+    private static final String BATCH_ASSOCIATE_LOG = "Batch associate serviceAction: %s with %d provisioningArtifacts of product: %s";
+    private static final String BATCH_DISASSOCIATE_LOG = "Batch disassociate serviceAction: %s from %d provisioningArtifacts of product: %s";
+    private static final String PAGED_LISTING = "paged";
+    private static final String FULL_LISTING = "full";
+
+    /**
+     * Complete listings in flight in this container, shared by concurrent identical requests.
+     */
+    private static final SingleFlight<String, List<String>> LISTINGS = new SingleFlight<>();
 
     private final Logger logger;
     private final ServiceCatalogClient scClient;
+    private final ServiceCatalogAsyncClient scAsyncClient;
     private final AmazonWebServicesClientProxy proxy;
+    /**
+     * Optional snapshot cache. Snapshots and shared listings are keyed by the request scope, see {@link RequestScope}.
+     */
+    private final AssociationSnapshotCache snapshotCache;
+    private final String requestScope;
+    /**
+     * Optional negative cache of products and provisioning artifacts recently reported as not found.
+     */
+    private final MissingProvisioningArtifactCache missingArtifactCache;
+    /**
+     * Optional snapshots persisted for the container. They are read only by Read and List, and our own associate and
+     * disassociate calls drop the snapshot they invalidate.
+     */
+    private final PersistentSnapshotStore persistentSnapshots;
+    /**
+     * Optional page counts of past lookups. When set, an association not answered from a snapshot is looked up from
+     * whichever side, provisioning artifact or service action, is expected to take fewer pages.
+     */
+    private final AssociationLookupStats lookupStats;
 
     private ListServiceActionsForProvisioningArtifactResponse listServiceActions(final String productId, final String provisioningArtifactId, final String pageToken) {
         ListServiceActionsForProvisioningArtifactRequest request = ListServiceActionsForProvisioningArtifactRequest.builder()
                 .productId(productId)
                 .provisioningArtifactId(provisioningArtifactId)
                 .pageToken(pageToken)
+                .pageSize(PrefetchingPaginator.MAX_PAGE_SIZE)
                 .build();
 
         logger.log(String.format(LIST_SERVICE_ACTION_LOG, provisioningArtifactId, productId));
@@ -54,18 +114,210 @@ public class ActionAssociationController {
     }
 
     public boolean isServiceActionAssociatedToPA(final String productId, final String provisioningArtifactId, final String serviceActionId) {
-        String pageToken = null;
-        do {
-            final ListServiceActionsForProvisioningArtifactResponse response = listServiceActions(productId, provisioningArtifactId, pageToken);
-            final List<ServiceActionSummary> serviceActions = response.serviceActionSummaries();
-            pageToken = response.nextPageToken();
-            if (serviceActions.stream().anyMatch(serviceActionSummary -> serviceActionId.equals(serviceActionSummary.id()))) {
-                logger.log(String.format(SERVICE_ACTION_ASSOCIATED_TO_PA, serviceActionId, provisioningArtifactId, productId));
-                return true;
+        return isServiceActionAssociatedToPA(productId, provisioningArtifactId, serviceActionId, null);
+    }
+
+    /**
+     * Checks whether the service action is associated, answering from the snapshot cache when it has a fresh snapshot
+     * that agrees with {@code expected}. Stabilization passes the outcome it waits for, so a snapshot still missing the
+     * change always falls through to a real lookup, which stops at the page that lists the service action and updates
+     * the snapshot. A null {@code expected} accepts either answer and lists every page, so the listing can be shared
+     * and cached whole.
+     */
+    public boolean isServiceActionAssociatedToPA(final String productId, final String provisioningArtifactId, final String serviceActionId, final Boolean expected) {
+        return failFastWhenMissing(productId, provisioningArtifactId,
+                () -> checkServiceActionAssociation(productId, provisioningArtifactId, serviceActionId, expected));
+    }
+
+    private boolean checkServiceActionAssociation(final String productId, final String provisioningArtifactId, final String serviceActionId, final Boolean expected) {
+        if (snapshotCache != null) {
+            final Boolean cached = snapshotCache.isAssociated(requestScope, productId, provisioningArtifactId, serviceActionId, expected);
+            if (cached != null) {
+                logger.log(String.format(SNAPSHOT_HIT_LOG, provisioningArtifactId, productId));
+                return logAssociation(productId, provisioningArtifactId, serviceActionId, cached);
+            }
+        }
+        // Persisted snapshots may be stale, so they never answer a stabilization check.
+        if (expected == null) {
+            final List<String> persisted = getPersistedSnapshot(productId, provisioningArtifactId);
+            if (persisted != null) {
+                return logAssociation(productId, provisioningArtifactId, serviceActionId, persisted.contains(serviceActionId));
+            }
+        }
+        if (lookupStats != null && lookupStats.prefersServiceActionSide(requestScope, productId, provisioningArtifactId, serviceActionId)) {
+            return findProvisioningArtifact(productId, provisioningArtifactId, serviceActionId, expected);
+        }
+        if (snapshotCache == null) {
+            return findServiceAction(productId, provisioningArtifactId, serviceActionId);
+        }
+        if (expected != null) {
+            final boolean associated = findServiceAction(productId, provisioningArtifactId, serviceActionId);
+            snapshotCache.recordLookup(requestScope, productId, provisioningArtifactId, serviceActionId, associated);
+            return associated;
+        }
+        final List<String> serviceActionIds = shareListing(PAGED_LISTING, productId, provisioningArtifactId,
+                () -> collectServiceActionIds(productId, provisioningArtifactId));
+        return logAssociation(productId, provisioningArtifactId, serviceActionId, serviceActionIds.contains(serviceActionId));
+    }
+
+    private List<String> getPersistedSnapshot(final String productId, final String provisioningArtifactId) {
+        if (persistentSnapshots == null) {
+            return null;
+        }
+        final List<String> persisted = persistentSnapshots.get(requestScope, productId, provisioningArtifactId);
+        if (persisted != null) {
+            logger.log(String.format(PERSISTED_SNAPSHOT_HIT_LOG, provisioningArtifactId, productId));
+        }
+        return persisted;
+    }
+
+    private void persistSnapshot(final String productId, final String provisioningArtifactId, final List<String> serviceActionIds) {
+        if (persistentSnapshots != null) {
+            persistentSnapshots.put(requestScope, productId, provisioningArtifactId, serviceActionIds);
+        }
+    }
+
+    /**
+     * Runs a complete listing, sharing it with identical listings already in flight for the same request scope.
+     * Without a request scope the listing always runs on its own.
+     */
+    private List<String> shareListing(final String listing, final String productId, final String provisioningArtifactId, final Supplier<List<String>> call) {
+        if (requestScope == null) {
+            return call.get();
+        }
+        return LISTINGS.execute(String.join("/", listing, requestScope, productId, provisioningArtifactId), call);
+    }
+
+    /**
+     * Lists every page of the service actions associated to the provisioning artifact and records the listing as the
+     * provisioning artifact's snapshot.
+     */
+    private List<String> collectServiceActionIds(final String productId, final String provisioningArtifactId) {
+        final List<String> serviceActionIds = new ArrayList<>();
+        int pageCount = 0;
+        try (PrefetchingPaginator<ListServiceActionsForProvisioningArtifactResponse> pages = new PrefetchingPaginator<>(
+                pageToken -> listServiceActions(productId, provisioningArtifactId, pageToken),
+                ListServiceActionsForProvisioningArtifactResponse::nextPageToken)) {
+            while (pages.hasNext()) {
+                pageCount++;
+                pages.next().serviceActionSummaries().forEach(serviceActionSummary -> serviceActionIds.add(serviceActionSummary.id()));
+            }
+        }
+        recordProvisioningArtifactPages(productId, provisioningArtifactId, pageCount, true);
+        if (snapshotCache != null) {
+            snapshotCache.put(requestScope, productId, provisioningArtifactId, serviceActionIds);
+        }
+        persistSnapshot(productId, provisioningArtifactId, serviceActionIds);
+        return Collections.unmodifiableList(serviceActionIds);
+    }
+
+    private boolean findServiceAction(final String productId, final String provisioningArtifactId, final String serviceActionId) {
+        int pageCount = 0;
+        try (PrefetchingPaginator<ListServiceActionsForProvisioningArtifactResponse> pages = PrefetchingPaginator.onDemand(
+                pageToken -> listServiceActions(productId, provisioningArtifactId, pageToken),
+                ListServiceActionsForProvisioningArtifactResponse::nextPageToken)) {
+            while (pages.hasNext()) {
+                final List<ServiceActionSummary> serviceActions = pages.next().serviceActionSummaries();
+                pageCount++;
+                if (serviceActions.stream().anyMatch(serviceActionSummary -> serviceActionId.equals(serviceActionSummary.id()))) {
+                    recordProvisioningArtifactPages(productId, provisioningArtifactId, pageCount, !pages.hasNext());
+                    return logAssociation(productId, provisioningArtifactId, serviceActionId, true);
+                }
+            }
+        }
+        recordProvisioningArtifactPages(productId, provisioningArtifactId, pageCount, true);
+        return logAssociation(productId, provisioningArtifactId, serviceActionId, false);
+    }
+
+    /**
+     * Looks the association up from the service action side, stopping at the page that lists the provisioning
+     * artifact. A service action that does not exist counts as not associated only when {@code expected} is false, so a
+     * delete stabilizes; otherwise it fails with CfnNotFoundException instead of polling until it times out. The not
+     * found result is not remembered for the provisioning artifact either way.
+     */
+    private boolean findProvisioningArtifact(final String productId, final String provisioningArtifactId, final String serviceActionId,
+                                             final Boolean expected) {
+        int pageCount = 0;
+        try (PrefetchingPaginator<ListProvisioningArtifactsForServiceActionResponse> pages = PrefetchingPaginator.onDemand(
+                pageToken -> listProvisioningArtifactsForServiceAction(serviceActionId, pageToken),
+                ListProvisioningArtifactsForServiceActionResponse::nextPageToken)) {
+            while (pages.hasNext()) {
+                final ListProvisioningArtifactsForServiceActionResponse response = pages.next();
+                pageCount++;
+                if (response.provisioningArtifactViews().stream().anyMatch(view -> isProvisioningArtifact(view, productId, provisioningArtifactId))) {
+                    lookupStats.recordServiceActionPages(requestScope, serviceActionId, pageCount, !pages.hasNext());
+                    return logAssociation(productId, provisioningArtifactId, serviceActionId, true);
+                }
+            }
+        } catch (ResourceNotFoundException e) {
+            logger.log(String.format(SERVICE_ACTION_NOT_FOUND_LOG, serviceActionId));
+            if (Boolean.FALSE.equals(expected)) {
+                return logAssociation(productId, provisioningArtifactId, serviceActionId, false);
             }
-        } while(!StringUtils.isNullOrEmpty(pageToken));
-        logger.log(String.format(SERVICE_ACTION_NOT_ASSOCIATED_TO_PA, serviceActionId, provisioningArtifactId, productId));
-        return false;
+            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, serviceActionId, e);
+        }
+        lookupStats.recordServiceActionPages(requestScope, serviceActionId, pageCount, true);
+        return logAssociation(productId, provisioningArtifactId, serviceActionId, false);
+    }
+
+    private ListProvisioningArtifactsForServiceActionResponse listProvisioningArtifactsForServiceAction(final String serviceActionId, final String pageToken) {
+        final ListProvisioningArtifactsForServiceActionRequest request = ListProvisioningArtifactsForServiceActionRequest.builder()
+                .serviceActionId(serviceActionId)
+                .pageToken(pageToken)
+                .pageSize(PrefetchingPaginator.MAX_PAGE_SIZE)
+                .build();
+        logger.log(String.format(LIST_PROVISIONING_ARTIFACTS_FOR_SERVICE_ACTION_LOG, serviceActionId));
+        return proxy.injectCredentialsAndInvokeV2(request, scClient::listProvisioningArtifactsForServiceAction);
+    }
+
+    private static boolean isProvisioningArtifact(final ProvisioningArtifactView view, final String productId, final String provisioningArtifactId) {
+        return view.productViewSummary() != null && productId.equals(view.productViewSummary().productId())
+                && view.provisioningArtifact() != null && provisioningArtifactId.equals(view.provisioningArtifact().id());
+    }
+
+    private void recordProvisioningArtifactPages(final String productId, final String provisioningArtifactId, final int pageCount, final boolean complete) {
+        if (lookupStats != null) {
+            lookupStats.recordProvisioningArtifactPages(requestScope, productId, provisioningArtifactId, pageCount, complete);
+        }
+    }
+
+    /**
+     * Fails with ResourceNotFoundException without calling the service when the product or provisioning artifact was
+     * recently reported as not found, and remembers a new not found result of the call.
+     */
+    private <T> T failFastWhenMissing(final String productId, final String provisioningArtifactId, final Supplier<T> call) {
+        if (missingArtifactCache == null) {
+            return call.get();
+        }
+        final String notFoundMessage = missingArtifactCache.getNotFoundMessage(requestScope, productId, provisioningArtifactId);
+        if (notFoundMessage != null) {
+            logger.log(String.format(MISSING_PROVISIONING_ARTIFACT_LOG, provisioningArtifactId, productId));
+            throw ResourceNotFoundException.builder().message(notFoundMessage).build();
+        }
+        try {
+            return call.get();
+        } catch (ResourceNotFoundException e) {
+            missingArtifactCache.recordMissing(requestScope, productId, provisioningArtifactId, e);
+            throw e;
+        }
+    }
+
+    private boolean logAssociation(final String productId, final String provisioningArtifactId, final String serviceActionId, final boolean associated) {
+        final String message = associated ? SERVICE_ACTION_ASSOCIATED_TO_PA : SERVICE_ACTION_NOT_ASSOCIATED_TO_PA;
+        logger.log(String.format(message, serviceActionId, provisioningArtifactId, productId));
+        return associated;
+    }
+
+    private void recordChange(final String productId, final String provisioningArtifactId, final String serviceActionId, final boolean associated) {
+        if (missingArtifactCache != null) {
+            missingArtifactCache.recordFound(requestScope, productId, provisioningArtifactId);
+        }
+        if (persistentSnapshots != null && !persistentSnapshots.remove(requestScope, productId, provisioningArtifactId)) {
+            logger.log(String.format(PERSISTED_SNAPSHOT_NOT_REMOVED_LOG, provisioningArtifactId, productId));
+        }
+        if (snapshotCache != null) {
+            snapshotCache.recordChange(requestScope, productId, provisioningArtifactId, serviceActionId, associated);
+        }
     }
 
     public void associateServiceAction(final String productId, final String provisioningArtifactId, final String serviceActionId) {
@@ -77,6 +329,7 @@ public class ActionAssociationController {
                 .build();
         logger.log(String.format(ASSOCIATE_SERVICE_ACTION_LOG, serviceActionId, provisioningArtifactId, productId));
         proxy.injectCredentialsAndInvokeV2(request, scClient::associateServiceActionWithProvisioningArtifact);
+        recordChange(productId, provisioningArtifactId, serviceActionId, true);
     }
 
     public void disassociateServiceAction(final String productId, final String provisioningArtifactId, final String serviceActionId) {
@@ -88,20 +341,227 @@ public class ActionAssociationController {
                 .build();
         logger.log(String.format(DISASSOCIATE_SERVICE_ACTION_LOG, serviceActionId, provisioningArtifactId, productId));
         proxy.injectCredentialsAndInvokeV2(request, scClient::disassociateServiceActionFromProvisioningArtifact);
+        recordChange(productId, provisioningArtifactId, serviceActionId, false);
+    }
+
+    /**
+     * Associates the service action with each of the provisioning artifacts of the product in a single batch call, and
+     * returns the items the service could not associate. The caller keeps each call within the batch limit.
+     */
+    public List<FailedServiceActionAssociation> batchAssociateServiceAction(final String productId, final List<String> provisioningArtifactIds, final String serviceActionId) {
+        final BatchAssociateServiceActionWithProvisioningArtifactRequest request = BatchAssociateServiceActionWithProvisioningArtifactRequest
+                .builder()
+                .serviceActionAssociations(toServiceActionAssociations(productId, provisioningArtifactIds, serviceActionId))
+                .build();
+        logger.log(String.format(BATCH_ASSOCIATE_LOG, serviceActionId, provisioningArtifactIds.size(), productId));
+        final List<FailedServiceActionAssociation> failures = proxy
+                .injectCredentialsAndInvokeV2(request, scClient::batchAssociateServiceActionWithProvisioningArtifact)
+                .failedServiceActionAssociations();
+        recordBatchChanges(productId, provisioningArtifactIds, serviceActionId, failures, true);
+        return failures;
+    }
+
+    /**
+     * Disassociates the service action from each of the provisioning artifacts of the product in a single batch call,
+     * and returns the items the service could not disassociate. The caller keeps each call within the batch limit.
+     */
+    public List<FailedServiceActionAssociation> batchDisassociateServiceAction(final String productId, final List<String> provisioningArtifactIds, final String serviceActionId) {
+        final BatchDisassociateServiceActionFromProvisioningArtifactRequest request = BatchDisassociateServiceActionFromProvisioningArtifactRequest
+                .builder()
+                .serviceActionAssociations(toServiceActionAssociations(productId, provisioningArtifactIds, serviceActionId))
+                .build();
+        logger.log(String.format(BATCH_DISASSOCIATE_LOG, serviceActionId, provisioningArtifactIds.size(), productId));
+        final List<FailedServiceActionAssociation> failures = proxy
+                .injectCredentialsAndInvokeV2(request, scClient::batchDisassociateServiceActionFromProvisioningArtifact)
+                .failedServiceActionAssociations();
+        recordBatchChanges(productId, provisioningArtifactIds, serviceActionId, failures, false);
+        return failures;
+    }
+
+    private static List<ServiceActionAssociation> toServiceActionAssociations(final String productId, final List<String> provisioningArtifactIds, final String serviceActionId) {
+        return provisioningArtifactIds.stream()
+                .map(provisioningArtifactId -> ServiceActionAssociation.builder()
+                        .productId(productId)
+                        .provisioningArtifactId(provisioningArtifactId)
+                        .serviceActionId(serviceActionId)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private void recordBatchChanges(final String productId, final List<String> provisioningArtifactIds, final String serviceActionId,
+                                    final List<FailedServiceActionAssociation> failures, final boolean associated) {
+        final Set<String> failed = failures.stream()
+                .map(FailedServiceActionAssociation::provisioningArtifactId)
+                .collect(Collectors.toSet());
+        provisioningArtifactIds.stream()
+                .filter(provisioningArtifactId -> !failed.contains(provisioningArtifactId))
+                .forEach(provisioningArtifactId -> recordChange(productId, provisioningArtifactId, serviceActionId, associated));
+    }
+
+    /**
+     * Lists every provisioning artifact of the product that the service action is associated to, from the service
+     * action side, in one listing.
+     */
+    public List<String> listProvisioningArtifactIdsForServiceAction(final String productId, final String serviceActionId) {
+        final List<String> provisioningArtifactIds = new ArrayList<>();
+        int pageCount = 0;
+        try (PrefetchingPaginator<ListProvisioningArtifactsForServiceActionResponse> pages = new PrefetchingPaginator<>(
+                pageToken -> listProvisioningArtifactsForServiceAction(serviceActionId, pageToken),
+                ListProvisioningArtifactsForServiceActionResponse::nextPageToken)) {
+            while (pages.hasNext()) {
+                pageCount++;
+                pages.next().provisioningArtifactViews().stream()
+                        .filter(view -> view.productViewSummary() != null && productId.equals(view.productViewSummary().productId()))
+                        .filter(view -> view.provisioningArtifact() != null)
+                        .forEach(view -> provisioningArtifactIds.add(view.provisioningArtifact().id()));
+            }
+        }
+        if (lookupStats != null) {
+            lookupStats.recordServiceActionPages(requestScope, serviceActionId, pageCount, true);
+        }
+        return provisioningArtifactIds;
+    }
+
+    /**
+     * Lists a single page of the service actions associated to the provisioning artifact, starting with the first page
+     * when the token is null. Pages are not cached, only complete listings make snapshots.
+     */
+    public ListServiceActionsForProvisioningArtifactResponse listServiceActionsPage(final String productId, final String provisioningArtifactId, final String pageToken) {
+        return failFastWhenMissing(productId, provisioningArtifactId,
+                () -> listServiceActions(productId, provisioningArtifactId, pageToken));
+    }
+
+    /**
+     * Lists a single page of the products administered in this account, starting with the first page when the token
+     * is null.
+     */
+    public SearchProductsAsAdminResponse searchProductsAsAdminPage(final String pageToken) {
+        final SearchProductsAsAdminRequest request = SearchProductsAsAdminRequest.builder()
+                .pageToken(pageToken)
+                .build();
+        logger.log(String.format(SEARCH_PRODUCTS_LOG, pageToken));
+        return proxy.injectCredentialsAndInvokeV2(request, scClient::searchProductsAsAdmin);
+    }
+
+    public List<String> listProvisioningArtifactIds(final String productId) {
+        final ListProvisioningArtifactsRequest request = ListProvisioningArtifactsRequest.builder()
+                .productId(productId)
+                .build();
+        logger.log(String.format(LIST_PROVISIONING_ARTIFACTS_LOG, productId));
+        return proxy.injectCredentialsAndInvokeV2(request, scClient::listProvisioningArtifacts)
+                .provisioningArtifactDetails()
+                .stream()
+                .map(ProvisioningArtifactDetail::id)
+                .collect(Collectors.toList());
     }
 
     public List<String> listAllServiceActionIdsForProvisioningArtifact(final String productId, final String provisioningArtifactId) {
+        return failFastWhenMissing(productId, provisioningArtifactId,
+                () -> listServiceActionIdsForProvisioningArtifact(productId, provisioningArtifactId));
+    }
+
+    private List<String> listServiceActionIdsForProvisioningArtifact(final String productId, final String provisioningArtifactId) {
+        if (snapshotCache != null) {
+            final List<String> cached = snapshotCache.getServiceActionIds(requestScope, productId, provisioningArtifactId);
+            if (cached != null) {
+                logger.log(String.format(SNAPSHOT_HIT_LOG, provisioningArtifactId, productId));
+                return cached;
+            }
+        }
+        final List<String> persisted = getPersistedSnapshot(productId, provisioningArtifactId);
+        if (persisted != null) {
+            return persisted;
+        }
+        return shareListing(FULL_LISTING, productId, provisioningArtifactId, () -> {
+            logger.log(String.format(LIST_ALL_SERVICE_ACTION_LOG, provisioningArtifactId, productId));
+            return collectServiceActionIds(productId, provisioningArtifactId);
+        });
+    }
+
+    /**
+     * Non-blocking variant of a single ListServiceActionsForProvisioningArtifact page, issued on the async client.
+     * SDK errors complete the future exceptionally.
+     */
+    public CompletableFuture<ListServiceActionsForProvisioningArtifactResponse> listServiceActionsAsync(final String productId, final String provisioningArtifactId, final String pageToken) {
         final ListServiceActionsForProvisioningArtifactRequest request = ListServiceActionsForProvisioningArtifactRequest.builder()
                 .productId(productId)
                 .provisioningArtifactId(provisioningArtifactId)
-                .pageToken(null)
+                .pageToken(pageToken)
+                .pageSize(PrefetchingPaginator.MAX_PAGE_SIZE)
                 .build();
+
+        logger.log(String.format(LIST_SERVICE_ACTION_LOG, provisioningArtifactId, productId));
+        return proxy.injectCredentialsAndInvokeV2Async(request, scAsyncClient::listServiceActionsForProvisioningArtifact);
+    }
+
+    /**
+     * Non-blocking variant of {@link #isServiceActionAssociatedToPA(String, String, String)}. Stops requesting pages
+     * as soon as the service action is found.
+     */
+    public CompletableFuture<Boolean> isServiceActionAssociatedToPAAsync(final String productId, final String provisioningArtifactId, final String serviceActionId) {
+        return findServiceActionAsync(productId, provisioningArtifactId, serviceActionId, null);
+    }
+
+    private CompletableFuture<Boolean> findServiceActionAsync(final String productId, final String provisioningArtifactId, final String serviceActionId, final String pageToken) {
+        return listServiceActionsAsync(productId, provisioningArtifactId, pageToken).thenCompose(response -> {
+            if (response.serviceActionSummaries().stream().anyMatch(serviceActionSummary -> serviceActionId.equals(serviceActionSummary.id()))) {
+                logger.log(String.format(SERVICE_ACTION_ASSOCIATED_TO_PA, serviceActionId, provisioningArtifactId, productId));
+                return CompletableFuture.completedFuture(true);
+            }
+            if (StringUtils.isNullOrEmpty(response.nextPageToken())) {
+                logger.log(String.format(SERVICE_ACTION_NOT_ASSOCIATED_TO_PA, serviceActionId, provisioningArtifactId, productId));
+                return CompletableFuture.completedFuture(false);
+            }
+            return findServiceActionAsync(productId, provisioningArtifactId, serviceActionId, response.nextPageToken());
+        });
+    }
+
+    public CompletableFuture<AssociateServiceActionWithProvisioningArtifactResponse> associateServiceActionAsync(final String productId, final String provisioningArtifactId, final String serviceActionId) {
+        final AssociateServiceActionWithProvisioningArtifactRequest request = AssociateServiceActionWithProvisioningArtifactRequest
+                .builder()
+                .productId(productId)
+                .provisioningArtifactId(provisioningArtifactId)
+                .serviceActionId(serviceActionId)
+                .build();
+        logger.log(String.format(ASSOCIATE_SERVICE_ACTION_LOG, serviceActionId, provisioningArtifactId, productId));
+        return proxy.injectCredentialsAndInvokeV2Async(request, scAsyncClient::associateServiceActionWithProvisioningArtifact)
+                .thenApply(response -> {
+                    recordChange(productId, provisioningArtifactId, serviceActionId, true);
+                    return response;
+                });
+    }
+
+    public CompletableFuture<DisassociateServiceActionFromProvisioningArtifactResponse> disassociateServiceActionAsync(final String productId, final String provisioningArtifactId, final String serviceActionId) {
+        final DisassociateServiceActionFromProvisioningArtifactRequest request = DisassociateServiceActionFromProvisioningArtifactRequest
+                .builder()
+                .productId(productId)
+                .provisioningArtifactId(provisioningArtifactId)
+                .serviceActionId(serviceActionId)
+                .build();
+        logger.log(String.format(DISASSOCIATE_SERVICE_ACTION_LOG, serviceActionId, provisioningArtifactId, productId));
+        return proxy.injectCredentialsAndInvokeV2Async(request, scAsyncClient::disassociateServiceActionFromProvisioningArtifact)
+                .thenApply(response -> {
+                    recordChange(productId, provisioningArtifactId, serviceActionId, false);
+                    return response;
+                });
+    }
+
+    /**
+     * Non-blocking variant of {@link #listAllServiceActionIdsForProvisioningArtifact(String, String)}.
+     */
+    public CompletableFuture<List<String>> listAllServiceActionIdsForProvisioningArtifactAsync(final String productId, final String provisioningArtifactId) {
         logger.log(String.format(LIST_ALL_SERVICE_ACTION_LOG, provisioningArtifactId, productId));
-        final ListServiceActionsForProvisioningArtifactIterable responses = proxy.injectCredentialsAndInvokeIterableV2(request, scClient::listServiceActionsForProvisioningArtifactPaginator);
-        return responses.stream()
-                .flatMap(r -> r.serviceActionSummaries().stream())
-                .map(ServiceActionSummary::id)
-                .collect(Collectors.toList());
+        return collectServiceActionIdsAsync(productId, provisioningArtifactId, null, new ArrayList<>());
+    }
+
+    private CompletableFuture<List<String>> collectServiceActionIdsAsync(final String productId, final String provisioningArtifactId, final String pageToken, final List<String> serviceActionIds) {
+        return listServiceActionsAsync(productId, provisioningArtifactId, pageToken).thenCompose(response -> {
+            response.serviceActionSummaries().forEach(serviceActionSummary -> serviceActionIds.add(serviceActionSummary.id()));
+            if (StringUtils.isNullOrEmpty(response.nextPageToken())) {
+                return CompletableFuture.completedFuture(serviceActionIds);
+            }
+            return collectServiceActionIdsAsync(productId, provisioningArtifactId, response.nextPageToken(), serviceActionIds);
+        });
     }
 
     public UpdateAssociationStatus updateServiceActionAssociation(final ResourceModel previousModel, final ResourceModel desiredModel) {
@@ -0,0 +1,181 @@
+package software.amazon.servicecatalog.serviceactionassociation;
+
+import com.amazonaws.util.StringUtils;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ProductViewDetail;
+import software.amazon.awssdk.services.servicecatalog.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.servicecatalog.model.SearchProductsAsAdminResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionSummary;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.servicecatalog.RateLimiter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Enumerates the service action associations of the account, one page of products at a time.
+ *
+ * Each call reads one SearchProductsAsAdmin page on the calling thread, while a bounded worker pool lists the
+ * provisioning artifacts of each of its products and then the associations of each provisioning artifact. Every Service Catalog
+ * call, from any worker, first takes a permit from a shared {@link RateLimiter} so the fan-out stays under the account's
+ * API limits. Models are handed to the sink on the calling thread as soon as the listing of their provisioning artifact
+ * completes. Products and provisioning artifacts deleted during the scan are skipped.
+ */
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AssociationDiscovery {
+
+    /**
+     * Provisioning artifacts listed in parallel.
+     */
+    public static final String PARALLELISM_SETTING = "discoveryParallelism";
+
+    /**
+     * Service Catalog calls per second across all workers, 0 disables the limit.
+     */
+    public static final String REQUESTS_PER_SECOND_SETTING = "discoveryRequestsPerSecond";
+
+    static final int DEFAULT_PARALLELISM = 8;
+    static final int DEFAULT_REQUESTS_PER_SECOND = 10;
+
+    private static final String DISCOVERY_LOG = "Discovering service action associations of products page: %s with %d workers";
+    private static final String PRODUCT_SKIPPED_LOG = "Skipping product: %s, not found";
+    private static final String SKIPPED_LOG = "Skipping provisioningArtifact: %s of product: %s, not found";
+    private static final String INTERRUPTED = "Interrupted while discovering service action associations";
+
+    private final ActionAssociationController controller;
+    private final Logger logger;
+    private final int parallelism;
+    private final RateLimiter rateLimiter;
+
+    /**
+     * Hands the associations of the products on the SearchProductsAsAdmin page of {@code pageToken}, null for the first
+     * page, to the sink and returns the token of the next products page, or null after the last one.
+     */
+    public String discover(final String pageToken, final Consumer<ResourceModel> sink) {
+        logger.log(String.format(DISCOVERY_LOG, pageToken, parallelism));
+        rateLimiter.acquire();
+        final SearchProductsAsAdminResponse page = controller.searchProductsAsAdminPage(pageToken);
+        if (page.productViewDetails().isEmpty()) {
+            return nextToken(page);
+        }
+        final ExecutorService workers = Executors.newFixedThreadPool(
+                Math.min(parallelism, page.productViewDetails().size()), new WorkerThreadFactory());
+        try {
+            final CompletionService<Discovered> completion = new ExecutorCompletionService<>(workers);
+            int pending = 0;
+            for (final ProductViewDetail product : page.productViewDetails()) {
+                final String productId = product.productViewSummary().productId();
+                completion.submit(() -> listProvisioningArtifacts(productId));
+                pending++;
+            }
+
+            while (pending > 0) {
+                final Discovered discovered = take(completion);
+                pending--;
+                for (final String provisioningArtifactId : discovered.provisioningArtifactIds) {
+                    completion.submit(() -> listAssociations(discovered.productId, provisioningArtifactId));
+                    pending++;
+                }
+                discovered.models.forEach(sink);
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        return nextToken(page);
+    }
+
+    private static String nextToken(final SearchProductsAsAdminResponse page) {
+        return StringUtils.isNullOrEmpty(page.nextPageToken()) ? null : page.nextPageToken();
+    }
+
+    private Discovered listProvisioningArtifacts(final String productId) {
+        rateLimiter.acquire();
+        try {
+            return new Discovered(productId, controller.listProvisioningArtifactIds(productId), Collections.<ResourceModel>emptyList());
+        } catch (ResourceNotFoundException e) {
+            logger.log(String.format(PRODUCT_SKIPPED_LOG, productId));
+            return new Discovered(productId, Collections.<String>emptyList(), Collections.<ResourceModel>emptyList());
+        }
+    }
+
+    private Discovered listAssociations(final String productId, final String provisioningArtifactId) {
+        final List<ResourceModel> models = new ArrayList<>();
+        String pageToken = null;
+        try {
+            do {
+                rateLimiter.acquire();
+                final ListServiceActionsForProvisioningArtifactResponse page
+                        = controller.listServiceActionsPage(productId, provisioningArtifactId, pageToken);
+                for (final ServiceActionSummary summary : page.serviceActionSummaries()) {
+                    models.add(ResourceModel.builder()
+                            .productId(productId)
+                            .provisioningArtifactId(provisioningArtifactId)
+                            .serviceActionId(summary.id())
+                            .build());
+                }
+                pageToken = page.nextPageToken();
+            } while (!StringUtils.isNullOrEmpty(pageToken));
+        } catch (ResourceNotFoundException e) {
+            logger.log(String.format(SKIPPED_LOG, provisioningArtifactId, productId));
+            models.clear();
+        }
+        return new Discovered(productId, Collections.<String>emptyList(), models);
+    }
+
+    private static Discovered take(final CompletionService<Discovered> completion) {
+        try {
+            return completion.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(INTERRUPTED, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Result of one worker task: the provisioning artifacts of a product still to be listed, or the models of one
+     * provisioning artifact.
+     */
+    private static class Discovered {
+        private final String productId;
+        private final List<String> provisioningArtifactIds;
+        private final List<ResourceModel> models;
+
+        Discovered(final String productId, final List<String> provisioningArtifactIds, final List<ResourceModel> models) {
+            this.productId = productId;
+            this.provisioningArtifactIds = provisioningArtifactIds;
+            this.models = models;
+        }
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "association-discovery-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
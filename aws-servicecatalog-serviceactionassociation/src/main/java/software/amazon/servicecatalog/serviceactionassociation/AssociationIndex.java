@@ -0,0 +1,427 @@
+package software.amazon.servicecatalog.serviceactionassociation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Compact index from (productId, provisioningArtifactId) to the set of associated service action ids.
+ *
+ * Every id string is stored once and referred to by an int, pairs are looked up in an open-addressing table keyed by
+ * the two ints packed into a long, and each pair's service actions are an int set kept in insertion order. Small sets
+ * are scanned, larger ones get their own open-addressing table, so membership checks are O(1) without boxed
+ * collections. Strings no longer referenced by any pair are dropped once they make up most of the string table.
+ *
+ * Not thread safe, callers synchronize.
+ */
+public class AssociationIndex {
+    private static final int SCAN_THRESHOLD = 8;
+    private static final int MIN_UNUSED_STRINGS_TO_COMPACT = 1024;
+
+    private StringTable strings = new StringTable(16);
+
+    private long[] pairKeys = new long[16];
+    private IdSet[] pairSets = new IdSet[16];
+    private int pairCount;
+    private int associationCount;
+
+    /**
+     * Replaces the service actions of the pair.
+     */
+    public void put(final String productId, final String provisioningArtifactId, final Collection<String> serviceActionIds) {
+        remove(productId, provisioningArtifactId);
+        final IdSet set = new IdSet(serviceActionIds.size());
+        for (final String serviceActionId : serviceActionIds) {
+            final int id = strings.intern(serviceActionId);
+            if (set.add(id)) {
+                associationCount++;
+            } else {
+                strings.release(id);
+            }
+        }
+        insertPair(pairKey(strings.intern(productId), strings.intern(provisioningArtifactId)), set);
+    }
+
+    /**
+     * Adds one service action to an indexed pair. Returns false when the pair is not indexed or already has it.
+     */
+    public boolean add(final String productId, final String provisioningArtifactId, final String serviceActionId) {
+        final IdSet set = findSet(productId, provisioningArtifactId);
+        if (set == null) {
+            return false;
+        }
+        final int id = strings.intern(serviceActionId);
+        if (!set.add(id)) {
+            strings.release(id);
+            return false;
+        }
+        associationCount++;
+        return true;
+    }
+
+    /**
+     * Removes one service action from an indexed pair. Returns false when the pair does not have it.
+     */
+    public boolean remove(final String productId, final String provisioningArtifactId, final String serviceActionId) {
+        final IdSet set = findSet(productId, provisioningArtifactId);
+        final int id = strings.find(serviceActionId);
+        if (set == null || id < 0 || !set.remove(id)) {
+            return false;
+        }
+        associationCount--;
+        strings.release(id);
+        compactIfSparse();
+        return true;
+    }
+
+    /**
+     * Removes the pair and all its service actions. Returns false when the pair is not indexed.
+     */
+    public boolean remove(final String productId, final String provisioningArtifactId) {
+        final int product = strings.find(productId);
+        final int provisioningArtifact = strings.find(provisioningArtifactId);
+        if (product < 0 || provisioningArtifact < 0) {
+            return false;
+        }
+        final int slot = findPairSlot(pairKey(product, provisioningArtifact));
+        if (slot < 0) {
+            return false;
+        }
+        final IdSet set = pairSets[slot];
+        for (int i = 0; i < set.size; i++) {
+            strings.release(set.members[i]);
+        }
+        associationCount -= set.size;
+        strings.release(product);
+        strings.release(provisioningArtifact);
+        deletePairSlot(slot);
+        compactIfSparse();
+        return true;
+    }
+
+    public boolean containsPair(final String productId, final String provisioningArtifactId) {
+        return findSet(productId, provisioningArtifactId) != null;
+    }
+
+    public boolean contains(final String productId, final String provisioningArtifactId, final String serviceActionId) {
+        final IdSet set = findSet(productId, provisioningArtifactId);
+        final int id = strings.find(serviceActionId);
+        return set != null && id >= 0 && set.contains(id);
+    }
+
+    /**
+     * Returns the service actions of the pair in the order they were added, or null when the pair is not indexed.
+     */
+    public List<String> getServiceActionIds(final String productId, final String provisioningArtifactId) {
+        final IdSet set = findSet(productId, provisioningArtifactId);
+        if (set == null) {
+            return null;
+        }
+        final List<String> serviceActionIds = new ArrayList<>(set.size);
+        for (int i = 0; i < set.size; i++) {
+            serviceActionIds.add(strings.get(set.members[i]));
+        }
+        return serviceActionIds;
+    }
+
+    public int size() {
+        return pairCount;
+    }
+
+    public int associationCount() {
+        return associationCount;
+    }
+
+    int stringCount() {
+        return strings.count - strings.unused;
+    }
+
+    int internedStringCount() {
+        return strings.count;
+    }
+
+    private IdSet findSet(final String productId, final String provisioningArtifactId) {
+        final int product = strings.find(productId);
+        final int provisioningArtifact = strings.find(provisioningArtifactId);
+        if (product < 0 || provisioningArtifact < 0) {
+            return null;
+        }
+        final int slot = findPairSlot(pairKey(product, provisioningArtifact));
+        return slot < 0 ? null : pairSets[slot];
+    }
+
+    private static long pairKey(final int product, final int provisioningArtifact) {
+        return ((long) product << 32) | (provisioningArtifact & 0xFFFFFFFFL);
+    }
+
+    private int findPairSlot(final long key) {
+        final int mask = pairKeys.length - 1;
+        for (int slot = mix(Long.hashCode(key)) & mask; pairSets[slot] != null; slot = (slot + 1) & mask) {
+            if (pairKeys[slot] == key) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void insertPair(final long key, final IdSet set) {
+        if ((pairCount + 1) * 2 > pairKeys.length) {
+            final long[] oldKeys = pairKeys;
+            final IdSet[] oldSets = pairSets;
+            pairKeys = new long[oldKeys.length * 2];
+            pairSets = new IdSet[oldSets.length * 2];
+            for (int i = 0; i < oldSets.length; i++) {
+                if (oldSets[i] != null) {
+                    placePair(oldKeys[i], oldSets[i]);
+                }
+            }
+        }
+        placePair(key, set);
+        pairCount++;
+    }
+
+    private void placePair(final long key, final IdSet set) {
+        final int mask = pairKeys.length - 1;
+        int slot = mix(Long.hashCode(key)) & mask;
+        while (pairSets[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        pairKeys[slot] = key;
+        pairSets[slot] = set;
+    }
+
+    /**
+     * Linear-probing deletion: later entries of the probe run are shifted back so lookups never need tombstones.
+     */
+    private void deletePairSlot(final int deleted) {
+        final int mask = pairKeys.length - 1;
+        int hole = deleted;
+        for (int slot = (hole + 1) & mask; pairSets[slot] != null; slot = (slot + 1) & mask) {
+            final int home = mix(Long.hashCode(pairKeys[slot])) & mask;
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                pairKeys[hole] = pairKeys[slot];
+                pairSets[hole] = pairSets[slot];
+                hole = slot;
+            }
+        }
+        pairSets[hole] = null;
+        pairCount--;
+    }
+
+    /**
+     * Rebuilds the string table without unreferenced strings once they outnumber the referenced ones.
+     */
+    private void compactIfSparse() {
+        if (strings.unused < MIN_UNUSED_STRINGS_TO_COMPACT || strings.unused * 2 < strings.count) {
+            return;
+        }
+        final StringTable compacted = new StringTable(strings.count - strings.unused);
+        final int[] remapped = new int[strings.count];
+        Arrays.fill(remapped, -1);
+        for (int i = 0; i < pairSets.length; i++) {
+            final IdSet set = pairSets[i];
+            if (set == null) {
+                continue;
+            }
+            final int product = remap((int) (pairKeys[i] >>> 32), compacted, remapped);
+            final int provisioningArtifact = remap((int) pairKeys[i], compacted, remapped);
+            pairKeys[i] = pairKey(product, provisioningArtifact);
+            for (int j = 0; j < set.size; j++) {
+                set.members[j] = remap(set.members[j], compacted, remapped);
+            }
+            set.rehash();
+        }
+        strings = compacted;
+        final long[] oldKeys = pairKeys;
+        final IdSet[] oldSets = pairSets;
+        pairKeys = new long[oldKeys.length];
+        pairSets = new IdSet[oldSets.length];
+        for (int i = 0; i < oldSets.length; i++) {
+            if (oldSets[i] != null) {
+                placePair(oldKeys[i], oldSets[i]);
+            }
+        }
+    }
+
+    private int remap(final int id, final StringTable compacted, final int[] remapped) {
+        if (remapped[id] < 0) {
+            remapped[id] = compacted.intern(strings.get(id));
+            compacted.references[remapped[id]] = 0;
+        }
+        compacted.references[remapped[id]]++;
+        return remapped[id];
+    }
+
+    private static int mix(final int hash) {
+        final int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(final int entries) {
+        int size = 16;
+        while (size < entries * 2) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    /**
+     * Interned strings with reference counts. Ids are dense, a table slot holds id + 1 and 0 marks an empty slot.
+     */
+    private static final class StringTable {
+        private String[] values;
+        private int[] references;
+        private int[] table;
+        private int count;
+        private int unused;
+
+        StringTable(final int expected) {
+            values = new String[Math.max(expected, 16)];
+            references = new int[values.length];
+            table = new int[tableSizeFor(values.length)];
+        }
+
+        int find(final String value) {
+            final int mask = table.length - 1;
+            for (int slot = mix(value.hashCode()) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+                final int id = table[slot] - 1;
+                if (values[id].equals(value)) {
+                    return id;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Returns the id of the string, adding it when missing, and takes a reference to it.
+         */
+        int intern(final String value) {
+            int id = find(value);
+            if (id < 0) {
+                if (count == values.length) {
+                    values = Arrays.copyOf(values, count * 2);
+                    references = Arrays.copyOf(references, count * 2);
+                }
+                id = count++;
+                values[id] = value;
+                if (count * 2 > table.length) {
+                    table = new int[table.length * 2];
+                    for (int i = 0; i < count; i++) {
+                        place(i);
+                    }
+                } else {
+                    place(id);
+                }
+            } else if (references[id] == 0) {
+                unused--;
+            }
+            references[id]++;
+            return id;
+        }
+
+        void release(final int id) {
+            if (--references[id] == 0) {
+                unused++;
+            }
+        }
+
+        String get(final int id) {
+            return values[id];
+        }
+
+        private void place(final int id) {
+            final int mask = table.length - 1;
+            int slot = mix(values[id].hashCode()) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = id + 1;
+        }
+    }
+
+    /**
+     * Int set in insertion order. Sets of up to SCAN_THRESHOLD members are scanned, larger ones keep a table of
+     * member index + 1 with 0 marking an empty slot.
+     */
+    private static final class IdSet {
+        private int[] members;
+        private int size;
+        private int[] table;
+
+        IdSet(final int expected) {
+            members = new int[Math.max(expected, 1)];
+        }
+
+        boolean contains(final int id) {
+            return indexOf(id) >= 0;
+        }
+
+        boolean add(final int id) {
+            if (indexOf(id) >= 0) {
+                return false;
+            }
+            if (size == members.length) {
+                members = Arrays.copyOf(members, size * 2);
+            }
+            members[size++] = id;
+            if (size > SCAN_THRESHOLD) {
+                if (table == null || size * 2 > table.length) {
+                    rehash();
+                } else {
+                    place(size - 1);
+                }
+            }
+            return true;
+        }
+
+        boolean remove(final int id) {
+            final int index = indexOf(id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(members, index + 1, members, index, size - index - 1);
+            size--;
+            rehash();
+            return true;
+        }
+
+        void rehash() {
+            if (size <= SCAN_THRESHOLD) {
+                table = null;
+                return;
+            }
+            table = new int[tableSizeFor(size)];
+            for (int i = 0; i < size; i++) {
+                place(i);
+            }
+        }
+
+        private int indexOf(final int id) {
+            if (table == null) {
+                for (int i = 0; i < size; i++) {
+                    if (members[i] == id) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+            final int mask = table.length - 1;
+            for (int slot = mix(id) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+                if (members[table[slot] - 1] == id) {
+                    return table[slot] - 1;
+                }
+            }
+            return -1;
+        }
+
+        private void place(final int index) {
+            final int mask = table.length - 1;
+            int slot = mix(members[index]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = index + 1;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package software.amazon.servicecatalog.serviceactionassociation;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Container-scoped record of how many pages the two directions of an association lookup took.
+ *
+ * An association can be checked from the provisioning artifact side, paging through the service actions of the
+ * provisioning artifact, or from the service action side, paging through the provisioning artifacts the service action
+ * is attached to. Each listing records the pages it read for its provisioning artifact or service action. A listing
+ * that stopped early on a match only proves a lower bound, so it never lowers a recorded count. Unknown sides are
+ * estimated at one page, and ties go to the provisioning artifact side, whose listings also fill the snapshot cache.
+ * Entries are keyed by {@link software.amazon.servicecatalog.RequestScope}, and the least recently used entry is
+ * dropped when the map is full.
+ */
+public class AssociationLookupStats {
+
+    static final int MAX_ENTRIES = 1024;
+
+    private static final AssociationLookupStats INSTANCE = new AssociationLookupStats(MAX_ENTRIES);
+
+    private final int maxEntries;
+    private final LinkedHashMap<String, Integer> pages = new LinkedHashMap<>(16, 0.75f, true);
+
+    AssociationLookupStats(final int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public static AssociationLookupStats getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns true when listing the provisioning artifacts of the service action is expected to take fewer pages than
+     * listing the service actions of the provisioning artifact.
+     */
+    public boolean prefersServiceActionSide(final String scope, final String productId, final String provisioningArtifactId, final String serviceActionId) {
+        synchronized (pages) {
+            return estimate(serviceActionKey(scope, serviceActionId)) < estimate(provisioningArtifactKey(scope, productId, provisioningArtifactId));
+        }
+    }
+
+    public void recordProvisioningArtifactPages(final String scope, final String productId, final String provisioningArtifactId,
+                                                final int pageCount, final boolean complete) {
+        record(provisioningArtifactKey(scope, productId, provisioningArtifactId), pageCount, complete);
+    }
+
+    public void recordServiceActionPages(final String scope, final String serviceActionId, final int pageCount, final boolean complete) {
+        record(serviceActionKey(scope, serviceActionId), pageCount, complete);
+    }
+
+    public void clear() {
+        synchronized (pages) {
+            pages.clear();
+        }
+    }
+
+    int size() {
+        synchronized (pages) {
+            return pages.size();
+        }
+    }
+
+    private void record(final String key, final int pageCount, final boolean complete) {
+        synchronized (pages) {
+            final Integer recorded = pages.get(key);
+            pages.put(key, complete || recorded == null ? pageCount : Math.max(recorded, pageCount));
+            final Iterator<String> iterator = pages.keySet().iterator();
+            while (pages.size() > maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    private int estimate(final String key) {
+        final Integer recorded = pages.get(key);
+        return recorded == null ? 1 : recorded;
+    }
+
+    private static String provisioningArtifactKey(final String scope, final String productId, final String provisioningArtifactId) {
+        return "pa/" + scope + "/" + productId + "/" + provisioningArtifactId;
+    }
+
+    private static String serviceActionKey(final String scope, final String serviceActionId) {
+        return "action/" + scope + "/" + serviceActionId;
+    }
+}
@@ -0,0 +1,216 @@
+package software.amazon.servicecatalog.serviceactionassociation;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import software.amazon.servicecatalog.HandlerSettings;
+
+/**
+ * Container-scoped snapshot of the service actions associated to each provisioning artifact.
+ *
+ * A snapshot holds the service action ids last listed from Service Catalog for a (productId, provisioningArtifactId)
+ * pair and is reused until it is older than the TTL. Associations and disassociations made by this container are
+ * recorded against the snapshot as pending changes: a pending service action is never answered from the snapshot, so
+ * stabilization keeps polling the service until a real listing shows the change. A snapshot that disagrees with the
+ * outcome a caller expects is not trusted either and triggers a real listing.
+ *
+ * Snapshots are keyed by {@link software.amazon.servicecatalog.RequestScope}, and the least recently used snapshot is
+ * dropped when the cache is full. The listed ids of all snapshots share one {@link AssociationIndex}.
+ */
+public class AssociationSnapshotCache {
+
+    /**
+     * Milliseconds a listed snapshot is reused, 0 disables the cache.
+     */
+    public static final String TTL_SETTING = "associationSnapshotTtlMillis";
+
+    static final long DEFAULT_TTL_MILLIS = 10_000L;
+    static final int MAX_SNAPSHOTS = 4096;
+
+    private static final AssociationSnapshotCache INSTANCE = new AssociationSnapshotCache(
+            HandlerSettings.getInt(TTL_SETTING, (int) DEFAULT_TTL_MILLIS), MAX_SNAPSHOTS, System::currentTimeMillis);
+
+    private final long ttlMillis;
+    private final int maxSnapshots;
+    private final LongSupplier clock;
+    private final LinkedHashMap<String, Snapshot> snapshots = new LinkedHashMap<>(16, 0.75f, true);
+    private AssociationIndex index = new AssociationIndex();
+
+    AssociationSnapshotCache(final long ttlMillis, final int maxSnapshots, final LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.maxSnapshots = maxSnapshots;
+        this.clock = clock;
+    }
+
+    public static AssociationSnapshotCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns whether the service action is associated according to a fresh snapshot, or null when a real listing is
+     * needed: there is no fresh snapshot, the service action has a pending change, or the snapshot does not match
+     * {@code expected}. A null {@code expected} accepts either answer.
+     */
+    public Boolean isAssociated(final String scope, final String productId, final String provisioningArtifactId,
+                                final String serviceActionId, final Boolean expected) {
+        synchronized (snapshots) {
+            final Snapshot snapshot = freshSnapshot(key(scope, productId, provisioningArtifactId));
+            if (snapshot == null || snapshot.pending.containsKey(serviceActionId)) {
+                return null;
+            }
+            final boolean associated = index.contains(scopedProductId(scope, productId), provisioningArtifactId, serviceActionId);
+            return expected == null || expected == associated ? associated : null;
+        }
+    }
+
+    /**
+     * Returns the associated service action ids of a fresh snapshot without pending changes, or null when a real
+     * listing is needed.
+     */
+    public List<String> getServiceActionIds(final String scope, final String productId, final String provisioningArtifactId) {
+        synchronized (snapshots) {
+            final Snapshot snapshot = freshSnapshot(key(scope, productId, provisioningArtifactId));
+            if (snapshot == null || !snapshot.pending.isEmpty()) {
+                return null;
+            }
+            return index.getServiceActionIds(scopedProductId(scope, productId), provisioningArtifactId);
+        }
+    }
+
+    /**
+     * Stores the result of a complete listing. Pending changes the listing reflects are confirmed and dropped, the
+     * others stay pending until they are confirmed or expire.
+     */
+    public void put(final String scope, final String productId, final String provisioningArtifactId, final Collection<String> serviceActionIds) {
+        if (ttlMillis <= 0) {
+            return;
+        }
+        final String key = key(scope, productId, provisioningArtifactId);
+        synchronized (snapshots) {
+            final long now = clock.getAsLong();
+            final String scopedProductId = scopedProductId(scope, productId);
+            index.put(scopedProductId, provisioningArtifactId, serviceActionIds);
+            final Snapshot snapshot = new Snapshot(scopedProductId, provisioningArtifactId, now);
+            final Snapshot previous = snapshots.get(key);
+            if (previous != null) {
+                for (final Map.Entry<String, PendingChange> change : previous.pending.entrySet()) {
+                    final boolean listed = index.contains(scopedProductId, provisioningArtifactId, change.getKey());
+                    final boolean confirmed = listed == change.getValue().associated;
+                    if (!confirmed && now - change.getValue().recordedMillis <= ttlMillis) {
+                        snapshot.pending.put(change.getKey(), change.getValue());
+                    }
+                }
+            }
+            snapshots.put(key, snapshot);
+            evictOverflow();
+        }
+    }
+
+    /**
+     * Records an association or disassociation made by this container. Only an existing snapshot is updated, without a
+     * snapshot the next lookup lists from the service anyway.
+     */
+    public void recordChange(final String scope, final String productId, final String provisioningArtifactId,
+                             final String serviceActionId, final boolean associated) {
+        synchronized (snapshots) {
+            final Snapshot snapshot = snapshots.get(key(scope, productId, provisioningArtifactId));
+            if (snapshot != null) {
+                snapshot.pending.put(serviceActionId, new PendingChange(associated, clock.getAsLong()));
+            }
+        }
+    }
+
+    /**
+     * Records what a lookup that stopped at the match saw for one service action. Only a fresh snapshot is updated: the
+     * service action takes the observed state, and a pending change the lookup confirms is dropped.
+     */
+    public void recordLookup(final String scope, final String productId, final String provisioningArtifactId,
+                             final String serviceActionId, final boolean associated) {
+        synchronized (snapshots) {
+            final Snapshot snapshot = freshSnapshot(key(scope, productId, provisioningArtifactId));
+            if (snapshot == null) {
+                return;
+            }
+            if (associated) {
+                index.add(snapshot.scopedProductId, provisioningArtifactId, serviceActionId);
+            } else {
+                index.remove(snapshot.scopedProductId, provisioningArtifactId, serviceActionId);
+            }
+            final PendingChange change = snapshot.pending.get(serviceActionId);
+            if (change != null && change.associated == associated) {
+                snapshot.pending.remove(serviceActionId);
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (snapshots) {
+            snapshots.clear();
+            index = new AssociationIndex();
+        }
+    }
+
+    int size() {
+        synchronized (snapshots) {
+            return snapshots.size();
+        }
+    }
+
+    private Snapshot freshSnapshot(final String key) {
+        final Snapshot snapshot = snapshots.get(key);
+        if (snapshot == null) {
+            return null;
+        }
+        if (clock.getAsLong() - snapshot.listedMillis > ttlMillis) {
+            snapshots.remove(key);
+            index.remove(snapshot.scopedProductId, snapshot.provisioningArtifactId);
+            return null;
+        }
+        return snapshot;
+    }
+
+    private void evictOverflow() {
+        final Iterator<Snapshot> iterator = snapshots.values().iterator();
+        while (snapshots.size() > maxSnapshots && iterator.hasNext()) {
+            final Snapshot eldest = iterator.next();
+            index.remove(eldest.scopedProductId, eldest.provisioningArtifactId);
+            iterator.remove();
+        }
+    }
+
+    private static String key(final String scope, final String productId, final String provisioningArtifactId) {
+        return scopedProductId(scope, productId) + "/" + provisioningArtifactId;
+    }
+
+    private static String scopedProductId(final String scope, final String productId) {
+        return scope + "/" + productId;
+    }
+
+    private static class Snapshot {
+        private final String scopedProductId;
+        private final String provisioningArtifactId;
+        private final long listedMillis;
+        private final Map<String, PendingChange> pending = new HashMap<>();
+
+        Snapshot(final String scopedProductId, final String provisioningArtifactId, final long listedMillis) {
+            this.scopedProductId = scopedProductId;
+            this.provisioningArtifactId = provisioningArtifactId;
+            this.listedMillis = listedMillis;
+        }
+    }
+
+    private static class PendingChange {
+        private final boolean associated;
+        private final long recordedMillis;
+
+        PendingChange(final boolean associated, final long recordedMillis) {
+            this.associated = associated;
+            this.recordedMillis = recordedMillis;
+        }
+    }
+}
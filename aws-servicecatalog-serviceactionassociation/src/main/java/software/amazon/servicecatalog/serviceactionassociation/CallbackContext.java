@@ -1,5 +1,9 @@
 package software.amazon.servicecatalog.serviceactionassociation;
 
+import java.util.List;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,9 +13,15 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonSerialize(using = HandlerJson.CallbackContextSerializer.class)
+@JsonDeserialize(using = HandlerJson.CallbackContextDeserializer.class)
 public class CallbackContext {
     private String serviceActionId;
     private String productId;
     private String provisioningArtifactId;
     private Integer stabilizationRetriesRemaining;
+    /**
+     * Provisioning artifacts a product-wide association waits for, see {@link ProductWideAssociation}.
+     */
+    private List<String> provisioningArtifactIds;
 }
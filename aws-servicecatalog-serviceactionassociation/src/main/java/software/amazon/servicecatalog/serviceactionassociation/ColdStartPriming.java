@@ -0,0 +1,106 @@
+package software.amazon.servicecatalog.serviceactionassociation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerRequest;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.servicecatalog.SCClientPrimer;
+
+/**
+ * Cold-start priming for the ServiceActionAssociation handlers.
+ *
+ * Triggered from {@link Configuration}'s static initializer, which the generated HandlerWrapper loads while it is
+ * constructed during container init. Every Service Catalog operation used by {@link ActionAssociationController} is
+ * driven through the real proxy and SDK marshalling stack against an offline transport, which also loads the v1
+ * StringUtils used for page tokens, and the wrapper's Jackson bindings for {@link ResourceModel} and
+ * {@link CallbackContext} are exercised.
+ */
+public class ColdStartPriming {
+    private static final String PRIMING_PRODUCT_ID = "prod-priming";
+    private static final String PRIMING_PROVISIONING_ARTIFACT_ID = "pa-priming";
+    private static final String PRIMING_SERVICE_ACTION_ID = "act-priming";
+    private static final String HANDLER_REQUEST_JSON = "{\"action\":\"CREATE\",\"awsAccountId\":\"123456789012\","
+            + "\"region\":\"us-east-1\",\"callbackContext\":{\"serviceActionId\":\"act-priming\",\"productId\":\"prod-priming\","
+            + "\"provisioningArtifactId\":\"pa-priming\",\"stabilizationRetriesRemaining\":5},"
+            + "\"requestData\":{\"resourceProperties\":{\"ProductId\":\"prod-priming\","
+            + "\"ProvisioningArtifactId\":\"pa-priming\",\"ServiceActionId\":\"act-priming\"}}}";
+
+    public static void prime() {
+        SCClientPrimer.primeOnce(ColdStartPriming::primeAll);
+    }
+
+    private static void primeAll() {
+        final AmazonWebServicesClientProxy proxy = SCClientPrimer.buildOfflineProxy();
+        final ServiceCatalogClient offlineClient = SCClientPrimer.buildOfflineClient();
+        final ServiceCatalogClient offlineErrorClient = SCClientPrimer.buildOfflineErrorClient();
+        try {
+            primeControllerCalls(buildController(proxy, offlineClient));
+            primeErrorPath(buildController(proxy, offlineErrorClient));
+            primeSerialization();
+        } finally {
+            offlineClient.close();
+            offlineErrorClient.close();
+        }
+    }
+
+    private static ActionAssociationController buildController(final AmazonWebServicesClientProxy proxy, final ServiceCatalogClient scClient) {
+        return ActionAssociationController
+                .builder()
+                .logger(new LoggerProxy())
+                .proxy(proxy)
+                .scClient(scClient)
+                .build();
+    }
+
+    private static void primeControllerCalls(final ActionAssociationController controller) {
+        SCClientPrimer.runQuietly(() -> controller.associateServiceAction(PRIMING_PRODUCT_ID, PRIMING_PROVISIONING_ARTIFACT_ID, PRIMING_SERVICE_ACTION_ID));
+        SCClientPrimer.runQuietly(() -> controller.isServiceActionAssociatedToPA(PRIMING_PRODUCT_ID, PRIMING_PROVISIONING_ARTIFACT_ID, PRIMING_SERVICE_ACTION_ID));
+        SCClientPrimer.runQuietly(() -> controller.listAllServiceActionIdsForProvisioningArtifact(PRIMING_PRODUCT_ID, PRIMING_PROVISIONING_ARTIFACT_ID));
+        SCClientPrimer.runQuietly(() -> controller.disassociateServiceAction(PRIMING_PRODUCT_ID, PRIMING_PROVISIONING_ARTIFACT_ID, PRIMING_SERVICE_ACTION_ID));
+    }
+
+    private static void primeErrorPath(final ActionAssociationController controller) {
+        SCClientPrimer.runQuietly(() -> {
+            try {
+                controller.isServiceActionAssociatedToPA(PRIMING_PRODUCT_ID, PRIMING_PROVISIONING_ARTIFACT_ID, PRIMING_SERVICE_ACTION_ID);
+            } catch (SdkException e) {
+                ExceptionTranslator.translateToCfnException(e);
+            }
+        });
+    }
+
+    private static void primeSerialization() {
+        final Serializer serializer = new Serializer();
+        SCClientPrimer.runQuietly(() -> {
+            try {
+                final String model = serializer.serialize(buildPrimingModel());
+                serializer.deserialize(model, new TypeReference<ResourceModel>() {});
+                final String callbackContext = serializer.serialize(CallbackContext.builder()
+                        .productId(PRIMING_PRODUCT_ID)
+                        .provisioningArtifactId(PRIMING_PROVISIONING_ARTIFACT_ID)
+                        .serviceActionId(PRIMING_SERVICE_ACTION_ID)
+                        .stabilizationRetriesRemaining(HandlerConstants.NUMBER_OF_STATE_POLL_RETRIES)
+                        .build());
+                serializer.deserialize(callbackContext, new TypeReference<CallbackContext>() {});
+                serializer.deserialize(HANDLER_REQUEST_JSON, new TypeReference<HandlerRequest<ResourceModel, CallbackContext>>() {});
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static ResourceModel buildPrimingModel() {
+        return ResourceModel
+                .builder()
+                .productId(PRIMING_PRODUCT_ID)
+                .provisioningArtifactId(PRIMING_PROVISIONING_ARTIFACT_ID)
+                .serviceActionId(PRIMING_SERVICE_ACTION_ID)
+                .build();
+    }
+}
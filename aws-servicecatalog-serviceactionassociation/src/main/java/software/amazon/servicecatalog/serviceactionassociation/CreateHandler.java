@@ -3,16 +3,27 @@ package software.amazon.servicecatalog.serviceactionassociation;
 import static software.amazon.servicecatalog.serviceactionassociation.HandlerConstants.NUMBER_OF_STATE_POLL_RETRIES;
 import static software.amazon.servicecatalog.serviceactionassociation.HandlerConstants.POLL_RETRY_DELAY_SECONDS;
 
+import java.util.List;
+
 import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.servicecatalog.model.FailedServiceActionAssociation;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociationErrorCode;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.RequestScope;
 import software.amazon.servicecatalog.SCClientBuilder;
 import software.amazon.servicecatalog.serviceactionassociation.stabilizer.Stabilization;
 
 public class CreateHandler extends BaseHandler<CallbackContext> {
 
+    private static final String PRODUCT_WIDE_FAILURE = "Failed to associate service action %s with %d provisioning artifacts: %s";
+    private static final String ROLL_BACK_LOG = "Rolling back %d provisioning artifacts associated before the failure";
+    private static final String ROLL_BACK_FAILED = "Provisioning artifacts left associated after a failed create: %s";
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -24,9 +35,27 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
                 .builder()
                 .logger(logger)
                 .proxy(proxy)
-                .scClient(SCClientBuilder.getClient())
+                .scClient(SCClientBuilder.getClient(request.getRegion()))
+                .snapshotCache(AssociationSnapshotCache.getInstance())
+                .requestScope(RequestScope.of(request.getAwsAccountId(), request.getRegion()))
+                .missingArtifactCache(MissingProvisioningArtifactCache.getInstance())
+                .persistentSnapshots(PersistentSnapshotStore.getConfigured())
+                .lookupStats(AssociationLookupStats.getInstance())
                 .build();
 
+        final String provisioningArtifactId = callbackContext == null
+                ? request.getDesiredResourceState().getProvisioningArtifactId()
+                : callbackContext.getProvisioningArtifactId();
+        if (ProductWideAssociation.isProductWide(provisioningArtifactId)) {
+            final ProductWideAssociation productWideAssociation = ProductWideAssociation.configured(controller, logger);
+            if (callbackContext == null) {
+                logger.log("Invoking create handler for new product-wide resource.");
+                return handleNewProductWideCreateRequest(productWideAssociation, request, logger);
+            }
+            logger.log(String.format("Invoking create handler for stabilizing product-wide resource %s", callbackContext.getServiceActionId()));
+            return Stabilization.handleProductWideCreateStabilizeRequest(productWideAssociation, request, callbackContext, logger);
+        }
+
         if (callbackContext == null) { // CREATE request
             logger.log("Invoking create handler for new resource.");
             return handleNewCreateRequest(controller, request);
@@ -52,4 +81,51 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
             throw ExceptionTranslator.translateToCfnException(e);
         }
     }
+
+    /**
+     * Associates the service action with every provisioning artifact of the product. A provisioning artifact the service
+     * action is already associated with belongs to some other resource, so the resource owns only the ones it added,
+     * and fails when there are none. When other items fail, the ones it added are disassociated again.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> handleNewProductWideCreateRequest(final ProductWideAssociation productWideAssociation,
+                                                                                           final ResourceHandlerRequest<ResourceModel> request,
+                                                                                           final Logger logger) {
+        final ResourceModel desiredModel = request.getDesiredResourceState();
+        try {
+            final ProductWideAssociation.Result result = productWideAssociation.associate(desiredModel.getProductId(), desiredModel.getServiceActionId());
+            if (result.getProvisioningArtifactIds().isEmpty()) {
+                throw new CfnNotFoundException(ResourceModel.TYPE_NAME, desiredModel.getProductId());
+            }
+            if (result.allFailedWith(ServiceActionAssociationErrorCode.DUPLICATE_RESOURCE)) {
+                throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, desiredModel.getServiceActionId());
+            }
+            final List<String> associated = result.getSucceededProvisioningArtifactIds();
+            final List<FailedServiceActionAssociation> failures = result.failuresExcept(ServiceActionAssociationErrorCode.DUPLICATE_RESOURCE);
+            if (!failures.isEmpty()) {
+                if (!associated.isEmpty()) {
+                    logger.log(String.format(ROLL_BACK_LOG, associated.size()));
+                    final List<FailedServiceActionAssociation> notRolledBack = productWideAssociation
+                            .disassociate(desiredModel.getProductId(), desiredModel.getServiceActionId(), associated)
+                            .failuresExcept(ServiceActionAssociationErrorCode.RESOURCE_NOT_FOUND);
+                    if (!notRolledBack.isEmpty()) {
+                        logger.log(String.format(ROLL_BACK_FAILED, ProductWideAssociation.Result.describe(notRolledBack)));
+                    }
+                }
+                return ProgressEvent.failed(desiredModel, null,
+                        ExceptionTranslator.translateToHandlerErrorCode(failures.get(0).errorCode()),
+                        String.format(PRODUCT_WIDE_FAILURE, desiredModel.getServiceActionId(), failures.size(), ProductWideAssociation.Result.describe(failures)));
+            }
+            return ProgressEvent.defaultInProgressHandler(CallbackContext.builder()
+                            .productId(desiredModel.getProductId())
+                            .provisioningArtifactId(desiredModel.getProvisioningArtifactId())
+                            .serviceActionId(desiredModel.getServiceActionId())
+                            .provisioningArtifactIds(associated)
+                            .stabilizationRetriesRemaining(NUMBER_OF_STATE_POLL_RETRIES)
+                            .build(),
+                    POLL_RETRY_DELAY_SECONDS,
+                    desiredModel);
+        } catch (SdkException e) {
+            throw ExceptionTranslator.translateToCfnException(e);
+        }
+    }
 }
@@ -3,16 +3,25 @@ package software.amazon.servicecatalog.serviceactionassociation;
 import static software.amazon.servicecatalog.serviceactionassociation.HandlerConstants.NUMBER_OF_STATE_POLL_RETRIES;
 import static software.amazon.servicecatalog.serviceactionassociation.HandlerConstants.POLL_RETRY_DELAY_SECONDS;
 
+import java.util.Collections;
+import java.util.List;
+
 import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.servicecatalog.model.FailedServiceActionAssociation;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociationErrorCode;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.RequestScope;
 import software.amazon.servicecatalog.SCClientBuilder;
 import software.amazon.servicecatalog.serviceactionassociation.stabilizer.Stabilization;
 
 public class DeleteHandler extends BaseHandler<CallbackContext> {
 
+    private static final String PRODUCT_WIDE_FAILURE = "Failed to disassociate service action %s from %d provisioning artifacts: %s";
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -22,11 +31,29 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
 
         final ActionAssociationController controller = ActionAssociationController
                 .builder()
-                .scClient(SCClientBuilder.getClient())
+                .scClient(SCClientBuilder.getClient(request.getRegion()))
+                .snapshotCache(AssociationSnapshotCache.getInstance())
+                .requestScope(RequestScope.of(request.getAwsAccountId(), request.getRegion()))
+                .missingArtifactCache(MissingProvisioningArtifactCache.getInstance())
+                .persistentSnapshots(PersistentSnapshotStore.getConfigured())
+                .lookupStats(AssociationLookupStats.getInstance())
                 .proxy(proxy)
                 .logger(logger)
                 .build();
 
+        final String provisioningArtifactId = callbackContext == null
+                ? request.getDesiredResourceState().getProvisioningArtifactId()
+                : callbackContext.getProvisioningArtifactId();
+        if (ProductWideAssociation.isProductWide(provisioningArtifactId)) {
+            final ProductWideAssociation productWideAssociation = ProductWideAssociation.configured(controller, logger);
+            if (callbackContext == null) {
+                logger.log("Invoking Delete handler for new product-wide resource.");
+                return handleNewProductWideDeleteRequest(productWideAssociation, request);
+            }
+            logger.log(String.format("Invoking Delete handler for stabilizing product-wide resource %s", callbackContext.getServiceActionId()));
+            return Stabilization.handleProductWideDeleteStabilizeRequest(productWideAssociation, request, callbackContext, logger);
+        }
+
         if (callbackContext == null) { // DELETE request
             logger.log("Invoking Delete handler for new resource.");
             return handleNewDeleteRequest(controller, request);
@@ -52,4 +79,41 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
             throw ExceptionTranslator.translateToCfnException(e);
         }
     }
+
+    /**
+     * Disassociates the service action from the provisioning artifacts Create associated it with, which the model
+     * carries as AssociatedProvisioningArtifactIds. Associations other resources made, and provisioning artifacts added
+     * to the product since, are left in place.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> handleNewProductWideDeleteRequest(final ProductWideAssociation productWideAssociation, final ResourceHandlerRequest<ResourceModel> request) {
+        final ResourceModel desiredModel = request.getDesiredResourceState();
+        final List<String> provisioningArtifactIds = desiredModel.getAssociatedProvisioningArtifactIds() == null
+                ? Collections.emptyList() : desiredModel.getAssociatedProvisioningArtifactIds();
+        if (provisioningArtifactIds.isEmpty()) {
+            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, desiredModel.getServiceActionId());
+        }
+        try {
+            final ProductWideAssociation.Result result = productWideAssociation.disassociate(desiredModel.getProductId(), desiredModel.getServiceActionId(), provisioningArtifactIds);
+            if (result.allFailedWith(ServiceActionAssociationErrorCode.RESOURCE_NOT_FOUND)) {
+                throw new CfnNotFoundException(ResourceModel.TYPE_NAME, desiredModel.getServiceActionId());
+            }
+            final List<FailedServiceActionAssociation> failures = result.failuresExcept(ServiceActionAssociationErrorCode.RESOURCE_NOT_FOUND);
+            if (!failures.isEmpty()) {
+                return ProgressEvent.failed(desiredModel, null,
+                        ExceptionTranslator.translateToHandlerErrorCode(failures.get(0).errorCode()),
+                        String.format(PRODUCT_WIDE_FAILURE, desiredModel.getServiceActionId(), failures.size(), ProductWideAssociation.Result.describe(failures)));
+            }
+            return ProgressEvent.defaultInProgressHandler(CallbackContext.builder()
+                            .productId(desiredModel.getProductId())
+                            .provisioningArtifactId(desiredModel.getProvisioningArtifactId())
+                            .serviceActionId(desiredModel.getServiceActionId())
+                            .provisioningArtifactIds(result.getProvisioningArtifactIds())
+                            .stabilizationRetriesRemaining(NUMBER_OF_STATE_POLL_RETRIES)
+                            .build(),
+                    POLL_RETRY_DELAY_SECONDS,
+                    desiredModel);
+        } catch (SdkException e) {
+            throw ExceptionTranslator.translateToCfnException(e);
+        }
+    }
 }
@@ -5,11 +5,13 @@ import software.amazon.awssdk.services.servicecatalog.model.DuplicateResourceExc
 import software.amazon.awssdk.services.servicecatalog.model.InvalidParametersException;
 import software.amazon.awssdk.services.servicecatalog.model.LimitExceededException;
 import software.amazon.awssdk.services.servicecatalog.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociationErrorCode;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 
 public class ExceptionTranslator {
     public static RuntimeException translateToCfnException(
@@ -28,4 +30,26 @@ public class ExceptionTranslator {
         }
         return new CfnInternalFailureException(e);
     }
+
+    /**
+     * Translates the error code of a single failed item of a batch associate or disassociate call.
+     */
+    public static HandlerErrorCode translateToHandlerErrorCode(
+            final ServiceActionAssociationErrorCode errorCode) {
+        if (errorCode == null) {
+            return HandlerErrorCode.InternalFailure;
+        }
+        switch (errorCode) {
+            case RESOURCE_NOT_FOUND:
+                return HandlerErrorCode.NotFound;
+            case DUPLICATE_RESOURCE:
+                return HandlerErrorCode.AlreadyExists;
+            case LIMIT_EXCEEDED:
+                return HandlerErrorCode.ServiceLimitExceeded;
+            case THROTTLING:
+                return HandlerErrorCode.Throttling;
+            default:
+                return HandlerErrorCode.InternalFailure;
+        }
+    }
 }
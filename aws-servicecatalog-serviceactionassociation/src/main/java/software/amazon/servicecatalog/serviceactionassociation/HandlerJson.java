@@ -0,0 +1,141 @@
+package software.amazon.servicecatalog.serviceactionassociation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Hand-written Jackson bindings for the ServiceActionAssociation callback context.
+ *
+ * {@link CallbackContext} is annotated with these bindings, so the wrapper's serializer uses them for every
+ * stabilization callback. Null fields are omitted, property names are matched case-insensitively and unknown properties
+ * are skipped. ResourceModel is generated from the schema and keeps the wrapper's reflective binding.
+ */
+public final class HandlerJson {
+    private static final String CONTEXT_SERVICE_ACTION_ID = "serviceActionId";
+    private static final String CONTEXT_PRODUCT_ID = "productId";
+    private static final String CONTEXT_PROVISIONING_ARTIFACT_ID = "provisioningArtifactId";
+    private static final String CONTEXT_RETRIES_REMAINING = "stabilizationRetriesRemaining";
+    private static final String CONTEXT_PROVISIONING_ARTIFACT_IDS = "provisioningArtifactIds";
+
+    private HandlerJson() {
+    }
+
+    public static class CallbackContextSerializer extends StdSerializer<CallbackContext> {
+        private static final long serialVersionUID = 1L;
+
+        public CallbackContextSerializer() {
+            super(CallbackContext.class);
+        }
+
+        @Override
+        public void serialize(final CallbackContext callbackContext, final JsonGenerator generator,
+                              final SerializerProvider provider) throws IOException {
+            generator.writeStartObject();
+            writeString(generator, CONTEXT_SERVICE_ACTION_ID, callbackContext.getServiceActionId());
+            writeString(generator, CONTEXT_PRODUCT_ID, callbackContext.getProductId());
+            writeString(generator, CONTEXT_PROVISIONING_ARTIFACT_ID, callbackContext.getProvisioningArtifactId());
+            if (callbackContext.getStabilizationRetriesRemaining() != null) {
+                generator.writeNumberField(CONTEXT_RETRIES_REMAINING, callbackContext.getStabilizationRetriesRemaining());
+            }
+            writeStrings(generator, CONTEXT_PROVISIONING_ARTIFACT_IDS, callbackContext.getProvisioningArtifactIds());
+            generator.writeEndObject();
+        }
+    }
+
+    public static class CallbackContextDeserializer extends StdDeserializer<CallbackContext> {
+        private static final long serialVersionUID = 1L;
+
+        public CallbackContextDeserializer() {
+            super(CallbackContext.class);
+        }
+
+        @Override
+        public CallbackContext deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+            final CallbackContext callbackContext = new CallbackContext();
+            for (JsonToken token = firstField(parser, context, CallbackContext.class); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                final String name = parser.getCurrentName();
+                final JsonToken value = parser.nextToken();
+                if (CONTEXT_SERVICE_ACTION_ID.equalsIgnoreCase(name)) {
+                    callbackContext.setServiceActionId(readString(parser, context));
+                } else if (CONTEXT_PRODUCT_ID.equalsIgnoreCase(name)) {
+                    callbackContext.setProductId(readString(parser, context));
+                } else if (CONTEXT_PROVISIONING_ARTIFACT_ID.equalsIgnoreCase(name)) {
+                    callbackContext.setProvisioningArtifactId(readString(parser, context));
+                } else if (CONTEXT_RETRIES_REMAINING.equalsIgnoreCase(name)) {
+                    callbackContext.setStabilizationRetriesRemaining(value == JsonToken.VALUE_NULL ? null : parser.getValueAsInt());
+                } else if (CONTEXT_PROVISIONING_ARTIFACT_IDS.equalsIgnoreCase(name)) {
+                    callbackContext.setProvisioningArtifactIds(readStrings(parser, context));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return callbackContext;
+        }
+    }
+
+    /**
+     * Positions the parser on the first field of an object and returns its token, or END_OBJECT for an empty object.
+     */
+    private static JsonToken firstField(final JsonParser parser, final DeserializationContext context, final Class<?> type)
+            throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            throw context.wrongTokenException(parser, type, JsonToken.START_OBJECT, null);
+        }
+        return token;
+    }
+
+    private static String readString(final JsonParser parser, final DeserializationContext context) throws IOException {
+        final JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw context.wrongTokenException(parser, String.class, JsonToken.VALUE_STRING, null);
+        }
+        return parser.getValueAsString();
+    }
+
+    private static List<String> readStrings(final JsonParser parser, final DeserializationContext context) throws IOException {
+        final JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw context.wrongTokenException(parser, List.class, JsonToken.START_ARRAY, null);
+        }
+        final List<String> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(readString(parser, context));
+        }
+        return values;
+    }
+
+    private static void writeString(final JsonGenerator generator, final String name, final String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(name, value);
+        }
+    }
+
+    private static void writeStrings(final JsonGenerator generator, final String name, final List<String> values) throws IOException {
+        if (values != null) {
+            generator.writeArrayFieldStart(name);
+            for (final String value : values) {
+                generator.writeString(value);
+            }
+            generator.writeEndArray();
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package software.amazon.servicecatalog.serviceactionassociation;
 
+import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionSummary;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.HandlerSettings;
+import software.amazon.servicecatalog.RateLimiter;
+import software.amazon.servicecatalog.RequestScope;
 import software.amazon.servicecatalog.SCClientBuilder;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,14 +31,25 @@ public class ListHandler extends BaseHandler<CallbackContext> {
                 .builder()
                 .logger(logger)
                 .proxy(proxy)
-                .scClient(SCClientBuilder.getClient())
+                .scClient(SCClientBuilder.getClient(request.getRegion()))
+                .snapshotCache(AssociationSnapshotCache.getInstance())
+                .requestScope(RequestScope.of(request.getAwsAccountId(), request.getRegion()))
+                .missingArtifactCache(MissingProvisioningArtifactCache.getInstance())
+                .persistentSnapshots(PersistentSnapshotStore.getConfigured())
+                .lookupStats(AssociationLookupStats.getInstance())
                 .build();
 
         final ResourceModel desiredModel = request.getDesiredResourceState();
+        if (desiredModel == null || (desiredModel.getProductId() == null && desiredModel.getProvisioningArtifactId() == null)) {
+            return discoverPage(controller, logger, request.getNextToken());
+        }
         final String productId = desiredModel.getProductId();
         final String provisioningArtifactId = desiredModel.getProvisioningArtifactId();
 
         try {
+            if (request.getNextToken() != null || Boolean.parseBoolean(HandlerSettings.get(HandlerSettings.PAGED_LIST, "false"))) {
+                return listPage(controller, productId, provisioningArtifactId, request.getNextToken());
+            }
             final List<String> serviceActionIds = controller.listAllServiceActionIdsForProvisioningArtifact(productId, provisioningArtifactId);
             final List<ResourceModel> models = buildListResourceModel(serviceActionIds, productId, provisioningArtifactId);
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
@@ -43,6 +61,54 @@ public class ListHandler extends BaseHandler<CallbackContext> {
         }
     }
 
+    /**
+     * Returns the associations of one page of the account's products, passing the SearchProductsAsAdmin page token
+     * through as the next token, see {@link AssociationDiscovery}.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> discoverPage(final ActionAssociationController controller, final Logger logger,
+                                                                       final String nextToken) {
+        final AssociationDiscovery discovery = AssociationDiscovery.builder()
+                .controller(controller)
+                .logger(logger)
+                .parallelism(HandlerSettings.getInt(AssociationDiscovery.PARALLELISM_SETTING, AssociationDiscovery.DEFAULT_PARALLELISM))
+                .rateLimiter(new RateLimiter(HandlerSettings.getInt(AssociationDiscovery.REQUESTS_PER_SECOND_SETTING,
+                        AssociationDiscovery.DEFAULT_REQUESTS_PER_SECOND)))
+                .build();
+        final List<ResourceModel> models = new ArrayList<>();
+        final String productsPageToken;
+        try {
+            productsPageToken = discovery.discover(nextToken, models::add);
+        } catch (SdkException e) {
+            throw ExceptionTranslator.translateToCfnException(e);
+        }
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModels(models)
+                .nextToken(productsPageToken)
+                .status(OperationStatus.SUCCESS)
+                .build();
+    }
+
+    /**
+     * Returns one page of models, passing the service page token through as the next token.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> listPage(final ActionAssociationController controller, final String productId,
+                                                                   final String provisioningArtifactId, final String nextToken) {
+        final ListServiceActionsForProvisioningArtifactResponse response = controller.listServiceActionsPage(productId, provisioningArtifactId, nextToken);
+        final List<ResourceModel> models = new ArrayList<>(response.serviceActionSummaries().size());
+        for (final ServiceActionSummary summary : response.serviceActionSummaries()) {
+            models.add(ResourceModel.builder()
+                    .productId(productId)
+                    .provisioningArtifactId(provisioningArtifactId)
+                    .serviceActionId(summary.id())
+                    .build());
+        }
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModels(models)
+                .nextToken(StringUtils.isNullOrEmpty(response.nextPageToken()) ? null : response.nextPageToken())
+                .status(OperationStatus.SUCCESS)
+                .build();
+    }
+
     private List<ResourceModel> buildListResourceModel(List<String> serviceActionIds, final String productId, final String provisioningArtifactId) {
         return serviceActionIds.stream().map(actionId -> ResourceModel.builder()
                 .productId(productId)
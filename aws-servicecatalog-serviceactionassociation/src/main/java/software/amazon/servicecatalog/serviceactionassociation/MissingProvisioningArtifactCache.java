@@ -0,0 +1,110 @@
+package software.amazon.servicecatalog.serviceactionassociation;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.LongSupplier;
+
+import software.amazon.awssdk.services.servicecatalog.model.ResourceNotFoundException;
+import software.amazon.servicecatalog.HandlerSettings;
+
+/**
+ * Container-scoped negative cache of products and provisioning artifacts Service Catalog reported as not found.
+ *
+ * When a listing for a (productId, provisioningArtifactId) pair fails with ResourceNotFoundException, the failure is
+ * remembered for a short TTL and handed to later requests for the same pair without calling the service, so sibling
+ * associations of a parent deleted out of band fail fast. A successful call that proves the pair exists forgets it.
+ * Entries are keyed by {@link software.amazon.servicecatalog.RequestScope}, and the least recently used entry is
+ * dropped when the cache is full.
+ */
+public class MissingProvisioningArtifactCache {
+
+    /**
+     * Milliseconds a not found result is remembered, 0 disables the cache.
+     */
+    public static final String TTL_SETTING = "missingProvisioningArtifactTtlMillis";
+
+    static final long DEFAULT_TTL_MILLIS = 30_000L;
+    static final int MAX_ENTRIES = 256;
+
+    private static final MissingProvisioningArtifactCache INSTANCE = new MissingProvisioningArtifactCache(
+            HandlerSettings.getInt(TTL_SETTING, (int) DEFAULT_TTL_MILLIS), MAX_ENTRIES, System::currentTimeMillis);
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final LinkedHashMap<String, Missing> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    MissingProvisioningArtifactCache(final long ttlMillis, final int maxEntries, final LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    public static MissingProvisioningArtifactCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the message of the recent not found result for the pair, or null when the pair is not known to be missing.
+     */
+    public String getNotFoundMessage(final String scope, final String productId, final String provisioningArtifactId) {
+        final String key = key(scope, productId, provisioningArtifactId);
+        synchronized (entries) {
+            final Missing missing = entries.get(key);
+            if (missing == null) {
+                return null;
+            }
+            if (clock.getAsLong() - missing.recordedMillis > ttlMillis) {
+                entries.remove(key);
+                return null;
+            }
+            return missing.message;
+        }
+    }
+
+    public void recordMissing(final String scope, final String productId, final String provisioningArtifactId, final ResourceNotFoundException e) {
+        if (ttlMillis <= 0) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key(scope, productId, provisioningArtifactId), new Missing(e.getMessage(), clock.getAsLong()));
+            final Iterator<String> iterator = entries.keySet().iterator();
+            while (entries.size() > maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    public void recordFound(final String scope, final String productId, final String provisioningArtifactId) {
+        synchronized (entries) {
+            entries.remove(key(scope, productId, provisioningArtifactId));
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static String key(final String scope, final String productId, final String provisioningArtifactId) {
+        return scope + "/" + productId + "/" + provisioningArtifactId;
+    }
+
+    private static class Missing {
+        private final String message;
+        private final long recordedMillis;
+
+        Missing(final String message, final long recordedMillis) {
+            this.message = message;
+            this.recordedMillis = recordedMillis;
+        }
+    }
+}
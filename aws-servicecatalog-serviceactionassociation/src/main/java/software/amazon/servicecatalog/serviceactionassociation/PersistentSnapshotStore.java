@@ -0,0 +1,317 @@
+package software.amazon.servicecatalog.serviceactionassociation;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import software.amazon.servicecatalog.HandlerSettings;
+
+/**
+ * Opt-in snapshot store persisted in a memory-mapped file under the container's temporary directory (/tmp on Lambda).
+ *
+ * It keeps the service action ids listed for each (productId, provisioningArtifactId) pair with the time they were
+ * listed, so read-only operations in a later handler instance or process of the same container can skip the listing
+ * while the snapshot is younger than the TTL. Snapshots here may be stale by up to the TTL, so they are only used for
+ * List and Read; Create and Delete only drop the snapshots their own changes invalidate and never read them.
+ *
+ * File layout, all numbers big endian:
+ * <pre>
+ * header: int magic, int version, int entryCount, int usedBytes
+ * entry:  short keyLength, byte[] key, long listedMillis, int idCount, idCount * (short idLength, byte[] id)
+ * </pre>
+ * Strings are UTF-8. The file has a fixed size; when an update does not fit, the oldest snapshots are evicted. Access is
+ * guarded by a file lock so several processes can share the file. A lookup decodes only the entry it looks for and
+ * steps over the others by their lengths. Any I/O failure is treated as a cache miss.
+ */
+public class PersistentSnapshotStore {
+
+    /**
+     * Set to true to enable the store.
+     */
+    public static final String ENABLED_SETTING = "persistentSnapshots";
+
+    /**
+     * Milliseconds a persisted snapshot is used.
+     */
+    public static final String TTL_SETTING = "persistentSnapshotTtlMillis";
+
+    /**
+     * Size of the snapshot file in bytes.
+     */
+    public static final String MAX_BYTES_SETTING = "persistentSnapshotMaxBytes";
+
+    static final String FILE_NAME = "servicecatalog-association-snapshots.bin";
+    static final long DEFAULT_TTL_MILLIS = 60_000L;
+    static final int DEFAULT_MAX_BYTES = 1024 * 1024;
+
+    private static final int MAGIC = 0x53434153;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int ENTRY_COUNT_OFFSET = 8;
+    private static final int USED_BYTES_OFFSET = 12;
+
+    private static final PersistentSnapshotStore CONFIGURED = open();
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    PersistentSnapshotStore(final Path file, final int maxBytes, final long ttlMillis, final LongSupplier clock) throws IOException {
+        if (maxBytes <= HEADER_BYTES) {
+            throw new IllegalArgumentException(String.format("%s must be larger than %d", MAX_BYTES_SETTING, HEADER_BYTES));
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, maxBytes);
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the store of this container, or null when it is not enabled or the file cannot be mapped.
+     */
+    public static PersistentSnapshotStore getConfigured() {
+        return CONFIGURED;
+    }
+
+    private static PersistentSnapshotStore open() {
+        if (!Boolean.parseBoolean(HandlerSettings.get(ENABLED_SETTING, "false"))) {
+            return null;
+        }
+        try {
+            return new PersistentSnapshotStore(Paths.get(System.getProperty("java.io.tmpdir"), FILE_NAME),
+                    HandlerSettings.getInt(MAX_BYTES_SETTING, DEFAULT_MAX_BYTES),
+                    HandlerSettings.getInt(TTL_SETTING, (int) DEFAULT_TTL_MILLIS),
+                    System::currentTimeMillis);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the persisted service action ids of the pair, or null when there is no snapshot younger than the TTL.
+     */
+    public synchronized List<String> get(final String scope, final String productId, final String provisioningArtifactId) {
+        final byte[] key = key(scope, productId, provisioningArtifactId).getBytes(StandardCharsets.UTF_8);
+        try {
+            final FileLock lock = channel.lock(0, buffer.capacity(), true);
+            try {
+                return findEntry(key, clock.getAsLong());
+            } finally {
+                lock.release();
+            }
+        } catch (IOException | OverlappingFileLockException e) {
+            return null;
+        }
+    }
+
+    public synchronized void put(final String scope, final String productId, final String provisioningArtifactId, final Collection<String> serviceActionIds) {
+        update(key(scope, productId, provisioningArtifactId), new Snapshot(clock.getAsLong(), new ArrayList<>(serviceActionIds)));
+    }
+
+    /**
+     * Drops the snapshot of the pair. Returns false when the file could not be locked or updated, in which case a
+     * stale snapshot may still be read until it expires.
+     */
+    public synchronized boolean remove(final String scope, final String productId, final String provisioningArtifactId) {
+        return update(key(scope, productId, provisioningArtifactId), null);
+    }
+
+    private boolean update(final String key, final Snapshot snapshot) {
+        try {
+            final FileLock lock = channel.lock(0, buffer.capacity(), false);
+            try {
+                final LinkedHashMap<String, Snapshot> entries = readEntries();
+                final long now = clock.getAsLong();
+                entries.values().removeIf(entry -> now - entry.listedMillis > ttlMillis);
+                entries.remove(key);
+                if (snapshot != null) {
+                    entries.put(key, snapshot);
+                }
+                evictOverflow(entries);
+                writeEntries(entries);
+            } finally {
+                lock.release();
+            }
+            return true;
+        } catch (IOException | OverlappingFileLockException e) {
+            // The store is a best effort cache, a failed update leaves the previous snapshots in place.
+            return false;
+        }
+    }
+
+    private void evictOverflow(final LinkedHashMap<String, Snapshot> entries) {
+        int usedBytes = HEADER_BYTES;
+        for (final Map.Entry<String, Snapshot> entry : entries.entrySet()) {
+            usedBytes += encodedSize(entry.getKey(), entry.getValue());
+        }
+        final Iterator<Map.Entry<String, Snapshot>> iterator = entries.entrySet().iterator();
+        while (usedBytes > buffer.capacity() && iterator.hasNext()) {
+            final Map.Entry<String, Snapshot> oldest = iterator.next();
+            usedBytes -= encodedSize(oldest.getKey(), oldest.getValue());
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Returns the service action ids of the entry with the key if it is younger than the TTL, decoding no other entry.
+     */
+    private List<String> findEntry(final byte[] key, final long now) {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            return null;
+        }
+        final int entryCount = buffer.getInt(ENTRY_COUNT_OFFSET);
+        try {
+            buffer.limit(Math.min(buffer.getInt(USED_BYTES_OFFSET), buffer.capacity()));
+            buffer.position(HEADER_BYTES);
+            for (int i = 0; i < entryCount; i++) {
+                final boolean matches = keyMatches(key);
+                final long listedMillis = buffer.getLong();
+                final int idCount = buffer.getInt();
+                if (!matches) {
+                    for (int j = 0; j < idCount; j++) {
+                        skipString();
+                    }
+                    continue;
+                }
+                if (now - listedMillis > ttlMillis) {
+                    return null;
+                }
+                final List<String> serviceActionIds = new ArrayList<>(idCount);
+                for (int j = 0; j < idCount; j++) {
+                    serviceActionIds.add(readString());
+                }
+                return serviceActionIds;
+            }
+            return null;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return null;
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Reads the key at the buffer position and returns whether it equals {@code key}, leaving the position after it.
+     */
+    private boolean keyMatches(final byte[] key) {
+        final int length = buffer.getShort() & 0xFFFF;
+        final int start = buffer.position();
+        buffer.position(start + length);
+        if (length != key.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(start + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private LinkedHashMap<String, Snapshot> readEntries() {
+        final LinkedHashMap<String, Snapshot> entries = new LinkedHashMap<>();
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            return entries;
+        }
+        final int entryCount = buffer.getInt(ENTRY_COUNT_OFFSET);
+        try {
+            buffer.limit(Math.min(buffer.getInt(USED_BYTES_OFFSET), buffer.capacity()));
+            buffer.position(HEADER_BYTES);
+            for (int i = 0; i < entryCount; i++) {
+                final String key = readString();
+                final long listedMillis = buffer.getLong();
+                final int idCount = buffer.getInt();
+                final List<String> serviceActionIds = new ArrayList<>(idCount);
+                for (int j = 0; j < idCount; j++) {
+                    serviceActionIds.add(readString());
+                }
+                entries.put(key, new Snapshot(listedMillis, serviceActionIds));
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            // A truncated or foreign file is treated as empty and overwritten by the next update.
+            entries.clear();
+        } finally {
+            buffer.clear();
+        }
+        return entries;
+    }
+
+    private void writeEntries(final LinkedHashMap<String, Snapshot> entries) {
+        // The entry count is cleared first so a reader of an interrupted write sees an empty store.
+        buffer.putInt(ENTRY_COUNT_OFFSET, 0);
+        buffer.position(HEADER_BYTES);
+        try {
+            for (final Map.Entry<String, Snapshot> entry : entries.entrySet()) {
+                writeString(entry.getKey());
+                buffer.putLong(entry.getValue().listedMillis);
+                buffer.putInt(entry.getValue().serviceActionIds.size());
+                for (final String serviceActionId : entry.getValue().serviceActionIds) {
+                    writeString(serviceActionId);
+                }
+            }
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(USED_BYTES_OFFSET, buffer.position());
+            buffer.putInt(ENTRY_COUNT_OFFSET, entries.size());
+        } catch (BufferOverflowException e) {
+            // Only a single snapshot larger than the file can overflow, the store is left empty.
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    private String readString() {
+        final byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void skipString() {
+        final int length = buffer.getShort() & 0xFFFF;
+        buffer.position(buffer.position() + length);
+    }
+
+    private void writeString(final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static int encodedSize(final String key, final Snapshot snapshot) {
+        int size = Short.BYTES + key.getBytes(StandardCharsets.UTF_8).length + Long.BYTES + Integer.BYTES;
+        for (final String serviceActionId : snapshot.serviceActionIds) {
+            size += Short.BYTES + serviceActionId.getBytes(StandardCharsets.UTF_8).length;
+        }
+        return size;
+    }
+
+    private static String key(final String scope, final String productId, final String provisioningArtifactId) {
+        return scope + "/" + productId + "/" + provisioningArtifactId;
+    }
+
+    private static class Snapshot {
+        private final long listedMillis;
+        private final List<String> serviceActionIds;
+
+        Snapshot(final long listedMillis, final List<String> serviceActionIds) {
+            this.listedMillis = listedMillis;
+            this.serviceActionIds = serviceActionIds;
+        }
+    }
+}
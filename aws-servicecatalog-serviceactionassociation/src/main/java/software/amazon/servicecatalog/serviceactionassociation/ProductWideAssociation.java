@@ -0,0 +1,208 @@
+package software.amazon.servicecatalog.serviceactionassociation;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import software.amazon.awssdk.services.servicecatalog.model.FailedServiceActionAssociation;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociationErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.servicecatalog.HandlerSettings;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Associates one service action with every provisioning artifact of a product, the mode selected by
+ * {@link #ALL_PROVISIONING_ARTIFACTS} as the ProvisioningArtifactId.
+ *
+ * Associating targets the provisioning artifacts ListProvisioningArtifacts returns. A provisioning artifact the service
+ * action was already associated with belongs to some other resource, so only the ones an association actually added are
+ * owned by the resource, and disassociating targets only those. Associations are sent in batches of {@link #MAX_BATCH_SIZE}
+ * provisioning artifacts, with at most {@code parallelism} batches in flight, and a single listing of the service
+ * action's provisioning artifacts checks all of them.
+ */
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductWideAssociation {
+
+    /**
+     * ProvisioningArtifactId that selects every provisioning artifact of the product.
+     */
+    public static final String ALL_PROVISIONING_ARTIFACTS = "*";
+
+    /**
+     * Batch calls in flight at once.
+     */
+    public static final String PARALLELISM_SETTING = "fanOutParallelism";
+
+    /**
+     * Largest number of associations the batch associate and disassociate operations accept per call.
+     */
+    public static final int MAX_BATCH_SIZE = 50;
+
+    static final int DEFAULT_PARALLELISM = 4;
+
+    private static final String FAN_OUT_LOG = "Fanning serviceAction: %s out to %d provisioningArtifacts of product: %s in %d batches";
+    private static final String FAILURE = "%s (%s: %s)";
+    private static final String INTERRUPTED = "Interrupted while fanning out service action associations";
+
+    private final ActionAssociationController controller;
+    private final Logger logger;
+    private final int parallelism;
+
+    public static boolean isProductWide(final String provisioningArtifactId) {
+        return ALL_PROVISIONING_ARTIFACTS.equals(provisioningArtifactId);
+    }
+
+    public static ProductWideAssociation configured(final ActionAssociationController controller, final Logger logger) {
+        return ProductWideAssociation.builder()
+                .controller(controller)
+                .logger(logger)
+                .parallelism(HandlerSettings.getInt(PARALLELISM_SETTING, DEFAULT_PARALLELISM))
+                .build();
+    }
+
+    /**
+     * Associates the service action with every provisioning artifact the product has now.
+     */
+    public Result associate(final String productId, final String serviceActionId) {
+        final List<String> provisioningArtifactIds = controller.listProvisioningArtifactIds(productId);
+        return new Result(provisioningArtifactIds, fanOut(productId, serviceActionId, provisioningArtifactIds,
+                batch -> controller.batchAssociateServiceAction(productId, batch, serviceActionId)));
+    }
+
+    /**
+     * Disassociates the service action from the given provisioning artifacts of the product, which are the ones an
+     * earlier {@link #associate} added.
+     */
+    public Result disassociate(final String productId, final String serviceActionId, final List<String> provisioningArtifactIds) {
+        return new Result(provisioningArtifactIds, fanOut(productId, serviceActionId, provisioningArtifactIds,
+                batch -> controller.batchDisassociateServiceAction(productId, batch, serviceActionId)));
+    }
+
+    public List<String> associatedProvisioningArtifactIds(final String productId, final String serviceActionId) {
+        return controller.listProvisioningArtifactIdsForServiceAction(productId, serviceActionId);
+    }
+
+    private List<FailedServiceActionAssociation> fanOut(final String productId, final String serviceActionId, final List<String> provisioningArtifactIds,
+                                                        final Function<List<String>, List<FailedServiceActionAssociation>> batchCall) {
+        final List<List<String>> batches = new ArrayList<>();
+        for (int from = 0; from < provisioningArtifactIds.size(); from += MAX_BATCH_SIZE) {
+            batches.add(provisioningArtifactIds.subList(from, Math.min(provisioningArtifactIds.size(), from + MAX_BATCH_SIZE)));
+        }
+        logger.log(String.format(FAN_OUT_LOG, serviceActionId, provisioningArtifactIds.size(), productId, batches.size()));
+        if (batches.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (batches.size() == 1 || parallelism <= 1) {
+            return batches.stream().flatMap(batch -> batchCall.apply(batch).stream()).collect(Collectors.toList());
+        }
+        final ExecutorService workers = Executors.newFixedThreadPool(Math.min(parallelism, batches.size()), new WorkerThreadFactory());
+        try {
+            final List<Future<List<FailedServiceActionAssociation>>> pending = new ArrayList<>();
+            for (final List<String> batch : batches) {
+                pending.add(workers.submit(() -> batchCall.apply(batch)));
+            }
+            final List<FailedServiceActionAssociation> failures = new ArrayList<>();
+            for (final Future<List<FailedServiceActionAssociation>> batch : pending) {
+                failures.addAll(await(batch));
+            }
+            return failures;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private static <T> T await(final Future<T> pending) {
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(INTERRUPTED, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * The provisioning artifacts a fan-out targeted, and the items the service could not process.
+     */
+    public static class Result {
+        private final List<String> provisioningArtifactIds;
+        private final List<FailedServiceActionAssociation> failures;
+
+        Result(final List<String> provisioningArtifactIds, final List<FailedServiceActionAssociation> failures) {
+            this.provisioningArtifactIds = provisioningArtifactIds;
+            this.failures = failures;
+        }
+
+        public List<String> getProvisioningArtifactIds() {
+            return provisioningArtifactIds;
+        }
+
+        /**
+         * The targeted provisioning artifacts that did not fail, in target order.
+         */
+        public List<String> getSucceededProvisioningArtifactIds() {
+            final Set<String> failed = failures.stream()
+                    .map(FailedServiceActionAssociation::provisioningArtifactId)
+                    .collect(Collectors.toSet());
+            return provisioningArtifactIds.stream()
+                    .filter(provisioningArtifactId -> !failed.contains(provisioningArtifactId))
+                    .collect(Collectors.toList());
+        }
+
+        /**
+         * True when provisioning artifacts were targeted and every one of them failed with the given error code.
+         */
+        public boolean allFailedWith(final ServiceActionAssociationErrorCode errorCode) {
+            return !provisioningArtifactIds.isEmpty() && failures.size() == provisioningArtifactIds.size()
+                    && failures.stream().allMatch(failure -> failure.errorCode() == errorCode);
+        }
+
+        /**
+         * Failures other than the given error code, which the caller treats as already in the requested state.
+         */
+        public List<FailedServiceActionAssociation> failuresExcept(final ServiceActionAssociationErrorCode errorCode) {
+            return failures.stream()
+                    .filter(failure -> failure.errorCode() != errorCode)
+                    .collect(Collectors.toList());
+        }
+
+        /**
+         * Lists each failed provisioning artifact with its error code and message.
+         */
+        public static String describe(final List<FailedServiceActionAssociation> failures) {
+            return failures.stream()
+                    .map(failure -> String.format(FAILURE, failure.provisioningArtifactId(), failure.errorCodeAsString(), failure.errorMessage()))
+                    .collect(Collectors.joining(", "));
+        }
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "association-fan-out-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,16 +1,23 @@
 package software.amazon.servicecatalog.serviceactionassociation;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.servicecatalog.model.InvalidParametersException;
 import software.amazon.awssdk.services.servicecatalog.model.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.RequestScope;
 import software.amazon.servicecatalog.SCClientBuilder;
 
 public class ReadHandler extends BaseHandler<CallbackContext> {
 
     private static final String RESOURCE_NOT_FOUND_EXCEPTION = "ServiceAction %s with product id %s and provisioning artifact id %s not found";
+    private static final String OWNERSHIP_UNKNOWN_EXCEPTION = "Product-wide association of ServiceAction %s with product id %s has no "
+            + "AssociatedProvisioningArtifactIds, so the provisioning artifacts it owns are unknown";
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -23,7 +30,12 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
                 .builder()
                 .logger(logger)
                 .proxy(proxy)
-                .scClient(SCClientBuilder.getClient())
+                .scClient(SCClientBuilder.getClient(request.getRegion()))
+                .snapshotCache(AssociationSnapshotCache.getInstance())
+                .requestScope(RequestScope.of(request.getAwsAccountId(), request.getRegion()))
+                .missingArtifactCache(MissingProvisioningArtifactCache.getInstance())
+                .persistentSnapshots(PersistentSnapshotStore.getConfigured())
+                .lookupStats(AssociationLookupStats.getInstance())
                 .build();
 
         try {
@@ -31,8 +43,24 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
             final String serviceActionId = desiredModel.getServiceActionId();
             final String productId = desiredModel.getProductId();
             final String provisioningArtifactId = desiredModel.getProvisioningArtifactId();
-            final boolean isMatch = controller.isServiceActionAssociatedToPA(productId, provisioningArtifactId, serviceActionId);
-            if(isMatch){
+            if (ProductWideAssociation.isProductWide(provisioningArtifactId)) {
+                if (desiredModel.getAssociatedProvisioningArtifactIds() == null) {
+                    throw InvalidParametersException.builder().message(String.format(OWNERSHIP_UNKNOWN_EXCEPTION, serviceActionId, productId)).build();
+                }
+                final List<String> associated = ownedProvisioningArtifactIds(desiredModel,
+                        ProductWideAssociation.configured(controller, logger).associatedProvisioningArtifactIds(productId, serviceActionId));
+                if (associated.isEmpty()) {
+                    throw ResourceNotFoundException.builder().message(String.format(RESOURCE_NOT_FOUND_EXCEPTION, serviceActionId, productId, provisioningArtifactId)).build();
+                }
+                return ProgressEvent.defaultSuccessHandler(ResourceModel
+                        .builder()
+                        .serviceActionId(serviceActionId)
+                        .provisioningArtifactId(provisioningArtifactId)
+                        .productId(productId)
+                        .associatedProvisioningArtifactIds(associated)
+                        .build());
+            }
+            if(controller.isServiceActionAssociatedToPA(productId, provisioningArtifactId, serviceActionId)){
                 ResourceModel resourceModel = ResourceModel
                         .builder()
                         .serviceActionId(serviceActionId)
@@ -47,4 +75,14 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
             throw ExceptionTranslator.translateToCfnException(e);
         }
     }
+
+    /**
+     * The provisioning artifacts of a product-wide model that are still associated, in model order. Associations the
+     * model does not record, such as those of other resources, are never taken over.
+     */
+    private static List<String> ownedProvisioningArtifactIds(final ResourceModel model, final List<String> associated) {
+        return model.getAssociatedProvisioningArtifactIds().stream()
+                .filter(associated::contains)
+                .collect(Collectors.toList());
+    }
 }
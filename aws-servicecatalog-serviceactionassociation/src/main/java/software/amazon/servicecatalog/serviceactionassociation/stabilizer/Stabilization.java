@@ -8,8 +8,11 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.servicecatalog.serviceactionassociation.ActionAssociationController;
 import software.amazon.servicecatalog.serviceactionassociation.CallbackContext;
+import software.amazon.servicecatalog.serviceactionassociation.ProductWideAssociation;
 import software.amazon.servicecatalog.serviceactionassociation.ResourceModel;
 
+import java.util.List;
+
 import static software.amazon.servicecatalog.serviceactionassociation.HandlerConstants.POLL_RETRY_DELAY_SECONDS;
 
 /**
@@ -18,6 +21,7 @@ import static software.amazon.servicecatalog.serviceactionassociation.HandlerCon
 public class Stabilization {
     private static final String CREATE_RETRIES = "Create service action retries remaining: %s";
     private static final String DELETE_RETRIES = "Delete service action retries remaining: %s";
+    private static final String PRODUCT_WIDE_RETRIES = "%s product-wide service action retries remaining: %s, %d of %d provisioning artifacts pending";
 
     public static ProgressEvent<ResourceModel, CallbackContext> handleCreateStabilizeRequest(final ActionAssociationController actionController, final ResourceHandlerRequest<ResourceModel> request,
                                                                                              final CallbackContext callbackContext,
@@ -28,7 +32,7 @@ public class Stabilization {
             throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, callbackContext.getServiceActionId());
         }
         try {
-            final boolean isMatch = actionController.isServiceActionAssociatedToPA(callbackContext.getProductId(), callbackContext.getProvisioningArtifactId(), callbackContext.getServiceActionId());
+            final boolean isMatch = actionController.isServiceActionAssociatedToPA(callbackContext.getProductId(), callbackContext.getProvisioningArtifactId(), callbackContext.getServiceActionId(), true);
             logger.log(String.format(CREATE_RETRIES, callbackContext.getStabilizationRetriesRemaining()));
             if(isMatch){
                 return ProgressEvent.defaultSuccessHandler(model);
@@ -54,7 +58,7 @@ public class Stabilization {
             throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, callbackContext.getServiceActionId());
         }
         try {
-            final boolean isMatch = actionController.isServiceActionAssociatedToPA(callbackContext.getProductId(), callbackContext.getProvisioningArtifactId(), callbackContext.getServiceActionId());
+            final boolean isMatch = actionController.isServiceActionAssociatedToPA(callbackContext.getProductId(), callbackContext.getProvisioningArtifactId(), callbackContext.getServiceActionId(), false);
             logger.log(String.format(DELETE_RETRIES, callbackContext.getStabilizationRetriesRemaining()));
             if(isMatch){
                 return ProgressEvent.defaultInProgressHandler(
@@ -70,4 +74,70 @@ public class Stabilization {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, callbackContext.getServiceActionId(), ex);
         }
     }
+
+    /**
+     * Checks every provisioning artifact of a product-wide association with one listing from the service action side.
+     * The stabilized model records the provisioning artifacts the association owns, for Delete.
+     */
+    public static ProgressEvent<ResourceModel, CallbackContext> handleProductWideCreateStabilizeRequest(final ProductWideAssociation productWideAssociation, final ResourceHandlerRequest<ResourceModel> request,
+                                                                                                        final CallbackContext callbackContext,
+                                                                                                        final Logger logger) {
+        final ResourceModel model = request.getDesiredResourceState();
+        if (callbackContext.getStabilizationRetriesRemaining() == 0) {
+            logger.log("Create retries remaining zero");
+            throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, callbackContext.getServiceActionId());
+        }
+        try {
+            final List<String> associated = productWideAssociation.associatedProvisioningArtifactIds(callbackContext.getProductId(), callbackContext.getServiceActionId());
+            final long pending = callbackContext.getProvisioningArtifactIds().stream().filter(id -> !associated.contains(id)).count();
+            logger.log(String.format(PRODUCT_WIDE_RETRIES, "Create", callbackContext.getStabilizationRetriesRemaining(), pending, callbackContext.getProvisioningArtifactIds().size()));
+            if (pending == 0) {
+                return ProgressEvent.defaultSuccessHandler(ResourceModel.builder()
+                        .productId(model.getProductId())
+                        .provisioningArtifactId(model.getProvisioningArtifactId())
+                        .serviceActionId(model.getServiceActionId())
+                        .associatedProvisioningArtifactIds(callbackContext.getProvisioningArtifactIds())
+                        .build());
+            }
+            return ProgressEvent.defaultInProgressHandler(
+                    callbackContext.toBuilder()
+                            .stabilizationRetriesRemaining(callbackContext.getStabilizationRetriesRemaining() - 1)
+                            .build(),
+                    POLL_RETRY_DELAY_SECONDS,
+                    model);
+        } catch (ResourceNotFoundException ex) {
+            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, callbackContext.getServiceActionId(), ex);
+        }
+    }
+
+    /**
+     * Checks every provisioning artifact of a product-wide association with one listing from the service action side. A
+     * service action that no longer exists has no associations left.
+     */
+    public static ProgressEvent<ResourceModel, CallbackContext> handleProductWideDeleteStabilizeRequest(final ProductWideAssociation productWideAssociation, final ResourceHandlerRequest<ResourceModel> request,
+                                                                                                        final CallbackContext callbackContext,
+                                                                                                        final Logger logger) {
+        final ResourceModel model = request.getDesiredResourceState();
+        if (callbackContext.getStabilizationRetriesRemaining() == 0) {
+            logger.log("Delete retries remaining zero");
+            throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, callbackContext.getServiceActionId());
+        }
+        long pending = 0;
+        try {
+            final List<String> associated = productWideAssociation.associatedProvisioningArtifactIds(callbackContext.getProductId(), callbackContext.getServiceActionId());
+            pending = callbackContext.getProvisioningArtifactIds().stream().filter(associated::contains).count();
+        } catch (ResourceNotFoundException ex) {
+            logger.log(String.format("Service action %s not found", callbackContext.getServiceActionId()));
+        }
+        logger.log(String.format(PRODUCT_WIDE_RETRIES, "Delete", callbackContext.getStabilizationRetriesRemaining(), pending, callbackContext.getProvisioningArtifactIds().size()));
+        if (pending == 0) {
+            return ProgressEvent.defaultSuccessHandler(null);
+        }
+        return ProgressEvent.defaultInProgressHandler(
+                callbackContext.toBuilder()
+                        .stabilizationRetriesRemaining(callbackContext.getStabilizationRetriesRemaining() - 1)
+                        .build(),
+                POLL_RETRY_DELAY_SECONDS,
+                model);
+    }
 }
@@ -0,0 +1,62 @@
+package software.amazon.servicecatalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogClient;
+import software.amazon.cloudformation.LambdaWrapper;
+
+public class HttpTransportTest {
+    private static final String TRANSPORT_PROPERTY = HandlerSettings.toPropertyName(HandlerSettings.HTTP_TRANSPORT);
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty(TRANSPORT_PROPERTY);
+    }
+
+    @Test
+    public void configured_DefaultsToApache() {
+        assertThat(HttpTransport.configured()).isEqualTo(HttpTransport.APACHE);
+        assertThat(HttpTransport.APACHE.httpClient()).isSameAs(LambdaWrapper.HTTP_CLIENT);
+    }
+
+    @Test
+    public void configured_ReadsSystemProperty() {
+        System.setProperty(TRANSPORT_PROPERTY, " url_connection ");
+
+        assertThat(HttpTransport.configured()).isEqualTo(HttpTransport.URL_CONNECTION);
+    }
+
+    @Test
+    public void fromName_UnknownTransport() {
+        assertThatThrownBy(() -> HttpTransport.fromName("netty"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("netty");
+    }
+
+    @Test
+    public void httpClient_BuiltOncePerTransport() {
+        assertThat(HttpTransport.URL_CONNECTION.httpClient()).isSameAs(HttpTransport.URL_CONNECTION.httpClient());
+        assertThat(HttpTransport.POOLED.httpClient()).isSameAs(HttpTransport.POOLED.httpClient());
+        assertThat(HttpTransport.POOLED.httpClient()).isNotSameAs(HttpTransport.APACHE.httpClient());
+    }
+
+    @Test
+    public void buildClient_UsesConfiguredTransport() {
+        System.setProperty(TRANSPORT_PROPERTY, HttpTransport.POOLED.name());
+
+        try (ServiceCatalogClient client = SCClientBuilder.buildClient("us-west-2")) {
+            assertThat(client).isNotNull();
+        }
+        assertThat(HttpTransport.POOLED.httpClient().clientName()).isEqualTo("Apache");
+    }
+
+    @Test
+    public void handlerSettings_EnvironmentVariableName() {
+        assertThat(HandlerSettings.toEnvironmentVariable(HandlerSettings.HTTP_TRANSPORT))
+                .isEqualTo("SERVICECATALOG_HTTP_TRANSPORT");
+        assertThat(HandlerSettings.get("unsetSetting", "fallback")).isEqualTo("fallback");
+    }
+}
@@ -0,0 +1,60 @@
+package software.amazon.servicecatalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RateLimiterTest {
+
+    private AtomicLong now;
+    private List<Long> sleeps;
+
+    @BeforeEach
+    public void setup() {
+        now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+        sleeps = new ArrayList<>();
+    }
+
+    @Test
+    public void acquire_Burst_SpacesCallsAtTheRate() {
+        final RateLimiter limiter = new RateLimiter(4, now::get, sleeps::add);
+
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire();
+        }
+
+        assertThat(sleeps).containsExactly(
+                TimeUnit.MILLISECONDS.toNanos(250),
+                TimeUnit.MILLISECONDS.toNanos(500),
+                TimeUnit.MILLISECONDS.toNanos(750));
+    }
+
+    @Test
+    public void acquire_AfterIdlePeriod_DoesNotBurstMissedPermits() {
+        final RateLimiter limiter = new RateLimiter(4, now::get, sleeps::add);
+        limiter.acquire();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        limiter.acquire();
+        limiter.acquire();
+
+        assertThat(sleeps).containsExactly(TimeUnit.MILLISECONDS.toNanos(250));
+    }
+
+    @Test
+    public void acquire_ZeroRate_NeverWaits() {
+        final RateLimiter limiter = new RateLimiter(0, now::get, sleeps::add);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire();
+        }
+
+        assertThat(sleeps).isEmpty();
+    }
+}
@@ -0,0 +1,121 @@
+package software.amazon.servicecatalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SingleFlightTest {
+    private static final int CALLERS = 8;
+
+    private SingleFlight<String, String> singleFlight;
+    private AtomicInteger calls;
+    private CountDownLatch release;
+
+    @BeforeEach
+    public void setup() {
+        singleFlight = new SingleFlight<>();
+        calls = new AtomicInteger();
+        release = new CountDownLatch(1);
+    }
+
+    @Test
+    public void execute_ConcurrentCallersShareOneCall() throws Exception {
+        final List<String> results = new CopyOnWriteArrayList<>();
+        final List<Thread> callers = startCallers(() -> results.add(singleFlight.execute("key", this::blockingCall)));
+
+        awaitWaiting(callers);
+        release.countDown();
+        joinAll(callers);
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(results).hasSize(CALLERS).containsOnly("value-1");
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    public void execute_ConcurrentCallersShareException() throws Exception {
+        final List<Throwable> failures = new CopyOnWriteArrayList<>();
+        final List<Thread> callers = startCallers(() -> {
+            try {
+                singleFlight.execute("key", () -> {
+                    blockingCall();
+                    throw new IllegalStateException("listing failed");
+                });
+            } catch (IllegalStateException e) {
+                failures.add(e);
+            }
+        });
+
+        awaitWaiting(callers);
+        release.countDown();
+        joinAll(callers);
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(failures).hasSize(CALLERS);
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    public void execute_SequentialCallsAreNotShared() {
+        release.countDown();
+
+        assertThat(singleFlight.execute("key", this::blockingCall)).isEqualTo("value-1");
+        assertThat(singleFlight.execute("key", this::blockingCall)).isEqualTo("value-2");
+        assertThat(singleFlight.execute("other", this::blockingCall)).isEqualTo("value-3");
+    }
+
+    @Test
+    public void execute_FailedCallIsNotRemembered() {
+        assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+            throw new IllegalStateException("listing failed");
+        })).isInstanceOf(IllegalStateException.class);
+        release.countDown();
+
+        assertThat(singleFlight.execute("key", this::blockingCall)).isEqualTo("value-1");
+    }
+
+    private String blockingCall() {
+        final int call = calls.incrementAndGet();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "value-" + call;
+    }
+
+    private static List<Thread> startCallers(final Runnable caller) {
+        final List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            final Thread thread = new Thread(caller);
+            thread.start();
+            callers.add(thread);
+        }
+        return callers;
+    }
+
+    /**
+     * Waits until every caller is parked, either running the call or waiting for it.
+     */
+    static void awaitWaiting(final List<Thread> callers) throws InterruptedException {
+        for (final Thread caller : callers) {
+            while (caller.getState() != Thread.State.WAITING) {
+                Thread.sleep(1L);
+            }
+        }
+    }
+
+    private static void joinAll(final List<Thread> callers) throws InterruptedException {
+        for (final Thread caller : callers) {
+            caller.join();
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package software.amazon.servicecatalog.serviceactionassociation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogAsyncClient;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogClient;
+import software.amazon.awssdk.services.servicecatalog.model.AssociateServiceActionWithProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.AssociateServiceActionWithProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.DisassociateServiceActionFromProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.DisassociateServiceActionFromProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ListProvisioningArtifactsForServiceActionRequest;
+import software.amazon.awssdk.services.servicecatalog.model.ListProvisioningArtifactsForServiceActionResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ProductViewSummary;
+import software.amazon.awssdk.services.servicecatalog.model.ProvisioningArtifact;
+import software.amazon.awssdk.services.servicecatalog.model.ProvisioningArtifactView;
+import software.amazon.awssdk.services.servicecatalog.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionSummary;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.servicecatalog.PrefetchingPaginator;
+import software.amazon.servicecatalog.RequestScope;
+
+@ExtendWith(MockitoExtension.class)
+public class ActionAssociationControllerTest {
+
+    private static final String PRODUCT_ID = "prod-sdfg1234";
+    private static final String PROVISIONING_ARTIFACT_ID = "pa-dfergbr1232r4";
+    private static final String SERVICE_ACTION_ID = "act-12413asd";
+    private static final int CONCURRENT_CALLERS = 8;
+
+    private ActionAssociationController controller;
+    private ListServiceActionsForProvisioningArtifactResponse firstPage;
+    private ListServiceActionsForProvisioningArtifactResponse secondPage;
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private Logger logger;
+
+    @Mock
+    private ServiceCatalogAsyncClient scAsyncClient;
+
+    @Mock
+    private ServiceCatalogClient scClient;
+
+    @BeforeEach
+    public void setup() {
+        controller = ActionAssociationController
+                .builder()
+                .logger(logger)
+                .proxy(proxy)
+                .scAsyncClient(scAsyncClient)
+                .build();
+        firstPage = ListServiceActionsForProvisioningArtifactResponse.builder()
+                .serviceActionSummaries(ImmutableList.of(
+                        ServiceActionSummary.builder().id("act-fake1").build(),
+                        ServiceActionSummary.builder().id("act-fake2").build()))
+                .nextPageToken("page-2")
+                .build();
+        secondPage = ListServiceActionsForProvisioningArtifactResponse.builder()
+                .serviceActionSummaries(ImmutableList.of(ServiceActionSummary.builder().id(SERVICE_ACTION_ID).build()))
+                .build();
+    }
+
+    private ListServiceActionsForProvisioningArtifactRequest listRequest(final String pageToken) {
+        return ListServiceActionsForProvisioningArtifactRequest.builder()
+                .productId(PRODUCT_ID)
+                .provisioningArtifactId(PROVISIONING_ARTIFACT_ID)
+                .pageToken(pageToken)
+                .pageSize(PrefetchingPaginator.MAX_PAGE_SIZE)
+                .build();
+    }
+
+    private ActionAssociationController cachingController() {
+        return controller.toBuilder()
+                .scClient(scClient)
+                .snapshotCache(new AssociationSnapshotCache(60_000L, 16, System::currentTimeMillis))
+                .requestScope(RequestScope.of("123456789012", "us-east-1"))
+                .build();
+    }
+
+    private ListProvisioningArtifactsForServiceActionRequest actionSideRequest(final String serviceActionId, final String pageToken) {
+        return ListProvisioningArtifactsForServiceActionRequest.builder()
+                .serviceActionId(serviceActionId)
+                .pageToken(pageToken)
+                .pageSize(PrefetchingPaginator.MAX_PAGE_SIZE)
+                .build();
+    }
+
+    private ActionAssociationController costBasedController(final AssociationLookupStats stats) {
+        return controller.toBuilder()
+                .scClient(scClient)
+                .requestScope(RequestScope.of("123456789012", "us-east-1"))
+                .lookupStats(stats)
+                .build();
+    }
+
+    @Test
+    public void isServiceActionAssociatedToPA_ManyActionsOnProvisioningArtifact_LooksUpFromServiceActionSide() {
+        doReturn(firstPage).when(proxy).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+        doReturn(secondPage).when(proxy).injectCredentialsAndInvokeV2(eq(listRequest("page-2")), any());
+        doReturn(ListProvisioningArtifactsForServiceActionResponse.builder()
+                .provisioningArtifactViews(ProvisioningArtifactView.builder()
+                        .productViewSummary(ProductViewSummary.builder().productId(PRODUCT_ID).build())
+                        .provisioningArtifact(ProvisioningArtifact.builder().id(PROVISIONING_ARTIFACT_ID).build())
+                        .build())
+                .nextPageToken("pa-page-2")
+                .build())
+                .when(proxy).injectCredentialsAndInvokeV2(eq(actionSideRequest("act-other", null)), any());
+        final ActionAssociationController costBasedController = costBasedController(new AssociationLookupStats(16));
+
+        assertThat(costBasedController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID)).isTrue();
+        assertThat(costBasedController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-other", true)).isTrue();
+
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(eq(listRequest("page-2")), any());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(eq(actionSideRequest("act-other", "pa-page-2")), any());
+    }
+
+    @Test
+    public void isServiceActionAssociatedToPA_ManyProvisioningArtifactsOnAction_LooksUpFromProvisioningArtifactSide() {
+        doReturn(firstPage).when(proxy).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+        final AssociationLookupStats stats = new AssociationLookupStats(16);
+        final String scope = RequestScope.of("123456789012", "us-east-1");
+        stats.recordProvisioningArtifactPages(scope, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, 2, true);
+        stats.recordServiceActionPages(scope, "act-fake1", 5, true);
+
+        assertThat(costBasedController(stats).isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-fake1", true)).isTrue();
+
+        verify(proxy, never()).injectCredentialsAndInvokeV2(eq(listRequest("page-2")), any());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(ListProvisioningArtifactsForServiceActionRequest.class), any());
+    }
+
+    @Test
+    public void isServiceActionAssociatedToPA_MissingServiceAction_NotAssociatedAndProvisioningArtifactNotRecordedMissing() {
+        doThrow(ResourceNotFoundException.builder().message("not found").build())
+                .when(proxy).injectCredentialsAndInvokeV2(eq(actionSideRequest(SERVICE_ACTION_ID, null)), any());
+        final AssociationLookupStats stats = new AssociationLookupStats(16);
+        stats.recordProvisioningArtifactPages(RequestScope.of("123456789012", "us-east-1"), PRODUCT_ID, PROVISIONING_ARTIFACT_ID, 3, true);
+        final MissingProvisioningArtifactCache missingArtifactCache = new MissingProvisioningArtifactCache(60_000L, 16, System::currentTimeMillis);
+        final ActionAssociationController costBasedController = costBasedController(stats).toBuilder()
+                .missingArtifactCache(missingArtifactCache)
+                .build();
+
+        assertThat(costBasedController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID, false)).isFalse();
+        assertThat(missingArtifactCache.size()).isZero();
+    }
+
+    @Test
+    public void isServiceActionAssociatedToPA_MissingServiceActionWhileExpectingAssociation_FailsNotFound() {
+        doThrow(ResourceNotFoundException.builder().message("not found").build())
+                .when(proxy).injectCredentialsAndInvokeV2(eq(actionSideRequest(SERVICE_ACTION_ID, null)), any());
+        final AssociationLookupStats stats = new AssociationLookupStats(16);
+        stats.recordProvisioningArtifactPages(RequestScope.of("123456789012", "us-east-1"), PRODUCT_ID, PROVISIONING_ARTIFACT_ID, 3, true);
+        final MissingProvisioningArtifactCache missingArtifactCache = new MissingProvisioningArtifactCache(60_000L, 16, System::currentTimeMillis);
+        final ActionAssociationController costBasedController = costBasedController(stats).toBuilder()
+                .missingArtifactCache(missingArtifactCache)
+                .build();
+
+        assertThrows(CfnNotFoundException.class,
+                () -> costBasedController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID, true));
+        assertThrows(CfnNotFoundException.class,
+                () -> costBasedController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID));
+        assertThat(missingArtifactCache.size()).isZero();
+    }
+
+    @Test
+    public void isServiceActionAssociatedToPA_ReusesSnapshot() {
+        doReturn(firstPage).when(proxy).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+        doReturn(secondPage).when(proxy).injectCredentialsAndInvokeV2(eq(listRequest("page-2")), any());
+        final ActionAssociationController cachingController = cachingController();
+
+        assertThat(cachingController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID)).isTrue();
+        assertThat(cachingController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-fake1", true)).isTrue();
+        assertThat(cachingController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-other", false)).isFalse();
+        assertThat(cachingController.listAllServiceActionIdsForProvisioningArtifact(PRODUCT_ID, PROVISIONING_ARTIFACT_ID))
+                .containsExactly("act-fake1", "act-fake2", SERVICE_ACTION_ID);
+
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(eq(listRequest("page-2")), any());
+    }
+
+    @Test
+    public void isServiceActionAssociatedToPA_ListsAgainUntilChangeIsVisible() {
+        final ListServiceActionsForProvisioningArtifactResponse disassociated = ListServiceActionsForProvisioningArtifactResponse.builder()
+                .serviceActionSummaries(ImmutableList.of(ServiceActionSummary.builder().id("act-fake1").build()))
+                .build();
+        doReturn(secondPage, secondPage, disassociated).when(proxy).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+        final ActionAssociationController cachingController = cachingController();
+
+        assertThat(cachingController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID)).isTrue();
+        cachingController.disassociateServiceAction(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID);
+
+        assertThat(cachingController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID, false)).isTrue();
+        assertThat(cachingController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID, false)).isFalse();
+        assertThat(cachingController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID, false)).isFalse();
+
+        verify(proxy, times(3)).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+    }
+
+    @Test
+    public void isServiceActionAssociatedToPA_StabilizationStopsAtMatchWithoutSnapshot() {
+        doReturn(firstPage).when(proxy).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+        final ActionAssociationController cachingController = cachingController();
+
+        assertThat(cachingController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-fake1", true)).isTrue();
+
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(eq(listRequest("page-2")), any());
+    }
+
+    @Test
+    public void isServiceActionAssociatedToPA_StabilizationUpdatesSnapshot() {
+        final ListServiceActionsForProvisioningArtifactResponse associated = firstPage.toBuilder()
+                .serviceActionSummaries(ImmutableList.of(ServiceActionSummary.builder().id("act-new").build()))
+                .build();
+        doReturn(firstPage, associated).when(proxy).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+        doReturn(secondPage).when(proxy).injectCredentialsAndInvokeV2(eq(listRequest("page-2")), any());
+        final ActionAssociationController cachingController = cachingController();
+
+        assertThat(cachingController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-new")).isFalse();
+        cachingController.associateServiceAction(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-new");
+
+        assertThat(cachingController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-new", true)).isTrue();
+        assertThat(cachingController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-new", true)).isTrue();
+        assertThat(cachingController.listAllServiceActionIdsForProvisioningArtifact(PRODUCT_ID, PROVISIONING_ARTIFACT_ID))
+                .containsExactlyInAnyOrder("act-fake1", "act-fake2", SERVICE_ACTION_ID, "act-new");
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(eq(listRequest("page-2")), any());
+    }
+
+    @Test
+    public void isServiceActionAssociatedToPA_MissingProvisioningArtifactFailsFastUntilFound() {
+        doThrow(ResourceNotFoundException.builder().message("not found").build())
+                .doReturn(secondPage)
+                .when(proxy).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+        final ActionAssociationController cachingController = cachingController().toBuilder()
+                .missingArtifactCache(new MissingProvisioningArtifactCache(60_000L, 16, System::currentTimeMillis))
+                .build();
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> cachingController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID, true));
+        assertThrows(ResourceNotFoundException.class,
+                () -> cachingController.listAllServiceActionIdsForProvisioningArtifact(PRODUCT_ID, PROVISIONING_ARTIFACT_ID));
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+
+        cachingController.associateServiceAction(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID);
+
+        assertThat(cachingController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID, true)).isTrue();
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+    }
+
+    @Test
+    public void isServiceActionAssociatedToPA_PersistedSnapshotOnlyUsedWithoutExpectation(@TempDir final Path directory) throws Exception {
+        doReturn(secondPage).when(proxy).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+        final PersistentSnapshotStore store = new PersistentSnapshotStore(
+                directory.resolve(PersistentSnapshotStore.FILE_NAME), 4096, 60_000L, System::currentTimeMillis);
+        store.put(RequestScope.of("123456789012", "us-east-1"), PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-fake1"));
+        final ActionAssociationController cachingController = cachingController().toBuilder()
+                .persistentSnapshots(store)
+                .build();
+
+        assertThat(cachingController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID)).isFalse();
+        assertThat(cachingController.listAllServiceActionIdsForProvisioningArtifact(PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).containsExactly("act-fake1");
+        verify(proxy, never()).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+
+        assertThat(cachingController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID, true)).isTrue();
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+    }
+
+    @Test
+    public void isServiceActionAssociatedToPA_ConcurrentCallersShareOneListing() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return firstPage;
+        }).when(proxy).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+        doReturn(secondPage).when(proxy).injectCredentialsAndInvokeV2(eq(listRequest("page-2")), any());
+        final ActionAssociationController cachingController = cachingController();
+
+        final List<Boolean> results = new CopyOnWriteArrayList<>();
+        runConcurrently(release, () -> results.add(
+                cachingController.isServiceActionAssociatedToPA(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID)));
+
+        assertThat(results).hasSize(CONCURRENT_CALLERS).containsOnly(true);
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(eq(listRequest("page-2")), any());
+    }
+
+    @Test
+    public void listAllServiceActionIdsForProvisioningArtifact_ConcurrentCallersShareOneListing() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return firstPage;
+        }).when(proxy).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+        doReturn(secondPage).when(proxy).injectCredentialsAndInvokeV2(eq(listRequest("page-2")), any());
+        final ActionAssociationController scopedController = controller.toBuilder()
+                .scClient(scClient)
+                .requestScope(RequestScope.of("123456789012", "us-east-1"))
+                .build();
+
+        final List<List<String>> results = new CopyOnWriteArrayList<>();
+        runConcurrently(release, () -> results.add(
+                scopedController.listAllServiceActionIdsForProvisioningArtifact(PRODUCT_ID, PROVISIONING_ARTIFACT_ID)));
+
+        assertThat(results).hasSize(CONCURRENT_CALLERS)
+                .allSatisfy(ids -> assertThat(ids).containsExactly("act-fake1", "act-fake2", SERVICE_ACTION_ID));
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(eq(listRequest("page-2")), any());
+    }
+
+    /**
+     * Starts the callers, releases the blocked listing once every caller is parked on it, and waits for all of them.
+     */
+    private static void runConcurrently(final CountDownLatch release, final Runnable caller) throws InterruptedException {
+        final List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_CALLERS; i++) {
+            final Thread thread = new Thread(caller);
+            thread.start();
+            callers.add(thread);
+        }
+        for (final Thread thread : callers) {
+            while (thread.getState() != Thread.State.WAITING) {
+                Thread.sleep(1L);
+            }
+        }
+        release.countDown();
+        for (final Thread thread : callers) {
+            thread.join();
+        }
+    }
+
+    @Test
+    public void isServiceActionAssociatedToPAAsync_FoundOnSecondPage() {
+        doReturn(CompletableFuture.completedFuture(firstPage)).when(proxy).injectCredentialsAndInvokeV2Async(eq(listRequest(null)), any());
+        doReturn(CompletableFuture.completedFuture(secondPage)).when(proxy).injectCredentialsAndInvokeV2Async(eq(listRequest("page-2")), any());
+
+        assertThat(controller.isServiceActionAssociatedToPAAsync(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID).join()).isTrue();
+    }
+
+    @Test
+    public void isServiceActionAssociatedToPAAsync_StopsAtFirstMatch() {
+        doReturn(CompletableFuture.completedFuture(firstPage)).when(proxy).injectCredentialsAndInvokeV2Async(eq(listRequest(null)), any());
+
+        assertThat(controller.isServiceActionAssociatedToPAAsync(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-fake1").join()).isTrue();
+        verify(proxy, never()).injectCredentialsAndInvokeV2Async(eq(listRequest("page-2")), any());
+    }
+
+    @Test
+    public void isServiceActionAssociatedToPAAsync_NotAssociated() {
+        doReturn(CompletableFuture.completedFuture(firstPage)).when(proxy).injectCredentialsAndInvokeV2Async(eq(listRequest(null)), any());
+        doReturn(CompletableFuture.completedFuture(secondPage)).when(proxy).injectCredentialsAndInvokeV2Async(eq(listRequest("page-2")), any());
+
+        assertThat(controller.isServiceActionAssociatedToPAAsync(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-other").join()).isFalse();
+    }
+
+    @Test
+    public void listAllServiceActionIdsForProvisioningArtifactAsync_FollowsPageTokens() {
+        doReturn(CompletableFuture.completedFuture(firstPage)).when(proxy).injectCredentialsAndInvokeV2Async(eq(listRequest(null)), any());
+        doReturn(CompletableFuture.completedFuture(secondPage)).when(proxy).injectCredentialsAndInvokeV2Async(eq(listRequest("page-2")), any());
+
+        assertThat(controller.listAllServiceActionIdsForProvisioningArtifactAsync(PRODUCT_ID, PROVISIONING_ARTIFACT_ID).join())
+                .containsExactly("act-fake1", "act-fake2", SERVICE_ACTION_ID);
+    }
+
+    @Test
+    public void listServiceActionsAsync_CompletesExceptionally() {
+        final CompletableFuture<ListServiceActionsForProvisioningArtifactResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(ResourceNotFoundException.builder().message("not found").build());
+        doReturn(failed).when(proxy).injectCredentialsAndInvokeV2Async(eq(listRequest(null)), any());
+
+        final CompletionException exception = assertThrows(CompletionException.class,
+                () -> controller.listAllServiceActionIdsForProvisioningArtifactAsync(PRODUCT_ID, PROVISIONING_ARTIFACT_ID).join());
+
+        assertThat(exception.getCause()).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    public void associateAndDisassociateServiceActionAsync_SimpleSuccess() {
+        doReturn(CompletableFuture.completedFuture(AssociateServiceActionWithProvisioningArtifactResponse.builder().build()))
+                .when(proxy).injectCredentialsAndInvokeV2Async(any(AssociateServiceActionWithProvisioningArtifactRequest.class), any());
+        doReturn(CompletableFuture.completedFuture(DisassociateServiceActionFromProvisioningArtifactResponse.builder().build()))
+                .when(proxy).injectCredentialsAndInvokeV2Async(any(DisassociateServiceActionFromProvisioningArtifactRequest.class), any());
+
+        assertThat(controller.associateServiceActionAsync(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID).join()).isNotNull();
+        assertThat(controller.disassociateServiceActionAsync(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID).join()).isNotNull();
+    }
+}
@@ -0,0 +1,196 @@
+package software.amazon.servicecatalog.serviceactionassociation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogClient;
+import software.amazon.awssdk.services.servicecatalog.model.InvalidParametersException;
+import software.amazon.awssdk.services.servicecatalog.model.ListProvisioningArtifactsRequest;
+import software.amazon.awssdk.services.servicecatalog.model.ListProvisioningArtifactsResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ProductViewDetail;
+import software.amazon.awssdk.services.servicecatalog.model.ProductViewSummary;
+import software.amazon.awssdk.services.servicecatalog.model.ProvisioningArtifactDetail;
+import software.amazon.awssdk.services.servicecatalog.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.servicecatalog.model.SearchProductsAsAdminRequest;
+import software.amazon.awssdk.services.servicecatalog.model.SearchProductsAsAdminResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionSummary;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.servicecatalog.RateLimiter;
+
+@ExtendWith(MockitoExtension.class)
+public class AssociationDiscoveryTest {
+
+    private ActionAssociationController controller;
+    private AtomicInteger permits;
+    private AtomicInteger calls;
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private Logger logger;
+
+    @Mock
+    private ServiceCatalogClient scClient;
+
+    @BeforeEach
+    public void setup() {
+        controller = ActionAssociationController
+                .builder()
+                .logger(logger)
+                .proxy(proxy)
+                .scClient(scClient)
+                .build();
+        permits = new AtomicInteger();
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    public void discover_ListsEveryAssociationAndSkipsMissingParents() {
+        doAnswer(invocation -> respond(invocation.getArgument(0))).when(proxy).injectCredentialsAndInvokeV2(any(), any());
+
+        final List<ResourceModel> models = new ArrayList<>();
+        final AssociationDiscovery discovery = buildDiscovery(4);
+        String pageToken = null;
+        do {
+            pageToken = discovery.discover(pageToken, models::add);
+        } while (pageToken != null);
+
+        assertThat(models).extracting(model -> model.getProductId() + "/" + model.getProvisioningArtifactId() + "/" + model.getServiceActionId())
+                .containsExactlyInAnyOrder("prod-1/pa-1/act-1", "prod-1/pa-1/act-2", "prod-1/pa-1/act-3", "prod-2/pa-3/act-1");
+        assertThat(permits.get()).isEqualTo(calls.get());
+    }
+
+    @Test
+    public void discover_ReadsOneProductsPagePerCall() {
+        doAnswer(invocation -> respond(invocation.getArgument(0))).when(proxy).injectCredentialsAndInvokeV2(any(), any());
+
+        final List<ResourceModel> models = new ArrayList<>();
+        final AssociationDiscovery discovery = buildDiscovery(2);
+
+        assertThat(discovery.discover(null, models::add)).isEqualTo("products-2");
+        assertThat(models).extracting(ResourceModel::getProductId).containsOnly("prod-1", "prod-2");
+
+        models.clear();
+        assertThat(discovery.discover("products-2", models::add)).isNull();
+        assertThat(models).isEmpty();
+    }
+
+    @Test
+    public void discover_KeepsOrderOfPagesWithinProvisioningArtifact() {
+        doAnswer(invocation -> respond(invocation.getArgument(0))).when(proxy).injectCredentialsAndInvokeV2(any(), any());
+
+        final List<ResourceModel> models = new ArrayList<>();
+        buildDiscovery(1).discover(null, models::add);
+
+        assertThat(models).filteredOn(model -> "pa-1".equals(model.getProvisioningArtifactId()))
+                .extracting(ResourceModel::getServiceActionId)
+                .containsExactly("act-1", "act-2", "act-3");
+    }
+
+    @Test
+    public void discover_FailedListing_Throws() {
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0) instanceof ListServiceActionsForProvisioningArtifactRequest) {
+                throw InvalidParametersException.builder().message("invalid").build();
+            }
+            return respond(invocation.getArgument(0));
+        }).when(proxy).injectCredentialsAndInvokeV2(any(), any());
+
+        assertThrows(InvalidParametersException.class, () -> buildDiscovery(2).discover(null, model -> { }));
+    }
+
+    private AssociationDiscovery buildDiscovery(final int parallelism) {
+        return AssociationDiscovery.builder()
+                .controller(controller)
+                .logger(logger)
+                .parallelism(parallelism)
+                .rateLimiter(new RateLimiter(0) {
+                    @Override
+                    public void acquire() {
+                        permits.incrementAndGet();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Two pages of products. prod-1 has pa-1 with two pages of associations and pa-2 without any, prod-2 has pa-3, and
+     * prod-3 and pa-4 of prod-2 were deleted after they were listed.
+     */
+    private Object respond(final Object request) {
+        calls.incrementAndGet();
+        if (request instanceof SearchProductsAsAdminRequest) {
+            if (((SearchProductsAsAdminRequest) request).pageToken() == null) {
+                return SearchProductsAsAdminResponse.builder()
+                        .productViewDetails(product("prod-1"), product("prod-2"))
+                        .nextPageToken("products-2")
+                        .build();
+            }
+            return SearchProductsAsAdminResponse.builder().productViewDetails(product("prod-3")).build();
+        }
+        if (request instanceof ListProvisioningArtifactsRequest) {
+            switch (((ListProvisioningArtifactsRequest) request).productId()) {
+                case "prod-1":
+                    return provisioningArtifacts("pa-1", "pa-2");
+                case "prod-2":
+                    return provisioningArtifacts("pa-3", "pa-4");
+                default:
+                    throw ResourceNotFoundException.builder().message("product not found").build();
+            }
+        }
+        final ListServiceActionsForProvisioningArtifactRequest listRequest = (ListServiceActionsForProvisioningArtifactRequest) request;
+        switch (listRequest.provisioningArtifactId()) {
+            case "pa-1":
+                return listRequest.pageToken() == null
+                        ? serviceActions("page-2", "act-1", "act-2")
+                        : serviceActions(null, "act-3");
+            case "pa-2":
+                return serviceActions(null);
+            case "pa-3":
+                return serviceActions(null, "act-1");
+            default:
+                throw ResourceNotFoundException.builder().message("provisioning artifact not found").build();
+        }
+    }
+
+    private ProductViewDetail product(final String productId) {
+        return ProductViewDetail.builder()
+                .productViewSummary(ProductViewSummary.builder().productId(productId).build())
+                .build();
+    }
+
+    private ListProvisioningArtifactsResponse provisioningArtifacts(final String... provisioningArtifactIds) {
+        final List<ProvisioningArtifactDetail> details = new ArrayList<>();
+        for (final String provisioningArtifactId : provisioningArtifactIds) {
+            details.add(ProvisioningArtifactDetail.builder().id(provisioningArtifactId).build());
+        }
+        return ListProvisioningArtifactsResponse.builder().provisioningArtifactDetails(details).build();
+    }
+
+    private ListServiceActionsForProvisioningArtifactResponse serviceActions(final String nextPageToken, final String... serviceActionIds) {
+        final ImmutableList.Builder<ServiceActionSummary> summaries = ImmutableList.builder();
+        for (final String serviceActionId : serviceActionIds) {
+            summaries.add(ServiceActionSummary.builder().id(serviceActionId).build());
+        }
+        return ListServiceActionsForProvisioningArtifactResponse.builder()
+                .serviceActionSummaries(summaries.build())
+                .nextPageToken(nextPageToken)
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package software.amazon.servicecatalog.serviceactionassociation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AssociationIndexTest {
+
+    private static final String PRODUCT_ID = "prod-sdfg1234";
+    private static final String PROVISIONING_ARTIFACT_ID = "pa-dfergbr1232r4";
+
+    private AssociationIndex index;
+
+    @BeforeEach
+    public void setup() {
+        index = new AssociationIndex();
+    }
+
+    @Test
+    public void put_IndexesPairInListingOrder() {
+        index.put(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-2", "act-1", "act-2"));
+
+        assertThat(index.containsPair(PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isTrue();
+        assertThat(index.contains(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-1")).isTrue();
+        assertThat(index.contains(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-3")).isFalse();
+        assertThat(index.contains(PRODUCT_ID, "pa-other", "act-1")).isFalse();
+        assertThat(index.getServiceActionIds(PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).containsExactly("act-2", "act-1");
+        assertThat(index.getServiceActionIds(PRODUCT_ID, "pa-other")).isNull();
+        assertThat(index.associationCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void put_EmptyPair() {
+        index.put(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of());
+
+        assertThat(index.containsPair(PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isTrue();
+        assertThat(index.getServiceActionIds(PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isEmpty();
+    }
+
+    @Test
+    public void put_ReplacesPairAndSharesStrings() {
+        index.put(PRODUCT_ID, "pa-1", ImmutableList.of("act-1", "act-2"));
+        index.put(PRODUCT_ID, "pa-2", ImmutableList.of("act-1", "act-2"));
+        index.put(PRODUCT_ID, "pa-1", ImmutableList.of("act-3"));
+
+        assertThat(index.getServiceActionIds(PRODUCT_ID, "pa-1")).containsExactly("act-3");
+        assertThat(index.getServiceActionIds(PRODUCT_ID, "pa-2")).containsExactly("act-1", "act-2");
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.associationCount()).isEqualTo(3);
+        assertThat(index.stringCount()).isEqualTo(6);
+    }
+
+    @Test
+    public void addAndRemove_SingleAssociations() {
+        assertThat(index.add(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-1")).isFalse();
+        index.put(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1"));
+
+        assertThat(index.add(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-2")).isTrue();
+        assertThat(index.add(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-2")).isFalse();
+        assertThat(index.remove(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-1")).isTrue();
+        assertThat(index.remove(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-1")).isFalse();
+
+        assertThat(index.getServiceActionIds(PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).containsExactly("act-2");
+        assertThat(index.associationCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void remove_DropsPair() {
+        index.put(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1"));
+
+        assertThat(index.remove(PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isTrue();
+        assertThat(index.remove(PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isFalse();
+        assertThat(index.containsPair(PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isFalse();
+        assertThat(index.size()).isZero();
+        assertThat(index.associationCount()).isZero();
+        assertThat(index.stringCount()).isZero();
+    }
+
+    @Test
+    public void randomOperations_MatchReferenceMap() {
+        final Random random = new Random(42L);
+        final Map<String, Set<String>> reference = new HashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            final String provisioningArtifactId = "pa-" + random.nextInt(300);
+            final int operation = random.nextInt(4);
+            if (operation == 0) {
+                final List<String> serviceActionIds = new ArrayList<>();
+                for (int j = random.nextInt(30); j > 0; j--) {
+                    serviceActionIds.add("act-" + random.nextInt(2_000));
+                }
+                index.put(PRODUCT_ID, provisioningArtifactId, serviceActionIds);
+                reference.put(provisioningArtifactId, new LinkedHashSet<>(serviceActionIds));
+            } else if (operation == 1) {
+                assertThat(index.remove(PRODUCT_ID, provisioningArtifactId)).isEqualTo(reference.remove(provisioningArtifactId) != null);
+            } else {
+                final String serviceActionId = "act-" + random.nextInt(2_000);
+                final Set<String> expected = reference.get(provisioningArtifactId);
+                if (operation == 2) {
+                    assertThat(index.add(PRODUCT_ID, provisioningArtifactId, serviceActionId))
+                            .isEqualTo(expected != null && expected.add(serviceActionId));
+                } else {
+                    assertThat(index.remove(PRODUCT_ID, provisioningArtifactId, serviceActionId))
+                            .isEqualTo(expected != null && expected.remove(serviceActionId));
+                }
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(reference.size());
+        int associations = 0;
+        for (final Map.Entry<String, Set<String>> pair : reference.entrySet()) {
+            assertThat(index.getServiceActionIds(PRODUCT_ID, pair.getKey())).containsExactlyElementsOf(pair.getValue());
+            associations += pair.getValue().size();
+        }
+        assertThat(index.associationCount()).isEqualTo(associations);
+    }
+
+    @Test
+    public void remove_CompactsUnreferencedStrings() {
+        for (int i = 0; i < 3_000; i++) {
+            index.put(PRODUCT_ID, "pa-" + i, ImmutableList.of("act-" + i));
+        }
+        for (int i = 0; i < 2_900; i++) {
+            index.remove(PRODUCT_ID, "pa-" + i);
+        }
+
+        assertThat(index.stringCount()).isEqualTo(201);
+        assertThat(index.internedStringCount()).isLessThan(1_000);
+        for (int i = 2_900; i < 3_000; i++) {
+            assertThat(index.getServiceActionIds(PRODUCT_ID, "pa-" + i)).containsExactly("act-" + i);
+        }
+    }
+}
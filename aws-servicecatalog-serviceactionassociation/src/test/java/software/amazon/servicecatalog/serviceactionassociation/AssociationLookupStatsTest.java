@@ -0,0 +1,55 @@
+package software.amazon.servicecatalog.serviceactionassociation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.servicecatalog.RequestScope;
+
+public class AssociationLookupStatsTest {
+
+    private static final String SCOPE = RequestScope.of("123456789012", "us-east-1");
+    private static final String PRODUCT_ID = "prod-sdfg1234";
+    private static final String PROVISIONING_ARTIFACT_ID = "pa-dfergbr1232r4";
+    private static final String SERVICE_ACTION_ID = "act-12413asd";
+
+    private AssociationLookupStats stats;
+
+    @BeforeEach
+    public void setup() {
+        stats = new AssociationLookupStats(2);
+    }
+
+    @Test
+    public void prefersServiceActionSide_UnknownSidesTieToProvisioningArtifact() {
+        assertThat(stats.prefersServiceActionSide(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID)).isFalse();
+
+        stats.recordProvisioningArtifactPages(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, 3, true);
+
+        assertThat(stats.prefersServiceActionSide(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID)).isTrue();
+        assertThat(stats.prefersServiceActionSide(RequestScope.of("210987654321", "us-east-1"), PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID)).isFalse();
+    }
+
+    @Test
+    public void recordServiceActionPages_EarlyStopOnlyRaisesTheCount() {
+        stats.recordProvisioningArtifactPages(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, 3, true);
+        stats.recordServiceActionPages(SCOPE, SERVICE_ACTION_ID, 4, true);
+        stats.recordServiceActionPages(SCOPE, SERVICE_ACTION_ID, 1, false);
+
+        assertThat(stats.prefersServiceActionSide(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID)).isFalse();
+
+        stats.recordServiceActionPages(SCOPE, SERVICE_ACTION_ID, 1, true);
+
+        assertThat(stats.prefersServiceActionSide(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, SERVICE_ACTION_ID)).isTrue();
+    }
+
+    @Test
+    public void record_EvictsLeastRecentlyUsed() {
+        stats.recordProvisioningArtifactPages(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, 3, true);
+        stats.recordServiceActionPages(SCOPE, "act-1", 1, true);
+        stats.recordServiceActionPages(SCOPE, "act-2", 1, true);
+
+        assertThat(stats.size()).isEqualTo(2);
+        assertThat(stats.prefersServiceActionSide(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-2")).isFalse();
+    }
+}
@@ -0,0 +1,144 @@
+package software.amazon.servicecatalog.serviceactionassociation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.servicecatalog.RequestScope;
+
+public class AssociationSnapshotCacheTest {
+
+    private static final String SCOPE = RequestScope.of("123456789012", "us-east-1");
+    private static final String PRODUCT_ID = "prod-sdfg1234";
+    private static final String PROVISIONING_ARTIFACT_ID = "pa-dfergbr1232r4";
+    private static final long TTL_MILLIS = 1_000L;
+
+    private final AtomicLong now = new AtomicLong();
+    private AssociationSnapshotCache cache;
+
+    @BeforeEach
+    public void setup() {
+        now.set(0L);
+        cache = new AssociationSnapshotCache(TTL_MILLIS, 2, now::get);
+    }
+
+    @Test
+    public void isAssociated_NoSnapshot() {
+        assertThat(cache.isAssociated(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-1", null)).isNull();
+        assertThat(cache.getServiceActionIds(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isNull();
+    }
+
+    @Test
+    public void isAssociated_FreshSnapshot() {
+        cache.put(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1", "act-2"));
+
+        assertThat(cache.isAssociated(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-1", null)).isTrue();
+        assertThat(cache.isAssociated(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-3", null)).isFalse();
+        assertThat(cache.isAssociated(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-1", true)).isTrue();
+        assertThat(cache.getServiceActionIds(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).containsExactly("act-1", "act-2");
+    }
+
+    @Test
+    public void isAssociated_SnapshotNotMatchingExpectation() {
+        cache.put(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1"));
+
+        assertThat(cache.isAssociated(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-1", false)).isNull();
+        assertThat(cache.isAssociated(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-2", true)).isNull();
+    }
+
+    @Test
+    public void isAssociated_ExpiredSnapshot() {
+        cache.put(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1"));
+        now.set(TTL_MILLIS + 1);
+
+        assertThat(cache.isAssociated(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-1", null)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void isAssociated_ScopedByAccountAndRegion() {
+        cache.put(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1"));
+
+        assertThat(cache.isAssociated(RequestScope.of("123456789012", "eu-west-1"),
+                PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-1", null)).isNull();
+    }
+
+    @Test
+    public void recordChange_PendingUntilListingConfirmsIt() {
+        cache.put(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1"));
+        cache.recordChange(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-2", true);
+
+        assertThat(cache.isAssociated(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-2", true)).isNull();
+        assertThat(cache.isAssociated(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-1", true)).isTrue();
+        assertThat(cache.getServiceActionIds(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isNull();
+
+        cache.put(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1"));
+        assertThat(cache.isAssociated(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-2", true)).isNull();
+
+        cache.put(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1", "act-2"));
+        assertThat(cache.isAssociated(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-2", true)).isTrue();
+        assertThat(cache.getServiceActionIds(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).containsExactly("act-1", "act-2");
+    }
+
+    @Test
+    public void recordChange_UnconfirmedChangeExpires() {
+        cache.put(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1"));
+        cache.recordChange(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-1", false);
+        now.set(TTL_MILLIS + 1);
+
+        cache.put(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1"));
+
+        assertThat(cache.isAssociated(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-1", null)).isTrue();
+    }
+
+    @Test
+    public void recordChange_WithoutSnapshot() {
+        cache.recordChange(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-1", true);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void recordLookup_UpdatesSnapshotAndConfirmsPendingChange() {
+        cache.put(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1"));
+        cache.recordChange(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-2", true);
+
+        cache.recordLookup(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-2", false);
+        assertThat(cache.isAssociated(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-2", null)).isNull();
+
+        cache.recordLookup(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-2", true);
+        cache.recordLookup(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-1", false);
+        assertThat(cache.isAssociated(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-2", true)).isTrue();
+        assertThat(cache.getServiceActionIds(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).containsExactly("act-2");
+    }
+
+    @Test
+    public void recordLookup_WithoutSnapshot() {
+        cache.recordLookup(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, "act-1", true);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void put_EvictsLeastRecentlyUsed() {
+        cache.put(SCOPE, PRODUCT_ID, "pa-1", ImmutableList.of("act-1"));
+        cache.put(SCOPE, PRODUCT_ID, "pa-2", ImmutableList.of("act-1"));
+        cache.isAssociated(SCOPE, PRODUCT_ID, "pa-1", "act-1", null);
+        cache.put(SCOPE, PRODUCT_ID, "pa-3", ImmutableList.of("act-1"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.isAssociated(SCOPE, PRODUCT_ID, "pa-1", "act-1", null)).isTrue();
+        assertThat(cache.isAssociated(SCOPE, PRODUCT_ID, "pa-2", "act-1", null)).isNull();
+    }
+
+    @Test
+    public void put_DisabledWithZeroTtl() {
+        cache = new AssociationSnapshotCache(0L, 2, now::get);
+        cache.put(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1"));
+
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,40 @@
+package software.amazon.servicecatalog.serviceactionassociation;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogClient;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.servicecatalog.OfflineHttpClient;
+import software.amazon.servicecatalog.SCClientPrimer;
+
+/**
+ * Runs in a fresh JVM forked by {@link ColdStartPrimingTest}: optionally primes, then serves one Read-shaped request
+ * against an offline transport and prints how many classes that first request loaded.
+ */
+public class ColdStartPrimingProbe {
+    static final String PRIMED = "primed";
+
+    private static final String LIST_RESPONSE = "{\"ServiceActionSummaries\":[{\"Id\":\"act-fake1\"},{\"Id\":\"act-12413asd\"}]}";
+
+    public static void main(final String[] args) {
+        final ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        if (args.length > 0 && PRIMED.equals(args[0])) {
+            ColdStartPriming.prime();
+        }
+
+        final long loadedBefore = classLoading.getTotalLoadedClassCount();
+        final ServiceCatalogClient scClient = SCClientPrimer.buildOfflineClient(new OfflineHttpClient(200, LIST_RESPONSE));
+        final ActionAssociationController controller = ActionAssociationController
+                .builder()
+                .logger(new LoggerProxy())
+                .proxy(SCClientPrimer.buildOfflineProxy())
+                .scClient(scClient)
+                .build();
+        if (!controller.isServiceActionAssociatedToPA("prod-sdfg1234", "pa-dfergbr1232r4", "act-12413asd")) {
+            throw new IllegalStateException("Probe request failed");
+        }
+
+        System.out.println(classLoading.getTotalLoadedClassCount() - loadedBefore);
+    }
+}
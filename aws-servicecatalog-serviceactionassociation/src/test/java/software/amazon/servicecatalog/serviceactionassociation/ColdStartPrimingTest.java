@@ -0,0 +1,54 @@
+package software.amazon.servicecatalog.serviceactionassociation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.servicecatalog.SCClientPrimer;
+
+public class ColdStartPrimingTest {
+
+    @Test
+    public void prime_IsIdempotentAndNeverThrows() {
+        ColdStartPriming.prime();
+        ColdStartPriming.prime();
+
+        assertThat(SCClientPrimer.isPrimed()).isTrue();
+    }
+
+    @Test
+    public void prime_FirstRequestLoadsFewerClasses() throws Exception {
+        final long unprimed = classesLoadedByFirstRequest(false);
+        final long primed = classesLoadedByFirstRequest(true);
+
+        assertThat(primed).isLessThan(unprimed / 2);
+    }
+
+    private long classesLoadedByFirstRequest(final boolean primed) throws IOException, InterruptedException {
+        final List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ColdStartPrimingProbe.class.getName());
+        if (primed) {
+            command.add(ColdStartPrimingProbe.PRIMED);
+        }
+        final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        final List<String> output = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.add(line);
+            }
+        }
+        assertThat(process.waitFor()).as("probe output: %s", output).isZero();
+        return Long.parseLong(output.get(output.size() - 1).trim());
+    }
+}
@@ -3,9 +3,13 @@ package software.amazon.servicecatalog.serviceactionassociation;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.google.common.collect.ImmutableList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +19,22 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.servicecatalog.model.ProvisioningArtifactDetail;
+import software.amazon.awssdk.services.servicecatalog.model.ListProvisioningArtifactsResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ListProvisioningArtifactsRequest;
+import software.amazon.awssdk.services.servicecatalog.model.BatchAssociateServiceActionWithProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.BatchAssociateServiceActionWithProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociation;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociationErrorCode;
+import software.amazon.awssdk.services.servicecatalog.model.ProvisioningArtifactView;
+import software.amazon.awssdk.services.servicecatalog.model.ProvisioningArtifact;
+import software.amazon.awssdk.services.servicecatalog.model.ProductViewSummary;
+import software.amazon.awssdk.services.servicecatalog.model.ListProvisioningArtifactsForServiceActionResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ListProvisioningArtifactsForServiceActionRequest;
+import software.amazon.awssdk.services.servicecatalog.model.FailedServiceActionAssociation;
 import software.amazon.awssdk.services.servicecatalog.model.AssociateServiceActionWithProvisioningArtifactRequest;
 import software.amazon.awssdk.services.servicecatalog.model.AssociateServiceActionWithProvisioningArtifactResponse;
 import software.amazon.awssdk.services.servicecatalog.model.DuplicateResourceException;
@@ -54,6 +74,9 @@ public class CreateHandlerTest {
 
     @BeforeEach
     public void setup() {
+        AssociationSnapshotCache.getInstance().clear();
+        MissingProvisioningArtifactCache.getInstance().clear();
+        AssociationLookupStats.getInstance().clear();
         handler = new CreateHandler();
         model = ResourceModel
                 .builder()
@@ -261,4 +284,136 @@ public class CreateHandlerTest {
         // When
         assertThrows(CfnNotStabilizedException.class, () -> handler.handleRequest(proxy, request, callbackContext, logger));
     }
+
+    @Test
+    public void handleRequest_ProductWide_OwnsOnlyProvisioningArtifactsItAssociated() {
+        final ResourceHandlerRequest<ResourceModel> request = productWideRequest();
+        doReturn(ListProvisioningArtifactsResponse.builder()
+                .provisioningArtifactDetails(
+                        ProvisioningArtifactDetail.builder().id("pa-1").build(),
+                        ProvisioningArtifactDetail.builder().id("pa-2").build())
+                .build()).when(proxy).injectCredentialsAndInvokeV2(any(ListProvisioningArtifactsRequest.class), any());
+        doReturn(BatchAssociateServiceActionWithProvisioningArtifactResponse.builder()
+                .failedServiceActionAssociations(failure("pa-2", ServiceActionAssociationErrorCode.DUPLICATE_RESOURCE))
+                .build()).when(proxy).injectCredentialsAndInvokeV2(any(BatchAssociateServiceActionWithProvisioningArtifactRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().getProvisioningArtifactId()).isEqualTo(ProductWideAssociation.ALL_PROVISIONING_ARTIFACTS);
+        assertThat(response.getCallbackContext().getProvisioningArtifactIds()).containsExactly("pa-1");
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(5);
+    }
+
+    @Test
+    public void handleRequest_ProductWide_AllDuplicates_ThrowsAlreadyExists() {
+        final ResourceHandlerRequest<ResourceModel> request = productWideRequest();
+        doReturn(ListProvisioningArtifactsResponse.builder()
+                .provisioningArtifactDetails(ProvisioningArtifactDetail.builder().id("pa-1").build())
+                .build()).when(proxy).injectCredentialsAndInvokeV2(any(ListProvisioningArtifactsRequest.class), any());
+        doReturn(BatchAssociateServiceActionWithProvisioningArtifactResponse.builder()
+                .failedServiceActionAssociations(failure("pa-1", ServiceActionAssociationErrorCode.DUPLICATE_RESOURCE))
+                .build()).when(proxy).injectCredentialsAndInvokeV2(any(BatchAssociateServiceActionWithProvisioningArtifactRequest.class), any());
+
+        assertThrows(CfnAlreadyExistsException.class, () -> handler.handleRequest(proxy, request, null, logger));
+    }
+
+    @Test
+    public void handleRequest_ProductWide_ItemFailure_RollsBackAndReturnsFailed() {
+        final ResourceHandlerRequest<ResourceModel> request = productWideRequest();
+        doReturn(ListProvisioningArtifactsResponse.builder()
+                .provisioningArtifactDetails(
+                        ProvisioningArtifactDetail.builder().id("pa-1").build(),
+                        ProvisioningArtifactDetail.builder().id("pa-2").build())
+                .build()).when(proxy).injectCredentialsAndInvokeV2(any(ListProvisioningArtifactsRequest.class), any());
+        doReturn(BatchAssociateServiceActionWithProvisioningArtifactResponse.builder()
+                .failedServiceActionAssociations(failure("pa-2", ServiceActionAssociationErrorCode.LIMIT_EXCEEDED))
+                .build()).when(proxy).injectCredentialsAndInvokeV2(any(BatchAssociateServiceActionWithProvisioningArtifactRequest.class), any());
+        final List<BatchDisassociateServiceActionFromProvisioningArtifactRequest> rollBacks = new ArrayList<>();
+        doAnswer(invocation -> {
+            rollBacks.add(invocation.getArgument(0));
+            return BatchDisassociateServiceActionFromProvisioningArtifactResponse.builder().build();
+        }).when(proxy).injectCredentialsAndInvokeV2(any(BatchDisassociateServiceActionFromProvisioningArtifactRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceLimitExceeded);
+        assertThat(response.getMessage()).contains("pa-2 (LIMIT_EXCEEDED: failed)");
+        assertThat(rollBacks).hasSize(1);
+        assertThat(rollBacks.get(0).serviceActionAssociations())
+                .extracting(ServiceActionAssociation::provisioningArtifactId).containsExactly("pa-1");
+    }
+
+    @Test
+    public void handleRequest_ProductWide_NoProvisioningArtifacts_ThrowsNotFound() {
+        final ResourceHandlerRequest<ResourceModel> request = productWideRequest();
+        doReturn(ListProvisioningArtifactsResponse.builder().build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(ListProvisioningArtifactsRequest.class), any());
+
+        assertThrows(CfnNotFoundException.class, () -> handler.handleRequest(proxy, request, null, logger));
+    }
+
+    @Test
+    public void handleRequest_StabilizeProductWideCreateRequest_WaitsForEveryProvisioningArtifact() {
+        final ResourceHandlerRequest<ResourceModel> request = productWideRequest();
+        doReturn(productWideListing("pa-1"), productWideListing("pa-1", "pa-2"))
+                .when(proxy).injectCredentialsAndInvokeV2(any(ListProvisioningArtifactsForServiceActionRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> pending
+                = handler.handleRequest(proxy, request, productWideContext(), logger);
+        final ProgressEvent<ResourceModel, CallbackContext> stabilized
+                = handler.handleRequest(proxy, request, pending.getCallbackContext(), logger);
+
+        assertThat(pending.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(pending.getCallbackContext().getStabilizationRetriesRemaining()).isEqualTo(4);
+        assertThat(stabilized.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(stabilized.getResourceModel().getAssociatedProvisioningArtifactIds()).containsExactly("pa-1", "pa-2");
+        assertThat(stabilized.getResourceModel().getProvisioningArtifactId()).isEqualTo(ProductWideAssociation.ALL_PROVISIONING_ARTIFACTS);
+    }
+
+    private ResourceHandlerRequest<ResourceModel> productWideRequest() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel
+                        .builder()
+                        .productId(PRODUCT_ID)
+                        .serviceActionId(SERVICE_ACTION_ID)
+                        .provisioningArtifactId(ProductWideAssociation.ALL_PROVISIONING_ARTIFACTS)
+                        .build())
+                .build();
+    }
+
+    private static FailedServiceActionAssociation failure(final String provisioningArtifactId, final ServiceActionAssociationErrorCode errorCode) {
+        return FailedServiceActionAssociation.builder()
+                .productId(PRODUCT_ID)
+                .provisioningArtifactId(provisioningArtifactId)
+                .serviceActionId(SERVICE_ACTION_ID)
+                .errorCode(errorCode)
+                .errorMessage("failed")
+                .build();
+    }
+
+    private static ListProvisioningArtifactsForServiceActionResponse productWideListing(final String... provisioningArtifactIds) {
+        final ImmutableList.Builder<ProvisioningArtifactView> views = ImmutableList.builder();
+        for (final String provisioningArtifactId : provisioningArtifactIds) {
+            views.add(ProvisioningArtifactView.builder()
+                    .productViewSummary(ProductViewSummary.builder().productId(PRODUCT_ID).build())
+                    .provisioningArtifact(ProvisioningArtifact.builder().id(provisioningArtifactId).build())
+                    .build());
+        }
+        return ListProvisioningArtifactsForServiceActionResponse.builder().provisioningArtifactViews(views.build()).build();
+    }
+
+    private static CallbackContext productWideContext() {
+        return CallbackContext
+                .builder()
+                .productId(PRODUCT_ID)
+                .provisioningArtifactId(ProductWideAssociation.ALL_PROVISIONING_ARTIFACTS)
+                .serviceActionId(SERVICE_ACTION_ID)
+                .provisioningArtifactIds(ImmutableList.of("pa-1", "pa-2"))
+                .stabilizationRetriesRemaining(5)
+                .build();
+    }
 }
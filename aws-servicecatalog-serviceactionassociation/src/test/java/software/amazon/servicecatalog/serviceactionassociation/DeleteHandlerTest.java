@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 import com.google.common.collect.ImmutableList;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +16,16 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactRequest;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociationErrorCode;
+import software.amazon.awssdk.services.servicecatalog.model.ProvisioningArtifactView;
+import software.amazon.awssdk.services.servicecatalog.model.ProvisioningArtifact;
+import software.amazon.awssdk.services.servicecatalog.model.ProductViewSummary;
+import software.amazon.awssdk.services.servicecatalog.model.ListProvisioningArtifactsForServiceActionResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ListProvisioningArtifactsForServiceActionRequest;
+import software.amazon.awssdk.services.servicecatalog.model.FailedServiceActionAssociation;
 import software.amazon.awssdk.services.servicecatalog.model.DisassociateServiceActionFromProvisioningArtifactRequest;
 import software.amazon.awssdk.services.servicecatalog.model.DisassociateServiceActionFromProvisioningArtifactResponse;
 import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactRequest;
@@ -51,6 +62,9 @@ public class DeleteHandlerTest {
 
     @BeforeEach
     public void setup() {
+        AssociationSnapshotCache.getInstance().clear();
+        MissingProvisioningArtifactCache.getInstance().clear();
+        AssociationLookupStats.getInstance().clear();
         handler = new DeleteHandler();
         disassociateRequest = DisassociateServiceActionFromProvisioningArtifactRequest
                 .builder()
@@ -231,4 +245,107 @@ public class DeleteHandlerTest {
         // When
         assertThrows(CfnNotStabilizedException.class, () -> handler.handleRequest(proxy, request, callbackContext, logger));
     }
+
+    @Test
+    public void handleRequest_ProductWide_DisassociatesOnlyProvisioningArtifactsItAssociated() {
+        final ResourceHandlerRequest<ResourceModel> request = productWideRequest();
+        doReturn(BatchDisassociateServiceActionFromProvisioningArtifactResponse.builder().build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(BatchDisassociateServiceActionFromProvisioningArtifactRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().getProvisioningArtifactIds()).containsExactly("pa-1", "pa-2");
+    }
+
+    @Test
+    public void handleRequest_ProductWide_NoneOwned_ThrowsNotFoundWithoutDisassociating() {
+        final ResourceHandlerRequest<ResourceModel> request = productWideRequest();
+        request.getDesiredResourceState().setAssociatedProvisioningArtifactIds(null);
+
+        assertThrows(CfnNotFoundException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        verifyZeroInteractions(proxy);
+    }
+
+    @Test
+    public void handleRequest_ProductWide_NoneStillAssociated_ThrowsNotFound() {
+        final ResourceHandlerRequest<ResourceModel> request = productWideRequest();
+        doReturn(BatchDisassociateServiceActionFromProvisioningArtifactResponse.builder()
+                .failedServiceActionAssociations(
+                        FailedServiceActionAssociation.builder().provisioningArtifactId("pa-1").errorCode(ServiceActionAssociationErrorCode.RESOURCE_NOT_FOUND).build(),
+                        FailedServiceActionAssociation.builder().provisioningArtifactId("pa-2").errorCode(ServiceActionAssociationErrorCode.RESOURCE_NOT_FOUND).build())
+                .build()).when(proxy).injectCredentialsAndInvokeV2(any(BatchDisassociateServiceActionFromProvisioningArtifactRequest.class), any());
+
+        assertThrows(CfnNotFoundException.class, () -> handler.handleRequest(proxy, request, null, logger));
+    }
+
+    @Test
+    public void handleRequest_ProductWide_ItemFailure_ReturnsFailed() {
+        final ResourceHandlerRequest<ResourceModel> request = productWideRequest();
+        doReturn(BatchDisassociateServiceActionFromProvisioningArtifactResponse.builder()
+                .failedServiceActionAssociations(FailedServiceActionAssociation.builder()
+                        .provisioningArtifactId("pa-1")
+                        .errorCode(ServiceActionAssociationErrorCode.THROTTLING)
+                        .errorMessage("slow down")
+                        .build())
+                .build()).when(proxy).injectCredentialsAndInvokeV2(any(BatchDisassociateServiceActionFromProvisioningArtifactRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+        assertThat(response.getMessage()).contains("pa-1 (THROTTLING: slow down)");
+    }
+
+    @Test
+    public void handleRequest_StabilizeProductWideDeleteRequest_SucceedsWhenNoneRemain() {
+        final ResourceHandlerRequest<ResourceModel> request = productWideRequest();
+        doReturn(productWideListing("pa-2"), productWideListing("pa-3"))
+                .when(proxy).injectCredentialsAndInvokeV2(any(ListProvisioningArtifactsForServiceActionRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> pending
+                = handler.handleRequest(proxy, request, productWideContext(), logger);
+        final ProgressEvent<ResourceModel, CallbackContext> stabilized
+                = handler.handleRequest(proxy, request, pending.getCallbackContext(), logger);
+
+        assertThat(pending.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(stabilized.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(stabilized.getResourceModel()).isNull();
+    }
+
+    private ResourceHandlerRequest<ResourceModel> productWideRequest() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel
+                        .builder()
+                        .productId(PRODUCT_ID)
+                        .serviceActionId(SERVICE_ACTION_ID)
+                        .provisioningArtifactId(ProductWideAssociation.ALL_PROVISIONING_ARTIFACTS)
+                        .associatedProvisioningArtifactIds(ImmutableList.of("pa-1", "pa-2"))
+                        .build())
+                .build();
+    }
+
+    private static ListProvisioningArtifactsForServiceActionResponse productWideListing(final String... provisioningArtifactIds) {
+        final ImmutableList.Builder<ProvisioningArtifactView> views = ImmutableList.builder();
+        for (final String provisioningArtifactId : provisioningArtifactIds) {
+            views.add(ProvisioningArtifactView.builder()
+                    .productViewSummary(ProductViewSummary.builder().productId(PRODUCT_ID).build())
+                    .provisioningArtifact(ProvisioningArtifact.builder().id(provisioningArtifactId).build())
+                    .build());
+        }
+        return ListProvisioningArtifactsForServiceActionResponse.builder().provisioningArtifactViews(views.build()).build();
+    }
+
+    private static CallbackContext productWideContext() {
+        return CallbackContext
+                .builder()
+                .productId(PRODUCT_ID)
+                .provisioningArtifactId(ProductWideAssociation.ALL_PROVISIONING_ARTIFACTS)
+                .serviceActionId(SERVICE_ACTION_ID)
+                .provisioningArtifactIds(ImmutableList.of("pa-1", "pa-2"))
+                .stabilizationRetriesRemaining(5)
+                .build();
+    }
 }
@@ -0,0 +1,80 @@
+package software.amazon.servicecatalog.serviceactionassociation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.HandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+
+public class HandlerJsonTest {
+
+    private static final String PRODUCT_ID = "prod-sdfg1234";
+    private static final String PROVISIONING_ARTIFACT_ID = "pa-dfergbr1232r4";
+    private static final String SERVICE_ACTION_ID = "act-12413asd";
+
+    private final Serializer serializer = new Serializer();
+
+    @Test
+    public void callbackContext_RoundTripsThroughWrapperSerializer() throws Exception {
+        final CallbackContext callbackContext = CallbackContext.builder()
+                .serviceActionId(SERVICE_ACTION_ID)
+                .productId(PRODUCT_ID)
+                .provisioningArtifactId(PROVISIONING_ARTIFACT_ID)
+                .stabilizationRetriesRemaining(3)
+                .build();
+
+        final String json = serializer.serialize(callbackContext);
+
+        assertThat(json).isEqualTo("{\"serviceActionId\":\"" + SERVICE_ACTION_ID + "\",\"productId\":\"" + PRODUCT_ID
+                + "\",\"provisioningArtifactId\":\"" + PROVISIONING_ARTIFACT_ID + "\",\"stabilizationRetriesRemaining\":3}");
+        assertThat(serializer.deserialize(json, new TypeReference<CallbackContext>() {})).isEqualTo(callbackContext);
+    }
+
+    @Test
+    public void callbackContext_RoundTripsProductWideProvisioningArtifactIds() throws Exception {
+        final CallbackContext callbackContext = CallbackContext.builder()
+                .serviceActionId(SERVICE_ACTION_ID)
+                .provisioningArtifactId(ProductWideAssociation.ALL_PROVISIONING_ARTIFACTS)
+                .provisioningArtifactIds(ImmutableList.of("pa-1", "pa-2"))
+                .build();
+
+        final String json = serializer.serialize(callbackContext);
+
+        assertThat(json).contains("\"provisioningArtifactIds\":[\"pa-1\",\"pa-2\"]");
+        assertThat(serializer.deserialize(json, new TypeReference<CallbackContext>() {})).isEqualTo(callbackContext);
+    }
+
+    @Test
+    public void callbackContext_OmitsNullFields() throws Exception {
+        final CallbackContext callbackContext = CallbackContext.builder().serviceActionId(SERVICE_ACTION_ID).build();
+
+        final String json = serializer.serialize(callbackContext);
+
+        assertThat(json).isEqualTo("{\"serviceActionId\":\"" + SERVICE_ACTION_ID + "\"}");
+        assertThat(serializer.deserialize("{\"ServiceActionId\":\"" + SERVICE_ACTION_ID + "\","
+                + "\"stabilizationRetriesRemaining\":null,\"other\":true}", new TypeReference<CallbackContext>() {}))
+                .isEqualTo(callbackContext);
+    }
+
+    @Test
+    public void callbackContext_RejectsNonObject() {
+        assertThrows(JsonMappingException.class,
+                () -> serializer.deserialize("[\"" + SERVICE_ACTION_ID + "\"]", new TypeReference<CallbackContext>() {}));
+        assertThrows(JsonMappingException.class,
+                () -> serializer.deserialize("{\"provisioningArtifactIds\":{}}", new TypeReference<CallbackContext>() {}));
+    }
+
+    @Test
+    public void handlerRequest_UsesCallbackContextBinding() throws Exception {
+        final HandlerRequest<ResourceModel, CallbackContext> request = serializer.deserialize("{\"action\":\"CREATE\","
+                + "\"callbackContext\":{\"serviceActionId\":\"" + SERVICE_ACTION_ID + "\",\"stabilizationRetriesRemaining\":\"4\"}}",
+                new TypeReference<HandlerRequest<ResourceModel, CallbackContext>>() {});
+
+        assertThat(request.getCallbackContext())
+                .isEqualTo(CallbackContext.builder().serviceActionId(SERVICE_ACTION_ID).stabilizationRetriesRemaining(4).build());
+    }
+}
@@ -5,14 +5,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.servicecatalog.model.InvalidParametersException;
 import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactRequest;
 import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactResponse;
 import software.amazon.awssdk.services.servicecatalog.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.servicecatalog.model.SearchProductsAsAdminRequest;
+import software.amazon.awssdk.services.servicecatalog.model.SearchProductsAsAdminResponse;
 import software.amazon.awssdk.services.servicecatalog.model.ServiceActionSummary;
-import software.amazon.awssdk.services.servicecatalog.paginators.ListServiceActionsForProvisioningArtifactIterable;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -20,13 +22,15 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.HandlerSettings;
+import software.amazon.servicecatalog.PrefetchingPaginator;
 
-import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class ListHandlerTest {
@@ -45,11 +49,11 @@ public class ListHandlerTest {
     @Mock
     private Logger logger;
 
-    @Mock
-    private ListServiceActionsForProvisioningArtifactIterable iterable;
-
     @BeforeEach
     public void setup() {
+        AssociationSnapshotCache.getInstance().clear();
+        MissingProvisioningArtifactCache.getInstance().clear();
+        AssociationLookupStats.getInstance().clear();
         handler = new ListHandler();
         model = ResourceModel
                 .builder()
@@ -62,6 +66,7 @@ public class ListHandlerTest {
                 .productId(productId)
                 .provisioningArtifactId(provisioningArtifactId)
                 .pageToken(null)
+                .pageSize(PrefetchingPaginator.MAX_PAGE_SIZE)
                 .build();
 
         response = ListServiceActionsForProvisioningArtifactResponse
@@ -78,13 +83,9 @@ public class ListHandlerTest {
 
     @Test
     public void handleRequest_SimpleSuccess() {
-        Stream<ListServiceActionsForProvisioningArtifactResponse> stream = Stream.<ListServiceActionsForProvisioningArtifactResponse>builder()
-                .add(response)
-                .build();
-        doReturn(iterable).when(proxy).injectCredentialsAndInvokeIterableV2(
-                ArgumentMatchers.any(),
+        doReturn(response).when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.eq(listRequest),
                 ArgumentMatchers.any());
-        doReturn(stream).when(iterable).stream();
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(model)
@@ -111,7 +112,7 @@ public class ListHandlerTest {
                 .build();
 
         doThrow(InvalidParametersException.builder().message(INVALID_PARAMETERS_EXCEPTION).build())
-                .when(proxy).injectCredentialsAndInvokeIterableV2(
+                .when(proxy).injectCredentialsAndInvokeV2(
                 ArgumentMatchers.any(),
                 ArgumentMatchers.any());
 
@@ -128,11 +129,83 @@ public class ListHandlerTest {
                 .build();
 
         doThrow(ResourceNotFoundException.builder().message(INVALID_PARAMETERS_EXCEPTION).build())
-                .when(proxy).injectCredentialsAndInvokeIterableV2(
+                .when(proxy).injectCredentialsAndInvokeV2(
                 ArgumentMatchers.any(),
                 ArgumentMatchers.any());
 
         // When
         assertThrows(CfnNotFoundException.class, () -> handler.handleRequest(proxy, resourceHandlerRequest, null, logger));
     }
+
+    @Test
+    public void handleRequest_WithNextToken_ReturnsOnePage() {
+        doReturn(response.toBuilder().nextPageToken("page-3").build()).when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .nextToken("page-2")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        final ArgumentCaptor<ListServiceActionsForProvisioningArtifactRequest> captor
+                = ArgumentCaptor.forClass(ListServiceActionsForProvisioningArtifactRequest.class);
+        verify(proxy).injectCredentialsAndInvokeV2(captor.capture(), ArgumentMatchers.any());
+        assertThat(captor.getValue().pageToken()).isEqualTo("page-2");
+        assertThat(captor.getValue().productId()).isEqualTo(productId);
+        assertThat(captor.getValue().pageSize()).isEqualTo(PrefetchingPaginator.MAX_PAGE_SIZE);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo("page-3");
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getServiceActionId)
+                .containsExactly("act-fake1", "act-fake2", "act-fake3", "act-fake4");
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getProvisioningArtifactId).containsOnly(provisioningArtifactId);
+    }
+
+    @Test
+    public void handleRequest_WithoutIds_DiscoversOneProductsPage() {
+        doReturn(SearchProductsAsAdminResponse.builder().nextPageToken("products-3").build()).when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .nextToken("products-2")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        final ArgumentCaptor<SearchProductsAsAdminRequest> captor = ArgumentCaptor.forClass(SearchProductsAsAdminRequest.class);
+        verify(proxy).injectCredentialsAndInvokeV2(captor.capture(), ArgumentMatchers.any());
+        assertThat(captor.getValue().pageToken()).isEqualTo("products-2");
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo("products-3");
+        assertThat(response.getResourceModels()).isEmpty();
+    }
+
+    @Test
+    public void handleRequest_PagedListSetting_ReturnsFirstPage() {
+        doReturn(response).when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response;
+        System.setProperty(HandlerSettings.toPropertyName(HandlerSettings.PAGED_LIST), "true");
+        try {
+            response = handler.handleRequest(proxy, request, null, logger);
+        } finally {
+            System.clearProperty(HandlerSettings.toPropertyName(HandlerSettings.PAGED_LIST));
+        }
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isNull();
+        assertThat(response.getResourceModels()).hasSize(4);
+    }
 }
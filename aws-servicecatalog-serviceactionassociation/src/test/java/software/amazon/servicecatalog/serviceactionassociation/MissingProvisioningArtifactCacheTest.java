@@ -0,0 +1,76 @@
+package software.amazon.servicecatalog.serviceactionassociation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.servicecatalog.model.ResourceNotFoundException;
+import software.amazon.servicecatalog.RequestScope;
+
+public class MissingProvisioningArtifactCacheTest {
+
+    private static final String SCOPE = RequestScope.of("123456789012", "us-east-1");
+    private static final String PRODUCT_ID = "prod-sdfg1234";
+    private static final String PROVISIONING_ARTIFACT_ID = "pa-dfergbr1232r4";
+    private static final String NOT_FOUND = "ProvisioningArtifact not found";
+    private static final long TTL_MILLIS = 1_000L;
+
+    private final AtomicLong now = new AtomicLong();
+    private MissingProvisioningArtifactCache cache;
+
+    @BeforeEach
+    public void setup() {
+        now.set(0L);
+        cache = new MissingProvisioningArtifactCache(TTL_MILLIS, 2, now::get);
+    }
+
+    @Test
+    public void getNotFoundMessage_RecentlyMissing() {
+        cache.recordMissing(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, notFound());
+
+        assertThat(cache.getNotFoundMessage(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isEqualTo(NOT_FOUND);
+        assertThat(cache.getNotFoundMessage(SCOPE, PRODUCT_ID, "pa-other")).isNull();
+        assertThat(cache.getNotFoundMessage(RequestScope.of("210987654321", "us-east-1"), PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isNull();
+    }
+
+    @Test
+    public void getNotFoundMessage_Expired() {
+        cache.recordMissing(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, notFound());
+        now.set(TTL_MILLIS + 1);
+
+        assertThat(cache.getNotFoundMessage(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void recordFound_ForgetsMissingPair() {
+        cache.recordMissing(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, notFound());
+        cache.recordFound(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID);
+
+        assertThat(cache.getNotFoundMessage(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isNull();
+    }
+
+    @Test
+    public void recordMissing_BoundedSize() {
+        cache.recordMissing(SCOPE, PRODUCT_ID, "pa-1", notFound());
+        cache.recordMissing(SCOPE, PRODUCT_ID, "pa-2", notFound());
+        cache.recordMissing(SCOPE, PRODUCT_ID, "pa-3", notFound());
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getNotFoundMessage(SCOPE, PRODUCT_ID, "pa-1")).isNull();
+    }
+
+    @Test
+    public void recordMissing_DisabledWithZeroTtl() {
+        cache = new MissingProvisioningArtifactCache(0L, 2, now::get);
+        cache.recordMissing(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, notFound());
+
+        assertThat(cache.size()).isZero();
+    }
+
+    private static ResourceNotFoundException notFound() {
+        return ResourceNotFoundException.builder().message(NOT_FOUND).build();
+    }
+}
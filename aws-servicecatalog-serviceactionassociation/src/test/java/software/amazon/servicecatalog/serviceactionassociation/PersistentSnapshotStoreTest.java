@@ -0,0 +1,155 @@
+package software.amazon.servicecatalog.serviceactionassociation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.servicecatalog.RequestScope;
+
+public class PersistentSnapshotStoreTest {
+
+    private static final String SCOPE = RequestScope.of("123456789012", "us-east-1");
+    private static final String PRODUCT_ID = "prod-sdfg1234";
+    private static final String PROVISIONING_ARTIFACT_ID = "pa-dfergbr1232r4";
+    private static final long TTL_MILLIS = 1_000L;
+    private static final int MAX_BYTES = 4096;
+
+    @TempDir
+    Path directory;
+
+    private final AtomicLong now = new AtomicLong();
+    private Path file;
+
+    @BeforeEach
+    public void setup() {
+        now.set(0L);
+        file = directory.resolve(PersistentSnapshotStore.FILE_NAME);
+    }
+
+    private PersistentSnapshotStore open(final int maxBytes) throws IOException {
+        return new PersistentSnapshotStore(file, maxBytes, TTL_MILLIS, now::get);
+    }
+
+    @Test
+    public void get_SurvivesReopeningTheFile() throws IOException {
+        open(MAX_BYTES).put(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1", "act-2"));
+
+        final PersistentSnapshotStore reopened = open(MAX_BYTES);
+
+        assertThat(reopened.get(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).containsExactly("act-1", "act-2");
+        assertThat(reopened.get(SCOPE, PRODUCT_ID, "pa-other")).isNull();
+        assertThat(reopened.get(RequestScope.of("123456789012", "eu-west-1"), PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isNull();
+    }
+
+    @Test
+    public void get_EmptySnapshot() throws IOException {
+        final PersistentSnapshotStore store = open(MAX_BYTES);
+        store.put(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of());
+
+        assertThat(store.get(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isEmpty();
+    }
+
+    @Test
+    public void get_ExpiredSnapshot() throws IOException {
+        final PersistentSnapshotStore store = open(MAX_BYTES);
+        store.put(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1"));
+        now.set(TTL_MILLIS + 1);
+
+        assertThat(store.get(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isNull();
+    }
+
+    @Test
+    public void put_ReplacesSnapshot() throws IOException {
+        final PersistentSnapshotStore store = open(MAX_BYTES);
+        store.put(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1"));
+        store.put(SCOPE, PRODUCT_ID, "pa-2", ImmutableList.of("act-3"));
+        store.put(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1", "act-2"));
+
+        assertThat(store.get(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).containsExactly("act-1", "act-2");
+        assertThat(store.get(SCOPE, PRODUCT_ID, "pa-2")).containsExactly("act-3");
+    }
+
+    @Test
+    public void put_EvictsOldestSnapshotsBeyondSizeCap() throws IOException {
+        final PersistentSnapshotStore store = open(256);
+        for (int i = 0; i < 10; i++) {
+            now.set(i);
+            store.put(SCOPE, PRODUCT_ID, "pa-" + i, ImmutableList.of("act-1", "act-2", "act-3"));
+        }
+
+        assertThat(Files.size(file)).isEqualTo(256L);
+        assertThat(store.get(SCOPE, PRODUCT_ID, "pa-0")).isNull();
+        assertThat(store.get(SCOPE, PRODUCT_ID, "pa-9")).containsExactly("act-1", "act-2", "act-3");
+    }
+
+    @Test
+    public void put_SnapshotLargerThanFileIsNotStored() throws IOException {
+        final PersistentSnapshotStore store = open(64);
+        store.put(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1", "act-2", "act-3", "act-4"));
+
+        assertThat(store.get(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isNull();
+    }
+
+    @Test
+    public void remove_DropsSnapshot() throws IOException {
+        final PersistentSnapshotStore store = open(MAX_BYTES);
+        store.put(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1"));
+        store.remove(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID);
+
+        assertThat(store.get(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isNull();
+    }
+
+    @Test
+    public void remove_LockedFile_ReportsFailure() throws IOException {
+        final PersistentSnapshotStore store = open(MAX_BYTES);
+        store.put(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1"));
+
+        try (FileChannel other = FileChannel.open(file, StandardOpenOption.WRITE);
+             FileLock lock = other.lock()) {
+            assertThat(lock.isValid()).isTrue();
+            assertThat(store.remove(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isFalse();
+            assertThat(store.get(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isNull();
+        }
+
+        assertThat(store.get(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).containsExactly("act-1");
+        assertThat(store.remove(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isTrue();
+    }
+
+    @Test
+    public void get_SkipsOtherEntriesAndTruncatedFile() throws IOException {
+        final PersistentSnapshotStore store = open(MAX_BYTES);
+        store.put(SCOPE, PRODUCT_ID, "pa-1", ImmutableList.of("act-1", "act-2"));
+        store.put(SCOPE, PRODUCT_ID, "pa-2", ImmutableList.of());
+        store.put(SCOPE, PRODUCT_ID, "pa-3", ImmutableList.of("act-3"));
+
+        assertThat(store.get(SCOPE, PRODUCT_ID, "pa-3")).containsExactly("act-3");
+        assertThat(store.get(SCOPE, PRODUCT_ID, "pa-2")).isEmpty();
+
+        // used bytes cut short inside the first entry
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0, 0, 0, 40}), 12);
+        }
+        assertThat(store.get(SCOPE, PRODUCT_ID, "pa-3")).isNull();
+    }
+
+    @Test
+    public void get_ForeignFileIsTreatedAsEmpty() throws IOException {
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        final PersistentSnapshotStore store = open(MAX_BYTES);
+
+        assertThat(store.get(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).isNull();
+        store.put(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID, ImmutableList.of("act-1"));
+        assertThat(store.get(SCOPE, PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).containsExactly("act-1");
+    }
+}
@@ -0,0 +1,117 @@
+package software.amazon.servicecatalog.serviceactionassociation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.servicecatalog.model.FailedServiceActionAssociation;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociationErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductWideAssociationTest {
+
+    private static final String PRODUCT_ID = "prod-sdfg1234";
+    private static final String SERVICE_ACTION_ID = "act-12413asd";
+
+    @Mock
+    private ActionAssociationController controller;
+
+    @Mock
+    private Logger logger;
+
+    private List<List<String>> batches;
+
+    @BeforeEach
+    public void setup() {
+        batches = new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    public void associate_SplitsProvisioningArtifactsIntoParallelBatches() {
+        final List<String> provisioningArtifactIds = provisioningArtifactIds(120);
+        doReturn(provisioningArtifactIds).when(controller).listProvisioningArtifactIds(PRODUCT_ID);
+        doAnswer(invocation -> {
+            final List<String> batch = invocation.getArgument(1);
+            batches.add(new ArrayList<>(batch));
+            return batch.contains("pa-7")
+                    ? ImmutableList.of(failure("pa-7", ServiceActionAssociationErrorCode.DUPLICATE_RESOURCE))
+                    : Collections.emptyList();
+        }).when(controller).batchAssociateServiceAction(eq(PRODUCT_ID), anyList(), eq(SERVICE_ACTION_ID));
+
+        final ProductWideAssociation.Result result = productWideAssociation(4).associate(PRODUCT_ID, SERVICE_ACTION_ID);
+
+        assertThat(result.getProvisioningArtifactIds()).isEqualTo(provisioningArtifactIds);
+        assertThat(batches).extracting(List::size).containsExactlyInAnyOrder(50, 50, 20);
+        assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(120);
+        assertThat(result.failuresExcept(ServiceActionAssociationErrorCode.DUPLICATE_RESOURCE)).isEmpty();
+        assertThat(result.allFailedWith(ServiceActionAssociationErrorCode.DUPLICATE_RESOURCE)).isFalse();
+    }
+
+    @Test
+    public void disassociate_CollectsFailuresOfEveryBatch() {
+        doAnswer(invocation -> {
+            final List<String> batch = invocation.getArgument(1);
+            return ImmutableList.of(failure(batch.get(0), ServiceActionAssociationErrorCode.THROTTLING));
+        }).when(controller).batchDisassociateServiceAction(eq(PRODUCT_ID), anyList(), eq(SERVICE_ACTION_ID));
+
+        final ProductWideAssociation.Result result = productWideAssociation(1).disassociate(PRODUCT_ID, SERVICE_ACTION_ID, provisioningArtifactIds(60));
+
+        final List<FailedServiceActionAssociation> failures = result.failuresExcept(ServiceActionAssociationErrorCode.RESOURCE_NOT_FOUND);
+        assertThat(failures).extracting(FailedServiceActionAssociation::provisioningArtifactId).containsExactly("pa-0", "pa-50");
+        assertThat(ProductWideAssociation.Result.describe(failures)).isEqualTo("pa-0 (THROTTLING: throttled), pa-50 (THROTTLING: throttled)");
+        assertThat(result.getSucceededProvisioningArtifactIds()).hasSize(58).doesNotContain("pa-0", "pa-50");
+    }
+
+    @Test
+    public void associate_ProductWithoutProvisioningArtifacts_SendsNoBatch() {
+        doReturn(Collections.emptyList()).when(controller).listProvisioningArtifactIds(PRODUCT_ID);
+
+        final ProductWideAssociation.Result result = productWideAssociation(4).associate(PRODUCT_ID, SERVICE_ACTION_ID);
+
+        assertThat(result.getProvisioningArtifactIds()).isEmpty();
+        assertThat(result.allFailedWith(ServiceActionAssociationErrorCode.DUPLICATE_RESOURCE)).isFalse();
+        verify(controller, never()).batchAssociateServiceAction(eq(PRODUCT_ID), anyList(), eq(SERVICE_ACTION_ID));
+    }
+
+    private ProductWideAssociation productWideAssociation(final int parallelism) {
+        return ProductWideAssociation.builder()
+                .controller(controller)
+                .logger(logger)
+                .parallelism(parallelism)
+                .build();
+    }
+
+    private static List<String> provisioningArtifactIds(final int count) {
+        final List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add("pa-" + i);
+        }
+        return ids;
+    }
+
+    private static FailedServiceActionAssociation failure(final String provisioningArtifactId, final ServiceActionAssociationErrorCode errorCode) {
+        return FailedServiceActionAssociation.builder()
+                .productId(PRODUCT_ID)
+                .provisioningArtifactId(provisioningArtifactId)
+                .serviceActionId(SERVICE_ACTION_ID)
+                .errorCode(errorCode)
+                .errorMessage("throttled")
+                .build();
+    }
+}
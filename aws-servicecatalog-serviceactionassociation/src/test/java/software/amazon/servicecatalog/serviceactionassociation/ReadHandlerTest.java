@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.ImmutableList;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,8 +18,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.servicecatalog.model.InvalidParametersException;
+import software.amazon.awssdk.services.servicecatalog.model.ListProvisioningArtifactsForServiceActionRequest;
+import software.amazon.awssdk.services.servicecatalog.model.ListProvisioningArtifactsForServiceActionResponse;
 import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactRequest;
 import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ProductViewSummary;
+import software.amazon.awssdk.services.servicecatalog.model.ProvisioningArtifact;
+import software.amazon.awssdk.services.servicecatalog.model.ProvisioningArtifactView;
+import software.amazon.awssdk.services.servicecatalog.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.servicecatalog.model.ServiceActionSummary;
 import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
@@ -26,6 +35,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.PrefetchingPaginator;
 
 @ExtendWith(MockitoExtension.class)
 public class ReadHandlerTest {
@@ -49,6 +59,9 @@ public class ReadHandlerTest {
 
     @BeforeEach
     public void setup() {
+        AssociationSnapshotCache.getInstance().clear();
+        MissingProvisioningArtifactCache.getInstance().clear();
+        AssociationLookupStats.getInstance().clear();
         handler = new ReadHandler();
         resourceModel = ResourceModel
                 .builder()
@@ -61,6 +74,7 @@ public class ReadHandlerTest {
                 .productId(productId)
                 .provisioningArtifactId(provisioningArtifactId)
                 .pageToken(null)
+                .pageSize(PrefetchingPaginator.MAX_PAGE_SIZE)
                 .build();
 
         response = ListServiceActionsForProvisioningArtifactResponse
@@ -127,6 +141,64 @@ public class ReadHandlerTest {
         assertThrows(CfnNotFoundException.class, () -> handler.handleRequest(proxy, request, null, logger));
     }
 
+    @Test
+    public void handleRequest_MissingProvisioningArtifact_FailsFastOnLaterRequests() {
+        doThrow(ResourceNotFoundException.builder().message("ProvisioningArtifact not found").build()).when(proxy).injectCredentialsAndInvokeV2(
+                eq(listRequest),
+                ArgumentMatchers.any()
+        );
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(resourceModel)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> siblingRequest = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel
+                        .builder()
+                        .productId(productId)
+                        .provisioningArtifactId(provisioningArtifactId)
+                        .serviceActionId("act-sibling")
+                        .build())
+                .build();
+
+        assertThrows(CfnNotFoundException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        assertThrows(CfnNotFoundException.class, () -> handler.handleRequest(proxy, siblingRequest, null, logger));
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(eq(listRequest), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void handleRequest_ProductWide_ReturnsOnlyOwnedProvisioningArtifacts() {
+        final ResourceHandlerRequest<ResourceModel> productWide = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .productId(productId)
+                        .provisioningArtifactId(ProductWideAssociation.ALL_PROVISIONING_ARTIFACTS)
+                        .serviceActionId(serviceActionId)
+                        .associatedProvisioningArtifactIds(ImmutableList.of("pa-1", "pa-3"))
+                        .build())
+                .build();
+        doReturn(ListProvisioningArtifactsForServiceActionResponse.builder()
+                .provisioningArtifactViews(view("pa-1"), view("pa-2"))
+                .build()).when(proxy).injectCredentialsAndInvokeV2(ArgumentMatchers.any(ListProvisioningArtifactsForServiceActionRequest.class), ArgumentMatchers.any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, productWide, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getAssociatedProvisioningArtifactIds()).containsExactly("pa-1");
+    }
+
+    @Test
+    public void handleRequest_ProductWideWithoutOwnedList_FailsWithoutTakingOtherAssociations() {
+        final ResourceHandlerRequest<ResourceModel> imported = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .productId(productId)
+                        .provisioningArtifactId(ProductWideAssociation.ALL_PROVISIONING_ARTIFACTS)
+                        .serviceActionId(serviceActionId)
+                        .build())
+                .build();
+
+        assertThrows(CfnInvalidRequestException.class, () -> handler.handleRequest(proxy, imported, null, logger));
+        verify(proxy, never()).injectCredentialsAndInvokeV2(ArgumentMatchers.any(ListProvisioningArtifactsForServiceActionRequest.class), ArgumentMatchers.any());
+    }
+
     @Test
     public void handleRequest_ThrowInvalidParametersException() {
         doThrow(InvalidParametersException.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
@@ -156,4 +228,11 @@ public class ReadHandlerTest {
         // When
         assertThrows(CfnInternalFailureException.class, () -> handler.handleRequest(proxy, request, null, logger));
     }
+
+    private static ProvisioningArtifactView view(final String id) {
+        return ProvisioningArtifactView.builder()
+                .productViewSummary(ProductViewSummary.builder().productId(productId).build())
+                .provisioningArtifact(ProvisioningArtifact.builder().id(id).build())
+                .build();
+    }
 }
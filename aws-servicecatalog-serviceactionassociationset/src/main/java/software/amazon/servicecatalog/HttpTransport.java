@@ -0,0 +1,100 @@
+package software.amazon.servicecatalog;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.cloudformation.LambdaWrapper;
+
+/**
+ * HTTP transports available to the synchronous Service Catalog clients, selected with the
+ * {@link HandlerSettings#HTTP_TRANSPORT} setting.
+ *
+ * Each transport's HTTP client is built once and shared by every client that uses it. Service clients do not close an
+ * HTTP client they were given, so evicting a pooled service client leaves the transport open.
+ */
+public enum HttpTransport {
+    /**
+     * The Apache client shared with the CloudFormation wrapper. The default.
+     */
+    APACHE {
+        @Override
+        SdkHttpClient build() {
+            return LambdaWrapper.HTTP_CLIENT;
+        }
+    },
+    /**
+     * The JDK HttpURLConnection client. No connection pool of its own and the fewest classes to load, which suits
+     * handlers where cold start dominates.
+     */
+    URL_CONNECTION {
+        @Override
+        SdkHttpClient build() {
+            return UrlConnectionHttpClient.builder()
+                    .connectionTimeout(CONNECTION_TIMEOUT)
+                    .socketTimeout(SOCKET_TIMEOUT)
+                    .build();
+        }
+    },
+    /**
+     * A dedicated Apache client with a larger pool and connections kept alive across invocations, for warm containers
+     * that make many calls, e.g. list fan-outs.
+     */
+    POOLED {
+        @Override
+        SdkHttpClient build() {
+            return ApacheHttpClient.builder()
+                    .connectionTimeout(CONNECTION_TIMEOUT)
+                    .socketTimeout(SOCKET_TIMEOUT)
+                    .maxConnections(POOLED_MAX_CONNECTIONS)
+                    .connectionMaxIdleTime(POOLED_MAX_IDLE_TIME)
+                    .connectionTimeToLive(POOLED_TIME_TO_LIVE)
+                    .useIdleConnectionReaper(true)
+                    .build();
+        }
+    };
+
+    private static final Duration CONNECTION_TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration SOCKET_TIMEOUT = Duration.ofSeconds(30);
+    private static final int POOLED_MAX_CONNECTIONS = 50;
+    private static final Duration POOLED_MAX_IDLE_TIME = Duration.ofSeconds(55);
+    private static final Duration POOLED_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private volatile SdkHttpClient httpClient;
+
+    abstract SdkHttpClient build();
+
+    /**
+     * Returns this transport's shared HTTP client, building it on first use.
+     */
+    public SdkHttpClient httpClient() {
+        SdkHttpClient current = httpClient;
+        if (current == null) {
+            synchronized (this) {
+                current = httpClient;
+                if (current == null) {
+                    current = build();
+                    httpClient = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Returns the transport named by the {@link HandlerSettings#HTTP_TRANSPORT} setting, {@link #APACHE} when unset.
+     */
+    public static HttpTransport configured() {
+        return fromName(HandlerSettings.get(HandlerSettings.HTTP_TRANSPORT, APACHE.name()));
+    }
+
+    public static HttpTransport fromName(final String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Unknown %s '%s'", HandlerSettings.HTTP_TRANSPORT, name), e);
+        }
+    }
+}
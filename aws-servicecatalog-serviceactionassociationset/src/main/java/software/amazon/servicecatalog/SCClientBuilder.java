@@ -0,0 +1,110 @@
+package software.amazon.servicecatalog;
+
+import java.net.URI;
+
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogAsyncClient;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogAsyncClientBuilder;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogClient;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogClientBuilder;
+
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_SUFFIX;
+
+public class SCClientBuilder {
+    private static final String CFN_USER_AGENT_SUFFIX = "CFN_Resource_Generated";
+
+    /**
+     * Optional system property that points the clients at a different Service Catalog endpoint, e.g. the local stub
+     * used by the cold-start benchmark harness. Unset in production.
+     */
+    public static final String ENDPOINT_OVERRIDE_PROPERTY = "software.amazon.servicecatalog.endpoint";
+
+    /**
+     * Returns the ServiceCatalogClient shared by every handler invocation in this container.
+     */
+    public static ServiceCatalogClient getClient() {
+        return SCClientProvider.getClient();
+    }
+
+    /**
+     * Returns the ServiceCatalogClient for the request's region, shared by every handler invocation in this container
+     * that targets the same region.
+     */
+    public static ServiceCatalogClient getClient(final String region) {
+        return SCClientProvider.getClient(region);
+    }
+
+    /**
+     * Builds a new ServiceCatalogClient. Handlers should not call this directly, see {@link SCClientProvider}.
+     */
+    public static ServiceCatalogClient buildClient() {
+        return buildClient(null);
+    }
+
+    /**
+     * Builds a new ServiceCatalogClient for the region, or for the default region when it is null, on the configured
+     * {@link HttpTransport}.
+     */
+    public static ServiceCatalogClient buildClient(final String region) {
+        final ServiceCatalogClientBuilder builder = ServiceCatalogClient
+                .builder()
+                .httpClient(HttpTransport.configured().httpClient())
+                .overrideConfiguration(buildOverrideConfiguration());
+        if (region != null) {
+            builder.region(Region.of(region));
+        }
+        final String endpointOverride = System.getProperty(ENDPOINT_OVERRIDE_PROPERTY);
+        if (endpointOverride != null) {
+            builder.endpointOverride(URI.create(endpointOverride));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the ServiceCatalogAsyncClient shared by every handler invocation in this container.
+     */
+    public static ServiceCatalogAsyncClient getAsyncClient() {
+        return SCClientProvider.getAsyncClient();
+    }
+
+    /**
+     * Returns the ServiceCatalogAsyncClient for the request's region, shared by every handler invocation in this
+     * container that targets the same region.
+     */
+    public static ServiceCatalogAsyncClient getAsyncClient(final String region) {
+        return SCClientProvider.getAsyncClient(region);
+    }
+
+    /**
+     * Builds a new ServiceCatalogAsyncClient on the SDK's default non-blocking HTTP client. Handlers should not call
+     * this directly, see {@link SCClientProvider}.
+     */
+    public static ServiceCatalogAsyncClient buildAsyncClient() {
+        return buildAsyncClient(null);
+    }
+
+    /**
+     * Builds a new ServiceCatalogAsyncClient for the region, or for the default region when it is null.
+     */
+    public static ServiceCatalogAsyncClient buildAsyncClient(final String region) {
+        final ServiceCatalogAsyncClientBuilder builder = ServiceCatalogAsyncClient
+                .builder()
+                .overrideConfiguration(buildOverrideConfiguration());
+        if (region != null) {
+            builder.region(Region.of(region));
+        }
+        final String endpointOverride = System.getProperty(ENDPOINT_OVERRIDE_PROPERTY);
+        if (endpointOverride != null) {
+            builder.endpointOverride(URI.create(endpointOverride));
+        }
+        return builder.build();
+    }
+
+    private static ClientOverrideConfiguration buildOverrideConfiguration() {
+        return ClientOverrideConfiguration
+                .builder()
+                .putAdvancedOption(USER_AGENT_SUFFIX, CFN_USER_AGENT_SUFFIX)
+                .build();
+    }
+}
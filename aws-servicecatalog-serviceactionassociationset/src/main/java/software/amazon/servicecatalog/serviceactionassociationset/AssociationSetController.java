@@ -0,0 +1,152 @@
+package software.amazon.servicecatalog.serviceactionassociationset;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogClient;
+import software.amazon.awssdk.services.servicecatalog.model.BatchAssociateServiceActionWithProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.BatchAssociateServiceActionWithProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.FailedServiceActionAssociation;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociation;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociationErrorCode;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.servicecatalog.PrefetchingPaginator;
+import software.amazon.servicecatalog.serviceactionassociationset.model.BatchResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AssociationSetController {
+
+    /**
+     * Largest number of associations the batch associate and disassociate operations accept per call.
+     */
+    public static final int MAX_BATCH_SIZE = 50;
+
+    private static final String BATCH_ASSOCIATE_LOG = "Batch associate %d service actions with provisioningArtifact: %s of product: %s";
+    private static final String BATCH_DISASSOCIATE_LOG = "Batch disassociate %d service actions from provisioningArtifact: %s of product: %s";
+    private static final String BATCH_FAILURES_LOG = "%d of %d service actions failed: %s";
+    private static final String ROLL_BACK_LOG = "Rolling back %d of %d service actions associated with provisioningArtifact: %s of product: %s";
+    private static final String LIST_SERVICE_ACTION_LOG = "List service action associated to provisioningArtifact: %s of product: %s";
+
+    private final Logger logger;
+    private final ServiceCatalogClient scClient;
+    private final AmazonWebServicesClientProxy proxy;
+
+    /**
+     * Associates the service actions with the provisioning artifact in batches of {@link #MAX_BATCH_SIZE}, and
+     * collects the items the service could not associate.
+     */
+    public BatchResult associateServiceActions(final String productId, final String provisioningArtifactId, final Collection<String> serviceActionIds) {
+        final List<FailedServiceActionAssociation> failures = new ArrayList<>();
+        for (final List<ServiceActionAssociation> batch : toBatches(productId, provisioningArtifactId, serviceActionIds)) {
+            final BatchAssociateServiceActionWithProvisioningArtifactRequest request = BatchAssociateServiceActionWithProvisioningArtifactRequest.builder()
+                    .serviceActionAssociations(batch)
+                    .build();
+            logger.log(String.format(BATCH_ASSOCIATE_LOG, batch.size(), provisioningArtifactId, productId));
+            final BatchAssociateServiceActionWithProvisioningArtifactResponse response =
+                    proxy.injectCredentialsAndInvokeV2(request, scClient::batchAssociateServiceActionWithProvisioningArtifact);
+            failures.addAll(response.failedServiceActionAssociations());
+        }
+        return toResult(serviceActionIds.size(), failures);
+    }
+
+    /**
+     * Disassociates the service actions from the provisioning artifact in batches of {@link #MAX_BATCH_SIZE}, and
+     * collects the items the service could not disassociate.
+     */
+    public BatchResult disassociateServiceActions(final String productId, final String provisioningArtifactId, final Collection<String> serviceActionIds) {
+        final List<FailedServiceActionAssociation> failures = new ArrayList<>();
+        for (final List<ServiceActionAssociation> batch : toBatches(productId, provisioningArtifactId, serviceActionIds)) {
+            final BatchDisassociateServiceActionFromProvisioningArtifactRequest request = BatchDisassociateServiceActionFromProvisioningArtifactRequest.builder()
+                    .serviceActionAssociations(batch)
+                    .build();
+            logger.log(String.format(BATCH_DISASSOCIATE_LOG, batch.size(), provisioningArtifactId, productId));
+            final BatchDisassociateServiceActionFromProvisioningArtifactResponse response =
+                    proxy.injectCredentialsAndInvokeV2(request, scClient::batchDisassociateServiceActionFromProvisioningArtifact);
+            failures.addAll(response.failedServiceActionAssociations());
+        }
+        return toResult(serviceActionIds.size(), failures);
+    }
+
+    /**
+     * Disassociates the service actions a failed associate call did associate, so the failure leaves none of them
+     * behind. Returns the items that could not be rolled back, a service action that is no longer associated is
+     * already rolled back.
+     */
+    public List<FailedServiceActionAssociation> rollBackAssociations(final String productId, final String provisioningArtifactId,
+                                                                     final Collection<String> serviceActionIds, final BatchResult associated) {
+        final List<String> succeeded = associated.succeeded(serviceActionIds);
+        if (succeeded.isEmpty()) {
+            return Collections.emptyList();
+        }
+        logger.log(String.format(ROLL_BACK_LOG, succeeded.size(), serviceActionIds.size(), provisioningArtifactId, productId));
+        return disassociateServiceActions(productId, provisioningArtifactId, succeeded)
+                .failuresExcept(ServiceActionAssociationErrorCode.RESOURCE_NOT_FOUND);
+    }
+
+    /**
+     * Lists every service action associated to the provisioning artifact, in listing order.
+     */
+    public Set<String> listServiceActionIds(final String productId, final String provisioningArtifactId) {
+        final Set<String> serviceActionIds = new LinkedHashSet<>();
+        try (PrefetchingPaginator<ListServiceActionsForProvisioningArtifactResponse> pages = new PrefetchingPaginator<>(
+                pageToken -> listServiceActions(productId, provisioningArtifactId, pageToken),
+                ListServiceActionsForProvisioningArtifactResponse::nextPageToken)) {
+            while (pages.hasNext()) {
+                pages.next().serviceActionSummaries().forEach(serviceActionSummary -> serviceActionIds.add(serviceActionSummary.id()));
+            }
+        }
+        return serviceActionIds;
+    }
+
+    private ListServiceActionsForProvisioningArtifactResponse listServiceActions(final String productId, final String provisioningArtifactId, final String pageToken) {
+        final ListServiceActionsForProvisioningArtifactRequest request = ListServiceActionsForProvisioningArtifactRequest.builder()
+                .productId(productId)
+                .provisioningArtifactId(provisioningArtifactId)
+                .pageToken(pageToken)
+                .pageSize(PrefetchingPaginator.MAX_PAGE_SIZE)
+                .build();
+
+        logger.log(String.format(LIST_SERVICE_ACTION_LOG, provisioningArtifactId, productId));
+        return proxy.injectCredentialsAndInvokeV2(request, scClient::listServiceActionsForProvisioningArtifact);
+    }
+
+    private static List<List<ServiceActionAssociation>> toBatches(final String productId, final String provisioningArtifactId, final Collection<String> serviceActionIds) {
+        final List<List<ServiceActionAssociation>> batches = new ArrayList<>();
+        List<ServiceActionAssociation> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        for (final String serviceActionId : serviceActionIds) {
+            if (batch.size() == MAX_BATCH_SIZE) {
+                batches.add(batch);
+                batch = new ArrayList<>(MAX_BATCH_SIZE);
+            }
+            batch.add(ServiceActionAssociation.builder()
+                    .serviceActionId(serviceActionId)
+                    .productId(productId)
+                    .provisioningArtifactId(provisioningArtifactId)
+                    .build());
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private BatchResult toResult(final int requested, final List<FailedServiceActionAssociation> failures) {
+        if (!failures.isEmpty()) {
+            logger.log(String.format(BATCH_FAILURES_LOG, failures.size(), requested, BatchResult.describe(failures)));
+        }
+        return new BatchResult(requested, failures);
+    }
+}
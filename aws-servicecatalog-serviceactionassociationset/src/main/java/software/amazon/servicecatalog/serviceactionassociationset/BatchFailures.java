@@ -0,0 +1,27 @@
+package software.amazon.servicecatalog.serviceactionassociationset;
+
+import java.util.List;
+
+import software.amazon.awssdk.services.servicecatalog.model.FailedServiceActionAssociation;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.servicecatalog.serviceactionassociationset.model.BatchResult;
+
+/**
+ * Reports the items a batch call could not process as a failed progress event. The error code is taken from the
+ * first failed item, and the message lists every failed service action with its own error code and message.
+ */
+final class BatchFailures {
+    private static final String MESSAGE = "Failed to %s %d service actions: %s";
+
+    private BatchFailures() {
+    }
+
+    static ProgressEvent<ResourceModel, CallbackContext> toProgressEvent(final ResourceModel model, final String operation,
+                                                                       final List<FailedServiceActionAssociation> failures) {
+        return ProgressEvent.failed(
+                model,
+                null,
+                ExceptionTranslator.translateToHandlerErrorCode(failures.get(0).errorCode()),
+                String.format(MESSAGE, operation, failures.size(), BatchResult.describe(failures)));
+    }
+}
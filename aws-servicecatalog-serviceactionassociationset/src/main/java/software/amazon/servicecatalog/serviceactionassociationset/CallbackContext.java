@@ -0,0 +1,26 @@
+package software.amazon.servicecatalog.serviceactionassociationset;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder(toBuilder = true)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CallbackContext {
+    private String productId;
+    private String provisioningArtifactId;
+    /**
+     * Service actions that must be listed on the provisioning artifact before stabilization succeeds.
+     */
+    private List<String> associatedServiceActionIds;
+    /**
+     * Service actions that must no longer be listed on the provisioning artifact before stabilization succeeds.
+     */
+    private List<String> disassociatedServiceActionIds;
+    private Integer stabilizationRetriesRemaining;
+}
@@ -0,0 +1,8 @@
+package software.amazon.servicecatalog.serviceactionassociationset;
+
+class Configuration extends BaseConfiguration {
+
+    public Configuration() {
+        super("aws-servicecatalog-serviceactionassociationset.json");
+    }
+}
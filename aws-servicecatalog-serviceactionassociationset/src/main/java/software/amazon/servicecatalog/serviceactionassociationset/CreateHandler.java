@@ -0,0 +1,83 @@
+package software.amazon.servicecatalog.serviceactionassociationset;
+
+import static software.amazon.servicecatalog.serviceactionassociationset.HandlerConstants.NUMBER_OF_STATE_POLL_RETRIES;
+import static software.amazon.servicecatalog.serviceactionassociationset.HandlerConstants.POLL_RETRY_DELAY_SECONDS;
+
+import java.util.Collections;
+import java.util.List;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.servicecatalog.model.FailedServiceActionAssociation;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociationErrorCode;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.SCClientBuilder;
+import software.amazon.servicecatalog.serviceactionassociationset.model.BatchResult;
+import software.amazon.servicecatalog.serviceactionassociationset.stabilizer.Stabilization;
+
+public class CreateHandler extends BaseHandler<CallbackContext> {
+
+    private static final String ROLL_BACK_FAILED = "Service actions left associated after a failed create: %s";
+
+    @Override
+    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final Logger logger) {
+
+        final AssociationSetController controller = AssociationSetController
+                .builder()
+                .logger(logger)
+                .proxy(proxy)
+                .scClient(SCClientBuilder.getClient(request.getRegion()))
+                .build();
+
+        if (callbackContext == null) { // CREATE request
+            logger.log("Invoking create handler for new resource.");
+            return handleNewCreateRequest(controller, request, logger);
+        } else { // CREATE Stabilization Request
+            logger.log(String.format("Invoking create handler for stabilizing resource %s", callbackContext.getProvisioningArtifactId()));
+            return Stabilization.handleCreateStabilizeRequest(controller, request, callbackContext, logger);
+        }
+    }
+
+    /**
+     * Associates the service actions of the model. A service action that is already associated belongs to some other
+     * resource, so any such item fails the create. A failed create disassociates the items it did associate.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> handleNewCreateRequest(final AssociationSetController controller,
+                                                                                final ResourceHandlerRequest<ResourceModel> request,
+                                                                                final Logger logger) {
+        final ResourceModel desiredModel = request.getDesiredResourceState();
+        final List<String> serviceActionIds = desiredModel.getServiceActionIds() == null
+                ? Collections.emptyList() : desiredModel.getServiceActionIds();
+        try {
+            final BatchResult result = controller.associateServiceActions(desiredModel.getProductId(), desiredModel.getProvisioningArtifactId(), serviceActionIds);
+            if (!result.getFailures().isEmpty()) {
+                final List<FailedServiceActionAssociation> notRolledBack = controller.rollBackAssociations(
+                        desiredModel.getProductId(), desiredModel.getProvisioningArtifactId(), serviceActionIds, result);
+                if (!notRolledBack.isEmpty()) {
+                    logger.log(String.format(ROLL_BACK_FAILED, BatchResult.describe(notRolledBack)));
+                }
+                if (result.anyFailedWith(ServiceActionAssociationErrorCode.DUPLICATE_RESOURCE)) {
+                    throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, desiredModel.getProvisioningArtifactId());
+                }
+                return BatchFailures.toProgressEvent(desiredModel, "associate", result.getFailures());
+            }
+            return ProgressEvent.defaultInProgressHandler(CallbackContext.builder()
+                            .productId(desiredModel.getProductId())
+                            .provisioningArtifactId(desiredModel.getProvisioningArtifactId())
+                            .associatedServiceActionIds(serviceActionIds)
+                            .stabilizationRetriesRemaining(NUMBER_OF_STATE_POLL_RETRIES)
+                            .build(),
+                    POLL_RETRY_DELAY_SECONDS,
+                    desiredModel);
+        } catch (SdkException e) {
+            throw ExceptionTranslator.translateToCfnException(e);
+        }
+    }
+}
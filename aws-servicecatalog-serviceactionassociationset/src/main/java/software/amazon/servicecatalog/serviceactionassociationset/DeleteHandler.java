@@ -0,0 +1,79 @@
+package software.amazon.servicecatalog.serviceactionassociationset;
+
+import static software.amazon.servicecatalog.serviceactionassociationset.HandlerConstants.NUMBER_OF_STATE_POLL_RETRIES;
+import static software.amazon.servicecatalog.serviceactionassociationset.HandlerConstants.POLL_RETRY_DELAY_SECONDS;
+
+import java.util.Collections;
+import java.util.List;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.servicecatalog.model.FailedServiceActionAssociation;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociationErrorCode;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.SCClientBuilder;
+import software.amazon.servicecatalog.serviceactionassociationset.model.BatchResult;
+import software.amazon.servicecatalog.serviceactionassociationset.stabilizer.Stabilization;
+
+public class DeleteHandler extends BaseHandler<CallbackContext> {
+
+    @Override
+    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
+
+        final AssociationSetController controller = AssociationSetController
+                .builder()
+                .scClient(SCClientBuilder.getClient(request.getRegion()))
+                .proxy(proxy)
+                .logger(logger)
+                .build();
+
+        if (callbackContext == null) { // DELETE request
+            logger.log("Invoking Delete handler for new resource.");
+            return handleNewDeleteRequest(controller, request);
+        } else { // Delete Stabilization Request
+            logger.log(String.format("Invoking Delete handler for stabilizing resource %s", callbackContext.getProvisioningArtifactId()));
+            return Stabilization.handleDeleteStabilizeRequest(controller, request, callbackContext, logger);
+        }
+    }
+
+    /**
+     * Disassociates the service actions of the model. The set owns only those, so a model without service actions
+     * has nothing to delete, whatever else is associated to the provisioning artifact.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> handleNewDeleteRequest(final AssociationSetController controller, final ResourceHandlerRequest<ResourceModel> request) {
+        final ResourceModel desiredModel = request.getDesiredResourceState();
+        final List<String> serviceActionIds = desiredModel.getServiceActionIds() == null
+                ? Collections.emptyList() : desiredModel.getServiceActionIds();
+        if (serviceActionIds.isEmpty()) {
+            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, desiredModel.getProvisioningArtifactId());
+        }
+        try {
+            final BatchResult result = controller.disassociateServiceActions(desiredModel.getProductId(), desiredModel.getProvisioningArtifactId(), serviceActionIds);
+            if (result.allFailedWith(ServiceActionAssociationErrorCode.RESOURCE_NOT_FOUND)) {
+                throw new CfnNotFoundException(ResourceModel.TYPE_NAME, desiredModel.getProvisioningArtifactId());
+            }
+            // A service action that is no longer associated is already deleted.
+            final List<FailedServiceActionAssociation> failures = result.failuresExcept(ServiceActionAssociationErrorCode.RESOURCE_NOT_FOUND);
+            if (!failures.isEmpty()) {
+                return BatchFailures.toProgressEvent(desiredModel, "disassociate", failures);
+            }
+            return ProgressEvent.defaultInProgressHandler(CallbackContext.builder()
+                            .productId(desiredModel.getProductId())
+                            .provisioningArtifactId(desiredModel.getProvisioningArtifactId())
+                            .disassociatedServiceActionIds(serviceActionIds)
+                            .stabilizationRetriesRemaining(NUMBER_OF_STATE_POLL_RETRIES)
+                            .build(),
+                    POLL_RETRY_DELAY_SECONDS,
+                    desiredModel);
+        } catch (SdkException e) {
+            throw ExceptionTranslator.translateToCfnException(e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package software.amazon.servicecatalog.serviceactionassociationset;
+
+public class HandlerConstants {
+
+    public static final int NUMBER_OF_STATE_POLL_RETRIES = 5;
+    public static final int POLL_RETRY_DELAY_SECONDS = 5;
+
+}
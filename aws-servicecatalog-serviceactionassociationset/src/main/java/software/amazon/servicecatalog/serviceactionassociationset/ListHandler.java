@@ -0,0 +1,64 @@
+package software.amazon.servicecatalog.serviceactionassociationset;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.amazonaws.util.StringUtils;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.SCClientBuilder;
+
+public class ListHandler extends BaseHandler<CallbackContext> {
+
+    private static final String MISSING_IDENTIFIER = "ProductId and ProvisioningArtifactId are required to list " + ResourceModel.TYPE_NAME;
+
+    /**
+     * Lists the association set of one provisioning artifact as a single model, or no model when none of its service
+     * actions is associated. When the request names service actions, only those are listed, see
+     * {@link ReadHandler#ownedServiceActionIds(ResourceModel, java.util.Set)}.
+     */
+    @Override
+    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
+
+        final ResourceModel desiredModel = request.getDesiredResourceState();
+        if (desiredModel == null || StringUtils.isNullOrEmpty(desiredModel.getProductId())
+                || StringUtils.isNullOrEmpty(desiredModel.getProvisioningArtifactId())) {
+            throw new CfnInvalidRequestException(MISSING_IDENTIFIER);
+        }
+
+        final AssociationSetController controller = AssociationSetController
+                .builder()
+                .logger(logger)
+                .proxy(proxy)
+                .scClient(SCClientBuilder.getClient(request.getRegion()))
+                .build();
+
+        try {
+            final List<String> serviceActionIds = ReadHandler.ownedServiceActionIds(desiredModel,
+                    controller.listServiceActionIds(desiredModel.getProductId(), desiredModel.getProvisioningArtifactId()));
+            final List<ResourceModel> models = serviceActionIds.isEmpty()
+                    ? Collections.emptyList()
+                    : Collections.singletonList(ResourceModel
+                            .builder()
+                            .productId(desiredModel.getProductId())
+                            .provisioningArtifactId(desiredModel.getProvisioningArtifactId())
+                            .serviceActionIds(serviceActionIds)
+                            .build());
+            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                    .resourceModels(models)
+                    .status(OperationStatus.SUCCESS)
+                    .build();
+        } catch (SdkException e) {
+            throw ExceptionTranslator.translateToCfnException(e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package software.amazon.servicecatalog.serviceactionassociationset;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.servicecatalog.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.SCClientBuilder;
+
+public class ReadHandler extends BaseHandler<CallbackContext> {
+
+    private static final String RESOURCE_NOT_FOUND_EXCEPTION = "No service action associated to provisioning artifact id %s of product id %s";
+
+    /**
+     * Reads the service actions of the set that are still associated to the provisioning artifact. Service actions
+     * other resources associated to the same provisioning artifact are not part of the set.
+     */
+    @Override
+    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
+
+        final AssociationSetController controller = AssociationSetController
+                .builder()
+                .logger(logger)
+                .proxy(proxy)
+                .scClient(SCClientBuilder.getClient(request.getRegion()))
+                .build();
+
+        try {
+            final ResourceModel desiredModel = request.getDesiredResourceState();
+            final String productId = desiredModel.getProductId();
+            final String provisioningArtifactId = desiredModel.getProvisioningArtifactId();
+            final List<String> serviceActionIds = ownedServiceActionIds(desiredModel,
+                    controller.listServiceActionIds(productId, provisioningArtifactId));
+            if (serviceActionIds.isEmpty()) {
+                throw ResourceNotFoundException.builder().message(String.format(RESOURCE_NOT_FOUND_EXCEPTION, provisioningArtifactId, productId)).build();
+            }
+            return ProgressEvent.defaultSuccessHandler(ResourceModel
+                    .builder()
+                    .productId(productId)
+                    .provisioningArtifactId(provisioningArtifactId)
+                    .serviceActionIds(serviceActionIds)
+                    .build());
+        } catch (SdkException e) {
+            throw ExceptionTranslator.translateToCfnException(e);
+        }
+    }
+
+    /**
+     * The service actions of the model that are in the listing, in model order. A model without service actions,
+     * such as one being imported, takes every listed service action.
+     */
+    static List<String> ownedServiceActionIds(final ResourceModel model, final Set<String> listed) {
+        if (model.getServiceActionIds() == null || model.getServiceActionIds().isEmpty()) {
+            return new ArrayList<>(listed);
+        }
+        return model.getServiceActionIds().stream()
+                .filter(listed::contains)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,95 @@
+package software.amazon.servicecatalog.serviceactionassociationset;
+
+import static software.amazon.servicecatalog.serviceactionassociationset.HandlerConstants.NUMBER_OF_STATE_POLL_RETRIES;
+import static software.amazon.servicecatalog.serviceactionassociationset.HandlerConstants.POLL_RETRY_DELAY_SECONDS;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.servicecatalog.model.FailedServiceActionAssociation;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociationErrorCode;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.SCClientBuilder;
+import software.amazon.servicecatalog.serviceactionassociationset.model.BatchResult;
+import software.amazon.servicecatalog.serviceactionassociationset.stabilizer.Stabilization;
+
+public class UpdateHandler extends BaseHandler<CallbackContext> {
+
+    private static final String ROLL_BACK_FAILED = "Service actions left associated after a failed update: %s";
+
+    @Override
+    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final Logger logger) {
+
+        final AssociationSetController controller = AssociationSetController
+                .builder()
+                .logger(logger)
+                .proxy(proxy)
+                .scClient(SCClientBuilder.getClient(request.getRegion()))
+                .build();
+
+        if (callbackContext == null) { // UPDATE request
+            logger.log("Invoking update handler for new resource.");
+            return handleNewUpdateRequest(controller, request, logger);
+        } else { // UPDATE Stabilization Request
+            logger.log(String.format("Invoking update handler for stabilizing resource %s", callbackContext.getProvisioningArtifactId()));
+            return Stabilization.handleUpdateStabilizeRequest(controller, request, callbackContext, logger);
+        }
+    }
+
+    /**
+     * Disassociates the service actions dropped from the set before associating the added ones, so the update does
+     * not need room for both beyond the provisioning artifact's limit. An added service action that is already
+     * associated belongs to some other resource and fails the update, which then disassociates the ones it did add.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> handleNewUpdateRequest(final AssociationSetController controller,
+                                                                                final ResourceHandlerRequest<ResourceModel> request,
+                                                                                final Logger logger) {
+        final ResourceModel desiredModel = request.getDesiredResourceState();
+        final List<String> desired = serviceActionIds(desiredModel);
+        final List<String> previous = serviceActionIds(request.getPreviousResourceState());
+        final List<String> added = desired.stream().filter(serviceActionId -> !previous.contains(serviceActionId)).collect(Collectors.toList());
+        final List<String> removed = previous.stream().filter(serviceActionId -> !desired.contains(serviceActionId)).collect(Collectors.toList());
+        try {
+            final List<FailedServiceActionAssociation> failures = new ArrayList<>(controller
+                    .disassociateServiceActions(desiredModel.getProductId(), desiredModel.getProvisioningArtifactId(), removed)
+                    .failuresExcept(ServiceActionAssociationErrorCode.RESOURCE_NOT_FOUND));
+            final BatchResult associated = controller.associateServiceActions(desiredModel.getProductId(), desiredModel.getProvisioningArtifactId(), added);
+            if (!associated.getFailures().isEmpty()) {
+                final List<FailedServiceActionAssociation> notRolledBack = controller.rollBackAssociations(
+                        desiredModel.getProductId(), desiredModel.getProvisioningArtifactId(), added, associated);
+                if (!notRolledBack.isEmpty()) {
+                    logger.log(String.format(ROLL_BACK_FAILED, BatchResult.describe(notRolledBack)));
+                }
+                failures.addAll(associated.getFailures());
+            }
+            if (!failures.isEmpty()) {
+                return BatchFailures.toProgressEvent(desiredModel, "update", failures);
+            }
+            return ProgressEvent.defaultInProgressHandler(CallbackContext.builder()
+                            .productId(desiredModel.getProductId())
+                            .provisioningArtifactId(desiredModel.getProvisioningArtifactId())
+                            .associatedServiceActionIds(desired)
+                            .disassociatedServiceActionIds(removed)
+                            .stabilizationRetriesRemaining(NUMBER_OF_STATE_POLL_RETRIES)
+                            .build(),
+                    POLL_RETRY_DELAY_SECONDS,
+                    desiredModel);
+        } catch (SdkException e) {
+            throw ExceptionTranslator.translateToCfnException(e);
+        }
+    }
+
+    private static List<String> serviceActionIds(final ResourceModel model) {
+        return model == null || model.getServiceActionIds() == null ? Collections.emptyList() : model.getServiceActionIds();
+    }
+}
@@ -0,0 +1,68 @@
+package software.amazon.servicecatalog.serviceactionassociationset.model;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import software.amazon.awssdk.services.servicecatalog.model.FailedServiceActionAssociation;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociationErrorCode;
+
+/**
+ * Outcome of associating or disassociating a set of service actions over one or more batch calls.
+ */
+@Getter
+@AllArgsConstructor
+public class BatchResult {
+    private static final String FAILURE = "%s (%s: %s)";
+
+    private final int requested;
+    private final List<FailedServiceActionAssociation> failures;
+
+    /**
+     * True when service actions were requested and every one of them failed with the given error code.
+     */
+    public boolean allFailedWith(final ServiceActionAssociationErrorCode errorCode) {
+        return requested > 0 && failures.size() == requested
+                && failures.stream().allMatch(failure -> failure.errorCode() == errorCode);
+    }
+
+    /**
+     * True when at least one service action failed with the given error code.
+     */
+    public boolean anyFailedWith(final ServiceActionAssociationErrorCode errorCode) {
+        return failures.stream().anyMatch(failure -> failure.errorCode() == errorCode);
+    }
+
+    /**
+     * The requested service actions that did not fail, in request order.
+     */
+    public List<String> succeeded(final Collection<String> serviceActionIds) {
+        final Set<String> failed = failures.stream()
+                .map(FailedServiceActionAssociation::serviceActionId)
+                .collect(Collectors.toSet());
+        return serviceActionIds.stream()
+                .filter(serviceActionId -> !failed.contains(serviceActionId))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Failures other than the given error code, which the caller treats as already in the requested state.
+     */
+    public List<FailedServiceActionAssociation> failuresExcept(final ServiceActionAssociationErrorCode errorCode) {
+        return failures.stream()
+                .filter(failure -> failure.errorCode() != errorCode)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Lists each failed service action with its error code and message.
+     */
+    public static String describe(final List<FailedServiceActionAssociation> failures) {
+        return failures.stream()
+                .map(failure -> String.format(FAILURE, failure.serviceActionId(), failure.errorCodeAsString(), failure.errorMessage()))
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,82 @@
+package software.amazon.servicecatalog.serviceactionassociationset.stabilizer;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.servicecatalog.serviceactionassociationset.AssociationSetController;
+import software.amazon.servicecatalog.serviceactionassociationset.CallbackContext;
+import software.amazon.servicecatalog.serviceactionassociationset.ExceptionTranslator;
+import software.amazon.servicecatalog.serviceactionassociationset.ResourceModel;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static software.amazon.servicecatalog.serviceactionassociationset.HandlerConstants.POLL_RETRY_DELAY_SECONDS;
+
+/**
+ * Stabilization Class for Create, Update and Delete Handlers.
+ *
+ * Each poll lists the service actions of the provisioning artifact once and checks the whole set against it.
+ */
+public class Stabilization {
+    private static final String RETRIES = "%s service action association set retries remaining: %s, %d not yet associated, %d not yet disassociated";
+
+    public static ProgressEvent<ResourceModel, CallbackContext> handleCreateStabilizeRequest(final AssociationSetController controller, final ResourceHandlerRequest<ResourceModel> request,
+                                                                                             final CallbackContext callbackContext,
+                                                                                             final Logger logger) {
+        return stabilize("Create", controller, request.getDesiredResourceState(), request.getDesiredResourceState(), callbackContext, logger);
+    }
+
+    public static ProgressEvent<ResourceModel, CallbackContext> handleUpdateStabilizeRequest(final AssociationSetController controller, final ResourceHandlerRequest<ResourceModel> request,
+                                                                                             final CallbackContext callbackContext,
+                                                                                             final Logger logger) {
+        return stabilize("Update", controller, request.getDesiredResourceState(), request.getDesiredResourceState(), callbackContext, logger);
+    }
+
+    public static ProgressEvent<ResourceModel, CallbackContext> handleDeleteStabilizeRequest(final AssociationSetController controller, final ResourceHandlerRequest<ResourceModel> request,
+                                                                                             final CallbackContext callbackContext,
+                                                                                             final Logger logger) {
+        return stabilize("Delete", controller, request.getDesiredResourceState(), null, callbackContext, logger);
+    }
+
+    private static ProgressEvent<ResourceModel, CallbackContext> stabilize(final String operation,
+                                                                           final AssociationSetController controller,
+                                                                           final ResourceModel model,
+                                                                           final ResourceModel stabilizedModel,
+                                                                           final CallbackContext callbackContext,
+                                                                           final Logger logger) {
+        if (callbackContext.getStabilizationRetriesRemaining() == 0) {
+            logger.log(String.format("%s retries remaining zero", operation));
+            throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, callbackContext.getProvisioningArtifactId());
+        }
+        final Set<String> listed;
+        try {
+            listed = controller.listServiceActionIds(callbackContext.getProductId(), callbackContext.getProvisioningArtifactId());
+        } catch (SdkException e) {
+            throw ExceptionTranslator.translateToCfnException(e);
+        }
+        final long notAssociated = orEmpty(callbackContext.getAssociatedServiceActionIds()).stream()
+                .filter(serviceActionId -> !listed.contains(serviceActionId))
+                .count();
+        final long notDisassociated = orEmpty(callbackContext.getDisassociatedServiceActionIds()).stream()
+                .filter(listed::contains)
+                .count();
+        logger.log(String.format(RETRIES, operation, callbackContext.getStabilizationRetriesRemaining(), notAssociated, notDisassociated));
+        if (notAssociated == 0 && notDisassociated == 0) {
+            return ProgressEvent.defaultSuccessHandler(stabilizedModel);
+        }
+        return ProgressEvent.defaultInProgressHandler(
+                callbackContext.toBuilder()
+                        .stabilizationRetriesRemaining(callbackContext.getStabilizationRetriesRemaining() - 1)
+                        .build(),
+                POLL_RETRY_DELAY_SECONDS,
+                model);
+    }
+
+    private static List<String> orEmpty(final List<String> serviceActionIds) {
+        return serviceActionIds == null ? Collections.emptyList() : serviceActionIds;
+    }
+}
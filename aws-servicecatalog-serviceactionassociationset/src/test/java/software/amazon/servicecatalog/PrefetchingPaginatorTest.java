@@ -0,0 +1,130 @@
+package software.amazon.servicecatalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PrefetchingPaginatorTest {
+
+    private ExecutorService executor;
+    private List<String> fetchedTokens;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newSingleThreadExecutor();
+        fetchedTokens = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void next_ReturnsEveryPageInOrder() {
+        final PrefetchingPaginator<String> pages = paginator(token -> {
+            fetchedTokens.add(String.valueOf(token));
+            return token == null ? "page-1" : token.equals("page-1") ? "page-2" : "page-3";
+        });
+
+        final List<String> visited = new ArrayList<>();
+        while (pages.hasNext()) {
+            visited.add(pages.next());
+        }
+
+        assertThat(visited).containsExactly("page-1", "page-2", "page-3");
+        assertThat(fetchedTokens).containsExactly("null", "page-1", "page-2");
+    }
+
+    @Test
+    public void next_FetchesFollowingPageBeforeItIsRequested() throws Exception {
+        final CountDownLatch prefetched = new CountDownLatch(1);
+        final PrefetchingPaginator<String> pages = paginator(token -> {
+            if (token != null) {
+                prefetched.countDown();
+                return "page-3";
+            }
+            return "page-1";
+        });
+
+        assertThat(pages.next()).isEqualTo("page-1");
+
+        assertThat(prefetched.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(pages.next()).isEqualTo("page-3");
+        assertThat(pages.hasNext()).isFalse();
+    }
+
+    @Test
+    public void close_CancelsOutstandingPrefetch() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final PrefetchingPaginator<String> pages = paginator(token -> {
+            if (token == null) {
+                return "page-1";
+            }
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "page-3";
+        });
+
+        pages.next();
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        pages.close();
+
+        assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(pages.hasNext()).isFalse();
+    }
+
+    @Test
+    public void next_PrefetchFailure_ThrownOnCallingThread() {
+        final PrefetchingPaginator<String> pages = paginator(token -> {
+            if (token == null) {
+                return "page-1";
+            }
+            throw new IllegalArgumentException("bad token");
+        });
+
+        pages.next();
+
+        assertThatThrownBy(pages::next).isInstanceOf(IllegalArgumentException.class).hasMessage("bad token");
+    }
+
+    @Test
+    public void onDemand_FetchesOnlyThePagesThatAreRead() {
+        final PrefetchingPaginator<String> pages = PrefetchingPaginator.onDemand(token -> {
+            fetchedTokens.add(String.valueOf(token));
+            return token == null ? "page-1" : token.equals("page-1") ? "page-2" : "page-3";
+        }, page -> "page-3".equals(page) ? null : page);
+
+        assertThat(pages.next()).isEqualTo("page-1");
+        assertThat(pages.next()).isEqualTo("page-2");
+        assertThat(fetchedTokens).containsExactly("null", "page-1");
+
+        assertThat(pages.next()).isEqualTo("page-3");
+        assertThat(pages.hasNext()).isFalse();
+        assertThat(fetchedTokens).containsExactly("null", "page-1", "page-2");
+    }
+
+    /**
+     * Pages are named after the token of the page that follows them, "page-3" is the last page.
+     */
+    private PrefetchingPaginator<String> paginator(final Function<String, String> fetch) {
+        return new PrefetchingPaginator<>(fetch, page -> "page-3".equals(page) ? null : page, executor);
+    }
+}
@@ -0,0 +1,146 @@
+package software.amazon.servicecatalog.serviceactionassociationset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.servicecatalog.ServiceCatalogClient;
+import software.amazon.awssdk.services.servicecatalog.model.BatchAssociateServiceActionWithProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.BatchAssociateServiceActionWithProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.FailedServiceActionAssociation;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociationErrorCode;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionSummary;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.servicecatalog.PrefetchingPaginator;
+import software.amazon.servicecatalog.serviceactionassociationset.model.BatchResult;
+
+@ExtendWith(MockitoExtension.class)
+public class AssociationSetControllerTest {
+
+    private static final String PRODUCT_ID = "prod-sdfg1234";
+    private static final String PROVISIONING_ARTIFACT_ID = "pa-dfergbr1232r4";
+
+    private AssociationSetController controller;
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private ServiceCatalogClient scClient;
+
+    @Mock
+    private Logger logger;
+
+    @BeforeEach
+    public void setup() {
+        controller = AssociationSetController.builder()
+                .logger(logger)
+                .proxy(proxy)
+                .scClient(scClient)
+                .build();
+    }
+
+    @Test
+    public void associateServiceActions_SplitsIntoBatchesOfApiMaximum() {
+        final FailedServiceActionAssociation failure = FailedServiceActionAssociation.builder()
+                .serviceActionId("act-7")
+                .errorCode(ServiceActionAssociationErrorCode.LIMIT_EXCEEDED)
+                .errorMessage("limit")
+                .build();
+        doReturn(BatchAssociateServiceActionWithProvisioningArtifactResponse.builder().build(),
+                BatchAssociateServiceActionWithProvisioningArtifactResponse.builder().failedServiceActionAssociations(failure).build(),
+                BatchAssociateServiceActionWithProvisioningArtifactResponse.builder().build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(BatchAssociateServiceActionWithProvisioningArtifactRequest.class), any());
+
+        final BatchResult result = controller.associateServiceActions(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, serviceActionIds(120));
+
+        final ArgumentCaptor<BatchAssociateServiceActionWithProvisioningArtifactRequest> requests =
+                ArgumentCaptor.forClass(BatchAssociateServiceActionWithProvisioningArtifactRequest.class);
+        verify(proxy, times(3)).injectCredentialsAndInvokeV2(requests.capture(), any());
+        assertThat(requests.getAllValues()).extracting(request -> request.serviceActionAssociations().size())
+                .containsExactly(50, 50, 20);
+        assertThat(requests.getAllValues().get(2).serviceActionAssociations().get(0).serviceActionId()).isEqualTo("act-100");
+        assertThat(requests.getAllValues().get(2).serviceActionAssociations().get(0).productId()).isEqualTo(PRODUCT_ID);
+        assertThat(requests.getAllValues().get(2).serviceActionAssociations().get(0).provisioningArtifactId()).isEqualTo(PROVISIONING_ARTIFACT_ID);
+        assertThat(result.getRequested()).isEqualTo(120);
+        assertThat(result.getFailures()).containsExactly(failure);
+        assertThat(BatchResult.describe(result.getFailures())).isEqualTo("act-7 (LIMIT_EXCEEDED: limit)");
+    }
+
+    @Test
+    public void disassociateServiceActions_AllNotFound() {
+        final List<String> serviceActionIds = serviceActionIds(2);
+        doReturn(BatchDisassociateServiceActionFromProvisioningArtifactResponse.builder()
+                .failedServiceActionAssociations(
+                        FailedServiceActionAssociation.builder().serviceActionId("act-0").errorCode(ServiceActionAssociationErrorCode.RESOURCE_NOT_FOUND).build(),
+                        FailedServiceActionAssociation.builder().serviceActionId("act-1").errorCode(ServiceActionAssociationErrorCode.RESOURCE_NOT_FOUND).build())
+                .build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(BatchDisassociateServiceActionFromProvisioningArtifactRequest.class), any());
+
+        final BatchResult result = controller.disassociateServiceActions(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, serviceActionIds);
+
+        assertThat(result.allFailedWith(ServiceActionAssociationErrorCode.RESOURCE_NOT_FOUND)).isTrue();
+        assertThat(result.allFailedWith(ServiceActionAssociationErrorCode.THROTTLING)).isFalse();
+        assertThat(result.failuresExcept(ServiceActionAssociationErrorCode.RESOURCE_NOT_FOUND)).isEmpty();
+    }
+
+    @Test
+    public void associateServiceActions_EmptySet_MakesNoCall() {
+        final BatchResult result = controller.associateServiceActions(PRODUCT_ID, PROVISIONING_ARTIFACT_ID, new ArrayList<>());
+
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(result.allFailedWith(ServiceActionAssociationErrorCode.DUPLICATE_RESOURCE)).isFalse();
+    }
+
+    @Test
+    public void listServiceActionIds_ReadsEveryPage() {
+        doReturn(ListServiceActionsForProvisioningArtifactResponse.builder()
+                .serviceActionSummaries(ServiceActionSummary.builder().id("act-0").build())
+                .nextPageToken("page-2")
+                .build())
+                .when(proxy).injectCredentialsAndInvokeV2(eq(listRequest(null)), any());
+        doReturn(ListServiceActionsForProvisioningArtifactResponse.builder()
+                .serviceActionSummaries(ImmutableList.of(
+                        ServiceActionSummary.builder().id("act-1").build(),
+                        ServiceActionSummary.builder().id("act-2").build()))
+                .build())
+                .when(proxy).injectCredentialsAndInvokeV2(eq(listRequest("page-2")), any());
+
+        assertThat(controller.listServiceActionIds(PRODUCT_ID, PROVISIONING_ARTIFACT_ID)).containsExactly("act-0", "act-1", "act-2");
+    }
+
+    private static ListServiceActionsForProvisioningArtifactRequest listRequest(final String pageToken) {
+        return ListServiceActionsForProvisioningArtifactRequest.builder()
+                .productId(PRODUCT_ID)
+                .provisioningArtifactId(PROVISIONING_ARTIFACT_ID)
+                .pageToken(pageToken)
+                .pageSize(PrefetchingPaginator.MAX_PAGE_SIZE)
+                .build();
+    }
+
+    private static List<String> serviceActionIds(final int count) {
+        final List<String> serviceActionIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            serviceActionIds.add("act-" + i);
+        }
+        return serviceActionIds;
+    }
+}
@@ -0,0 +1,223 @@
+package software.amazon.servicecatalog.serviceactionassociationset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.servicecatalog.model.BatchAssociateServiceActionWithProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.BatchAssociateServiceActionWithProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.FailedServiceActionAssociation;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociation;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociationErrorCode;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionSummary;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateHandlerTest {
+
+    final static private String PRODUCT_ID = "prod-sdfg1234";
+    final static private String PROVISIONING_ARTIFACT_ID = "pa-dfergbr1232r4";
+    final static private String Exception = "Service Action Association Set Exception";
+
+    private CreateHandler handler;
+    private ResourceModel model;
+    private ResourceHandlerRequest<ResourceModel> request;
+    private CallbackContext callbackContext;
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private Logger logger;
+
+    @BeforeEach
+    public void setup() {
+        handler = new CreateHandler();
+        model = ResourceModel
+                .builder()
+                .productId(PRODUCT_ID)
+                .provisioningArtifactId(PROVISIONING_ARTIFACT_ID)
+                .serviceActionIds(ImmutableList.of("act-1", "act-2"))
+                .build();
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        callbackContext = CallbackContext.builder()
+                .productId(PRODUCT_ID)
+                .provisioningArtifactId(PROVISIONING_ARTIFACT_ID)
+                .associatedServiceActionIds(ImmutableList.of("act-1", "act-2"))
+                .stabilizationRetriesRemaining(5)
+                .build();
+    }
+
+    @Test
+    public void handleRequest_SimpleSuccess() {
+        doReturn(BatchAssociateServiceActionWithProvisioningArtifactResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(BatchAssociateServiceActionWithProvisioningArtifactRequest.class),
+                ArgumentMatchers.any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext()).isEqualTo(callbackContext);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(5);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        assertThat(response.getMessage()).isNull();
+        assertThat(response.getErrorCode()).isNull();
+    }
+
+    @Test
+    public void handleRequest_ItemFailures_RollsBackAndReportsPerServiceAction() {
+        doReturn(BatchAssociateServiceActionWithProvisioningArtifactResponse.builder()
+                .failedServiceActionAssociations(failure("act-2", ServiceActionAssociationErrorCode.RESOURCE_NOT_FOUND, "Service action not found"))
+                .build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(BatchAssociateServiceActionWithProvisioningArtifactRequest.class),
+                ArgumentMatchers.any());
+        doReturn(BatchDisassociateServiceActionFromProvisioningArtifactResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(BatchDisassociateServiceActionFromProvisioningArtifactRequest.class),
+                ArgumentMatchers.any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(response.getMessage()).isEqualTo("Failed to associate 1 service actions: act-2 (RESOURCE_NOT_FOUND: Service action not found)");
+        assertThat(response.getCallbackContext()).isNull();
+        assertThat(rolledBack()).containsExactly("act-1");
+    }
+
+    @Test
+    public void handleRequest_OneAlreadyAssociated_RollsBackAndThrowsAlreadyExists() {
+        doReturn(BatchAssociateServiceActionWithProvisioningArtifactResponse.builder()
+                .failedServiceActionAssociations(failure("act-2", ServiceActionAssociationErrorCode.DUPLICATE_RESOURCE, "Already associated"))
+                .build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(BatchAssociateServiceActionWithProvisioningArtifactRequest.class),
+                ArgumentMatchers.any());
+        doReturn(BatchDisassociateServiceActionFromProvisioningArtifactResponse.builder()
+                .failedServiceActionAssociations(failure("act-1", ServiceActionAssociationErrorCode.THROTTLING, "Rate exceeded"))
+                .build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(BatchDisassociateServiceActionFromProvisioningArtifactRequest.class),
+                ArgumentMatchers.any());
+
+        assertThrows(CfnAlreadyExistsException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        assertThat(rolledBack()).containsExactly("act-1");
+    }
+
+    @Test
+    public void handleRequest_AllAlreadyAssociated_ThrowsAlreadyExists() {
+        doReturn(BatchAssociateServiceActionWithProvisioningArtifactResponse.builder()
+                .failedServiceActionAssociations(
+                        failure("act-1", ServiceActionAssociationErrorCode.DUPLICATE_RESOURCE, "Already associated"),
+                        failure("act-2", ServiceActionAssociationErrorCode.DUPLICATE_RESOURCE, "Already associated"))
+                .build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(BatchAssociateServiceActionWithProvisioningArtifactRequest.class),
+                ArgumentMatchers.any());
+
+        assertThrows(CfnAlreadyExistsException.class, () -> handler.handleRequest(proxy, request, null, logger));
+    }
+
+    @Test
+    public void handleRequest_ThrowSdkException() {
+        doThrow(SdkException.builder().message(Exception).build()).when(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any());
+
+        assertThrows(CfnInternalFailureException.class, () -> handler.handleRequest(proxy, request, null, logger));
+    }
+
+    @Test
+    public void handleRequest_StabilizeSuccess() {
+        doReturn(listResponse("act-2", "act-3", "act-1")).when(proxy).injectCredentialsAndInvokeV2(
+                any(ListServiceActionsForProvisioningArtifactRequest.class),
+                ArgumentMatchers.any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, callbackContext, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(model);
+        assertThat(response.getCallbackContext()).isNull();
+    }
+
+    @Test
+    public void handleRequest_StabilizeInProgress() {
+        doReturn(listResponse("act-1")).when(proxy).injectCredentialsAndInvokeV2(
+                any(ListServiceActionsForProvisioningArtifactRequest.class),
+                ArgumentMatchers.any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, callbackContext, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().getStabilizationRetriesRemaining()).isEqualTo(4);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(5);
+    }
+
+    @Test
+    public void handleRequest_StabilizeRetriesExhausted() {
+        final CallbackContext exhausted = callbackContext.toBuilder().stabilizationRetriesRemaining(0).build();
+
+        assertThrows(CfnNotStabilizedException.class, () -> handler.handleRequest(proxy, request, exhausted, logger));
+    }
+
+    private List<String> rolledBack() {
+        final ArgumentCaptor<AwsRequest> requests = ArgumentCaptor.forClass(AwsRequest.class);
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(requests.capture(), ArgumentMatchers.any());
+        return ((BatchDisassociateServiceActionFromProvisioningArtifactRequest) requests.getAllValues().get(1)).serviceActionAssociations().stream()
+                .map(ServiceActionAssociation::serviceActionId)
+                .collect(Collectors.toList());
+    }
+
+    static FailedServiceActionAssociation failure(final String serviceActionId, final ServiceActionAssociationErrorCode errorCode, final String message) {
+        return FailedServiceActionAssociation.builder()
+                .serviceActionId(serviceActionId)
+                .productId(PRODUCT_ID)
+                .provisioningArtifactId(PROVISIONING_ARTIFACT_ID)
+                .errorCode(errorCode)
+                .errorMessage(message)
+                .build();
+    }
+
+    static ListServiceActionsForProvisioningArtifactResponse listResponse(final String... serviceActionIds) {
+        final ImmutableList.Builder<ServiceActionSummary> summaries = ImmutableList.builder();
+        for (final String serviceActionId : serviceActionIds) {
+            summaries.add(ServiceActionSummary.builder().id(serviceActionId).build());
+        }
+        return ListServiceActionsForProvisioningArtifactResponse.builder()
+                .serviceActionSummaries(summaries.build())
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package software.amazon.servicecatalog.serviceactionassociationset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static software.amazon.servicecatalog.serviceactionassociationset.CreateHandlerTest.failure;
+import static software.amazon.servicecatalog.serviceactionassociationset.CreateHandlerTest.listResponse;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociationErrorCode;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+@ExtendWith(MockitoExtension.class)
+public class DeleteHandlerTest {
+
+    final static private String PRODUCT_ID = "prod-sdfg1234";
+    final static private String PROVISIONING_ARTIFACT_ID = "pa-dfergbr1232r4";
+
+    private DeleteHandler handler;
+    private ResourceModel model;
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private Logger logger;
+
+    @BeforeEach
+    public void setup() {
+        handler = new DeleteHandler();
+        model = ResourceModel
+                .builder()
+                .productId(PRODUCT_ID)
+                .provisioningArtifactId(PROVISIONING_ARTIFACT_ID)
+                .serviceActionIds(ImmutableList.of("act-1", "act-2"))
+                .build();
+    }
+
+    @Test
+    public void handleRequest_SimpleSuccess() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        doReturn(BatchDisassociateServiceActionFromProvisioningArtifactResponse.builder()
+                .failedServiceActionAssociations(failure("act-2", ServiceActionAssociationErrorCode.RESOURCE_NOT_FOUND, "Not associated"))
+                .build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(BatchDisassociateServiceActionFromProvisioningArtifactRequest.class),
+                ArgumentMatchers.any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().getDisassociatedServiceActionIds()).containsExactly("act-1", "act-2");
+        assertThat(response.getCallbackContext().getAssociatedServiceActionIds()).isNull();
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(5);
+    }
+
+    @Test
+    public void handleRequest_PrimaryIdentifierOnly_ThrowsNotFoundWithoutDisassociating() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().productId(PRODUCT_ID).provisioningArtifactId(PROVISIONING_ARTIFACT_ID).build())
+                .build();
+
+        assertThrows(CfnNotFoundException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        verifyZeroInteractions(proxy);
+    }
+
+    @Test
+    public void handleRequest_NoneAssociated_ThrowsNotFound() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        doReturn(BatchDisassociateServiceActionFromProvisioningArtifactResponse.builder()
+                .failedServiceActionAssociations(
+                        failure("act-1", ServiceActionAssociationErrorCode.RESOURCE_NOT_FOUND, "Not associated"),
+                        failure("act-2", ServiceActionAssociationErrorCode.RESOURCE_NOT_FOUND, "Not associated"))
+                .build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(BatchDisassociateServiceActionFromProvisioningArtifactRequest.class),
+                ArgumentMatchers.any());
+
+        assertThrows(CfnNotFoundException.class, () -> handler.handleRequest(proxy, request, null, logger));
+    }
+
+    @Test
+    public void handleRequest_StabilizeSuccess() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        final CallbackContext callbackContext = CallbackContext.builder()
+                .productId(PRODUCT_ID)
+                .provisioningArtifactId(PROVISIONING_ARTIFACT_ID)
+                .disassociatedServiceActionIds(ImmutableList.of("act-1", "act-2"))
+                .stabilizationRetriesRemaining(5)
+                .build();
+        doReturn(listResponse("act-3")).when(proxy).injectCredentialsAndInvokeV2(
+                any(ListServiceActionsForProvisioningArtifactRequest.class),
+                ArgumentMatchers.any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, callbackContext, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isNull();
+    }
+}
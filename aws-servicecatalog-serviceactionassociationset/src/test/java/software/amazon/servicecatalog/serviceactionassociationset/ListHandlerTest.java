@@ -0,0 +1,111 @@
+package software.amazon.servicecatalog.serviceactionassociationset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static software.amazon.servicecatalog.serviceactionassociationset.CreateHandlerTest.listResponse;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactRequest;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+@ExtendWith(MockitoExtension.class)
+public class ListHandlerTest {
+
+    private static final String productId = "pro-asdfgh";
+    private static final String provisioningArtifactId = "pa-asdffg";
+
+    private ListHandler handler;
+    private ResourceHandlerRequest<ResourceModel> request;
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private Logger logger;
+
+    @BeforeEach
+    public void setup() {
+        handler = new ListHandler();
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel
+                        .builder()
+                        .productId(productId)
+                        .provisioningArtifactId(provisioningArtifactId)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_SimpleSuccess() {
+        doReturn(listResponse("act-fake1", "act-fake2")).when(proxy).injectCredentialsAndInvokeV2(
+                any(ListServiceActionsForProvisioningArtifactRequest.class),
+                ArgumentMatchers.any()
+        );
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getResourceModels().get(0).getServiceActionIds()).containsExactly("act-fake1", "act-fake2");
+        assertThat(response.getNextToken()).isNull();
+    }
+
+    @Test
+    public void handleRequest_ServiceActionsInRequest_ListsOnlyThose() {
+        final ResourceHandlerRequest<ResourceModel> owned = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel
+                        .builder()
+                        .productId(productId)
+                        .provisioningArtifactId(provisioningArtifactId)
+                        .serviceActionIds(ImmutableList.of("act-fake2", "act-fake3"))
+                        .build())
+                .build();
+        doReturn(listResponse("act-fake1", "act-fake2")).when(proxy).injectCredentialsAndInvokeV2(
+                any(ListServiceActionsForProvisioningArtifactRequest.class),
+                ArgumentMatchers.any()
+        );
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, owned, null, logger);
+
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getResourceModels().get(0).getServiceActionIds()).containsExactly("act-fake2");
+    }
+
+    @Test
+    public void handleRequest_NoneAssociated_ReturnsNoModel() {
+        doReturn(listResponse()).when(proxy).injectCredentialsAndInvokeV2(
+                any(ListServiceActionsForProvisioningArtifactRequest.class),
+                ArgumentMatchers.any()
+        );
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEmpty();
+    }
+
+    @Test
+    public void handleRequest_MissingProvisioningArtifactId_ThrowsInvalidRequest() {
+        final ResourceHandlerRequest<ResourceModel> partial = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().productId(productId).build())
+                .build();
+
+        assertThrows(CfnInvalidRequestException.class, () -> handler.handleRequest(proxy, partial, null, logger));
+    }
+}
@@ -0,0 +1,128 @@
+package software.amazon.servicecatalog.serviceactionassociationset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static software.amazon.servicecatalog.serviceactionassociationset.CreateHandlerTest.listResponse;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.servicecatalog.model.InvalidParametersException;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactRequest;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+@ExtendWith(MockitoExtension.class)
+public class ReadHandlerTest {
+
+    private static final String productId = "pro-asdfgh";
+    private static final String provisioningArtifactId = "pa-asdffg";
+
+    private ReadHandler handler;
+    private ResourceHandlerRequest<ResourceModel> request;
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private Logger logger;
+
+    @BeforeEach
+    public void setup() {
+        handler = new ReadHandler();
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel
+                        .builder()
+                        .productId(productId)
+                        .provisioningArtifactId(provisioningArtifactId)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_SimpleSuccess() {
+        doReturn(listResponse("act-fake1", "act-fake2")).when(proxy).injectCredentialsAndInvokeV2(
+                any(ListServiceActionsForProvisioningArtifactRequest.class),
+                ArgumentMatchers.any()
+        );
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getProductId()).isEqualTo(productId);
+        assertThat(response.getResourceModel().getProvisioningArtifactId()).isEqualTo(provisioningArtifactId);
+        assertThat(response.getResourceModel().getServiceActionIds()).containsExactly("act-fake1", "act-fake2");
+    }
+
+    @Test
+    public void handleRequest_ReturnsOnlyServiceActionsOfTheSet() {
+        final ResourceHandlerRequest<ResourceModel> owned = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model("act-fake3", "act-fake1"))
+                .build();
+        doReturn(listResponse("act-fake1", "act-fake2")).when(proxy).injectCredentialsAndInvokeV2(
+                any(ListServiceActionsForProvisioningArtifactRequest.class),
+                ArgumentMatchers.any()
+        );
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, owned, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getServiceActionIds()).containsExactly("act-fake1");
+    }
+
+    @Test
+    public void handleRequest_NoneOfTheSetAssociated_ThrowResourceNotFoundException() {
+        final ResourceHandlerRequest<ResourceModel> owned = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model("act-fake3"))
+                .build();
+        doReturn(listResponse("act-fake1", "act-fake2")).when(proxy).injectCredentialsAndInvokeV2(
+                any(ListServiceActionsForProvisioningArtifactRequest.class),
+                ArgumentMatchers.any()
+        );
+
+        assertThrows(CfnNotFoundException.class, () -> handler.handleRequest(proxy, owned, null, logger));
+    }
+
+    @Test
+    public void handleRequest_NoneAssociated_ThrowResourceNotFoundException() {
+        doReturn(listResponse()).when(proxy).injectCredentialsAndInvokeV2(
+                any(ListServiceActionsForProvisioningArtifactRequest.class),
+                ArgumentMatchers.any()
+        );
+
+        assertThrows(CfnNotFoundException.class, () -> handler.handleRequest(proxy, request, null, logger));
+    }
+
+    @Test
+    public void handleRequest_ThrowInvalidParametersException() {
+        doThrow(InvalidParametersException.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(ListServiceActionsForProvisioningArtifactRequest.class),
+                ArgumentMatchers.any()
+        );
+
+        assertThrows(CfnInvalidRequestException.class, () -> handler.handleRequest(proxy, request, null, logger));
+    }
+
+    private static ResourceModel model(final String... serviceActionIds) {
+        return ResourceModel
+                .builder()
+                .productId(productId)
+                .provisioningArtifactId(provisioningArtifactId)
+                .serviceActionIds(ImmutableList.copyOf(serviceActionIds))
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package software.amazon.servicecatalog.serviceactionassociationset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static software.amazon.servicecatalog.serviceactionassociationset.CreateHandlerTest.failure;
+import static software.amazon.servicecatalog.serviceactionassociationset.CreateHandlerTest.listResponse;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.services.servicecatalog.model.BatchAssociateServiceActionWithProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.BatchAssociateServiceActionWithProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.BatchDisassociateServiceActionFromProvisioningArtifactResponse;
+import software.amazon.awssdk.services.servicecatalog.model.ListServiceActionsForProvisioningArtifactRequest;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociation;
+import software.amazon.awssdk.services.servicecatalog.model.ServiceActionAssociationErrorCode;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+@ExtendWith(MockitoExtension.class)
+public class UpdateHandlerTest {
+
+    final static private String PRODUCT_ID = "prod-sdfg1234";
+    final static private String PROVISIONING_ARTIFACT_ID = "pa-dfergbr1232r4";
+
+    private UpdateHandler handler;
+    private ResourceHandlerRequest<ResourceModel> request;
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private Logger logger;
+
+    @BeforeEach
+    public void setup() {
+        handler = new UpdateHandler();
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(model("act-1", "act-2"))
+                .desiredResourceState(model("act-2", "act-3"))
+                .build();
+    }
+
+    @Test
+    public void handleRequest_AssociatesAddedAndDisassociatesRemoved() {
+        doReturn(BatchDisassociateServiceActionFromProvisioningArtifactResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(BatchDisassociateServiceActionFromProvisioningArtifactRequest.class),
+                ArgumentMatchers.any());
+        doReturn(BatchAssociateServiceActionWithProvisioningArtifactResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(BatchAssociateServiceActionWithProvisioningArtifactRequest.class),
+                ArgumentMatchers.any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        final ArgumentCaptor<AwsRequest> requests = ArgumentCaptor.forClass(AwsRequest.class);
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(requests.capture(), ArgumentMatchers.any());
+        assertThat(((BatchDisassociateServiceActionFromProvisioningArtifactRequest) requests.getAllValues().get(0)).serviceActionAssociations())
+                .extracting(ServiceActionAssociation::serviceActionId).containsExactly("act-1");
+        assertThat(((BatchAssociateServiceActionWithProvisioningArtifactRequest) requests.getAllValues().get(1)).serviceActionAssociations())
+                .extracting(ServiceActionAssociation::serviceActionId).containsExactly("act-3");
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().getAssociatedServiceActionIds()).containsExactly("act-2", "act-3");
+        assertThat(response.getCallbackContext().getDisassociatedServiceActionIds()).containsExactly("act-1");
+    }
+
+    @Test
+    public void handleRequest_ItemFailures_ReportedPerServiceAction() {
+        doReturn(BatchDisassociateServiceActionFromProvisioningArtifactResponse.builder()
+                .failedServiceActionAssociations(failure("act-1", ServiceActionAssociationErrorCode.RESOURCE_NOT_FOUND, "Not associated"))
+                .build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(BatchDisassociateServiceActionFromProvisioningArtifactRequest.class),
+                ArgumentMatchers.any());
+        doReturn(BatchAssociateServiceActionWithProvisioningArtifactResponse.builder()
+                .failedServiceActionAssociations(failure("act-3", ServiceActionAssociationErrorCode.THROTTLING, "Rate exceeded"))
+                .build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(BatchAssociateServiceActionWithProvisioningArtifactRequest.class),
+                ArgumentMatchers.any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+        assertThat(response.getMessage()).isEqualTo("Failed to update 1 service actions: act-3 (THROTTLING: Rate exceeded)");
+    }
+
+    @Test
+    public void handleRequest_StabilizeWaitsForRemovedServiceAction() {
+        final CallbackContext callbackContext = CallbackContext.builder()
+                .productId(PRODUCT_ID)
+                .provisioningArtifactId(PROVISIONING_ARTIFACT_ID)
+                .associatedServiceActionIds(ImmutableList.of("act-2", "act-3"))
+                .disassociatedServiceActionIds(ImmutableList.of("act-1"))
+                .stabilizationRetriesRemaining(5)
+                .build();
+        doReturn(listResponse("act-1", "act-2", "act-3"), listResponse("act-2", "act-3")).when(proxy).injectCredentialsAndInvokeV2(
+                any(ListServiceActionsForProvisioningArtifactRequest.class),
+                ArgumentMatchers.any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> pending
+                = handler.handleRequest(proxy, request, callbackContext, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> stabilized
+                = handler.handleRequest(proxy, request, pending.getCallbackContext(), logger);
+
+        assertThat(pending.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(stabilized.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(stabilized.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+    }
+
+    private static ResourceModel model(final String... serviceActionIds) {
+        return ResourceModel
+                .builder()
+                .productId(PRODUCT_ID)
+                .provisioningArtifactId(PROVISIONING_ARTIFACT_ID)
+                .serviceActionIds(ImmutableList.copyOf(serviceActionIds))
+                .build();
+    }
+}